@@ -21,6 +21,8 @@ import com.ververica.cdc.connectors.base.source.IncrementalSource;
 import io.debezium.config.Configuration;
 import io.debezium.relational.RelationalDatabaseConnectorConfig;
 
+import javax.annotation.Nullable;
+
 import java.time.Duration;
 import java.util.List;
 import java.util.Properties;
@@ -43,6 +45,7 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
     protected final int connectMaxRetries;
     protected final int connectionPoolSize;
     protected final String chunkKeyColumn;
+    @Nullable protected final Long chunkTargetBytes;
 
     public JdbcSourceConfig(
             StartupOptions startupOptions,
@@ -66,6 +69,54 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
             int connectMaxRetries,
             int connectionPoolSize,
             String chunkKeyColumn) {
+        this(
+                startupOptions,
+                databaseList,
+                tableList,
+                splitSize,
+                splitMetaGroupSize,
+                distributionFactorUpper,
+                distributionFactorLower,
+                includeSchemaChanges,
+                dbzProperties,
+                dbzConfiguration,
+                driverClassName,
+                hostname,
+                port,
+                username,
+                password,
+                fetchSize,
+                serverTimeZone,
+                connectTimeout,
+                connectMaxRetries,
+                connectionPoolSize,
+                chunkKeyColumn,
+                null);
+    }
+
+    public JdbcSourceConfig(
+            StartupOptions startupOptions,
+            List<String> databaseList,
+            List<String> tableList,
+            int splitSize,
+            int splitMetaGroupSize,
+            double distributionFactorUpper,
+            double distributionFactorLower,
+            boolean includeSchemaChanges,
+            Properties dbzProperties,
+            Configuration dbzConfiguration,
+            String driverClassName,
+            String hostname,
+            int port,
+            String username,
+            String password,
+            int fetchSize,
+            String serverTimeZone,
+            Duration connectTimeout,
+            int connectMaxRetries,
+            int connectionPoolSize,
+            String chunkKeyColumn,
+            @Nullable Long chunkTargetBytes) {
         super(
                 startupOptions,
                 splitSize,
@@ -88,6 +139,7 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
         this.connectMaxRetries = connectMaxRetries;
         this.connectionPoolSize = connectionPoolSize;
         this.chunkKeyColumn = chunkKeyColumn;
+        this.chunkTargetBytes = chunkTargetBytes;
     }
 
     public abstract RelationalDatabaseConnectorConfig getDbzConnectorConfig();
@@ -143,4 +195,9 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
     public String getChunkKeyColumn() {
         return chunkKeyColumn;
     }
+
+    @Nullable
+    public Long getChunkTargetBytes() {
+        return chunkTargetBytes;
+    }
 }
@@ -55,6 +55,7 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
     protected int connectionPoolSize = JdbcSourceOptions.CONNECTION_POOL_SIZE.defaultValue();
     protected Properties dbzProperties;
     protected String chunkKeyColumn;
+    protected Long chunkTargetBytes;
 
     /** Integer port number of the database server. */
     public JdbcSourceConfigFactory hostname(String hostname) {
@@ -195,6 +196,15 @@ public abstract class JdbcSourceConfigFactory implements Factory<JdbcSourceConfi
         return this;
     }
 
+    /**
+     * Optional target size in bytes of the chunks of table snapshot, the chunk size of every table
+     * is derived from it and the average row length of the table.
+     */
+    public JdbcSourceConfigFactory chunkTargetBytes(Long chunkTargetBytes) {
+        this.chunkTargetBytes = chunkTargetBytes;
+        return this;
+    }
+
     /** Specifies the startup options. */
     public JdbcSourceConfigFactory startupOptions(StartupOptions startupOptions) {
         switch (startupOptions.startupMode) {
@@ -16,6 +16,7 @@
 
 package com.ververica.cdc.connectors.base.options;
 
+import org.apache.flink.annotation.Experimental;
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ConfigOptions;
 
@@ -111,4 +112,14 @@ public class SourceOptions {
                                     + " The table chunks would use evenly calculation optimization when the data distribution is even,"
                                     + " and the query for splitting would happen when it is uneven."
                                     + " The distribution factor could be calculated by (MAX(id) - MIN(id) + 1) / rowCount.");
+
+    @Experimental
+    public static final ConfigOption<Long> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_BYTES =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.target-bytes")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Optional target size in bytes of the chunks of table snapshot. When set, the chunk size (number of rows) of every table is derived from"
+                                    + " the target bytes and the average row length of the table in the table statistics of the database,"
+                                    + " so narrow tables are read in larger chunks and wide tables in smaller chunks.");
 }
@@ -21,6 +21,7 @@ import org.apache.flink.table.types.DataType;
 import org.apache.flink.table.types.logical.LogicalTypeRoot;
 import org.apache.flink.table.types.logical.RowType;
 
+import com.ververica.cdc.connectors.base.config.JdbcSourceConfig;
 import com.ververica.cdc.connectors.base.source.meta.split.SnapshotSplit;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.Column;
@@ -96,6 +97,41 @@ public interface JdbcSourceChunkSplitter extends ChunkSplitter {
      */
     Long queryApproximateRowCnt(JdbcConnection jdbc, TableId tableId) throws SQLException;
 
+    /**
+     * Query the average row length in bytes of the table from the table statistics.
+     *
+     * @param jdbc JDBC connection.
+     * @param tableId table identity.
+     * @return average row length in bytes, 0 if it's unknown.
+     */
+    default long queryAverageRowLength(JdbcConnection jdbc, TableId tableId) throws SQLException {
+        return 0L;
+    }
+
+    /**
+     * Get the chunk size (number of rows) of the table. It's derived from the target chunk size in
+     * bytes and the average row length of the table if the target bytes is set and the average row
+     * length is known, otherwise it's the configured split size.
+     *
+     * @param jdbc JDBC connection.
+     * @param tableId table identity.
+     * @param sourceConfig the source config.
+     * @return chunk size.
+     */
+    default int getChunkSize(JdbcConnection jdbc, TableId tableId, JdbcSourceConfig sourceConfig)
+            throws SQLException {
+        final Long targetBytes = sourceConfig.getChunkTargetBytes();
+        if (targetBytes == null) {
+            return sourceConfig.getSplitSize();
+        }
+        final long avgRowLength = queryAverageRowLength(jdbc, tableId);
+        if (avgRowLength <= 0) {
+            return sourceConfig.getSplitSize();
+        }
+        // the minimum chunk size is at least 1
+        return (int) Math.max(1L, Math.min(targetBytes / avgRowLength, Integer.MAX_VALUE));
+    }
+
     /**
      * Build the scan query sql of the {@link SnapshotSplit}.
      *
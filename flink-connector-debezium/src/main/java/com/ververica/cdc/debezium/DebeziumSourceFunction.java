@@ -50,10 +50,13 @@ import com.ververica.cdc.debezium.internal.SchemaRecord;
 import io.debezium.document.DocumentReader;
 import io.debezium.document.DocumentWriter;
 import io.debezium.embedded.Connect;
+import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
 import io.debezium.engine.spi.OffsetCommitPolicy;
 import io.debezium.heartbeat.Heartbeat;
 import org.apache.commons.collections.map.LinkedMap;
+import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -89,7 +92,9 @@ import static com.ververica.cdc.debezium.utils.DatabaseHistoryUtil.retrieveHisto
  * also relies on {@link Handover}. When the engine gets errors, the engine uses the {@link
  * DebeziumEngine.CompletionCallback} to report errors to the {@link Handover} and wakes up the
  * consumer to check the error. However, the source function just closes the engine and wakes up the
- * producer if the error is from the Flink side.
+ * producer if the error is from the Flink side. The number of buffers the {@link Handover} holds is
+ * configured by {@link #HANDOVER_CAPACITY_KEY}, a larger capacity lets the engine keep pulling
+ * records while the previous buffers are being emitted.
  *
  * <p>If the execution is canceled or finish(only snapshot phase), the exit logic is as same as the
  * logic in the error reporting.
@@ -128,6 +133,19 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
     /** The configuration value represents legacy implementation. */
     public static final String LEGACY_IMPLEMENTATION_VALUE = "legacy";
 
+    /**
+     * The configuration represents the number of record buffers the Debezium engine can hand over
+     * to the source function before it has to wait for them to be emitted.
+     */
+    public static final String HANDOVER_CAPACITY_KEY = "handover.capacity";
+
+    /**
+     * The configuration represents the maximum number of change events the source function emits
+     * under one checkpoint lock acquisition in the streaming phase. The change events are emitted
+     * one by one if the object reuse of the pipeline is enabled.
+     */
+    public static final String EMIT_BATCH_SIZE_KEY = "emit.batch.size";
+
     // ---------------------------------------------------------------------------------------
     // Properties
     // ---------------------------------------------------------------------------------------
@@ -144,6 +162,9 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
     /** Data for pending but uncommitted offsets. */
     private final LinkedMap pendingOffsetsToCommit = new LinkedMap();
 
+    /** Committers of the batches the pending offsets were taken from, by checkpoint id. */
+    private final LinkedMap pendingCommitters = new LinkedMap();
+
     /** Flag indicating whether the Debezium Engine is started. */
     private volatile boolean debeziumStarted = false;
 
@@ -216,7 +237,12 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder().setNameFormat("debezium-engine").build();
         this.executor = Executors.newSingleThreadExecutor(threadFactory);
-        this.handover = new Handover();
+        this.handover =
+                new Handover(
+                        Integer.parseInt(
+                                properties.getProperty(
+                                        HANDOVER_CAPACITY_KEY,
+                                        String.valueOf(Handover.DEFAULT_CAPACITY))));
         this.changeConsumer = new DebeziumChangeConsumer(handover);
     }
 
@@ -342,10 +368,15 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
             // can happen on this function at a time: either snapshotState() or
             // notifyCheckpointComplete()
             pendingOffsetsToCommit.put(checkpointId, serializedOffset);
+            pendingCommitters.put(
+                    checkpointId, fetcher == null ? null : fetcher.getOffsetCommitter());
             // truncate the map of pending offsets to commit, to prevent infinite growth
             while (pendingOffsetsToCommit.size() > MAX_NUM_PENDING_CHECKPOINTS) {
                 pendingOffsetsToCommit.remove(0);
             }
+            while (pendingCommitters.size() > MAX_NUM_PENDING_CHECKPOINTS) {
+                pendingCommitters.remove(0);
+            }
         }
     }
 
@@ -401,7 +432,13 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
                         deserializer,
                         restoredOffsetState == null, // DB snapshot phase if restore state is null
                         dbzHeartbeatPrefix,
-                        handover);
+                        handover,
+                        Integer.parseInt(
+                                properties.getProperty(
+                                        EMIT_BATCH_SIZE_KEY,
+                                        String.valueOf(
+                                                DebeziumChangeFetcher.DEFAULT_EMIT_BATCH_SIZE))),
+                        getRuntimeContext().getExecutionConfig().isObjectReuseEnabled());
 
         // create the engine with this configuration ...
         this.engine =
@@ -440,6 +477,9 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
                 (Gauge<Long>) () -> debeziumChangeFetcher.getEmitDelay());
         metricGroup.gauge(
                 "sourceIdleTime", (Gauge<Long>) () -> debeziumChangeFetcher.getIdleTime());
+        metricGroup.gauge("handoverQueueDepth", (Gauge<Integer>) handover::getQueueDepth);
+        metricGroup.gauge(
+                "handoverProducerBlockedTime", (Gauge<Long>) handover::getProducerBlockedTime);
 
         // start the real debezium consumer
         debeziumChangeFetcher.runFetchLoop();
@@ -469,10 +509,16 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
             }
 
             byte[] serializedOffsets = (byte[]) pendingOffsetsToCommit.remove(posInMap);
+            // both maps are always updated together, so the positions are the same
+            @SuppressWarnings("unchecked")
+            RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> committer =
+                    (RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>>)
+                            pendingCommitters.remove(posInMap);
 
             // remove older checkpoints in map
             for (int i = 0; i < posInMap; i++) {
                 pendingOffsetsToCommit.remove(0);
+                pendingCommitters.remove(0);
             }
 
             if (serializedOffsets == null || serializedOffsets.length == 0) {
@@ -484,7 +530,7 @@ public class DebeziumSourceFunction<T> extends RichSourceFunction<T>
 
             DebeziumOffset offset =
                     DebeziumOffsetSerializer.INSTANCE.deserialize(serializedOffsets);
-            changeConsumer.commitOffset(offset);
+            changeConsumer.commitOffset(offset, committer);
         } catch (Exception e) {
             // ignore exception if we are no longer running
             LOG.warn("Ignore error when committing offset to database.", e);
@@ -27,6 +27,8 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.List;
 import java.util.Map;
 
@@ -39,8 +41,6 @@ public class DebeziumChangeConsumer
     private static final Logger LOG = LoggerFactory.getLogger(DebeziumChangeConsumer.class);
 
     private final Handover handover;
-    // keep the modification is visible to the source function
-    private volatile RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> currentCommitter;
 
     public DebeziumChangeConsumer(Handover handover) {
         this.handover = handover;
@@ -51,19 +51,24 @@ public class DebeziumChangeConsumer
             List<ChangeEvent<SourceRecord, SourceRecord>> events,
             RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> recordCommitter) {
         try {
-            currentCommitter = recordCommitter;
-            handover.produce(events);
+            // the committer travels with its batch, a later batch may have a different one
+            handover.produce(events, recordCommitter);
         } catch (Throwable e) {
             // Hold this exception in handover and trigger the fetcher to exit
             handover.reportError(e);
         }
     }
 
+    /**
+     * Commits the offset through the committer of the batch the offset was taken from, see {@link
+     * DebeziumChangeFetcher#getOffsetCommitter()}.
+     */
     @SuppressWarnings("unchecked")
-    public void commitOffset(DebeziumOffset offset) throws InterruptedException {
-        // Although the committer is read/write by multi-thread, the committer will be not changed
-        // frequently.
-        if (currentCommitter == null) {
+    public void commitOffset(
+            DebeziumOffset offset,
+            @Nullable RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> committer)
+            throws InterruptedException {
+        if (committer == null) {
             LOG.info(
                     "commitOffset() called on Debezium change consumer which doesn't receive records yet.");
             return;
@@ -79,8 +84,8 @@ public class DebeziumChangeConsumer
                         true);
         EmbeddedEngineChangeEvent<SourceRecord, SourceRecord> changeEvent =
                 new EmbeddedEngineChangeEvent<>(null, recordWrapper, recordWrapper);
-        currentCommitter.markProcessed(changeEvent);
-        currentCommitter.markBatchFinished();
+        committer.markProcessed(changeEvent);
+        committer.markBatchFinished();
     }
 
     /**
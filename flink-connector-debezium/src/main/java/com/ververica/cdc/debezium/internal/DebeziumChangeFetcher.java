@@ -25,6 +25,7 @@ import io.debezium.connector.SnapshotRecord;
 import io.debezium.data.Envelope;
 import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
@@ -33,11 +34,16 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayDeque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
+import static org.apache.flink.util.Preconditions.checkArgument;
+
 /**
  * A Handler that convert change messages from {@link DebeziumEngine} to data in Flink. Considering
  * Debezium in different mode has different strategies to hold the lock, e.g. snapshot, the handler
@@ -45,6 +51,13 @@ import java.util.Queue;
  * snapshot finishes. But in non-snapshot phase, the handler only needs to hold the lock when
  * emitting the records.
  *
+ * <p>In non-snapshot phase, the records are emitted record by record by default, i.e. the lock is
+ * acquired and the offset state is updated for every change event. If the emit batch size is larger
+ * than one, the handler deserializes a bundle of at most that many change events without holding
+ * the lock, then acquires the lock once to emit the whole bundle and update the offset state. The
+ * bundles are not used when object reuse is enabled, as the deserializer may reuse the objects of
+ * the records it has emitted.
+ *
  * @param <T> The type of elements produced by the handler.
  */
 @Internal
@@ -52,6 +65,9 @@ public class DebeziumChangeFetcher<T> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DebeziumChangeFetcher.class);
 
+    /** Emit change events one by one, each under its own checkpoint lock acquisition. */
+    public static final int DEFAULT_EMIT_BATCH_SIZE = 1;
+
     private final SourceFunction.SourceContext<T> sourceContext;
 
     /**
@@ -68,6 +84,12 @@ public class DebeziumChangeFetcher<T> {
 
     private final DebeziumOffset debeziumOffset;
 
+    /** The committer of the batch the handled change events belong to. */
+    @Nullable private RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> batchCommitter;
+
+    /** The committer of the batch {@link #debeziumOffset} was taken from. */
+    @Nullable private RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> offsetCommitter;
+
     private final DebeziumOffsetSerializer stateSerializer;
 
     private final String heartbeatTopicPrefix;
@@ -76,6 +98,12 @@ public class DebeziumChangeFetcher<T> {
 
     private final Handover handover;
 
+    /** The maximum number of change events to emit under one checkpoint lock acquisition. */
+    private final int emitBatchSize;
+
+    /** Whether object reuse is enabled, the records are emitted record by record then. */
+    private final boolean objectReuse;
+
     private volatile boolean isRunning = true;
 
     // ---------------------------------------------------------------------------------------
@@ -108,6 +136,25 @@ public class DebeziumChangeFetcher<T> {
             boolean isInDbSnapshotPhase,
             String heartbeatTopicPrefix,
             Handover handover) {
+        this(
+                sourceContext,
+                deserialization,
+                isInDbSnapshotPhase,
+                heartbeatTopicPrefix,
+                handover,
+                DEFAULT_EMIT_BATCH_SIZE,
+                false);
+    }
+
+    public DebeziumChangeFetcher(
+            SourceFunction.SourceContext<T> sourceContext,
+            DebeziumDeserializationSchema<T> deserialization,
+            boolean isInDbSnapshotPhase,
+            String heartbeatTopicPrefix,
+            Handover handover,
+            int emitBatchSize,
+            boolean objectReuse) {
+        checkArgument(emitBatchSize > 0, "The emit batch size must be positive.");
         this.sourceContext = sourceContext;
         this.checkpointLock = sourceContext.getCheckpointLock();
         this.deserialization = deserialization;
@@ -117,6 +164,13 @@ public class DebeziumChangeFetcher<T> {
         this.debeziumOffset = new DebeziumOffset();
         this.stateSerializer = DebeziumOffsetSerializer.INSTANCE;
         this.handover = handover;
+        this.emitBatchSize = emitBatchSize;
+        this.objectReuse = objectReuse;
+        if (emitBatchSize > 1 && objectReuse) {
+            LOG.info(
+                    "Object reuse is enabled, emit the change events record by record instead of in bundles of {}.",
+                    emitBatchSize);
+        }
     }
 
     /**
@@ -134,6 +188,19 @@ public class DebeziumChangeFetcher<T> {
         return stateSerializer.serialize(debeziumOffset);
     }
 
+    /**
+     * Returns the committer of the batch the offset of {@link #snapshotCurrentState()} was taken
+     * from, the offset must be committed through this committer.
+     *
+     * <p>Important: This method must be called under the checkpoint lock.
+     */
+    @Nullable
+    public RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> getOffsetCommitter() {
+        // this method assumes that the checkpoint lock is held
+        assert Thread.holdsLock(checkpointLock);
+        return offsetCommitter;
+    }
+
     /**
      * Process change messages from the {@link Handover} and collect the processed messages by
      * {@link Collector}.
@@ -217,6 +284,12 @@ public class DebeziumChangeFetcher<T> {
             return;
         }
         this.processTime = System.currentTimeMillis();
+        this.batchCommitter = handover.getPolledCommitter();
+
+        if (emitBatchSize > 1 && !objectReuse && !isInDbSnapshotPhase) {
+            handleBatchInBundles(changeEvents);
+            return;
+        }
 
         for (ChangeEvent<SourceRecord, SourceRecord> event : changeEvents) {
             SourceRecord record = event.value();
@@ -228,6 +301,7 @@ public class DebeziumChangeFetcher<T> {
                 synchronized (checkpointLock) {
                     debeziumOffset.setSourcePartition(record.sourcePartition());
                     debeziumOffset.setSourceOffset(record.sourceOffset());
+                    offsetCommitter = batchCommitter;
                 }
                 // drop heartbeat events
                 continue;
@@ -246,6 +320,43 @@ public class DebeziumChangeFetcher<T> {
         }
     }
 
+    /**
+     * Handles the change events in bundles of at most {@link #emitBatchSize} events. The events of
+     * a bundle are deserialized into the collector without holding the checkpoint lock, then the
+     * records are emitted under a single lock acquisition and the offset state is updated to the
+     * offset of the last event of the bundle.
+     */
+    private void handleBatchInBundles(List<ChangeEvent<SourceRecord, SourceRecord>> changeEvents)
+            throws Exception {
+        Iterator<ChangeEvent<SourceRecord, SourceRecord>> iterator = changeEvents.iterator();
+        while (iterator.hasNext()) {
+            SourceRecord lastRecord = null;
+            for (int i = 0; i < emitBatchSize && iterator.hasNext(); i++) {
+                SourceRecord record = iterator.next().value();
+                lastRecord = record;
+                if (isHeartbeatEvent(record)) {
+                    // drop heartbeat events, but keep offset update
+                    continue;
+                }
+                deserialization.deserialize(record, debeziumCollector);
+            }
+
+            // the metrics and the offset state are updated once per bundle
+            updateMessageTimestamp(lastRecord);
+            fetchDelay = processTime - messageTimestamp;
+            synchronized (checkpointLock) {
+                T element;
+                while ((element = debeziumCollector.records.poll()) != null) {
+                    sourceContext.collect(element);
+                }
+                emitDelay = System.currentTimeMillis() - messageTimestamp;
+                debeziumOffset.setSourcePartition(lastRecord.sourcePartition());
+                debeziumOffset.setSourceOffset(lastRecord.sourceOffset());
+                offsetCommitter = batchCommitter;
+            }
+        }
+    }
+
     private void emitRecordsUnderCheckpointLock(
             Queue<T> records, Map<String, ?> sourcePartition, Map<String, ?> sourceOffset) {
         // Emit the records. Use the checkpoint lock to guarantee
@@ -261,6 +372,7 @@ public class DebeziumChangeFetcher<T> {
             // update offset to state
             debeziumOffset.setSourcePartition(sourcePartition);
             debeziumOffset.setSourceOffset(sourceOffset);
+            offsetCommitter = batchCommitter;
         }
     }
 
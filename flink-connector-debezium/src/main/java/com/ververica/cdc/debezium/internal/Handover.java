@@ -20,29 +20,41 @@ import org.apache.flink.annotation.Internal;
 import org.apache.flink.util.ExceptionUtils;
 
 import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 import java.io.Closeable;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
+import static org.apache.flink.util.Preconditions.checkArgument;
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
 /**
  * The Handover is a utility to hand over data (a buffer of records) and exception from a
- * <i>producer</i> thread to a <i>consumer</i> thread. It effectively behaves like a "size one
- * blocking queue", with some extras around exception reporting, closing, and waking up thread
+ * <i>producer</i> thread to a <i>consumer</i> thread. It effectively behaves like a bounded
+ * blocking queue, with some extras around exception reporting, closing, and waking up thread
  * without {@link Thread#interrupt() interrupting} threads.
  *
  * <p>This class is used in the Flink Debezium Engine Consumer to hand over data and exceptions
  * between the thread that runs the DebeziumEngine class and the main thread.
  *
+ * <p>The Handover is a lock-free single-producer single-consumer ring buffer of the configured
+ * capacity. With a capacity larger than one the engine thread can keep polling the database while
+ * the main thread is still emitting the previous buffers. A capacity of one behaves like the
+ * original "size one" exchanger.
+ *
+ * <p>Each element carries the {@link RecordCommitter} of the engine batch it was handed over with,
+ * so that offsets of an element are committed through the committer of that very batch.
+ *
  * <p>The Handover can also be "closed", signalling from one thread to the other that it the thread
  * has terminated.
  */
@@ -51,16 +63,54 @@ import static org.apache.flink.util.Preconditions.checkNotNull;
 public class Handover implements Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(Handover.class);
-    private final Object lock = new Object();
 
-    @GuardedBy("lock")
-    private List<ChangeEvent<SourceRecord, SourceRecord>> next;
+    /** The default number of buffers that can be handed over without being picked up. */
+    public static final int DEFAULT_CAPACITY = 1;
 
-    @GuardedBy("lock")
-    @Nullable
-    private Throwable error;
+    private final int capacity;
+
+    private final int mask;
+
+    /** Slots of the ring buffer, published by {@link #tail} and released by {@link #head}. */
+    private final List<ChangeEvent<SourceRecord, SourceRecord>>[] slots;
+
+    /** The committers of the elements in {@link #slots}, at the same index. */
+    private final RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>>[] committers;
+
+    /** The committer of the last polled element, only accessed by the consumer thread. */
+    @Nullable private RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> polledCommitter;
+
+    /** Position of the next element to poll, only advanced by the consumer thread. */
+    private final AtomicLong head = new AtomicLong();
 
-    private boolean wakeupProducer;
+    /** Position of the next element to produce, only advanced by the producer thread. */
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    @Nullable private volatile Thread waitingConsumer;
+
+    @Nullable private volatile Thread waitingProducer;
+
+    /** Total time the producer has been blocked on a full Handover, only written by producer. */
+    private volatile long producerBlockedTimeNanos;
+
+    public Handover() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Handover(int capacity) {
+        checkArgument(capacity > 0, "The capacity of Handover must be positive.");
+        this.capacity = capacity;
+        int slotNum = Integer.highestOneBit(capacity);
+        if (slotNum < capacity) {
+            slotNum <<= 1;
+        }
+        this.mask = slotNum - 1;
+        this.slots = new List[slotNum];
+        this.committers = new RecordCommitter[slotNum];
+    }
 
     /**
      * Polls the next element from the Handover, possibly blocking until the next element is
@@ -74,57 +124,118 @@ public class Handover implements Closeable {
      * @throws Exception Rethrows exceptions from the {@link #reportError(Throwable)} method.
      */
     public List<ChangeEvent<SourceRecord, SourceRecord>> pollNext() throws Exception {
-        synchronized (lock) {
-            while (next == null && error == null) {
-                lock.wait();
-            }
-            List<ChangeEvent<SourceRecord, SourceRecord>> n = next;
-            if (n != null) {
-                next = null;
-                lock.notifyAll();
-                return n;
-            } else {
-                ExceptionUtils.rethrowException(error, error.getMessage());
+        while (true) {
+            Throwable t = error.get();
+            if (t != null) {
+                ExceptionUtils.rethrowException(t, t.getMessage());
 
                 // this statement cannot be reached since the above method always throws an
                 // exception this is only here to silence the compiler and any warnings
                 return Collections.emptyList();
             }
+
+            long h = head.get();
+            if (h < tail.get()) {
+                int index = (int) h & mask;
+                List<ChangeEvent<SourceRecord, SourceRecord>> n = slots[index];
+                slots[index] = null;
+                polledCommitter = committers[index];
+                committers[index] = null;
+                head.set(h + 1);
+                unpark(waitingProducer);
+                return n;
+            }
+
+            // register before re-checking, so that a concurrent produce() can't miss the waiter
+            waitingConsumer = Thread.currentThread();
+            if (error.get() == null && h == tail.get()) {
+                LockSupport.park(this);
+            }
+            waitingConsumer = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
         }
     }
 
     /**
-     * Hands over an element from the producer. If the Handover already has an element that was not
-     * yet picked up by the consumer thread, this call blocks until the consumer picks up that
-     * previous element.
-     *
-     * <p>This behavior is similar to a "size one" blocking queue.
+     * Returns the committer the last element returned by {@link #pollNext()} was handed over with,
+     * or null if there is none. This method must only be called by the consumer thread.
+     */
+    @Nullable
+    public RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> getPolledCommitter() {
+        return polledCommitter;
+    }
+
+    /**
+     * Hands over an element without a committer, see {@link #produce(List, RecordCommitter)}.
      *
      * @param element The next element to hand over.
      * @throws InterruptedException Thrown, if the thread is interrupted while blocking for the
-     *     Handover to be empty.
+     *     Handover to have free capacity.
      */
     public void produce(final List<ChangeEvent<SourceRecord, SourceRecord>> element)
             throws InterruptedException {
+        produce(element, null);
+    }
 
-        checkNotNull(element);
+    /**
+     * Hands over an element from the producer. If the Handover is full, i.e. it already holds
+     * {@code capacity} elements that were not yet picked up by the consumer thread, this call
+     * blocks until the consumer picks up the oldest element.
+     *
+     * <p>This behavior is similar to a bounded blocking queue.
+     *
+     * @param element The next element to hand over.
+     * @param committer The committer of the engine batch the element belongs to.
+     * @throws InterruptedException Thrown, if the thread is interrupted while blocking for the
+     *     Handover to have free capacity.
+     */
+    public void produce(
+            final List<ChangeEvent<SourceRecord, SourceRecord>> element,
+            @Nullable final RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> committer)
+            throws InterruptedException {
 
-        synchronized (lock) {
-            while (next != null && !wakeupProducer) {
-                lock.wait();
-            }
+        checkNotNull(element);
 
-            wakeupProducer = false;
+        long t = tail.get();
+        long blockedSince = -1L;
+        try {
+            while (true) {
+                // an error marks this as closed for the producer
+                Throwable e = error.get();
+                if (e != null) {
+                    ExceptionUtils.rethrow(e, e.getMessage());
+                }
+                if (t - head.get() < capacity) {
+                    break;
+                }
 
-            // an error marks this as closed for the producer
-            if (error != null) {
-                ExceptionUtils.rethrow(error, error.getMessage());
-            } else {
-                // if there is no error, then this is open and can accept this element
-                next = element;
-                lock.notifyAll();
+                if (blockedSince < 0) {
+                    blockedSince = System.nanoTime();
+                }
+                // register before re-checking, so that a concurrent pollNext() can't miss the
+                // waiter
+                waitingProducer = Thread.currentThread();
+                if (error.get() == null && t - head.get() >= capacity) {
+                    LockSupport.park(this);
+                }
+                waitingProducer = null;
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            if (blockedSince >= 0) {
+                producerBlockedTimeNanos += System.nanoTime() - blockedSince;
             }
         }
+
+        // if there is no error, then this is open and can accept this element
+        committers[(int) t & mask] = committer;
+        slots[(int) t & mask] = element;
+        tail.set(t + 1);
+        unpark(waitingConsumer);
     }
 
     /**
@@ -133,6 +244,7 @@ public class Handover implements Closeable {
      *
      * <p>After this method has been called, no call to either {@link #produce( List)} or {@link
      * #pollNext()} will ever return regularly any more, but will always return exceptionally.
+     * Elements which were not picked up yet are dropped.
      *
      * <p>If another exception was already reported, this method does nothing.
      *
@@ -143,15 +255,10 @@ public class Handover implements Closeable {
     public void reportError(Throwable t) {
         checkNotNull(t);
 
-        synchronized (lock) {
-            LOG.error("Reporting error:", t);
-            // do not override the initial exception
-            if (error == null) {
-                error = t;
-            }
-            next = null;
-            lock.notifyAll();
-        }
+        LOG.error("Reporting error:", t);
+        // do not override the initial exception
+        error.compareAndSet(null, t);
+        wakeup();
     }
 
     /**
@@ -160,7 +267,7 @@ public class Handover implements Closeable {
      * @return whether there is an error
      */
     public boolean hasError() {
-        return error != null;
+        return error.get() != null;
     }
 
     /**
@@ -170,9 +277,24 @@ public class Handover implements Closeable {
      */
     @Nullable
     public Throwable getError() {
-        synchronized (lock) {
-            return this.error;
-        }
+        return error.get();
+    }
+
+    /** Returns the maximum number of elements the Handover can hold. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Returns the number of elements handed over by the producer but not yet polled. */
+    public int getQueueDepth() {
+        // read head first, so that the depth never becomes negative
+        long h = head.get();
+        return (int) Math.min(tail.get() - h, capacity);
+    }
+
+    /** Returns the total time in milliseconds the producer was blocked on a full Handover. */
+    public long getProducerBlockedTime() {
+        return producerBlockedTimeNanos / 1_000_000L;
     }
 
     /**
@@ -185,14 +307,18 @@ public class Handover implements Closeable {
      */
     @Override
     public void close() {
-        synchronized (lock) {
-            next = null;
-            wakeupProducer = false;
+        error.compareAndSet(null, new ClosedException());
+        wakeup();
+    }
 
-            if (error == null) {
-                error = new ClosedException();
-            }
-            lock.notifyAll();
+    private void wakeup() {
+        unpark(waitingConsumer);
+        unpark(waitingProducer);
+    }
+
+    private static void unpark(@Nullable Thread thread) {
+        if (thread != null) {
+            LockSupport.unpark(thread);
         }
     }
 
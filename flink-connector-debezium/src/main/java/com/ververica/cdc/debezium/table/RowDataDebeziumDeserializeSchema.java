@@ -76,6 +76,13 @@ public final class RowDataDebeziumDeserializeSchema
      */
     private final DeserializationRuntimeConverter physicalConverter;
 
+    /**
+     * Runtime converter for the before image of update and delete records. It's the same as {@link
+     * #physicalConverter} unless the row objects are reused, in which case the before and after
+     * rows of an update record need different row objects.
+     */
+    private final DeserializationRuntimeConverter physicalBeforeConverter;
+
     /** Whether the deserializer needs to handle metadata columns. */
     private final boolean hasMetadata;
 
@@ -102,14 +109,21 @@ public final class RowDataDebeziumDeserializeSchema
             ValueValidator validator,
             ZoneId serverTimeZone,
             DeserializationRuntimeConverterFactory userDefinedConverterFactory,
-            DebeziumChangelogMode changelogMode) {
+            DebeziumChangelogMode changelogMode,
+            boolean objectReuse) {
         this.hasMetadata = checkNotNull(metadataConverters).length > 0;
         this.appendMetadataCollector = new AppendMetadataCollector(metadataConverters);
         this.physicalConverter =
-                createConverter(
+                createPhysicalConverter(
                         checkNotNull(physicalDataType),
                         serverTimeZone,
-                        userDefinedConverterFactory);
+                        userDefinedConverterFactory,
+                        objectReuse);
+        this.physicalBeforeConverter =
+                objectReuse
+                        ? createPhysicalConverter(
+                                physicalDataType, serverTimeZone, userDefinedConverterFactory, true)
+                        : physicalConverter;
         this.resultTypeInfo = checkNotNull(resultTypeInfo);
         this.validator = checkNotNull(validator);
         this.changelogMode = checkNotNull(changelogMode);
@@ -154,7 +168,7 @@ public final class RowDataDebeziumDeserializeSchema
     private GenericRowData extractBeforeRow(Struct value, Schema valueSchema) throws Exception {
         Schema beforeSchema = valueSchema.field(Envelope.FieldName.BEFORE).schema();
         Struct before = value.getStruct(Envelope.FieldName.BEFORE);
-        return (GenericRowData) physicalConverter.convert(before, beforeSchema);
+        return (GenericRowData) physicalBeforeConverter.convert(before, beforeSchema);
     }
 
     private void emit(SourceRecord inRecord, RowData physicalRow, Collector<RowData> collector) {
@@ -187,6 +201,7 @@ public final class RowDataDebeziumDeserializeSchema
         private DeserializationRuntimeConverterFactory userDefinedConverterFactory =
                 DeserializationRuntimeConverterFactory.DEFAULT;
         private DebeziumChangelogMode changelogMode = DebeziumChangelogMode.ALL;
+        private boolean objectReuse = false;
 
         public Builder setPhysicalRowType(RowType physicalRowType) {
             this.physicalRowType = physicalRowType;
@@ -224,6 +239,16 @@ public final class RowDataDebeziumDeserializeSchema
             return this;
         }
 
+        /**
+         * Whether to reuse the produced physical row objects across records, false by default. It
+         * should only be enabled when the object reuse of the pipeline is enabled, because the
+         * downstream operators must not hold the emitted rows.
+         */
+        public Builder setObjectReuse(boolean objectReuse) {
+            this.objectReuse = objectReuse;
+            return this;
+        }
+
         public RowDataDebeziumDeserializeSchema build() {
             return new RowDataDebeziumDeserializeSchema(
                     physicalRowType,
@@ -232,7 +257,8 @@ public final class RowDataDebeziumDeserializeSchema
                     validator,
                     serverTimeZone,
                     userDefinedConverterFactory,
-                    changelogMode);
+                    changelogMode,
+                    objectReuse);
         }
     }
 
@@ -240,6 +266,23 @@ public final class RowDataDebeziumDeserializeSchema
     // Runtime Converters
     // -------------------------------------------------------------------------------------
 
+    /** Creates the runtime converter of the physical row which is null safe. */
+    private static DeserializationRuntimeConverter createPhysicalConverter(
+            RowType physicalDataType,
+            ZoneId serverTimeZone,
+            DeserializationRuntimeConverterFactory userDefinedConverterFactory,
+            boolean objectReuse) {
+        if (objectReuse
+                && !userDefinedConverterFactory
+                        .createUserDefinedConverter(physicalDataType, serverTimeZone)
+                        .isPresent()) {
+            return wrapIntoNullableConverter(
+                    createRowConverter(
+                            physicalDataType, serverTimeZone, userDefinedConverterFactory, true));
+        }
+        return createConverter(physicalDataType, serverTimeZone, userDefinedConverterFactory);
+    }
+
     /** Creates a runtime converter which is null safe. */
     private static DeserializationRuntimeConverter createConverter(
             LogicalType type,
@@ -329,7 +372,7 @@ public final class RowDataDebeziumDeserializeSchema
                 return createDecimalConverter((DecimalType) type);
             case ROW:
                 return createRowConverter(
-                        (RowType) type, serverTimeZone, userDefinedConverterFactory);
+                        (RowType) type, serverTimeZone, userDefinedConverterFactory, false);
             case ARRAY:
             case MAP:
             case MULTISET:
@@ -586,10 +629,15 @@ public final class RowDataDebeziumDeserializeSchema
         };
     }
 
+    /**
+     * Creates a runtime converter for {@link RowType}, the converter returns the same {@link
+     * GenericRowData} for every record if {@code reuseRow} is true.
+     */
     private static DeserializationRuntimeConverter createRowConverter(
             RowType rowType,
             ZoneId serverTimeZone,
-            DeserializationRuntimeConverterFactory userDefinedConverterFactory) {
+            DeserializationRuntimeConverterFactory userDefinedConverterFactory,
+            boolean reuseRow) {
         final DeserializationRuntimeConverter[] fieldConverters =
                 rowType.getFields().stream()
                         .map(RowType.RowField::getType)
@@ -606,11 +654,21 @@ public final class RowDataDebeziumDeserializeSchema
 
             private static final long serialVersionUID = 1L;
 
+            private transient GenericRowData reuse;
+
             @Override
             public Object convert(Object dbzObj, Schema schema) throws Exception {
                 Struct struct = (Struct) dbzObj;
                 int arity = fieldNames.length;
-                GenericRowData row = new GenericRowData(arity);
+                GenericRowData row;
+                if (reuseRow) {
+                    if (reuse == null) {
+                        reuse = new GenericRowData(arity);
+                    }
+                    row = reuse;
+                } else {
+                    row = new GenericRowData(arity);
+                }
                 for (int i = 0; i < arity; i++) {
                     String fieldName = fieldNames[i];
                     Field field = schema.field(fieldName);
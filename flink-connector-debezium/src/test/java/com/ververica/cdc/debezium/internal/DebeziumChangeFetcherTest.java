@@ -0,0 +1,301 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.internal;
+
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.streaming.api.functions.source.SourceFunction;
+import org.apache.flink.streaming.api.watermark.Watermark;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import io.debezium.engine.ChangeEvent;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link DebeziumChangeFetcher}. */
+public class DebeziumChangeFetcherTest {
+
+    private static final String HEARTBEAT_TOPIC_PREFIX = "__debezium-heartbeat";
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("source")
+                    .field("ts_ms", Schema.OPTIONAL_INT64_SCHEMA)
+                    .build();
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct().name("value").field("source", SOURCE_SCHEMA).build();
+
+    @Test
+    public void testEmitRecordByRecord() throws Exception {
+        List<Long> offsets = new ArrayList<>();
+        List<Long> emitted =
+                runFetcher(
+                        DebeziumChangeFetcher.DEFAULT_EMIT_BATCH_SIZE,
+                        Collections.singletonList(createEvents(0, 6, 2)),
+                        offsets);
+        assertEquals(Arrays.asList(0L, 1L, 3L, 4L, 5L), emitted);
+        // the offset state is updated after every change event
+        assertEquals(Arrays.asList(null, 0L, 2L, 3L, 4L), offsets);
+    }
+
+    @Test
+    public void testEmitInBundles() throws Exception {
+        List<List<ChangeEvent<SourceRecord, SourceRecord>>> batches = new ArrayList<>();
+        batches.add(createEvents(0, 7, 4));
+        batches.add(createEvents(7, 3, -1));
+        List<Long> offsets = new ArrayList<>();
+        List<Long> emitted = runFetcher(3, batches, offsets);
+
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 5L, 6L, 7L, 8L, 9L), emitted);
+        // the offset state is only updated at the end of a bundle, including heartbeat events
+        assertEquals(Arrays.asList(null, null, null, 2L, 2L, 5L, 6L, 6L, 6L), offsets);
+    }
+
+    @Test
+    public void testEmitRecordByRecordWithObjectReuse() throws Exception {
+        List<Long> offsets = new ArrayList<>();
+        List<Long> emitted =
+                runFetcher(3, true, Collections.singletonList(createEvents(0, 6, 2)), offsets);
+        assertEquals(Arrays.asList(0L, 1L, 3L, 4L, 5L), emitted);
+        // the bundles are not used, the offset state is updated after every change event
+        assertEquals(Arrays.asList(null, 0L, 2L, 3L, 4L), offsets);
+    }
+
+    private static List<Long> runFetcher(
+            int emitBatchSize,
+            List<List<ChangeEvent<SourceRecord, SourceRecord>>> batches,
+            List<Long> offsetsOnEmit)
+            throws Exception {
+        return runFetcher(emitBatchSize, false, batches, offsetsOnEmit);
+    }
+
+    private static List<Long> runFetcher(
+            int emitBatchSize,
+            boolean objectReuse,
+            List<List<ChangeEvent<SourceRecord, SourceRecord>>> batches,
+            List<Long> offsetsOnEmit)
+            throws Exception {
+        Object checkpointLock = new Object();
+        int expectedNum = 0;
+        for (List<ChangeEvent<SourceRecord, SourceRecord>> batch : batches) {
+            for (ChangeEvent<SourceRecord, SourceRecord> event : batch) {
+                if (!event.destination().startsWith(HEARTBEAT_TOPIC_PREFIX)) {
+                    expectedNum++;
+                }
+            }
+        }
+
+        Handover handover = new Handover(batches.size());
+        TestSourceContext sourceContext =
+                new TestSourceContext(checkpointLock, handover, expectedNum);
+        DebeziumChangeFetcher<Long> fetcher =
+                new DebeziumChangeFetcher<>(
+                        sourceContext,
+                        new OffsetDeserializationSchema(checkpointLock),
+                        false,
+                        HEARTBEAT_TOPIC_PREFIX,
+                        handover,
+                        emitBatchSize,
+                        objectReuse);
+        sourceContext.fetcher = fetcher;
+        sourceContext.offsetsOnEmit = offsetsOnEmit;
+
+        AtomicReference<Throwable> producerError = new AtomicReference<>();
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                for (List<ChangeEvent<SourceRecord, SourceRecord>> batch :
+                                        batches) {
+                                    handover.produce(batch);
+                                }
+                            } catch (Throwable t) {
+                                producerError.set(t);
+                            }
+                        });
+        producer.start();
+        fetcher.runFetchLoop();
+        producer.join();
+        assertNull(producerError.get());
+
+        synchronized (checkpointLock) {
+            Long lastOffset = currentOffset(fetcher);
+            ChangeEvent<SourceRecord, SourceRecord> lastEvent =
+                    batches.get(batches.size() - 1).get(batches.get(batches.size() - 1).size() - 1);
+            assertEquals(lastEvent.value().sourceOffset().get("pos"), lastOffset);
+        }
+        return sourceContext.emitted;
+    }
+
+    private static Long currentOffset(DebeziumChangeFetcher<?> fetcher) throws Exception {
+        byte[] state = fetcher.snapshotCurrentState();
+        if (state == null) {
+            return null;
+        }
+        Object pos = DebeziumOffsetSerializer.INSTANCE.deserialize(state).sourceOffset.get("pos");
+        return pos == null ? null : ((Number) pos).longValue();
+    }
+
+    /**
+     * Creates change events with consecutive positions starting from {@code start}, the event at
+     * {@code heartbeatIndex} is a heartbeat event.
+     */
+    private static List<ChangeEvent<SourceRecord, SourceRecord>> createEvents(
+            long start, int num, int heartbeatIndex) {
+        List<ChangeEvent<SourceRecord, SourceRecord>> events = new ArrayList<>(num);
+        for (int i = 0; i < num; i++) {
+            long pos = start + i;
+            String topic = i == heartbeatIndex ? HEARTBEAT_TOPIC_PREFIX + ".server" : "topic";
+            Struct value =
+                    new Struct(VALUE_SCHEMA)
+                            .put("source", new Struct(SOURCE_SCHEMA).put("ts_ms", pos));
+            SourceRecord record =
+                    new SourceRecord(
+                            Collections.singletonMap("server", "server"),
+                            Collections.singletonMap("pos", pos),
+                            topic,
+                            null,
+                            null,
+                            null,
+                            VALUE_SCHEMA,
+                            value);
+            events.add(new TestChangeEvent(record));
+        }
+        return events;
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    private static class TestChangeEvent implements ChangeEvent<SourceRecord, SourceRecord> {
+
+        private final SourceRecord record;
+
+        private TestChangeEvent(SourceRecord record) {
+            this.record = record;
+        }
+
+        @Override
+        public SourceRecord key() {
+            return null;
+        }
+
+        @Override
+        public SourceRecord value() {
+            return record;
+        }
+
+        @Override
+        public String destination() {
+            return record.topic();
+        }
+    }
+
+    /**
+     * Deserializes a change event to its binlog position, and checks that the checkpoint lock isn't
+     * held while deserializing.
+     */
+    private static class OffsetDeserializationSchema
+            implements DebeziumDeserializationSchema<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object checkpointLock;
+
+        private OffsetDeserializationSchema(Object checkpointLock) {
+            this.checkpointLock = checkpointLock;
+        }
+
+        @Override
+        public void deserialize(SourceRecord record, Collector<Long> out) {
+            assertFalse(Thread.holdsLock(checkpointLock));
+            out.collect((Long) record.sourceOffset().get("pos"));
+        }
+
+        @Override
+        public TypeInformation<Long> getProducedType() {
+            return BasicTypeInfo.LONG_TYPE_INFO;
+        }
+    }
+
+    private static class TestSourceContext implements SourceFunction.SourceContext<Long> {
+
+        private final Object checkpointLock;
+        private final Handover handover;
+        private final int expectedNum;
+        private final List<Long> emitted = new ArrayList<>();
+
+        private DebeziumChangeFetcher<Long> fetcher;
+        private List<Long> offsetsOnEmit;
+
+        private TestSourceContext(Object checkpointLock, Handover handover, int expectedNum) {
+            this.checkpointLock = checkpointLock;
+            this.handover = handover;
+            this.expectedNum = expectedNum;
+        }
+
+        @Override
+        public void collect(Long element) {
+            assertTrue(Thread.holdsLock(checkpointLock));
+            emitted.add(element);
+            if (offsetsOnEmit != null) {
+                try {
+                    offsetsOnEmit.add(currentOffset(fetcher));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            if (emitted.size() == expectedNum) {
+                // all records are emitted, let the fetch loop exit
+                handover.close();
+            }
+        }
+
+        @Override
+        public void collectWithTimestamp(Long element, long timestamp) {
+            collect(element);
+        }
+
+        @Override
+        public void emitWatermark(Watermark mark) {}
+
+        @Override
+        public void markAsTemporarilyIdle() {}
+
+        @Override
+        public Object getCheckpointLock() {
+            return checkpointLock;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
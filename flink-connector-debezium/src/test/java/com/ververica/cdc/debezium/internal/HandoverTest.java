@@ -0,0 +1,228 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.internal;
+
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/** Tests for {@link Handover}. */
+public class HandoverTest {
+
+    @Test
+    public void testProduceAndPollInOrder() throws Exception {
+        Handover handover = new Handover(3);
+        List<List<ChangeEvent<SourceRecord, SourceRecord>>> elements = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            List<ChangeEvent<SourceRecord, SourceRecord>> element = new ArrayList<>();
+            elements.add(element);
+            handover.produce(element);
+            assertEquals(i + 1, handover.getQueueDepth());
+        }
+        for (int i = 0; i < 3; i++) {
+            assertSame(elements.get(i), handover.pollNext());
+        }
+        assertEquals(0, handover.getQueueDepth());
+    }
+
+    @Test
+    public void testProducerBlocksWhenFull() throws Exception {
+        Handover handover = new Handover(2);
+        handover.produce(Collections.emptyList());
+        handover.produce(Collections.emptyList());
+
+        AtomicReference<Thread> producerThread = new AtomicReference<>();
+        CompletableFuture<Void> producer =
+                CompletableFuture.runAsync(
+                        () -> {
+                            producerThread.set(Thread.currentThread());
+                            try {
+                                handover.produce(Collections.emptyList());
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        waitUntilParked(producerThread, handover);
+        assertFalse(producer.isDone());
+        assertEquals(2, handover.getQueueDepth());
+
+        // keep the producer blocked long enough for the blocked time to be measurable in millis
+        long parkedSince = System.nanoTime();
+        while (System.nanoTime() - parkedSince < TimeUnit.MILLISECONDS.toNanos(2L)) {
+            Thread.yield();
+        }
+        handover.pollNext();
+        producer.get(10, TimeUnit.SECONDS);
+        assertEquals(2, handover.getQueueDepth());
+        assertTrue(handover.getProducerBlockedTime() > 0);
+    }
+
+    @Test
+    public void testConcurrentProduceAndPoll() throws Exception {
+        Handover handover = new Handover(4);
+        int elementNum = 100_000;
+        List<List<ChangeEvent<SourceRecord, SourceRecord>>> elements = new ArrayList<>();
+        for (int i = 0; i < elementNum; i++) {
+            elements.add(new ArrayList<>());
+        }
+
+        AtomicReference<Throwable> producerError = new AtomicReference<>();
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                for (List<ChangeEvent<SourceRecord, SourceRecord>> element :
+                                        elements) {
+                                    handover.produce(element);
+                                }
+                            } catch (Throwable t) {
+                                producerError.set(t);
+                            }
+                        });
+        producer.start();
+        for (int i = 0; i < elementNum; i++) {
+            assertSame(elements.get(i), handover.pollNext());
+        }
+        producer.join();
+        assertEquals(null, producerError.get());
+    }
+
+    @Test
+    public void testReportErrorWakesUpConsumer() throws Exception {
+        Handover handover = new Handover(2);
+        AtomicReference<Thread> consumerThread = new AtomicReference<>();
+        CompletableFuture<Throwable> consumer =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            consumerThread.set(Thread.currentThread());
+                            try {
+                                handover.pollNext();
+                                return null;
+                            } catch (Exception e) {
+                                return e;
+                            }
+                        });
+        waitUntilParked(consumerThread, handover);
+        IllegalStateException error = new IllegalStateException("test error");
+        handover.reportError(error);
+        assertSame(error, consumer.get(10, TimeUnit.SECONDS));
+
+        // the first error is kept and the producer sees the handover as closed
+        handover.reportError(new RuntimeException());
+        assertSame(error, handover.getError());
+        try {
+            handover.produce(Collections.emptyList());
+            fail("The producer should fail after an error was reported.");
+        } catch (IllegalStateException e) {
+            assertSame(error, e);
+        }
+    }
+
+    @Test
+    public void testCloseWakesUpProducer() throws Exception {
+        Handover handover = new Handover(1);
+        handover.produce(Collections.emptyList());
+        AtomicReference<Thread> producerThread = new AtomicReference<>();
+        CompletableFuture<Throwable> producer =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            producerThread.set(Thread.currentThread());
+                            try {
+                                handover.produce(Collections.emptyList());
+                                return null;
+                            } catch (Throwable t) {
+                                return t;
+                            }
+                        });
+        waitUntilParked(producerThread, handover);
+        handover.close();
+        assertTrue(
+                producer.get(10, TimeUnit.SECONDS).getCause() instanceof Handover.ClosedException);
+        try {
+            handover.pollNext();
+            fail("The consumer should fail after the handover was closed.");
+        } catch (Handover.ClosedException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCommitterIsCarriedWithElement() throws Exception {
+        Handover handover = new Handover(3);
+        RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> first = new NoOpCommitter();
+        RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> second = new NoOpCommitter();
+        handover.produce(Collections.emptyList(), first);
+        handover.produce(Collections.emptyList(), second);
+        handover.produce(Collections.emptyList());
+
+        handover.pollNext();
+        assertSame(first, handover.getPolledCommitter());
+        handover.pollNext();
+        assertSame(second, handover.getPolledCommitter());
+        handover.pollNext();
+        assertNull(handover.getPolledCommitter());
+    }
+
+    /** Waits until the thread is parked by the given blocker. */
+    private static void waitUntilParked(AtomicReference<Thread> thread, Object blocker)
+            throws InterruptedException {
+        while (thread.get() == null
+                || thread.get().getState() != Thread.State.WAITING
+                || LockSupport.getBlocker(thread.get()) != blocker) {
+            Thread.yield();
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private static class NoOpCommitter
+            implements RecordCommitter<ChangeEvent<SourceRecord, SourceRecord>> {
+
+        @Override
+        public void markProcessed(ChangeEvent<SourceRecord, SourceRecord> record) {}
+
+        @Override
+        public void markBatchFinished() {}
+
+        @Override
+        public void markProcessed(
+                ChangeEvent<SourceRecord, SourceRecord> record, DebeziumEngine.Offsets offsets) {}
+
+        @Override
+        public DebeziumEngine.Offsets buildOffsets() {
+            return null;
+        }
+    }
+}
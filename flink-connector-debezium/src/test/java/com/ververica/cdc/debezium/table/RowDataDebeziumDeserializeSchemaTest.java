@@ -0,0 +1,230 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.debezium.table;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.types.RowKind;
+import org.apache.flink.util.Collector;
+
+import io.debezium.data.Envelope;
+import io.debezium.time.MicroTimestamp;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link RowDataDebeziumDeserializeSchema}. */
+public class RowDataDebeziumDeserializeSchemaTest {
+
+    private static final RowType PHYSICAL_TYPE =
+            (RowType)
+                    DataTypes.ROW(
+                                    DataTypes.FIELD("id", DataTypes.BIGINT()),
+                                    DataTypes.FIELD("flag", DataTypes.BOOLEAN()),
+                                    DataTypes.FIELD("small", DataTypes.SMALLINT()),
+                                    DataTypes.FIELD("num", DataTypes.INT()),
+                                    DataTypes.FIELD("ratio", DataTypes.FLOAT()),
+                                    DataTypes.FIELD("score", DataTypes.DOUBLE()),
+                                    DataTypes.FIELD("name", DataTypes.STRING()),
+                                    DataTypes.FIELD("payload", DataTypes.BYTES()),
+                                    DataTypes.FIELD("price", DataTypes.DECIMAL(10, 2)),
+                                    DataTypes.FIELD("big_price", DataTypes.DECIMAL(30, 4)),
+                                    DataTypes.FIELD("ts", DataTypes.TIMESTAMP(6)),
+                                    DataTypes.FIELD("missing", DataTypes.STRING()))
+                            .getLogicalType();
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("row")
+                    .optional()
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("flag", Schema.OPTIONAL_BOOLEAN_SCHEMA)
+                    .field("small", Schema.OPTIONAL_INT16_SCHEMA)
+                    .field("num", Schema.OPTIONAL_INT32_SCHEMA)
+                    .field("ratio", Schema.OPTIONAL_FLOAT32_SCHEMA)
+                    .field("score", Schema.OPTIONAL_FLOAT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("payload", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("price", Decimal.builder(2).optional().build())
+                    .field("big_price", Decimal.builder(4).optional().build())
+                    .field("ts", MicroTimestamp.builder().optional().build())
+                    .build();
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct().name("source").field("db", Schema.STRING_SCHEMA).build();
+
+    private static final Envelope ENVELOPE =
+            Envelope.defineSchema()
+                    .withName("envelope")
+                    .withRecord(ROW_SCHEMA)
+                    .withSource(SOURCE_SCHEMA)
+                    .build();
+
+    @Test
+    public void testObjectReuse() throws Exception {
+        RowDataDebeziumDeserializeSchema schema = createSchema(true);
+        List<RowData> rows = new ArrayList<>();
+        Collector<RowData> collector = new ListCollector(rows);
+
+        schema.deserialize(
+                createRecord(ENVELOPE.create(fullRow(1L), source(), Instant.now())), collector);
+        schema.deserialize(
+                createRecord(ENVELOPE.create(nullableRow(2L), source(), Instant.now())), collector);
+        assertSame(rows.get(0), rows.get(1));
+        assertEquals(2L, rows.get(1).getLong(0));
+        assertTrue(rows.get(1).isNullAt(1));
+
+        // the before and after rows of an update record are emitted together
+        rows.clear();
+        schema.deserialize(
+                createRecord(
+                        ENVELOPE.update(fullRow(3L), nullableRow(3L), source(), Instant.now())),
+                collector);
+        assertEquals(2, rows.size());
+        assertNotSame(rows.get(0), rows.get(1));
+        assertEquals(RowKind.UPDATE_BEFORE, rows.get(0).getRowKind());
+        assertEquals(RowKind.UPDATE_AFTER, rows.get(1).getRowKind());
+        assertEquals(3L, rows.get(0).getLong(0));
+        assertEquals(3L, rows.get(1).getLong(0));
+        assertTrue(rows.get(0).getBoolean(1));
+        assertTrue(rows.get(1).isNullAt(1));
+    }
+
+    @Test
+    public void testObjectReuseAllocatesLess() throws Exception {
+        java.lang.management.ThreadMXBean threadBean =
+                java.lang.management.ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean =
+                (com.sun.management.ThreadMXBean) threadBean;
+        Assume.assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+        List<SourceRecord> records = new ArrayList<>();
+        for (long id = 0; id < 1000; id++) {
+            records.add(createRecord(ENVELOPE.read(fullRow(id), source(), Instant.now())));
+        }
+        long bytesWithoutReuse =
+                allocatedBytesPerRecord(allocationBean, createSchema(false), records);
+        long bytesWithReuse = allocatedBytesPerRecord(allocationBean, createSchema(true), records);
+        assertTrue(
+                String.format(
+                        "Expected less allocation with object reuse, but %s bytes/record with reuse and %s bytes/record without reuse.",
+                        bytesWithReuse, bytesWithoutReuse),
+                bytesWithReuse < bytesWithoutReuse);
+    }
+
+    private static long allocatedBytesPerRecord(
+            com.sun.management.ThreadMXBean allocationBean,
+            RowDataDebeziumDeserializeSchema schema,
+            List<SourceRecord> records)
+            throws Exception {
+        Collector<RowData> collector =
+                new Collector<RowData>() {
+                    @Override
+                    public void collect(RowData record) {}
+
+                    @Override
+                    public void close() {}
+                };
+        // warm up
+        for (int i = 0; i < 10; i++) {
+            for (SourceRecord record : records) {
+                schema.deserialize(record, collector);
+            }
+        }
+        long threadId = Thread.currentThread().getId();
+        long start = allocationBean.getThreadAllocatedBytes(threadId);
+        for (SourceRecord record : records) {
+            schema.deserialize(record, collector);
+        }
+        return (allocationBean.getThreadAllocatedBytes(threadId) - start) / records.size();
+    }
+
+    private static RowDataDebeziumDeserializeSchema createSchema(boolean objectReuse) {
+        return RowDataDebeziumDeserializeSchema.newBuilder()
+                .setPhysicalRowType(PHYSICAL_TYPE)
+                .setResultTypeInfo(TypeInformation.of(RowData.class))
+                .setServerTimeZone(ZoneId.of("UTC"))
+                .setObjectReuse(objectReuse)
+                .build();
+    }
+
+    private static Struct fullRow(long id) {
+        return new Struct(ROW_SCHEMA)
+                .put("id", id)
+                .put("flag", true)
+                .put("small", (short) 7)
+                .put("num", 42)
+                .put("ratio", 1.5f)
+                .put("score", 99.99d)
+                .put("name", "name-" + id)
+                .put("payload", new byte[] {1, 2, 3})
+                .put("price", new BigDecimal("123.45"))
+                .put("big_price", new BigDecimal("12345678901234567890.1234"))
+                .put("ts", 1_600_000_000_123_456L);
+    }
+
+    private static Struct nullableRow(long id) {
+        return new Struct(ROW_SCHEMA).put("id", id).put("name", "name-" + id);
+    }
+
+    private static Struct source() {
+        return new Struct(SOURCE_SCHEMA).put("db", "test_db");
+    }
+
+    private static SourceRecord createRecord(Struct value) {
+        return new SourceRecord(
+                Collections.emptyMap(), Collections.emptyMap(), "topic", ENVELOPE.schema(), value);
+    }
+
+    /** A {@link Collector} which collects the rows into a list. */
+    private static class ListCollector implements Collector<RowData> {
+
+        private final List<RowData> rows;
+
+        private ListCollector(List<RowData> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void collect(RowData record) {
+            rows.add(record);
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.binlog;
+
+import org.apache.flink.annotation.VisibleForTesting;
+
+import org.apache.flink.shaded.guava30.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+import com.ververica.cdc.connectors.mysql.source.metrics.BinlogDeserializationMetrics;
+import io.debezium.connector.mysql.RowDeserializers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.ververica.cdc.connectors.mysql.debezium.binlog.RowsEventFramingDeserializer.ROWS_EVENT_TYPES;
+
+/**
+ * A pipeline which decodes the rows events of binlog in parallel. The binlog client thread only
+ * frames the events (see {@link RowsEventFramingDeserializer}) and hands them over to the pipeline,
+ * the row images of the framed events are decoded by a pool of decoder threads, and a sequencer
+ * thread passes the decoded events to the downstream listener in the original binlog order.
+ *
+ * <p>The pipeline is bounded: the binlog client thread blocks when there are too many events
+ * pending in the pipeline, so a slow downstream listener back-pressures the binlog client as
+ * before.
+ */
+public class BinlogDeserializationPipeline implements BinaryLogClient.EventListener, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinlogDeserializationPipeline.class);
+
+    /** The debezium property of the number of threads decoding the rows events. */
+    public static final String PARALLELISM_KEY = "binlog.deserialization.parallelism";
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 1024;
+    private static final long POLL_TIMEOUT_MS = 100L;
+    private static final long CLOSE_TIMEOUT_MS = 10_000L;
+
+    private final BinaryLogClient.EventListener downstream;
+    private final Consumer<Exception> deserializationFailureHandler;
+    private final BinlogDeserializationMetrics metrics;
+    private final ExecutorService decoders;
+    private final BlockingQueue<CompletableFuture<Event>> pendingEvents;
+    private final Thread sequencer;
+
+    private volatile boolean closed;
+
+    public BinlogDeserializationPipeline(
+            int parallelism,
+            BinaryLogClient.EventListener downstream,
+            Consumer<Exception> deserializationFailureHandler,
+            BinlogDeserializationMetrics metrics) {
+        this.downstream = downstream;
+        this.deserializationFailureHandler = deserializationFailureHandler;
+        this.metrics = metrics;
+        this.decoders =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("binlog-decoder-%d")
+                                .setDaemon(true)
+                                .build());
+        this.pendingEvents = new ArrayBlockingQueue<>(parallelism * QUEUE_CAPACITY_PER_THREAD);
+        this.sequencer =
+                new ThreadFactoryBuilder()
+                        .setNameFormat("binlog-sequencer")
+                        .setDaemon(true)
+                        .build()
+                        .newThread(this::runSequencer);
+        metrics.setPendingEvents(pendingEvents::size);
+        sequencer.start();
+    }
+
+    /**
+     * Replaces the deserializers of rows events with {@link RowsEventFramingDeserializer}, which
+     * only frames the events for the pipeline.
+     */
+    public static void registerFramingDeserializers(
+            EventDeserializer eventDeserializer,
+            Map<Long, TableMapEventData> tableMapEventByTableId) {
+        for (EventType eventType : ROWS_EVENT_TYPES) {
+            eventDeserializer.setEventDataDeserializer(
+                    eventType, new RowsEventFramingDeserializer(eventType, tableMapEventByTableId));
+        }
+    }
+
+    /** Called by the binlog client thread. */
+    @Override
+    public void onEvent(Event event) {
+        if (closed) {
+            return;
+        }
+        metrics.recordFramedEvent((int) event.getHeader().getDataLength());
+        CompletableFuture<Event> decodedEvent;
+        if (event.getData() instanceof FramedRowsEventData) {
+            try {
+                decodedEvent = CompletableFuture.supplyAsync(() -> decode(event), decoders);
+            } catch (RejectedExecutionException e) {
+                // the pipeline has been closed
+                return;
+            }
+        } else {
+            decodedEvent = CompletableFuture.completedFuture(event);
+        }
+        try {
+            while (!pendingEvents.offer(decodedEvent, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Event decode(Event event) {
+        FramedRowsEventData framedData = event.getData();
+        try {
+            Event decodedEvent = new Event(event.getHeader(), decodeRows(framedData));
+            metrics.recordDecodedEvent();
+            return decodedEvent;
+        } catch (IOException e) {
+            throw new CompletionException(
+                    new EventDataDeserializationException(event.getHeader(), e));
+        }
+    }
+
+    /** Decodes the row images of a framed rows event. */
+    @VisibleForTesting
+    static EventData decodeRows(FramedRowsEventData framedData) throws IOException {
+        // the deserializers only look up the table of the event
+        Map<Long, TableMapEventData> tableMapEventByTableId =
+                framedData.getTableMapEvent() == null
+                        ? Collections.emptyMap()
+                        : Collections.singletonMap(
+                                framedData.getTableId(), framedData.getTableMapEvent());
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(framedData.getPayload());
+        switch (framedData.getEventType()) {
+            case WRITE_ROWS:
+                return new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId)
+                        .deserialize(inputStream);
+            case UPDATE_ROWS:
+                return new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId)
+                        .deserialize(inputStream);
+            case DELETE_ROWS:
+                return new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId)
+                        .deserialize(inputStream);
+            case EXT_WRITE_ROWS:
+                return new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId)
+                        .setMayContainExtraInformation(true)
+                        .deserialize(inputStream);
+            case EXT_UPDATE_ROWS:
+                return new RowDeserializers.UpdateRowsDeserializer(tableMapEventByTableId)
+                        .setMayContainExtraInformation(true)
+                        .deserialize(inputStream);
+            case EXT_DELETE_ROWS:
+                return new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId)
+                        .setMayContainExtraInformation(true)
+                        .deserialize(inputStream);
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported rows event type " + framedData.getEventType());
+        }
+    }
+
+    private void runSequencer() {
+        while (!closed) {
+            Event event;
+            try {
+                CompletableFuture<Event> decodedEvent =
+                        pendingEvents.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (decodedEvent == null) {
+                    continue;
+                }
+                event = decodedEvent.get();
+            } catch (InterruptedException e) {
+                return;
+            } catch (ExecutionException e) {
+                // the event is skipped like a deserialization failure on the binlog client thread
+                deserializationFailureHandler.accept(
+                        e.getCause() instanceof Exception
+                                ? (Exception) e.getCause()
+                                : new RuntimeException(e.getCause()));
+                continue;
+            }
+            try {
+                downstream.onEvent(event);
+            } catch (Exception e) {
+                LOG.warn("{} choked on {}", downstream, event, e);
+            }
+            metrics.recordSequencedEvent();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        sequencer.interrupt();
+        decoders.shutdownNow();
+        try {
+            sequencer.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pendingEvents.clear();
+        metrics.setPendingEvents(() -> 0);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.binlog;
+
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+
+import javax.annotation.Nullable;
+
+/**
+ * The data of a rows event which has been framed but not decoded yet. It holds the raw payload of
+ * the event and the table map event the rows refer to, so that the rows can be decoded later by
+ * another thread, see {@link BinlogDeserializationPipeline}.
+ */
+public class FramedRowsEventData implements EventData {
+
+    private static final long serialVersionUID = 1L;
+
+    private final EventType eventType;
+    private final long tableId;
+    private final byte[] payload;
+    @Nullable private final TableMapEventData tableMapEvent;
+
+    public FramedRowsEventData(
+            EventType eventType,
+            long tableId,
+            byte[] payload,
+            @Nullable TableMapEventData tableMapEvent) {
+        this.eventType = eventType;
+        this.tableId = tableId;
+        this.payload = payload;
+        this.tableMapEvent = tableMapEvent;
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public long getTableId() {
+        return tableId;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /** The most recent table map event of the table, null if there is no such event. */
+    @Nullable
+    public TableMapEventData getTableMapEvent() {
+        return tableMapEvent;
+    }
+
+    @Override
+    public String toString() {
+        return "FramedRowsEventData{"
+                + "eventType="
+                + eventType
+                + ", tableId="
+                + tableId
+                + ", payloadLength="
+                + payload.length
+                + '}';
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.binlog;
+
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * An {@link EventDataDeserializer} for rows events which only frames the events: it reads the raw
+ * payload and the table id of a rows event and leaves decoding the row images to {@link
+ * BinlogDeserializationPipeline}.
+ */
+public class RowsEventFramingDeserializer implements EventDataDeserializer<FramedRowsEventData> {
+
+    static final EventType[] ROWS_EVENT_TYPES = {
+        EventType.WRITE_ROWS,
+        EventType.UPDATE_ROWS,
+        EventType.DELETE_ROWS,
+        EventType.EXT_WRITE_ROWS,
+        EventType.EXT_UPDATE_ROWS,
+        EventType.EXT_DELETE_ROWS
+    };
+
+    /** The length of the table id in the post header of rows events since MySQL 5.1.4. */
+    static final int TABLE_ID_LENGTH = 6;
+
+    private final EventType eventType;
+    private final Map<Long, TableMapEventData> tableMapEventByTableId;
+
+    public RowsEventFramingDeserializer(
+            EventType eventType, Map<Long, TableMapEventData> tableMapEventByTableId) {
+        this.eventType = eventType;
+        this.tableMapEventByTableId = tableMapEventByTableId;
+    }
+
+    @Override
+    public FramedRowsEventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+        // the input stream is limited to the event body, excluding the checksum
+        byte[] payload = inputStream.read(inputStream.available());
+        if (payload.length < TABLE_ID_LENGTH) {
+            throw new IOException(
+                    "The length of rows event is " + payload.length + ", the event is truncated");
+        }
+        long tableId = readTableId(payload);
+        return new FramedRowsEventData(
+                eventType, tableId, payload, tableMapEventByTableId.get(tableId));
+    }
+
+    /** Reads the little-endian table id at the beginning of the payload of a rows event. */
+    static long readTableId(byte[] payload) {
+        long tableId = 0;
+        for (int i = 0; i < TABLE_ID_LENGTH; i++) {
+            tableId |= ((long) (payload[i] & 0xFF)) << (i << 3);
+        }
+        return tableId;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.binlog;
+
+import com.github.shyiko.mysql.binlog.event.DeleteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+import com.ververica.cdc.connectors.mysql.source.metrics.BinlogDeserializationMetrics;
+
+import java.io.IOException;
+import java.io.SequenceInputStream;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+
+import static com.ververica.cdc.connectors.mysql.debezium.binlog.RowsEventFramingDeserializer.ROWS_EVENT_TYPES;
+import static com.ververica.cdc.connectors.mysql.debezium.binlog.RowsEventFramingDeserializer.TABLE_ID_LENGTH;
+import static com.ververica.cdc.connectors.mysql.debezium.binlog.RowsEventFramingDeserializer.readTableId;
+
+/**
+ * An {@link EventDataDeserializer} for rows events which skips the row images of the tables that
+ * aren't captured. It reads the table id of a rows event first, and only passes the event to the
+ * delegated deserializer if the table is captured according to the latest table map event of the
+ * table. The events of other tables are skipped at the byte level and produce event data without
+ * rows, which are ignored by the handlers just like the events of unknown tables.
+ */
+public class TableFilteringRowsDeserializer implements EventDataDeserializer<EventData> {
+
+    private final EventType eventType;
+    private final EventDataDeserializer<?> delegate;
+    private final Map<Long, Boolean> capturedByTableId;
+    private final BinlogDeserializationMetrics metrics;
+
+    public TableFilteringRowsDeserializer(
+            EventType eventType,
+            EventDataDeserializer<?> delegate,
+            Map<Long, Boolean> capturedByTableId,
+            BinlogDeserializationMetrics metrics) {
+        this.eventType = eventType;
+        this.delegate = delegate;
+        this.capturedByTableId = capturedByTableId;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Wraps the registered deserializers of rows events with {@link
+     * TableFilteringRowsDeserializer}.
+     *
+     * @param capturedByTableId whether the table of a table number is captured, which is maintained
+     *     with the table map events. The events of unknown table numbers are not skipped.
+     */
+    public static void registerTableFiltering(
+            EventDeserializer eventDeserializer,
+            Map<Long, Boolean> capturedByTableId,
+            BinlogDeserializationMetrics metrics) {
+        for (EventType eventType : ROWS_EVENT_TYPES) {
+            eventDeserializer.setEventDataDeserializer(
+                    eventType,
+                    new TableFilteringRowsDeserializer(
+                            eventType,
+                            eventDeserializer.getEventDataDeserializer(eventType),
+                            capturedByTableId,
+                            metrics));
+        }
+    }
+
+    @Override
+    public EventData deserialize(ByteArrayInputStream inputStream) throws IOException {
+        byte[] tableIdBytes = inputStream.read(TABLE_ID_LENGTH);
+        long tableId = readTableId(tableIdBytes);
+        if (Boolean.FALSE.equals(capturedByTableId.get(tableId))) {
+            // the input stream is limited to the event body, skip the row images
+            int skippedBytes = inputStream.available();
+            inputStream.skipToTheEndOfTheBlock();
+            metrics.recordSkippedEvent(TABLE_ID_LENGTH + skippedBytes);
+            return createEmptyEventData(tableId);
+        }
+        // put the table id back in front of the rest of the event body without copying it
+        ByteArrayInputStream eventBody =
+                new ByteArrayInputStream(
+                        new SequenceInputStream(
+                                new java.io.ByteArrayInputStream(tableIdBytes), inputStream));
+        eventBody.enterBlock(TABLE_ID_LENGTH + inputStream.available());
+        return delegate.deserialize(eventBody);
+    }
+
+    private EventData createEmptyEventData(long tableId) {
+        switch (eventType) {
+            case WRITE_ROWS:
+            case EXT_WRITE_ROWS:
+                WriteRowsEventData writeRowsData = new WriteRowsEventData();
+                writeRowsData.setTableId(tableId);
+                writeRowsData.setIncludedColumns(new BitSet());
+                writeRowsData.setRows(Collections.emptyList());
+                return writeRowsData;
+            case UPDATE_ROWS:
+            case EXT_UPDATE_ROWS:
+                UpdateRowsEventData updateRowsData = new UpdateRowsEventData();
+                updateRowsData.setTableId(tableId);
+                updateRowsData.setIncludedColumnsBeforeUpdate(new BitSet());
+                updateRowsData.setIncludedColumns(new BitSet());
+                updateRowsData.setRows(Collections.emptyList());
+                return updateRowsData;
+            case DELETE_ROWS:
+            case EXT_DELETE_ROWS:
+                DeleteRowsEventData deleteRowsData = new DeleteRowsEventData();
+                deleteRowsData.setTableId(tableId);
+                deleteRowsData.setIncludedColumns(new BitSet());
+                deleteRowsData.setRows(Collections.emptyList());
+                return deleteRowsData;
+            default:
+                throw new IllegalArgumentException("Unsupported rows event type " + eventType);
+        }
+    }
+}
@@ -0,0 +1,512 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.flink.shaded.guava30.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher;
+import com.ververica.cdc.connectors.mysql.debezium.task.MySqlBinlogSplitReadTask;
+import com.ververica.cdc.connectors.mysql.debezium.task.context.StatefulTaskContext;
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import com.ververica.cdc.connectors.mysql.source.metrics.BinlogDeserializationMetrics;
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import io.debezium.DebeziumException;
+import io.debezium.config.Configuration;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.mysql.MySqlConnectorConfig;
+import io.debezium.connector.mysql.MySqlOffsetContext;
+import io.debezium.connector.mysql.MySqlStreamingChangeEventSourceMetrics;
+import io.debezium.heartbeat.Heartbeat;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.createBinaryClient;
+import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.createMySqlConnection;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getBinlogPosition;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getTableId;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isDataChangeRecord;
+
+/**
+ * A binlog cursor which serves the backfill binlog of consecutive snapshot splits from one binlog
+ * connection.
+ *
+ * <p>Without the cursor, every snapshot split whose high watermark is after its low watermark
+ * starts a bounded {@link MySqlBinlogSplitReadTask}, which connects the binlog client, registers a
+ * dump thread on the server, seeks to the low watermark and disconnects once the backfill is done.
+ * The splits of one reader are read one after another, so their low watermarks never go back. The
+ * cursor keeps one unbounded binlog read task running which moves forward along the binlog, and
+ * serves the backfill window [low watermark, high watermark) of every split from it.
+ *
+ * <p>The binlog records are buffered by table: the records read ahead of the high watermark of a
+ * split are reused by the following splits. The readers register the low watermark of a split as
+ * pending once it's taken, and the records of a table are only discarded before the oldest pending
+ * low watermark of that table, so splits of different tables, or splits served out of order by
+ * concurrent readers, don't discard the records of each other. The records of a table without
+ * pending low watermarks are discarded before the low watermark of the requested split. The cursor
+ * is restarted from the oldest pending low watermark when the table of the split is not captured by
+ * the cursor yet, the low watermark is before the starting offset of the cursor or the records the
+ * cursor has discarded for the table, or the cursor has failed.
+ *
+ * <p>The cursor may be shared by the concurrent snapshot split readers of a subtask, so the
+ * backfill records are read under the lock of the cursor.
+ */
+public class BackfillBinlogCursor implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BackfillBinlogCursor.class);
+    private static final String BACKFILL_CURSOR_SPLIT_ID = "backfill-binlog-cursor";
+    private static final long CURSOR_CLOSE_TIMEOUT = 30L;
+
+    private final MySqlSourceConfig sourceConfig;
+    private final ExecutorService executorService;
+    private final Map<TableId, TableChange> tableSchemas;
+    private final Map<TableId, ArrayDeque<SourceRecord>> bufferedRecords;
+    // the buffered records of a table before the offset have been discarded
+    private final Map<TableId, BinlogOffset> discardedOffsets;
+    // the low watermarks of the splits whose backfill has not been read yet, guarded by itself as
+    // the readers register them while another split is being served
+    private final Map<TableId, List<BinlogOffset>> pendingLowWatermarks;
+
+    @Nullable private StatefulTaskContext statefulTaskContext;
+    @Nullable private MySqlBinlogSplit cursorSplit;
+    @Nullable private Future<?> readTaskFuture;
+
+    private final BinlogDeserializationMetrics binlogDeserializationMetrics;
+    private volatile boolean running;
+    private volatile Throwable readException;
+    // the offset after the latest binlog event handled by the cursor
+    @Nullable private volatile BinlogOffset currentOffset;
+    // the offset that the cursor should notify the reader once reached
+    @Nullable private volatile BinlogOffset targetOffset;
+
+    public BackfillBinlogCursor(MySqlSourceConfig sourceConfig, int subtaskId) {
+        this(sourceConfig, subtaskId, new BinlogDeserializationMetrics());
+    }
+
+    public BackfillBinlogCursor(
+            MySqlSourceConfig sourceConfig,
+            int subtaskId,
+            BinlogDeserializationMetrics binlogDeserializationMetrics) {
+        this.sourceConfig = sourceConfig;
+        this.binlogDeserializationMetrics = binlogDeserializationMetrics;
+        ThreadFactory threadFactory =
+                new ThreadFactoryBuilder()
+                        .setNameFormat("backfill-binlog-cursor-" + subtaskId)
+                        .build();
+        this.executorService = Executors.newSingleThreadExecutor(threadFactory);
+        this.tableSchemas = new HashMap<>();
+        this.bufferedRecords = new HashMap<>();
+        this.discardedOffsets = new HashMap<>();
+        this.pendingLowWatermarks = new HashMap<>();
+    }
+
+    /**
+     * Registers the low watermark of a split whose backfill will be read from the cursor, the
+     * records of the table after the low watermark are kept until it's removed by {@link
+     * #removePendingLowWatermark(TableId, BinlogOffset)}.
+     */
+    public void addPendingLowWatermark(TableId tableId, BinlogOffset lowWatermark) {
+        synchronized (pendingLowWatermarks) {
+            pendingLowWatermarks
+                    .computeIfAbsent(tableId, id -> new ArrayList<>())
+                    .add(lowWatermark);
+        }
+    }
+
+    /** Removes a low watermark registered by {@link #addPendingLowWatermark}. */
+    public void removePendingLowWatermark(TableId tableId, BinlogOffset lowWatermark) {
+        synchronized (pendingLowWatermarks) {
+            final List<BinlogOffset> lowWatermarks = pendingLowWatermarks.get(tableId);
+            if (lowWatermarks != null) {
+                lowWatermarks.remove(lowWatermark);
+                if (lowWatermarks.isEmpty()) {
+                    pendingLowWatermarks.remove(tableId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the binlog data change records of the split's table in the backfill window
+     * [lowWatermark, highWatermark), in binlog order.
+     */
+    public synchronized List<SourceRecord> readBackfillRecords(
+            MySqlSnapshotSplit snapshotSplit, BinlogOffset lowWatermark, BinlogOffset highWatermark)
+            throws InterruptedException {
+        final TableId tableId = snapshotSplit.getTableId();
+        boolean restarted = false;
+        if (!canServe(tableId, lowWatermark)) {
+            captureTables(snapshotSplit.getTableSchemas());
+            restart(oldestPendingLowWatermark(lowWatermark));
+            restarted = true;
+        }
+        discardBufferedRecords(tableId, lowWatermark);
+        try {
+            readUntil(highWatermark);
+        } catch (RuntimeException e) {
+            if (restarted) {
+                throw e;
+            }
+            LOG.warn(
+                    "The backfill binlog cursor failed, restart it from the low watermark {} of split {}.",
+                    lowWatermark,
+                    snapshotSplit.splitId(),
+                    e);
+            restart(oldestPendingLowWatermark(lowWatermark));
+            readUntil(highWatermark);
+        }
+
+        final List<SourceRecord> records = new ArrayList<>();
+        final ArrayDeque<SourceRecord> tableRecords = bufferedRecords.get(tableId);
+        if (tableRecords != null) {
+            for (SourceRecord record : tableRecords) {
+                if (!getBinlogPosition(record).isBefore(highWatermark)) {
+                    break;
+                }
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /** Captures the given tables once the cursor is restarted. */
+    @VisibleForTesting
+    void captureTables(Map<TableId, TableChange> tables) {
+        tableSchemas.putAll(tables);
+    }
+
+    private boolean canServe(TableId tableId, BinlogOffset lowWatermark) {
+        return statefulTaskContext != null
+                && readException == null
+                && tableSchemas.containsKey(tableId)
+                && !lowWatermark.isBefore(cursorSplit.getStartingOffset())
+                && (!discardedOffsets.containsKey(tableId)
+                        || !lowWatermark.isBefore(discardedOffsets.get(tableId)));
+    }
+
+    /**
+     * Returns the oldest low watermark of the given one and the pending ones of the captured
+     * tables, which the cursor starts from so that it can serve all of them.
+     */
+    @VisibleForTesting
+    BinlogOffset oldestPendingLowWatermark(BinlogOffset lowWatermark) {
+        BinlogOffset oldest = lowWatermark;
+        synchronized (pendingLowWatermarks) {
+            for (Map.Entry<TableId, List<BinlogOffset>> entry : pendingLowWatermarks.entrySet()) {
+                if (!tableSchemas.containsKey(entry.getKey())) {
+                    continue;
+                }
+                for (BinlogOffset pending : entry.getValue()) {
+                    if (pending.isBefore(oldest)) {
+                        oldest = pending;
+                    }
+                }
+            }
+        }
+        return oldest;
+    }
+
+    private void restart(BinlogOffset startingOffset) {
+        stop();
+        bufferedRecords.clear();
+        discardedOffsets.clear();
+        LOG.info(
+                "Start the backfill binlog cursor from {} for tables {}.",
+                startingOffset,
+                tableSchemas.keySet());
+
+        this.statefulTaskContext =
+                new StatefulTaskContext(
+                        sourceConfig,
+                        createBinaryClient(sourceConfig.getDbzConfiguration()),
+                        createMySqlConnection(sourceConfig),
+                        binlogDeserializationMetrics);
+        this.cursorSplit =
+                new MySqlBinlogSplit(
+                        BACKFILL_CURSOR_SPLIT_ID,
+                        startingOffset,
+                        BinlogOffset.ofNonStopping(),
+                        new ArrayList<>(),
+                        new HashMap<>(tableSchemas),
+                        0);
+        statefulTaskContext.configure(cursorSplit);
+
+        // we should only capture events for the tables whose schema is known by the cursor
+        final String capturedTables =
+                tableSchemas.keySet().stream()
+                        .map(TableId::toString)
+                        .collect(Collectors.joining(","));
+        final Configuration dezConf =
+                sourceConfig
+                        .getDbzConfiguration()
+                        .edit()
+                        .with("table.include.list", capturedTables)
+                        // Disable heartbeat event in backfill binlog cursor
+                        .with(Heartbeat.HEARTBEAT_INTERVAL, 0)
+                        .build();
+        final BackfillBinlogReadTask readTask =
+                new BackfillBinlogReadTask(
+                        new MySqlConnectorConfig(dezConf), statefulTaskContext, cursorSplit);
+        final MySqlOffsetContext offsetContext = statefulTaskContext.getOffsetContext();
+
+        this.running = true;
+        this.readTaskFuture =
+                executorService.submit(
+                        () -> {
+                            try {
+                                readTask.execute(() -> running, offsetContext);
+                            } catch (Exception e) {
+                                LOG.error("Execute backfill binlog cursor fail", e);
+                                readException = e;
+                            }
+                        });
+    }
+
+    /** Buffers the records of the cursor until it has handled the binlog before the offset. */
+    private void readUntil(BinlogOffset offset) throws InterruptedException {
+        final ChangeEventQueue<DataChangeEvent> queue = statefulTaskContext.getQueue();
+        targetOffset = offset;
+        while (true) {
+            checkReadException();
+            final BinlogOffset handledOffset = currentOffset;
+            if (handledOffset != null && handledOffset.isAtOrAfter(offset)) {
+                // the records are enqueued before the current offset moves forward, thus all
+                // records before the offset are in the queue now
+                while (queue.remainingCapacity() < queue.totalCapacity()) {
+                    bufferRecords(queue.poll());
+                }
+                return;
+            }
+            bufferRecords(queue.poll());
+        }
+    }
+
+    @VisibleForTesting
+    void bufferRecords(List<DataChangeEvent> events) {
+        for (DataChangeEvent event : events) {
+            final SourceRecord record = event.getRecord();
+            if (isDataChangeRecord(record)) {
+                bufferedRecords
+                        .computeIfAbsent(getTableId(record), tableId -> new ArrayDeque<>())
+                        .add(record);
+            }
+        }
+    }
+
+    /**
+     * Discards the buffered records of every table before the oldest pending low watermark of the
+     * table, no following split of the table needs them. The requested split is pending as well,
+     * and a table without pending low watermarks is discarded before the requested low watermark.
+     */
+    @VisibleForTesting
+    void discardBufferedRecords(TableId requestedTableId, BinlogOffset lowWatermark) {
+        final Map<TableId, BinlogOffset> discardOffsets = new HashMap<>();
+        synchronized (pendingLowWatermarks) {
+            for (TableId tableId : bufferedRecords.keySet()) {
+                BinlogOffset discardOffset =
+                        tableId.equals(requestedTableId)
+                                        || !pendingLowWatermarks.containsKey(tableId)
+                                ? lowWatermark
+                                : null;
+                for (BinlogOffset pending :
+                        pendingLowWatermarks.getOrDefault(tableId, Collections.emptyList())) {
+                    if (discardOffset == null || pending.isBefore(discardOffset)) {
+                        discardOffset = pending;
+                    }
+                }
+                discardOffsets.put(tableId, discardOffset);
+            }
+        }
+
+        final Iterator<Map.Entry<TableId, ArrayDeque<SourceRecord>>> iterator =
+                bufferedRecords.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<TableId, ArrayDeque<SourceRecord>> entry = iterator.next();
+            final BinlogOffset discardOffset = discardOffsets.get(entry.getKey());
+            final BinlogOffset discardedOffset = discardedOffsets.get(entry.getKey());
+            if (discardedOffset == null || discardOffset.isAfter(discardedOffset)) {
+                discardedOffsets.put(entry.getKey(), discardOffset);
+            }
+            final ArrayDeque<SourceRecord> tableRecords = entry.getValue();
+            while (!tableRecords.isEmpty()
+                    && getBinlogPosition(tableRecords.peekFirst()).isBefore(discardOffset)) {
+                tableRecords.pollFirst();
+            }
+            if (tableRecords.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @VisibleForTesting
+    List<SourceRecord> getBufferedRecords(TableId tableId) {
+        final ArrayDeque<SourceRecord> tableRecords = bufferedRecords.get(tableId);
+        return tableRecords == null ? Collections.emptyList() : new ArrayList<>(tableRecords);
+    }
+
+    private void checkReadException() {
+        if (readException != null) {
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "Read backfill binlog error due to %s.", readException.getMessage()),
+                    readException);
+        }
+    }
+
+    private void stop() {
+        running = false;
+        if (readTaskFuture != null) {
+            final ChangeEventQueue<DataChangeEvent> queue = statefulTaskContext.getQueue();
+            final long deadline =
+                    System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(CURSOR_CLOSE_TIMEOUT);
+            try {
+                while (!readTaskFuture.isDone() && System.currentTimeMillis() < deadline) {
+                    // the binlog client may be blocked by a full queue, discard the records
+                    while (queue.remainingCapacity() < queue.totalCapacity()) {
+                        queue.poll();
+                    }
+                    try {
+                        readTaskFuture.get(100, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) {
+                        // continue to wait the read task
+                    }
+                }
+            } catch (Exception e) {
+                LOG.warn("Stop backfill binlog cursor error", e);
+            }
+            if (!readTaskFuture.isDone()) {
+                LOG.warn(
+                        "Failed to stop the backfill binlog cursor in {} seconds.",
+                        CURSOR_CLOSE_TIMEOUT);
+            }
+        }
+        if (statefulTaskContext != null) {
+            try {
+                statefulTaskContext.getBinaryLogClient().disconnect();
+                statefulTaskContext.getConnection().close();
+            } catch (Exception e) {
+                LOG.warn("Close backfill binlog cursor connection error", e);
+            }
+        }
+        this.statefulTaskContext = null;
+        this.cursorSplit = null;
+        this.readTaskFuture = null;
+        this.readException = null;
+        this.currentOffset = null;
+        this.targetOffset = null;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            stop();
+            bufferedRecords.clear();
+            discardedOffsets.clear();
+            executorService.shutdown();
+            if (!executorService.awaitTermination(CURSOR_CLOSE_TIMEOUT, TimeUnit.SECONDS)) {
+                LOG.warn(
+                        "Failed to close the backfill binlog cursor in {} seconds.",
+                        CURSOR_CLOSE_TIMEOUT);
+            }
+        } catch (Exception e) {
+            LOG.error("Close backfill binlog cursor error", e);
+        }
+    }
+
+    /**
+     * An unbounded {@link MySqlBinlogSplitReadTask} which tracks the offset of the handled binlog
+     * events, and wakes up the waiting reader once the target offset is reached.
+     */
+    private class BackfillBinlogReadTask extends MySqlBinlogSplitReadTask {
+
+        private final SignalEventDispatcher signalEventDispatcher;
+        private final ErrorHandler errorHandler;
+        private final MySqlBinlogSplit binlogSplit;
+
+        BackfillBinlogReadTask(
+                MySqlConnectorConfig connectorConfig,
+                StatefulTaskContext taskContext,
+                MySqlBinlogSplit binlogSplit) {
+            super(
+                    connectorConfig,
+                    taskContext.getConnection(),
+                    taskContext.getDispatcher(),
+                    taskContext.getSignalEventDispatcher(),
+                    taskContext.getErrorHandler(),
+                    StatefulTaskContext.getClock(),
+                    taskContext.getTaskContext(),
+                    (MySqlStreamingChangeEventSourceMetrics)
+                            taskContext.getStreamingChangeEventSourceMetrics(),
+                    taskContext.getBinlogDeserializationMetrics(),
+                    binlogSplit,
+                    event -> true);
+            this.signalEventDispatcher = taskContext.getSignalEventDispatcher();
+            this.errorHandler = taskContext.getErrorHandler();
+            this.binlogSplit = binlogSplit;
+        }
+
+        @Override
+        protected void handleEvent(MySqlOffsetContext offsetContext, Event event) {
+            if (!running) {
+                return;
+            }
+            super.handleEvent(offsetContext, event);
+            final BinlogOffset offset = getBinlogPosition(offsetContext.getOffset());
+            currentOffset = offset;
+            final BinlogOffset target = targetOffset;
+            if (target != null && offset.isAtOrAfter(target)) {
+                targetOffset = null;
+                try {
+                    signalEventDispatcher.dispatchWatermarkEvent(
+                            binlogSplit, offset, SignalEventDispatcher.WatermarkKind.BINLOG_END);
+                } catch (InterruptedException e) {
+                    LOG.error("Send signal event error.", e);
+                    errorHandler.setProducerThrowable(
+                            new DebeziumException("Error processing binlog signal event", e));
+                }
+            }
+        }
+    }
+}
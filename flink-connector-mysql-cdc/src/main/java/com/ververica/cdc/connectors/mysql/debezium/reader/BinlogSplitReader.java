@@ -28,6 +28,7 @@ import com.ververica.cdc.connectors.mysql.debezium.task.MySqlBinlogSplitReadTask
 import com.ververica.cdc.connectors.mysql.debezium.task.context.StatefulTaskContext;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffsetKind;
+import com.ververica.cdc.connectors.mysql.source.split.FinishedSnapshotSplitIndex;
 import com.ververica.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
@@ -38,6 +39,7 @@ import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.connector.mysql.MySqlStreamingChangeEventSourceMetrics;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.pipeline.source.spi.ChangeEventSource;
+import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
 import org.apache.kafka.connect.source.SourceRecord;
@@ -59,8 +61,9 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.isTableOfBinlogSplit;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getBinlogPosition;
-import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getSplitKey;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getSplitKeyValue;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getTableId;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isDataChangeRecord;
 
@@ -80,10 +83,13 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
 
     private MySqlBinlogSplitReadTask binlogSplitReadTask;
     private MySqlBinlogSplit currentBinlogSplit;
-    private Map<TableId, List<FinishedSnapshotSplitInfo>> finishedSplitsInfo;
+    // tableId -> the sorted index of the finished snapshot splits
+    private Map<TableId, FinishedSnapshotSplitIndex> finishedSplitsInfo;
     // tableId -> the max splitHighWatermark
     private Map<TableId, BinlogOffset> maxSplitHighWatermarkMap;
     private final Set<TableId> pureBinlogPhaseTables;
+    // tableId -> the split key field name of the current table schema
+    private final Map<TableId, SplitKeyField> splitKeyFields = new HashMap<>();
     private Tables.TableFilter capturedTableFilter;
 
     private static final long READER_CLOSE_TIMEOUT = 30L;
@@ -101,8 +107,7 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
         this.currentBinlogSplit = mySqlSplit.asBinlogSplit();
         configureFilter();
         statefulTaskContext.configure(currentBinlogSplit);
-        this.capturedTableFilter =
-                statefulTaskContext.getConnectorConfig().getTableFilters().dataCollectionFilter();
+        this.capturedTableFilter = createCapturedTableFilter(currentBinlogSplit);
         this.queue = statefulTaskContext.getQueue();
         this.binlogSplitReadTask =
                 new MySqlBinlogSplitReadTask(
@@ -115,8 +120,10 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
                         statefulTaskContext.getTaskContext(),
                         (MySqlStreamingChangeEventSourceMetrics)
                                 statefulTaskContext.getStreamingChangeEventSourceMetrics(),
+                        statefulTaskContext.getBinlogDeserializationMetrics(),
                         currentBinlogSplit,
-                        createEventFilter(currentBinlogSplit.getStartingOffset()));
+                        createEventFilter(currentBinlogSplit.getStartingOffset()),
+                        capturedTableFilter);
 
         executorService.submit(
                 () -> {
@@ -227,23 +234,11 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
                 return true;
             }
             // only the table who captured snapshot splits need to filter
-            if (finishedSplitsInfo.containsKey(tableId)) {
-                RowType splitKeyType =
-                        ChunkUtils.getChunkKeyColumnType(
-                                statefulTaskContext.getDatabaseSchema().tableFor(tableId),
-                                statefulTaskContext.getSourceConfig().getChunkKeyColumn());
-                Object[] key =
-                        getSplitKey(
-                                splitKeyType,
-                                sourceRecord,
-                                statefulTaskContext.getSchemaNameAdjuster());
-                for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo.get(tableId)) {
-                    if (RecordUtils.splitKeyRangeContains(
-                                    key, splitInfo.getSplitStart(), splitInfo.getSplitEnd())
-                            && position.isAfter(splitInfo.getHighWatermark())) {
-                        return true;
-                    }
-                }
+            FinishedSnapshotSplitIndex splitIndex = finishedSplitsInfo.get(tableId);
+            if (splitIndex != null) {
+                Object key = getSplitKeyValue(getSplitKeyFieldName(tableId), sourceRecord);
+                FinishedSnapshotSplitInfo splitInfo = splitIndex.findSplit(key);
+                return splitInfo != null && position.isAfter(splitInfo.getHighWatermark());
             }
             // not in the monitored splits scope, do not emit
             return false;
@@ -253,6 +248,27 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
         return true;
     }
 
+    /**
+     * Returns the adjusted split key field name of the table, which is cached until the table
+     * schema is changed.
+     */
+    private String getSplitKeyFieldName(TableId tableId) {
+        Table table = statefulTaskContext.getDatabaseSchema().tableFor(tableId);
+        SplitKeyField splitKeyField = splitKeyFields.get(tableId);
+        if (splitKeyField == null || splitKeyField.table != table) {
+            RowType splitKeyType =
+                    ChunkUtils.getChunkKeyColumnType(
+                            table, statefulTaskContext.getSourceConfig().getChunkKeyColumn());
+            splitKeyField =
+                    new SplitKeyField(
+                            table,
+                            RecordUtils.getSplitKeyFieldName(
+                                    splitKeyType, statefulTaskContext.getSchemaNameAdjuster()));
+            splitKeyFields.put(tableId, splitKeyField);
+        }
+        return splitKeyField.fieldName;
+    }
+
     private boolean hasEnterPureBinlogPhase(TableId tableId, BinlogOffset position) {
         if (pureBinlogPhaseTables.contains(tableId)) {
             return true;
@@ -275,6 +291,13 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
     private void configureFilter() {
         List<FinishedSnapshotSplitInfo> finishedSplitInfos =
                 currentBinlogSplit.getFinishedSnapshotSplitInfos();
+        if (!finishedSplitInfos.isEmpty() && currentBinlogSplit.getStartingOffset() != null) {
+            // the splits before the starting offset no longer filter any event, compact them to
+            // reduce the per-record filter cost
+            finishedSplitInfos =
+                    MySqlBinlogSplit.compactFinishedSplitInfos(
+                            finishedSplitInfos, currentBinlogSplit.getStartingOffset());
+        }
         Map<TableId, List<FinishedSnapshotSplitInfo>> splitsInfoMap = new HashMap<>();
         Map<TableId, BinlogOffset> tableIdBinlogPositionMap = new HashMap<>();
         // specific offset mode
@@ -299,11 +322,31 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
                 }
             }
         }
-        this.finishedSplitsInfo = splitsInfoMap;
+        Map<TableId, FinishedSnapshotSplitIndex> splitsIndexMap = new HashMap<>();
+        for (Map.Entry<TableId, List<FinishedSnapshotSplitInfo>> entry : splitsInfoMap.entrySet()) {
+            splitsIndexMap.put(entry.getKey(), new FinishedSnapshotSplitIndex(entry.getValue()));
+        }
+        this.finishedSplitsInfo = splitsIndexMap;
         this.maxSplitHighWatermarkMap = tableIdBinlogPositionMap;
         this.pureBinlogPhaseTables.clear();
     }
 
+    /**
+     * The binlog split only captures its own partition of tables when the binlog is read by
+     * multiple binlog splits.
+     */
+    private Tables.TableFilter createCapturedTableFilter(MySqlBinlogSplit binlogSplit) {
+        Tables.TableFilter dataCollectionFilter =
+                statefulTaskContext.getConnectorConfig().getTableFilters().dataCollectionFilter();
+        int binlogSplitNumber = statefulTaskContext.getSourceConfig().getBinlogSplitNumber();
+        if (binlogSplitNumber == 1) {
+            return dataCollectionFilter;
+        }
+        return tableId ->
+                dataCollectionFilter.isIncluded(tableId)
+                        && isTableOfBinlogSplit(tableId, binlogSplit.splitId(), binlogSplitNumber);
+    }
+
     private Predicate<Event> createEventFilter(BinlogOffset startingOffset) {
         // If the startup mode is set as TIMESTAMP, we need to apply a filter on event to drop
         // events earlier than the specified timestamp.
@@ -327,4 +370,15 @@ public class BinlogSplitReader implements DebeziumReader<SourceRecords, MySqlSpl
     public ExecutorService getExecutorService() {
         return executorService;
     }
+
+    /** The split key field name of a table schema. */
+    private static class SplitKeyField {
+        private final Table table;
+        private final String fieldName;
+
+        private SplitKeyField(Table table, String fieldName) {
+            this.table = table;
+            this.fieldName = fieldName;
+        }
+    }
 }
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.apache.flink.util.CloseableIterator;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.formatMessageTimestamp;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readSourceOffset;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readStruct;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeSourceOffset;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeStruct;
+import static org.apache.flink.util.Preconditions.checkState;
+
+/**
+ * A buffer that holds the records of one snapshot chunk keyed by the record key, and keeps the
+ * upsert-by-key semantics while the binlog events of the backfill phase are applied.
+ *
+ * <p>When the spill threshold is positive, at most that many records are kept in memory, the buffer
+ * spills them to a local file once the threshold is reached and reads them back lazily when the
+ * normalized records are emitted. The binlog updates of spilled keys are kept in memory, which is
+ * fine as the backfill phase of a chunk is usually short.
+ *
+ * <p>The buffer is not thread-safe, it's filled by the snapshot reader and then owned by the
+ * records returned by {@link #normalizedRecords(SourceRecord, SourceRecord)}, which release the
+ * spill file once they have been read completely or are closed. The spilled buffers whose records
+ * are never read are released by the {@link SnapshotChunkSpillManager} that created their spill
+ * files.
+ */
+public class SnapshotChunkBuffer implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotChunkBuffer.class);
+
+    private final int spillThreshold;
+    private final SnapshotChunkSpillManager spillManager;
+    private final LinkedHashMap<Struct, SourceRecord> inMemoryRecords;
+    // key -> sequence number of the live entry of the key in the spill file
+    private final Map<Struct, Long> spilledKeys;
+    // key -> the latest record of a spilled key updated by binlog events
+    private final Map<Struct, SourceRecord> spilledKeyUpdates;
+
+    @Nullable private SourceRecord spilledRecordTemplate;
+    @Nullable private File spillFile;
+    @Nullable private DataOutputViewStreamWrapper spillOutput;
+    // the iterator which reads the spill file, if it's being read
+    @Nullable private SpilledRecordsIterator spilledRecordsIterator;
+    private long spillSequence;
+
+    /**
+     * Creates a buffer for one snapshot chunk.
+     *
+     * @param spillThreshold the max number of records kept in memory, non-positive value means the
+     *     buffer never spills.
+     * @param spillManager the manager which creates the spill file of the buffer.
+     */
+    public SnapshotChunkBuffer(int spillThreshold, SnapshotChunkSpillManager spillManager) {
+        this.spillThreshold = spillThreshold;
+        this.spillManager = spillManager;
+        this.inMemoryRecords = new LinkedHashMap<>();
+        this.spilledKeys = new HashMap<>();
+        this.spilledKeyUpdates = new HashMap<>();
+    }
+
+    /** Puts a snapshot record or upserts a binlog record by its key. */
+    public void put(Struct key, SourceRecord record) {
+        if (spilledKeys.containsKey(key)) {
+            spilledKeyUpdates.put(key, record);
+            return;
+        }
+        inMemoryRecords.put(key, record);
+        if (spillThreshold > 0 && inMemoryRecords.size() >= spillThreshold) {
+            spill();
+        }
+    }
+
+    /** Removes the record of the given key. */
+    public void remove(Struct key) {
+        if (spilledKeys.remove(key) != null) {
+            spilledKeyUpdates.remove(key);
+        } else {
+            inMemoryRecords.remove(key);
+        }
+    }
+
+    public int size() {
+        return spilledKeys.size() + inMemoryRecords.size();
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Returns the normalized records of the chunk: the low watermark, the snapshot records with
+     * formatted message timestamp and the high watermark. The records are returned as one {@link
+     * SourceRecords}, so the chunk is emitted at once. If the chunk has been spilled, the spilled
+     * records are read back lazily while they're emitted and the returned records own the buffer.
+     */
+    public SourceRecords normalizedRecords(SourceRecord lowWatermark, SourceRecord highWatermark) {
+        if (!isSpilled()) {
+            final List<SourceRecord> normalizedRecords =
+                    new ArrayList<>(inMemoryRecords.size() + 2);
+            normalizedRecords.add(lowWatermark);
+            for (SourceRecord record : inMemoryRecords.values()) {
+                normalizedRecords.add(formatMessageTimestamp(record));
+            }
+            normalizedRecords.add(highWatermark);
+            inMemoryRecords.clear();
+            return new SourceRecords(normalizedRecords);
+        }
+        spilledRecordsIterator = new SpilledRecordsIterator(lowWatermark, highWatermark);
+        return SourceRecords.fromLazyRecords(spilledRecordsIterator);
+    }
+
+    @VisibleForTesting
+    @Nullable
+    File getSpillFile() {
+        return spillFile;
+    }
+
+    @Override
+    public void close() {
+        closeSpillOutput();
+        if (spilledRecordsIterator != null) {
+            spilledRecordsIterator.closeSpillInput();
+            spilledRecordsIterator = null;
+        }
+        if (spillFile != null) {
+            if (!spillFile.delete() && spillFile.exists()) {
+                LOG.warn("Failed to delete snapshot chunk spill file {}.", spillFile);
+            }
+            spillFile = null;
+            spillManager.release(this);
+        }
+        inMemoryRecords.clear();
+        spilledKeys.clear();
+        spilledKeyUpdates.clear();
+    }
+
+    private void spill() {
+        try {
+            if (spillOutput == null) {
+                spillFile = spillManager.createSpillFile(this);
+                spillOutput =
+                        new DataOutputViewStreamWrapper(
+                                new BufferedOutputStream(new FileOutputStream(spillFile)));
+                LOG.info(
+                        "Snapshot chunk exceeds {} records, spill records to {}.",
+                        spillThreshold,
+                        spillFile);
+            }
+            final DataOutputSerializer valueOutput = new DataOutputSerializer(256);
+            for (Map.Entry<Struct, SourceRecord> entry : inMemoryRecords.entrySet()) {
+                SourceRecord record = entry.getValue();
+                checkSpilledRecordTemplate(record);
+                long sequence = spillSequence++;
+                spillOutput.writeLong(sequence);
+                writeStruct(entry.getKey(), spillOutput);
+                // write the value with its length, so the entry of a deleted key can be skipped
+                writeSourceOffset(record.sourceOffset(), valueOutput);
+                writeStruct((Struct) record.value(), valueOutput);
+                spillOutput.writeInt(valueOutput.length());
+                spillOutput.write(valueOutput.getSharedBuffer(), 0, valueOutput.length());
+                valueOutput.clear();
+                spilledKeys.put(entry.getKey(), sequence);
+            }
+            inMemoryRecords.clear();
+        } catch (IOException e) {
+            close();
+            throw new FlinkRuntimeException("Failed to spill snapshot chunk records.", e);
+        }
+    }
+
+    private void checkSpilledRecordTemplate(SourceRecord record) {
+        if (spilledRecordTemplate == null) {
+            spilledRecordTemplate = record;
+            return;
+        }
+        // all records of a chunk come from the same table, we only spill the record values
+        checkState(
+                Objects.equals(spilledRecordTemplate.topic(), record.topic())
+                        && Objects.equals(
+                                spilledRecordTemplate.sourcePartition(), record.sourcePartition())
+                        && Objects.equals(
+                                spilledRecordTemplate.kafkaPartition(), record.kafkaPartition())
+                        && Objects.equals(spilledRecordTemplate.keySchema(), record.keySchema())
+                        && Objects.equals(
+                                spilledRecordTemplate.valueSchema(), record.valueSchema()),
+                "The records of a snapshot chunk should have the same schema, but found %s and %s.",
+                spilledRecordTemplate,
+                record);
+    }
+
+    private void closeSpillOutput() {
+        if (spillOutput != null) {
+            try {
+                spillOutput.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close snapshot chunk spill file {}.", spillFile, e);
+            }
+            spillOutput = null;
+        }
+    }
+
+    /**
+     * Iterator that reads the spilled records back one by one, then the in-memory records. The
+     * buffer is closed once the high watermark has been returned.
+     */
+    private class SpilledRecordsIterator implements CloseableIterator<SourceRecord> {
+
+        private final Iterator<SourceRecord> inMemoryIterator;
+        private final DataInputDeserializer valueInput;
+        @Nullable private SourceRecord lowWatermark;
+        @Nullable private SourceRecord highWatermark;
+        @Nullable private DataInputViewStreamWrapper spillInput;
+        @Nullable private SourceRecord nextRecord;
+        private long remainingSpilledEntries;
+
+        private SpilledRecordsIterator(SourceRecord lowWatermark, SourceRecord highWatermark) {
+            this.lowWatermark = lowWatermark;
+            this.highWatermark = highWatermark;
+            this.inMemoryIterator = inMemoryRecords.values().iterator();
+            this.valueInput = new DataInputDeserializer();
+            this.remainingSpilledEntries = spillSequence;
+            try {
+                closeSpillOutput();
+                this.spillInput =
+                        new DataInputViewStreamWrapper(
+                                new BufferedInputStream(new FileInputStream(spillFile)));
+            } catch (IOException e) {
+                close();
+                throw new FlinkRuntimeException("Failed to open snapshot chunk spill file.", e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextRecord == null) {
+                nextRecord = readNextRecord();
+            }
+            return nextRecord != null;
+        }
+
+        @Override
+        public SourceRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final SourceRecord record = nextRecord;
+            nextRecord = null;
+            return record;
+        }
+
+        @Nullable
+        private SourceRecord readNextRecord() {
+            if (highWatermark == null) {
+                return null;
+            }
+            checkState(spillInput != null, "The snapshot chunk buffer has been closed.");
+            if (lowWatermark != null) {
+                final SourceRecord record = lowWatermark;
+                lowWatermark = null;
+                return record;
+            }
+            try {
+                while (remainingSpilledEntries > 0) {
+                    SourceRecord record = readNextSpilledRecord();
+                    if (record != null) {
+                        return formatMessageTimestamp(record);
+                    }
+                }
+            } catch (IOException e) {
+                close();
+                throw new FlinkRuntimeException("Failed to read snapshot chunk spill file.", e);
+            }
+            if (inMemoryIterator.hasNext()) {
+                return formatMessageTimestamp(inMemoryIterator.next());
+            }
+            final SourceRecord record = highWatermark;
+            highWatermark = null;
+            close();
+            return record;
+        }
+
+        @Nullable
+        private SourceRecord readNextSpilledRecord() throws IOException {
+            remainingSpilledEntries--;
+            long sequence = spillInput.readLong();
+            Struct key = readStruct(spilledRecordTemplate.keySchema(), spillInput);
+            int valueLength = spillInput.readInt();
+            Long liveSequence = spilledKeys.get(key);
+            SourceRecord update = spilledKeyUpdates.get(key);
+            if (liveSequence == null || liveSequence != sequence || update != null) {
+                // the key has been deleted, re-inserted or updated by binlog events
+                skipFully(valueLength);
+                return liveSequence != null && liveSequence == sequence ? update : null;
+            }
+            byte[] value = new byte[valueLength];
+            spillInput.readFully(value);
+            valueInput.setBuffer(value);
+            Map<String, ?> sourceOffset = readSourceOffset(valueInput);
+            Struct valueStruct = readStruct(spilledRecordTemplate.valueSchema(), valueInput);
+            return new SourceRecord(
+                    spilledRecordTemplate.sourcePartition(),
+                    sourceOffset,
+                    spilledRecordTemplate.topic(),
+                    spilledRecordTemplate.kafkaPartition(),
+                    spilledRecordTemplate.keySchema(),
+                    key,
+                    spilledRecordTemplate.valueSchema(),
+                    valueStruct);
+        }
+
+        private void skipFully(int numBytes) throws IOException {
+            int remaining = numBytes;
+            while (remaining > 0) {
+                int skipped = spillInput.skipBytes(remaining);
+                if (skipped <= 0) {
+                    throw new EOFException("Unexpected end of snapshot chunk spill file.");
+                }
+                remaining -= skipped;
+            }
+        }
+
+        @Override
+        public void close() {
+            closeSpillInput();
+            SnapshotChunkBuffer.this.close();
+        }
+
+        private void closeSpillInput() {
+            if (spillInput != null) {
+                try {
+                    spillInput.close();
+                } catch (IOException e) {
+                    LOG.warn("Failed to close snapshot chunk spill file {}.", spillFile, e);
+                }
+                spillInput = null;
+            }
+        }
+    }
+}
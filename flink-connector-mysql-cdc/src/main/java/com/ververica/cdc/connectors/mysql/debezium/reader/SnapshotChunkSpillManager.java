@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.ConfigurationUtils;
+import org.apache.flink.configuration.CoreOptions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Creates the spill files of the {@link SnapshotChunkBuffer}s of a source reader and keeps track of
+ * the spilled chunks which haven't been released.
+ *
+ * <p>The spill files are created in the temporary directories of Flink ({@link
+ * CoreOptions#TMP_DIRS}), so they're written to the disks configured for the TaskManager and are
+ * cleaned up together with its temporary files.
+ *
+ * <p>A spilled chunk is owned by the records it's emitted as, which release the spill file once
+ * they have been read. The chunks whose records are never read, e.g. because the source reader is
+ * closed by a cancellation while the records are still queued, are released by {@link #close()}.
+ */
+public class SnapshotChunkSpillManager implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotChunkSpillManager.class);
+
+    private static final String SPILL_FILE_PREFIX = "flink-cdc-snapshot-chunk-";
+    private static final String SPILL_FILE_SUFFIX = ".spill";
+
+    private final String[] spillDirectories;
+    // the chunks are spilled by the split reader and released by the emitter of the records
+    private final Set<SnapshotChunkBuffer> spilledChunks = ConcurrentHashMap.newKeySet();
+
+    /** Creates a spill manager which spills to the default temporary directory. */
+    public SnapshotChunkSpillManager() {
+        this(new Configuration());
+    }
+
+    /** Creates a spill manager which spills to the temporary directories of the given config. */
+    public SnapshotChunkSpillManager(Configuration flinkConfig) {
+        this.spillDirectories = ConfigurationUtils.parseTempDirectories(flinkConfig);
+    }
+
+    /** Creates the spill file of the given chunk, the chunk is tracked until it's released. */
+    File createSpillFile(SnapshotChunkBuffer chunk) throws IOException {
+        // spread the spill files across the temporary directories like the TaskManager does
+        final File spillDirectory =
+                new File(
+                        spillDirectories[
+                                ThreadLocalRandom.current().nextInt(spillDirectories.length)]);
+        final File spillFile =
+                File.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX, spillDirectory);
+        spilledChunks.add(chunk);
+        return spillFile;
+    }
+
+    /** Stops tracking the given chunk, which has deleted its spill file. */
+    void release(SnapshotChunkBuffer chunk) {
+        spilledChunks.remove(chunk);
+    }
+
+    /** Returns the number of spilled chunks which haven't been released. */
+    public int getSpilledChunks() {
+        return spilledChunks.size();
+    }
+
+    /** Releases the spill files of all chunks which haven't been released. */
+    @Override
+    public void close() {
+        final List<SnapshotChunkBuffer> chunks = new ArrayList<>(spilledChunks);
+        if (!chunks.isEmpty()) {
+            LOG.info("Release the spill files of {} unread snapshot chunks.", chunks.size());
+        }
+        for (SnapshotChunkBuffer chunk : chunks) {
+            chunk.close();
+        }
+    }
+}
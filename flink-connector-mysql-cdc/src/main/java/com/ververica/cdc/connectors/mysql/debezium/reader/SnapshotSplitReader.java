@@ -29,8 +29,10 @@ import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
 import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
 import com.ververica.cdc.connectors.mysql.source.utils.RecordUtils;
+import com.ververica.cdc.connectors.mysql.source.utils.SplitKeyRange;
 import io.debezium.config.Configuration;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.connector.mysql.MySqlConnectorConfig;
@@ -49,22 +51,20 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.formatMessageTimestamp;
-import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getSplitKey;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getSplitKeyFieldName;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getSplitKeyValue;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isDataChangeRecord;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isHighWatermarkEvent;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.isLowWatermarkEvent;
-import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.splitKeyRangeContains;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.upsertBinlog;
 import static org.apache.flink.util.Preconditions.checkState;
 
@@ -77,6 +77,13 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     private static final Logger LOG = LoggerFactory.getLogger(SnapshotSplitReader.class);
     private final StatefulTaskContext statefulTaskContext;
     private final ExecutorService executorService;
+    // the binlog cursor shared by the splits of the reader, null if each split reads its own
+    @Nullable private final BackfillBinlogCursor backfillCursor;
+    // the lock held while reading the backfill binlog, which is shared by the concurrent snapshot
+    // readers of a subtask as their binlog clients use the same server id
+    private final Object backfillLock;
+    // creates the spill files of the chunks, the spilled chunks are owned by the returned records
+    private final SnapshotChunkSpillManager spillManager;
 
     private volatile ChangeEventQueue<DataChangeEvent> queue;
     private volatile boolean currentTaskRunning;
@@ -86,13 +93,40 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
     private MySqlSnapshotSplitReadTask splitSnapshotReadTask;
     private MySqlSnapshotSplit currentSnapshotSplit;
     private SchemaNameAdjuster nameAdjuster;
+    // the split key of the current split, which filters the backfill binlog records
+    private String splitKeyFieldName;
+    private SplitKeyRange splitKeyRange;
     public AtomicBoolean hasNextElement;
     public AtomicBoolean reachEnd;
 
     private static final long READER_CLOSE_TIMEOUT = 30L;
 
     public SnapshotSplitReader(StatefulTaskContext statefulTaskContext, int subtaskId) {
+        this(statefulTaskContext, subtaskId, null);
+    }
+
+    public SnapshotSplitReader(
+            StatefulTaskContext statefulTaskContext,
+            int subtaskId,
+            @Nullable BackfillBinlogCursor backfillCursor) {
+        this(
+                statefulTaskContext,
+                subtaskId,
+                backfillCursor,
+                new Object(),
+                new SnapshotChunkSpillManager());
+    }
+
+    public SnapshotSplitReader(
+            StatefulTaskContext statefulTaskContext,
+            int subtaskId,
+            @Nullable BackfillBinlogCursor backfillCursor,
+            Object backfillLock,
+            SnapshotChunkSpillManager spillManager) {
         this.statefulTaskContext = statefulTaskContext;
+        this.backfillCursor = backfillCursor;
+        this.backfillLock = backfillLock;
+        this.spillManager = spillManager;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder().setNameFormat("snapshot-reader-" + subtaskId).build();
         this.executorService = Executors.newSingleThreadExecutor(threadFactory);
@@ -106,6 +140,11 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
         statefulTaskContext.configure(currentSnapshotSplit);
         this.queue = statefulTaskContext.getQueue();
         this.nameAdjuster = statefulTaskContext.getSchemaNameAdjuster();
+        this.splitKeyFieldName =
+                getSplitKeyFieldName(currentSnapshotSplit.getSplitKeyType(), nameAdjuster);
+        this.splitKeyRange =
+                SplitKeyRange.of(
+                        currentSnapshotSplit.getSplitStart(), currentSnapshotSplit.getSplitEnd());
         this.hasNextElement.set(true);
         this.reachEnd.set(false);
         this.splitSnapshotReadTask =
@@ -121,11 +160,11 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
                         currentSnapshotSplit);
         executorService.submit(
                 () -> {
+                    final SnapshotSplitChangeEventSourceContextImpl sourceContext =
+                            new SnapshotSplitChangeEventSourceContextImpl();
                     try {
                         currentTaskRunning = true;
                         // execute snapshot read task
-                        final SnapshotSplitChangeEventSourceContextImpl sourceContext =
-                                new SnapshotSplitChangeEventSourceContextImpl();
                         SnapshotResult snapshotResult =
                                 splitSnapshotReadTask.execute(
                                         sourceContext, statefulTaskContext.getOffsetContext());
@@ -145,25 +184,31 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
                         }
 
                         // execute binlog read task
-                        if (snapshotResult.isCompletedOrSkipped()) {
-                            final MySqlBinlogSplitReadTask backfillBinlogReadTask =
-                                    createBackfillBinlogReadTask(backfillBinlogSplit);
-                            final MySqlOffsetContext.Loader loader =
-                                    new MySqlOffsetContext.Loader(
-                                            statefulTaskContext.getConnectorConfig());
-                            final MySqlOffsetContext mySqlOffsetContext =
-                                    loader.load(
-                                            backfillBinlogSplit.getStartingOffset().getOffset());
-
-                            backfillBinlogReadTask.execute(
-                                    new SnapshotBinlogSplitChangeEventSourceContextImpl(),
-                                    mySqlOffsetContext);
-                        } else {
-                            readException =
-                                    new IllegalStateException(
-                                            String.format(
-                                                    "Read snapshot for mysql split %s fail",
-                                                    currentSnapshotSplit));
+                        synchronized (backfillLock) {
+                            if (snapshotResult.isCompletedOrSkipped() && backfillCursor != null) {
+                                readBackfillBinlogFromCursor(backfillBinlogSplit);
+                            } else if (snapshotResult.isCompletedOrSkipped()) {
+                                final MySqlBinlogSplitReadTask backfillBinlogReadTask =
+                                        createBackfillBinlogReadTask(backfillBinlogSplit);
+                                final MySqlOffsetContext.Loader loader =
+                                        new MySqlOffsetContext.Loader(
+                                                statefulTaskContext.getConnectorConfig());
+                                final MySqlOffsetContext mySqlOffsetContext =
+                                        loader.load(
+                                                backfillBinlogSplit
+                                                        .getStartingOffset()
+                                                        .getOffset());
+
+                                backfillBinlogReadTask.execute(
+                                        new SnapshotBinlogSplitChangeEventSourceContextImpl(),
+                                        mySqlOffsetContext);
+                            } else {
+                                readException =
+                                        new IllegalStateException(
+                                                String.format(
+                                                        "Read snapshot for mysql split %s fail",
+                                                        currentSnapshotSplit));
+                            }
                         }
                     } catch (Exception e) {
                         currentTaskRunning = false;
@@ -173,6 +218,12 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
                                         currentSnapshotSplit),
                                 e);
                         readException = e;
+                    } finally {
+                        if (backfillCursor != null && sourceContext.getLowWatermark() != null) {
+                            backfillCursor.removePendingLowWatermark(
+                                    currentSnapshotSplit.getTableId(),
+                                    sourceContext.getLowWatermark());
+                        }
                     }
                 });
     }
@@ -212,10 +263,26 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
                 statefulTaskContext.getTaskContext(),
                 (MySqlStreamingChangeEventSourceMetrics)
                         statefulTaskContext.getStreamingChangeEventSourceMetrics(),
+                statefulTaskContext.getBinlogDeserializationMetrics(),
                 backfillBinlogSplit,
                 event -> true);
     }
 
+    private void readBackfillBinlogFromCursor(MySqlBinlogSplit backfillBinlogSplit)
+            throws InterruptedException {
+        final List<SourceRecord> backfillRecords =
+                backfillCursor.readBackfillRecords(
+                        currentSnapshotSplit,
+                        backfillBinlogSplit.getStartingOffset(),
+                        backfillBinlogSplit.getEndingOffset());
+        final ChangeEventQueue<DataChangeEvent> queue = statefulTaskContext.getQueue();
+        for (SourceRecord record : backfillRecords) {
+            queue.enqueue(new DataChangeEvent(record));
+        }
+        dispatchBinlogEndEvent(backfillBinlogSplit);
+        currentTaskRunning = false;
+    }
+
     private void dispatchBinlogEndEvent(MySqlBinlogSplit backFillBinlogSplit)
             throws InterruptedException {
         final SignalEventDispatcher signalEventDispatcher =
@@ -248,58 +315,71 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
             boolean reachBinlogEnd = false;
             SourceRecord lowWatermark = null;
             SourceRecord highWatermark = null;
-            Map<Struct, SourceRecord> snapshotRecords = new LinkedHashMap<>();
-            while (!reachBinlogEnd) {
-                checkReadException();
-                List<DataChangeEvent> batch = queue.poll();
-                for (DataChangeEvent event : batch) {
-                    SourceRecord record = event.getRecord();
-                    if (lowWatermark == null) {
-                        lowWatermark = record;
-                        assertLowWatermark(lowWatermark);
-                        continue;
-                    }
+            final SnapshotChunkBuffer snapshotRecords =
+                    new SnapshotChunkBuffer(
+                            statefulTaskContext.getSourceConfig().getChunkSpillThreshold(),
+                            spillManager);
+            try {
+                while (!reachBinlogEnd) {
+                    checkReadException();
+                    List<DataChangeEvent> batch = queue.poll();
+                    for (DataChangeEvent event : batch) {
+                        SourceRecord record = event.getRecord();
+                        if (lowWatermark == null) {
+                            lowWatermark = record;
+                            assertLowWatermark(lowWatermark);
+                            continue;
+                        }
 
-                    if (highWatermark == null && isHighWatermarkEvent(record)) {
-                        highWatermark = record;
-                        // snapshot events capture end and begin to capture binlog events
-                        reachBinlogStart = true;
-                        continue;
-                    }
+                        if (highWatermark == null && isHighWatermarkEvent(record)) {
+                            highWatermark = record;
+                            // snapshot events capture end and begin to capture binlog events
+                            reachBinlogStart = true;
+                            continue;
+                        }
 
-                    if (reachBinlogStart && RecordUtils.isEndWatermarkEvent(record)) {
-                        // capture to end watermark events, stop the loop
-                        reachBinlogEnd = true;
-                        break;
-                    }
+                        if (reachBinlogStart && RecordUtils.isEndWatermarkEvent(record)) {
+                            // capture to end watermark events, stop the loop
+                            reachBinlogEnd = true;
+                            break;
+                        }
 
-                    if (!reachBinlogStart) {
-                        snapshotRecords.put((Struct) record.key(), record);
-                    } else {
-                        if (isRequiredBinlogRecord(record)) {
-                            // upsert binlog events through the record key
-                            upsertBinlog(snapshotRecords, record);
+                        if (!reachBinlogStart) {
+                            snapshotRecords.put((Struct) record.key(), record);
+                        } else {
+                            if (isRequiredBinlogRecord(record)) {
+                                // upsert binlog events through the record key
+                                upsertBinlog(record, snapshotRecords::put, snapshotRecords::remove);
+                            }
                         }
                     }
                 }
+            } catch (Throwable t) {
+                // release the spilled records of the failed chunk
+                snapshotRecords.close();
+                throw t;
             }
-            // snapshot split return its data once
+            // snapshot split return its data once, the records of a spilled chunk are read back
+            // lazily and release the spill file once they have been read
             hasNextElement.set(false);
-
-            final List<SourceRecord> normalizedRecords = new ArrayList<>();
-            normalizedRecords.add(lowWatermark);
-            normalizedRecords.addAll(formatMessageTimestamp(snapshotRecords.values()));
-            normalizedRecords.add(highWatermark);
-
-            final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
-            sourceRecordsSet.add(new SourceRecords(normalizedRecords));
-            return sourceRecordsSet.iterator();
+            return Collections.singletonList(
+                            snapshotRecords.normalizedRecords(lowWatermark, highWatermark))
+                    .iterator();
         }
         // the data has been polled, no more data
         reachEnd.compareAndSet(false, true);
         return null;
     }
 
+    /**
+     * Returns the statistics of reading the rows of the current split, or null if the rows have not
+     * been read completely.
+     */
+    @Nullable
+    public SnapshotSplitReadStatistics getReadStatistics() {
+        return splitSnapshotReadTask == null ? null : splitSnapshotReadTask.getReadStatistics();
+    }
+
     private void checkReadException() {
         if (readException != null) {
             throw new FlinkRuntimeException(
@@ -320,10 +400,7 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
 
     private boolean isRequiredBinlogRecord(SourceRecord record) {
         if (isDataChangeRecord(record)) {
-            Object[] key =
-                    getSplitKey(currentSnapshotSplit.getSplitKeyType(), record, nameAdjuster);
-            return splitKeyRangeContains(
-                    key, currentSnapshotSplit.getSplitStart(), currentSnapshotSplit.getSplitEnd());
+            return splitKeyRange.contains(getSplitKeyValue(splitKeyFieldName, record));
         }
         return false;
     }
@@ -371,6 +448,11 @@ public class SnapshotSplitReader implements DebeziumReader<SourceRecords, MySqlS
 
         public void setLowWatermark(BinlogOffset lowWatermark) {
             this.lowWatermark = lowWatermark;
+            if (backfillCursor != null) {
+                // keep the backfill records of the split in the shared cursor until it's read
+                backfillCursor.addPendingLowWatermark(
+                        currentSnapshotSplit.getTableId(), lowWatermark);
+            }
         }
 
         public BinlogOffset getHighWatermark() {
@@ -20,6 +20,7 @@ import com.github.shyiko.mysql.binlog.event.Event;
 import com.ververica.cdc.connectors.mysql.debezium.dispatcher.EventDispatcherImpl;
 import com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher;
 import com.ververica.cdc.connectors.mysql.debezium.reader.SnapshotSplitReader.SnapshotBinlogSplitChangeEventSourceContextImpl;
+import com.ververica.cdc.connectors.mysql.source.metrics.BinlogDeserializationMetrics;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
 import io.debezium.DebeziumException;
@@ -31,6 +32,7 @@ import io.debezium.connector.mysql.MySqlStreamingChangeEventSourceMetrics;
 import io.debezium.connector.mysql.MySqlTaskContext;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
 import io.debezium.util.Clock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +54,7 @@ public class MySqlBinlogSplitReadTask extends MySqlStreamingChangeEventSource {
     private final SignalEventDispatcher signalEventDispatcher;
     private final ErrorHandler errorHandler;
     private final Predicate<Event> eventFilter;
+    private final Tables.TableFilter capturedTableFilter;
     private ChangeEventSourceContext context;
 
     public MySqlBinlogSplitReadTask(
@@ -63,14 +66,52 @@ public class MySqlBinlogSplitReadTask extends MySqlStreamingChangeEventSource {
             Clock clock,
             MySqlTaskContext taskContext,
             MySqlStreamingChangeEventSourceMetrics metrics,
+            BinlogDeserializationMetrics deserializationMetrics,
             MySqlBinlogSplit binlogSplit,
             Predicate<Event> eventFilter) {
-        super(connectorConfig, connection, dispatcher, errorHandler, clock, taskContext, metrics);
+        this(
+                connectorConfig,
+                connection,
+                dispatcher,
+                signalEventDispatcher,
+                errorHandler,
+                clock,
+                taskContext,
+                metrics,
+                deserializationMetrics,
+                binlogSplit,
+                eventFilter,
+                connectorConfig.getTableFilters().dataCollectionFilter());
+    }
+
+    public MySqlBinlogSplitReadTask(
+            MySqlConnectorConfig connectorConfig,
+            MySqlConnection connection,
+            EventDispatcherImpl<TableId> dispatcher,
+            SignalEventDispatcher signalEventDispatcher,
+            ErrorHandler errorHandler,
+            Clock clock,
+            MySqlTaskContext taskContext,
+            MySqlStreamingChangeEventSourceMetrics metrics,
+            BinlogDeserializationMetrics deserializationMetrics,
+            MySqlBinlogSplit binlogSplit,
+            Predicate<Event> eventFilter,
+            Tables.TableFilter capturedTableFilter) {
+        super(
+                connectorConfig,
+                connection,
+                dispatcher,
+                errorHandler,
+                clock,
+                taskContext,
+                metrics,
+                deserializationMetrics);
         this.binlogSplit = binlogSplit;
         this.eventDispatcher = dispatcher;
         this.errorHandler = errorHandler;
         this.signalEventDispatcher = signalEventDispatcher;
         this.eventFilter = eventFilter;
+        this.capturedTableFilter = capturedTableFilter;
     }
 
     @Override
@@ -80,6 +121,11 @@ public class MySqlBinlogSplitReadTask extends MySqlStreamingChangeEventSource {
         super.execute(context, offsetContext);
     }
 
+    @Override
+    protected boolean isCapturedTable(TableId tableId) {
+        return capturedTableFilter.isIncluded(tableId);
+    }
+
     @Override
     protected void handleEvent(MySqlOffsetContext offsetContext, Event event) {
         if (!eventFilter.test(event)) {
@@ -21,6 +21,7 @@ import com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatc
 import com.ververica.cdc.connectors.mysql.debezium.reader.SnapshotSplitReader;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
 import com.ververica.cdc.connectors.mysql.source.utils.StatementUtils;
 import io.debezium.DebeziumException;
 import io.debezium.connector.mysql.MySqlConnection;
@@ -47,6 +48,8 @@ import org.apache.kafka.connect.errors.ConnectException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.UnsupportedEncodingException;
 import java.sql.Blob;
 import java.sql.PreparedStatement;
@@ -77,6 +80,8 @@ public class MySqlSnapshotSplitReadTask
     private final EventDispatcher.SnapshotReceiver snapshotReceiver;
     private final SnapshotChangeEventSourceMetrics snapshotChangeEventSourceMetrics;
 
+    private volatile SnapshotSplitReadStatistics readStatistics;
+
     public MySqlSnapshotSplitReadTask(
             MySqlConnectorConfig connectorConfig,
             SnapshotChangeEventSourceMetrics snapshotChangeEventSourceMetrics,
@@ -99,6 +104,15 @@ public class MySqlSnapshotSplitReadTask
         this.snapshotChangeEventSourceMetrics = snapshotChangeEventSourceMetrics;
     }
 
+    /**
+     * Returns the statistics of reading the rows of the split, or null if the rows have not been
+     * read completely.
+     */
+    @Nullable
+    public SnapshotSplitReadStatistics getReadStatistics() {
+        return readStatistics;
+    }
+
     @Override
     public SnapshotResult<MySqlOffsetContext> execute(
             ChangeEventSourceContext context, MySqlOffsetContext previousOffset)
@@ -256,11 +270,13 @@ public class MySqlSnapshotSplitReadTask
                         getChangeRecordEmitter(snapshotContext, table.id(), row),
                         snapshotReceiver);
             }
+            final long exportDuration = clock.currentTimeInMillis() - exportStart;
+            readStatistics = new SnapshotSplitReadStatistics(rows, exportDuration);
             LOG.info(
                     "Finished exporting {} records for split '{}', total duration '{}'",
                     rows,
                     snapshotSplit.splitId(),
-                    Strings.duration(clock.currentTimeInMillis() - exportStart));
+                    Strings.duration(exportDuration));
         } catch (SQLException e) {
             throw new ConnectException("Snapshotting of table " + table.id() + " failed", e);
         }
@@ -22,6 +22,7 @@ import com.ververica.cdc.connectors.mysql.debezium.EmbeddedFlinkDatabaseHistory;
 import com.ververica.cdc.connectors.mysql.debezium.dispatcher.EventDispatcherImpl;
 import com.ververica.cdc.connectors.mysql.debezium.dispatcher.SignalEventDispatcher;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import com.ververica.cdc.connectors.mysql.source.metrics.BinlogDeserializationMetrics;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
 import io.debezium.connector.AbstractSourceInfo;
@@ -77,6 +78,7 @@ public class StatefulTaskContext {
     private final SchemaNameAdjuster schemaNameAdjuster;
     private final MySqlConnection connection;
     private final BinaryLogClient binaryLogClient;
+    private final BinlogDeserializationMetrics binlogDeserializationMetrics;
 
     private MySqlDatabaseSchema databaseSchema;
     private MySqlTaskContextImpl taskContext;
@@ -94,12 +96,21 @@ public class StatefulTaskContext {
             MySqlSourceConfig sourceConfig,
             BinaryLogClient binaryLogClient,
             MySqlConnection connection) {
+        this(sourceConfig, binaryLogClient, connection, new BinlogDeserializationMetrics());
+    }
+
+    public StatefulTaskContext(
+            MySqlSourceConfig sourceConfig,
+            BinaryLogClient binaryLogClient,
+            MySqlConnection connection,
+            BinlogDeserializationMetrics binlogDeserializationMetrics) {
         this.sourceConfig = sourceConfig;
         this.connectorConfig = sourceConfig.getMySqlConnectorConfig();
         this.schemaNameAdjuster = SchemaNameAdjuster.create();
         this.metadataProvider = new MySqlEventMetadataProvider();
         this.binaryLogClient = binaryLogClient;
         this.connection = connection;
+        this.binlogDeserializationMetrics = binlogDeserializationMetrics;
     }
 
     public void configure(MySqlSplit mySqlSplit) {
@@ -396,4 +407,8 @@ public class StatefulTaskContext {
     public SchemaNameAdjuster getSchemaNameAdjuster() {
         return schemaNameAdjuster;
     }
+
+    public BinlogDeserializationMetrics getBinlogDeserializationMetrics() {
+        return binlogDeserializationMetrics;
+    }
 }
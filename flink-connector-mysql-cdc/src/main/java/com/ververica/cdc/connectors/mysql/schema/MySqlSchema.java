@@ -16,6 +16,7 @@
 
 package com.ververica.cdc.connectors.mysql.schema;
 
+import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.util.FlinkRuntimeException;
 
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
@@ -27,37 +28,114 @@ import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges.TableChange;
 import io.debezium.schema.SchemaChangeEvent;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
 
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.createMySqlDatabaseSchema;
 import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.quote;
 
-/** A component used to get schema by table path. */
+/**
+ * A component used to get schema by table path.
+ *
+ * <p>When bulk schema discovery is enabled, the schemas of many tables are discovered at once by
+ * reading their column and primary key metadata from information_schema in paged queries, the table
+ * definitions are then parsed in one go, optionally skipping the tables whose definitions are found
+ * in the {@link MySqlSchemaCache}.
+ *
+ * @see
+ *     com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions#SCAN_BULK_SCHEMA_DISCOVERY_ENABLED
+ */
 public class MySqlSchema {
+    private static final Logger LOG = LoggerFactory.getLogger(MySqlSchema.class);
+
     private static final String SHOW_CREATE_TABLE = "SHOW CREATE TABLE ";
     private static final String DESC_TABLE = "DESC ";
+    private static final String VERSION_QUERY = "SELECT VERSION()";
+    private static final String COLUMNS_QUERY =
+            "SELECT TABLE_SCHEMA, TABLE_NAME, COLUMN_NAME, COLUMN_TYPE, IS_NULLABLE, COLUMN_DEFAULT,"
+                    + " EXTRA, CHARACTER_SET_NAME, COLLATION_NAME FROM information_schema.COLUMNS"
+                    + " WHERE %s ORDER BY TABLE_SCHEMA, TABLE_NAME, ORDINAL_POSITION";
+    private static final String PRIMARY_KEYS_QUERY =
+            "SELECT TABLE_SCHEMA, TABLE_NAME, COLUMN_NAME FROM information_schema.STATISTICS"
+                    + " WHERE INDEX_NAME = 'PRIMARY' AND (%s)"
+                    + " ORDER BY TABLE_SCHEMA, TABLE_NAME, SEQ_IN_INDEX";
+    /** The max number of tables whose metadata is read in one query. */
+    private static final int BULK_DISCOVERY_PAGE_SIZE = 1000;
+
+    private static final Pattern CURRENT_TIMESTAMP_PATTERN =
+            Pattern.compile(
+                    "(CURRENT_TIMESTAMP|LOCALTIME|LOCALTIMESTAMP)(\\(\\d*\\))?|NOW\\(\\d*\\)",
+                    Pattern.CASE_INSENSITIVE);
+    private static final Pattern BIT_LITERAL_PATTERN = Pattern.compile("b'[01]*'");
+    private static final Pattern NUMERIC_LITERAL_PATTERN =
+            Pattern.compile("[-+]?(\\d+\\.?\\d*|\\.\\d+)([eE][-+]?\\d+)?");
 
     private final MySqlConnectorConfig connectorConfig;
     private final MySqlDatabaseSchema databaseSchema;
     private final Map<TableId, TableChange> schemasByTableId;
+    private final boolean bulkSchemaDiscoveryEnabled;
+    @Nullable private final MySqlSchemaCache schemaCache;
+    // whether the server is MariaDB, which returns the column defaults in another format
+    @Nullable private Boolean isMariaDb;
 
     public MySqlSchema(MySqlSourceConfig sourceConfig, boolean isTableIdCaseSensitive) {
         this.connectorConfig = sourceConfig.getMySqlConnectorConfig();
         this.databaseSchema = createMySqlDatabaseSchema(connectorConfig, isTableIdCaseSensitive);
         this.schemasByTableId = new HashMap<>();
+        this.bulkSchemaDiscoveryEnabled = sourceConfig.isBulkSchemaDiscoveryEnabled();
+        this.schemaCache =
+                bulkSchemaDiscoveryEnabled && sourceConfig.getSchemaCacheDir() != null
+                        ? MySqlSchemaCache.load(
+                                sourceConfig.getSchemaCacheDir(),
+                                sourceConfig.getHostname() + ":" + sourceConfig.getPort())
+                        : null;
+    }
+
+    /**
+     * Gets table schemas for the given table paths. The schemas missed in cache are discovered in
+     * bulk if bulk schema discovery is enabled, otherwise they are requested one by one as {@link
+     * #getTableSchema(JdbcConnection, TableId)} does.
+     */
+    public synchronized Map<TableId, TableChange> getTableSchemas(
+            JdbcConnection jdbc, List<TableId> tableIds) {
+        if (bulkSchemaDiscoveryEnabled) {
+            List<TableId> missedTableIds =
+                    tableIds.stream()
+                            .filter(tableId -> !schemasByTableId.containsKey(tableId))
+                            .distinct()
+                            .collect(Collectors.toList());
+            if (!missedTableIds.isEmpty()) {
+                schemasByTableId.putAll(discoverTableSchemas(jdbc, missedTableIds));
+            }
+        }
+        Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        for (TableId tableId : tableIds) {
+            // the tables which bulk discovery couldn't handle fall back to SHOW CREATE TABLE
+            tableSchemas.put(tableId, getTableSchema(jdbc, tableId));
+        }
+        return tableSchemas;
     }
 
     /**
      * Gets table schema for the given table path. It will request to MySQL server by running `SHOW
      * CREATE TABLE` if cache missed.
      */
-    public TableChange getTableSchema(JdbcConnection jdbc, TableId tableId) {
+    public synchronized TableChange getTableSchema(JdbcConnection jdbc, TableId tableId) {
         // read schema from cache first
         TableChange schema = schemasByTableId.get(tableId);
         if (schema == null) {
@@ -67,6 +145,312 @@ public class MySqlSchema {
         return schema;
     }
 
+    // ------------------------------------------------------------------------------------------
+    // Bulk discovery
+    // ------------------------------------------------------------------------------------------
+
+    private Map<TableId, TableChange> discoverTableSchemas(
+            JdbcConnection jdbc, List<TableId> tableIds) {
+        long start = System.currentTimeMillis();
+        Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        for (int from = 0; from < tableIds.size(); from += BULK_DISCOVERY_PAGE_SIZE) {
+            List<TableId> page =
+                    tableIds.subList(
+                            from, Math.min(from + BULK_DISCOVERY_PAGE_SIZE, tableIds.size()));
+            tableSchemas.putAll(
+                    parseTableDefinitions(readTableDefinitions(jdbc, page, isMariaDb(jdbc))));
+        }
+        if (schemaCache != null) {
+            schemaCache.flush();
+        }
+        LOG.info(
+                "Discovered schemas of {} tables out of {} in bulk, time cost: {} ms.",
+                tableSchemas.size(),
+                tableIds.size(),
+                System.currentTimeMillis() - start);
+        return tableSchemas;
+    }
+
+    private boolean isMariaDb(JdbcConnection jdbc) {
+        if (isMariaDb == null) {
+            try {
+                isMariaDb =
+                        jdbc.queryAndMap(
+                                VERSION_QUERY,
+                                rs ->
+                                        rs.next()
+                                                && StringUtils.containsIgnoreCase(
+                                                        rs.getString(1), "MariaDB"));
+            } catch (SQLException e) {
+                throw new FlinkRuntimeException(
+                        "Failed to read the server version by running " + VERSION_QUERY, e);
+            }
+        }
+        return isMariaDb;
+    }
+
+    /**
+     * Reads the definitions of the given tables from information_schema. The tables having columns
+     * whose default value is an expression are left out, as the expressions can't be restored from
+     * information_schema on every server version.
+     */
+    private Map<TableId, MySqlTableDefinition> readTableDefinitions(
+            JdbcConnection jdbc, List<TableId> tableIds, boolean isMariaDb) {
+        final Map<String, List<String>> tableNamesByDatabase = new LinkedHashMap<>();
+        for (TableId tableId : tableIds) {
+            tableNamesByDatabase
+                    .computeIfAbsent(tableId.catalog(), db -> new ArrayList<>())
+                    .add(tableId.table());
+        }
+        final String tableCondition =
+                tableNamesByDatabase.values().stream()
+                        .map(
+                                tableNames ->
+                                        "(TABLE_SCHEMA = ? AND TABLE_NAME IN ("
+                                                + String.join(
+                                                        ", ",
+                                                        Collections.nCopies(tableNames.size(), "?"))
+                                                + "))")
+                        .collect(Collectors.joining(" OR "));
+        final JdbcConnection.StatementPreparer preparer =
+                statement -> {
+                    int index = 1;
+                    for (Map.Entry<String, List<String>> entry : tableNamesByDatabase.entrySet()) {
+                        statement.setString(index++, entry.getKey());
+                        for (String tableName : entry.getValue()) {
+                            statement.setString(index++, tableName);
+                        }
+                    }
+                };
+
+        final Map<TableId, List<MySqlFieldDefinition>> fieldsByTable = new LinkedHashMap<>();
+        final Map<TableId, List<String>> primaryKeysByTable = new HashMap<>();
+        final Set<TableId> tablesWithExpressionDefaults = new HashSet<>();
+        final String columnsQuery = String.format(COLUMNS_QUERY, tableCondition);
+        final String primaryKeysQuery = String.format(PRIMARY_KEYS_QUERY, tableCondition);
+        try {
+            jdbc.prepareQuery(
+                    columnsQuery,
+                    preparer,
+                    rs -> {
+                        while (rs.next()) {
+                            TableId tableId = new TableId(rs.getString(1), null, rs.getString(2));
+                            MySqlFieldDefinition field = new MySqlFieldDefinition();
+                            field.setColumnName(rs.getString(3));
+                            field.setColumnType(rs.getString(4));
+                            field.setNullable(StringUtils.equalsIgnoreCase(rs.getString(5), "YES"));
+                            field.setDefaultValue(rs.getString(6));
+                            field.setExtra(rs.getString(7));
+                            field.setCharsetName(rs.getString(8));
+                            field.setCollationName(rs.getString(9));
+                            if (isExpressionDefault(
+                                    field.getColumnType(),
+                                    field.getDefaultValue(),
+                                    field.getExtra(),
+                                    isMariaDb)) {
+                                tablesWithExpressionDefaults.add(tableId);
+                            }
+                            field.setDefaultValueClause(
+                                    toDefaultValueClause(
+                                            field.getColumnType(),
+                                            field.getDefaultValue(),
+                                            field.getExtra(),
+                                            isMariaDb));
+                            field.setAutoIncrement(
+                                    StringUtils.containsIgnoreCase(
+                                            field.getExtra(), "auto_increment"));
+                            fieldsByTable
+                                    .computeIfAbsent(tableId, id -> new ArrayList<>())
+                                    .add(field);
+                        }
+                    });
+            jdbc.prepareQuery(
+                    primaryKeysQuery,
+                    preparer,
+                    rs -> {
+                        while (rs.next()) {
+                            TableId tableId = new TableId(rs.getString(1), null, rs.getString(2));
+                            primaryKeysByTable
+                                    .computeIfAbsent(tableId, id -> new ArrayList<>())
+                                    .add(rs.getString(3));
+                        }
+                    });
+        } catch (SQLException e) {
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "Failed to read schemas of %d tables by running %s",
+                            tableIds.size(), columnsQuery),
+                    e);
+        }
+
+        if (!tablesWithExpressionDefaults.isEmpty()) {
+            // leave the tables to SHOW CREATE TABLE
+            LOG.info(
+                    "The tables {} have columns whose default value is an expression, discover their schemas one by one.",
+                    tablesWithExpressionDefaults);
+        }
+        final Map<TableId, MySqlTableDefinition> tableDefinitions = new LinkedHashMap<>();
+        for (Map.Entry<TableId, List<MySqlFieldDefinition>> entry : fieldsByTable.entrySet()) {
+            if (tablesWithExpressionDefaults.contains(entry.getKey())) {
+                continue;
+            }
+            List<String> primaryKeys =
+                    primaryKeysByTable.getOrDefault(entry.getKey(), Collections.emptyList());
+            for (MySqlFieldDefinition field : entry.getValue()) {
+                field.setKey(primaryKeys.contains(field.getColumnName()));
+            }
+            tableDefinitions.put(
+                    entry.getKey(),
+                    new MySqlTableDefinition(entry.getKey(), entry.getValue(), primaryKeys));
+        }
+        return tableDefinitions;
+    }
+
+    /**
+     * Parses the given table definitions into table schemas. The definitions of the tables in the
+     * same database are parsed in one go, the definitions found in the schema cache aren't parsed.
+     */
+    @VisibleForTesting
+    Map<TableId, TableChange> parseTableDefinitions(
+            Map<TableId, MySqlTableDefinition> tableDefinitions) {
+        final Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        final Map<String, Map<TableId, String>> ddlsByDatabase = new LinkedHashMap<>();
+        for (Map.Entry<TableId, MySqlTableDefinition> entry : tableDefinitions.entrySet()) {
+            TableId tableId = entry.getKey();
+            String ddl = entry.getValue().toDdl();
+            TableChange cachedSchema = schemaCache == null ? null : schemaCache.get(tableId, ddl);
+            if (cachedSchema != null) {
+                tableSchemas.put(tableId, cachedSchema);
+            } else {
+                ddlsByDatabase
+                        .computeIfAbsent(tableId.catalog(), db -> new LinkedHashMap<>())
+                        .put(tableId, ddl);
+            }
+        }
+
+        for (Map<TableId, String> ddls : ddlsByDatabase.values()) {
+            Map<TableId, TableChange> parsedSchemas = new HashMap<>();
+            try {
+                parseSchemasByDdls(ddls, parsedSchemas);
+            } catch (Exception e) {
+                LOG.warn(
+                        "Failed to parse the definitions of {} tables at once, parse them one by one.",
+                        ddls.size(),
+                        e);
+                for (Map.Entry<TableId, String> ddl : ddls.entrySet()) {
+                    try {
+                        parseSchemasByDdls(
+                                Collections.singletonMap(ddl.getKey(), ddl.getValue()),
+                                parsedSchemas);
+                    } catch (Exception tableException) {
+                        // leave the table to SHOW CREATE TABLE
+                        LOG.warn(
+                                "Failed to parse the definition of table {}: {}",
+                                ddl.getKey(),
+                                ddl.getValue(),
+                                tableException);
+                    }
+                }
+            }
+            for (Map.Entry<TableId, TableChange> parsedSchema : parsedSchemas.entrySet()) {
+                tableSchemas.put(parsedSchema.getKey(), parsedSchema.getValue());
+                if (schemaCache != null) {
+                    schemaCache.put(
+                            parsedSchema.getKey(),
+                            ddls.get(parsedSchema.getKey()),
+                            parsedSchema.getValue());
+                }
+            }
+        }
+        return tableSchemas;
+    }
+
+    private void parseSchemasByDdls(
+            Map<TableId, String> ddls, Map<TableId, TableChange> tableChangeMap) {
+        final Map<String, TableId> tableIdsByName = new HashMap<>();
+        for (TableId tableId : ddls.keySet()) {
+            tableIdsByName.put(tableId.toString(), tableId);
+            tableIdsByName.putIfAbsent(tableId.toString().toLowerCase(), tableId);
+        }
+        final TableId anyTableId = ddls.keySet().iterator().next();
+        final MySqlOffsetContext offsetContext = MySqlOffsetContext.initial(connectorConfig);
+        List<SchemaChangeEvent> schemaChangeEvents =
+                databaseSchema.parseSnapshotDdl(
+                        String.join("\n", ddls.values()),
+                        anyTableId.catalog(),
+                        offsetContext,
+                        Instant.now());
+        for (SchemaChangeEvent schemaChangeEvent : schemaChangeEvents) {
+            for (TableChange tableChange : schemaChangeEvent.getTableChanges()) {
+                String tableName = tableChange.getId().toString();
+                TableId tableId = tableIdsByName.get(tableName);
+                if (tableId == null) {
+                    tableId = tableIdsByName.get(tableName.toLowerCase());
+                }
+                if (tableId != null) {
+                    tableChangeMap.put(tableId, tableChange);
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the COLUMN_DEFAULT of information_schema is an expression other than the current
+     * timestamp. MySQL marks expression defaults as DEFAULT_GENERATED, while MariaDB returns the
+     * default values as they are written in the column definition, so anything other than a quoted
+     * literal, a number or NULL is an expression.
+     */
+    @VisibleForTesting
+    static boolean isExpressionDefault(
+            String columnType, @Nullable String columnDefault, String extra, boolean isMariaDb) {
+        if (columnDefault == null || isCurrentTimestampDefault(columnType, columnDefault)) {
+            return false;
+        }
+        if (isMariaDb) {
+            return !(columnDefault.length() > 1
+                            && columnDefault.startsWith("'")
+                            && columnDefault.endsWith("'"))
+                    && !BIT_LITERAL_PATTERN.matcher(columnDefault).matches()
+                    && !NUMERIC_LITERAL_PATTERN.matcher(columnDefault).matches()
+                    && !"NULL".equalsIgnoreCase(columnDefault);
+        }
+        return StringUtils.containsIgnoreCase(extra, "DEFAULT_GENERATED");
+    }
+
+    /**
+     * Converts the COLUMN_DEFAULT of information_schema to the default value clause of the column
+     * definition, returns null if the column has no default value or its default value is an
+     * expression other than the current timestamp.
+     */
+    @VisibleForTesting
+    @Nullable
+    static String toDefaultValueClause(
+            String columnType, @Nullable String columnDefault, String extra, boolean isMariaDb) {
+        if (columnDefault == null) {
+            return null;
+        }
+        if (isCurrentTimestampDefault(columnType, columnDefault)) {
+            return columnDefault;
+        }
+        if (isExpressionDefault(columnType, columnDefault, extra, isMariaDb)) {
+            return null;
+        }
+        if (isMariaDb) {
+            // the literals are already quoted
+            return columnDefault;
+        }
+        if (StringUtils.startsWithIgnoreCase(columnType, "bit")) {
+            return BIT_LITERAL_PATTERN.matcher(columnDefault).matches() ? columnDefault : null;
+        }
+        return "'" + columnDefault.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+
+    private static boolean isCurrentTimestampDefault(String columnType, String columnDefault) {
+        return (StringUtils.startsWithIgnoreCase(columnType, "timestamp")
+                        || StringUtils.startsWithIgnoreCase(columnType, "datetime"))
+                && CURRENT_TIMESTAMP_PATTERN.matcher(columnDefault).matches();
+    }
+
     // ------------------------------------------------------------------------------------------
     // Helpers
     // ------------------------------------------------------------------------------------------
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.schema;
+
+import org.apache.flink.util.StringUtils;
+
+import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A local on-disk cache of the table schemas discovered in bulk. Every cached schema is keyed by
+ * the table id and the hash of the table definition it was parsed from, so a changed table misses
+ * the cache and is parsed again.
+ *
+ * <p>The cache is best effort: a cache file that can't be read or written is logged and ignored.
+ */
+public class MySqlSchemaCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MySqlSchemaCache.class);
+
+    private static final int VERSION = 1;
+    private static final String CACHE_FILE_PREFIX = "mysql-schemas-";
+    private static final String CACHE_FILE_SUFFIX = ".cache";
+
+    private final Path cacheFile;
+    private final Map<TableId, CachedSchema> cachedSchemas;
+    private final FlinkJsonTableChangeSerializer tableChangeSerializer;
+    private boolean changed;
+
+    private MySqlSchemaCache(Path cacheFile, Map<TableId, CachedSchema> cachedSchemas) {
+        this.cacheFile = cacheFile;
+        this.cachedSchemas = cachedSchemas;
+        this.tableChangeSerializer = new FlinkJsonTableChangeSerializer();
+    }
+
+    /**
+     * Loads the schema cache of the given MySQL server from the cache directory, the cache is empty
+     * if there is no cache file yet.
+     */
+    public static MySqlSchemaCache load(String cacheDir, String serverAddress) {
+        Path cacheFile =
+                Paths.get(cacheDir)
+                        .resolve(
+                                CACHE_FILE_PREFIX
+                                        + hash(serverAddress).substring(0, 16)
+                                        + CACHE_FILE_SUFFIX);
+        Map<TableId, CachedSchema> cachedSchemas = new HashMap<>();
+        if (Files.exists(cacheFile)) {
+            try (DataInputStream in =
+                    new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+                int version = in.readInt();
+                if (version != VERSION) {
+                    throw new IOException("Unknown version: " + version);
+                }
+                int size = in.readInt();
+                for (int i = 0; i < size; i++) {
+                    TableId tableId = TableId.parse(in.readUTF());
+                    String definitionHash = in.readUTF();
+                    byte[] schema = new byte[in.readInt()];
+                    in.readFully(schema);
+                    cachedSchemas.put(
+                            tableId,
+                            new CachedSchema(
+                                    definitionHash, new String(schema, StandardCharsets.UTF_8)));
+                }
+                LOG.info("Loaded {} table schemas from cache {}", size, cacheFile);
+            } catch (IOException e) {
+                LOG.warn("Failed to load table schemas from cache {}, ignore it", cacheFile, e);
+                cachedSchemas.clear();
+            }
+        }
+        return new MySqlSchemaCache(cacheFile, cachedSchemas);
+    }
+
+    /**
+     * Gets the cached schema of the given table, returns null if the table isn't cached or the
+     * table definition has been changed.
+     */
+    @Nullable
+    public TableChange get(TableId tableId, String tableDefinition) {
+        CachedSchema cachedSchema = cachedSchemas.get(tableId);
+        if (cachedSchema == null || !cachedSchema.definitionHash.equals(hash(tableDefinition))) {
+            return null;
+        }
+        try {
+            return FlinkJsonTableChangeSerializer.fromDocument(
+                    DocumentReader.defaultReader().read(cachedSchema.schema), true);
+        } catch (Exception e) {
+            LOG.warn("Failed to read the cached schema of table {}, ignore it", tableId, e);
+            return null;
+        }
+    }
+
+    public void put(TableId tableId, String tableDefinition, TableChange tableChange) {
+        try {
+            String schema =
+                    DocumentWriter.defaultWriter()
+                            .write(tableChangeSerializer.toDocument(tableChange));
+            cachedSchemas.put(tableId, new CachedSchema(hash(tableDefinition), schema));
+            changed = true;
+        } catch (IOException e) {
+            LOG.warn("Failed to cache the schema of table {}", tableId, e);
+        }
+    }
+
+    public int size() {
+        return cachedSchemas.size();
+    }
+
+    /**
+     * Writes the cache to disk if it has been changed. The cache file is replaced atomically, so
+     * concurrent readers of the same server always see a complete cache file.
+     */
+    public void flush() {
+        if (!changed) {
+            return;
+        }
+        Path tempFile = cacheFile.resolveSibling(cacheFile.getFileName() + "." + UUID.randomUUID());
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            try (DataOutputStream out =
+                    new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(VERSION);
+                out.writeInt(cachedSchemas.size());
+                for (Map.Entry<TableId, CachedSchema> entry : cachedSchemas.entrySet()) {
+                    out.writeUTF(entry.getKey().toString());
+                    out.writeUTF(entry.getValue().definitionHash);
+                    byte[] schema = entry.getValue().schema.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(schema.length);
+                    out.write(schema);
+                }
+            }
+            Files.move(
+                    tempFile,
+                    cacheFile,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            changed = false;
+            LOG.info("Wrote {} table schemas to cache {}", cachedSchemas.size(), cacheFile);
+        } catch (IOException e) {
+            LOG.warn("Failed to write table schemas to cache {}", cacheFile, e);
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignored) {
+                // ignore
+            }
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return StringUtils.byteToHexString(
+                    digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /** The cached schema of a table and the hash of the table definition. */
+    private static class CachedSchema {
+        private final String definitionHash;
+        private final String schema;
+
+        private CachedSchema(String definitionHash, String schema) {
+            this.definitionHash = definitionHash;
+            this.schema = schema;
+        }
+    }
+}
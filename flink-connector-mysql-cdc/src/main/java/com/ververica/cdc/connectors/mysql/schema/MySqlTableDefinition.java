@@ -78,6 +78,10 @@ class MySqlFieldDefinition {
     private String defaultValue;
     private String extra;
     private boolean unique;
+    private String charsetName;
+    private String collationName;
+    private String defaultValueClause;
+    private boolean autoIncrement;
 
     public String getColumnName() {
         return columnName;
@@ -139,7 +143,54 @@ class MySqlFieldDefinition {
         this.unique = unique;
     }
 
+    public String getCharsetName() {
+        return charsetName;
+    }
+
+    public void setCharsetName(String charsetName) {
+        this.charsetName = charsetName;
+    }
+
+    public String getCollationName() {
+        return collationName;
+    }
+
+    public void setCollationName(String collationName) {
+        this.collationName = collationName;
+    }
+
+    public String getDefaultValueClause() {
+        return defaultValueClause;
+    }
+
+    /** Sets the literal or expression following the DEFAULT keyword in the column definition. */
+    public void setDefaultValueClause(String defaultValueClause) {
+        this.defaultValueClause = defaultValueClause;
+    }
+
+    public boolean isAutoIncrement() {
+        return autoIncrement;
+    }
+
+    public void setAutoIncrement(boolean autoIncrement) {
+        this.autoIncrement = autoIncrement;
+    }
+
     public String toDdl() {
-        return quote(columnName) + " " + columnType + " " + (nullable ? "" : "NOT NULL");
+        StringBuilder ddl = new StringBuilder(quote(columnName)).append(" ").append(columnType);
+        if (charsetName != null) {
+            ddl.append(" CHARACTER SET ").append(charsetName);
+        }
+        if (collationName != null) {
+            ddl.append(" COLLATE ").append(collationName);
+        }
+        ddl.append(" ").append(nullable ? "" : "NOT NULL");
+        if (defaultValueClause != null) {
+            ddl.append(" DEFAULT ").append(defaultValueClause);
+        }
+        if (autoIncrement) {
+            ddl.append(" AUTO_INCREMENT");
+        }
+        return ddl.toString();
     }
 }
@@ -61,6 +61,9 @@ import java.util.ArrayList;
 import java.util.function.Supplier;
 
 import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.openJdbcConnection;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_SPLIT_NUMBER;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED;
+import static org.apache.flink.util.Preconditions.checkState;
 
 /**
  * The MySQL CDC Source based on FLIP-27 and Watermark Signal Algorithm which supports parallel
@@ -148,7 +151,8 @@ public class MySqlSource<T>
                         new MySqlSplitReader(
                                 sourceConfig,
                                 readerContext.getIndexOfSubtask(),
-                                mySqlSourceReaderContext);
+                                mySqlSourceReaderContext,
+                                sourceReaderMetrics.getBinlogDeserializationMetrics());
         return new MySqlSourceReader<>(
                 elementsQueue,
                 splitReaderSupplier,
@@ -168,6 +172,7 @@ public class MySqlSource<T>
 
         final MySqlValidator validator = new MySqlValidator(sourceConfig);
         validator.validate();
+        validateBinlogSplitNumber(sourceConfig, enumContext.currentParallelism());
 
         final MySqlSplitAssigner splitAssigner;
         if (sourceConfig.getStartupOptions().startupMode == StartupMode.INITIAL) {
@@ -194,6 +199,7 @@ public class MySqlSource<T>
     public SplitEnumerator<MySqlSplit, PendingSplitsState> restoreEnumerator(
             SplitEnumeratorContext<MySqlSplit> enumContext, PendingSplitsState checkpoint) {
         MySqlSourceConfig sourceConfig = configFactory.createConfig(0);
+        validateBinlogSplitNumber(sourceConfig, enumContext.currentParallelism());
 
         final MySqlSplitAssigner splitAssigner;
         if (checkpoint instanceof HybridPendingSplitsState) {
@@ -213,6 +219,24 @@ public class MySqlSource<T>
         return new MySqlSourceEnumerator(enumContext, sourceConfig, splitAssigner);
     }
 
+    /**
+     * Every binlog split is bound to the subtask with the same index, so there can't be more binlog
+     * splits than subtasks. Newly added tables are captured by the binlog split only.
+     */
+    private static void validateBinlogSplitNumber(MySqlSourceConfig sourceConfig, int parallelism) {
+        int binlogSplitNumber = sourceConfig.getBinlogSplitNumber();
+        checkState(
+                binlogSplitNumber <= parallelism,
+                String.format(
+                        "The value of option '%s' must not be larger than the source parallelism %d, but is %d",
+                        SCAN_BINLOG_SPLIT_NUMBER.key(), parallelism, binlogSplitNumber));
+        checkState(
+                binlogSplitNumber == 1 || !sourceConfig.isScanNewlyAddedTableEnabled(),
+                String.format(
+                        "The option '%s' can't be used together with option '%s'",
+                        SCAN_BINLOG_SPLIT_NUMBER.key(), SCAN_NEWLY_ADDED_TABLE_ENABLED.key()));
+    }
+
     @Override
     public SimpleVersionedSerializer<MySqlSplit> getSplitSerializer() {
         return MySqlSplitSerializer.INSTANCE;
@@ -18,6 +18,7 @@ package com.ververica.cdc.connectors.mysql.source;
 
 import org.apache.flink.annotation.PublicEvolving;
 
+import com.ververica.cdc.connectors.mysql.source.config.ChunkSplitStrategy;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
 import com.ververica.cdc.connectors.mysql.table.StartupOptions;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
@@ -236,6 +237,119 @@ public class MySqlSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * The max number of records of a snapshot chunk that are buffered in memory, the records beyond
+     * the threshold are spilled to local disk. The threshold counts rows, not bytes. Non-positive
+     * value disables spilling.
+     */
+    public MySqlSourceBuilder<T> chunkSpillThreshold(int chunkSpillThreshold) {
+        this.configFactory.chunkSpillThreshold(chunkSpillThreshold);
+        return this;
+    }
+
+    /**
+     * Whether to read the backfill binlog of consecutive snapshot chunks from one shared binlog
+     * connection, false by default.
+     */
+    public MySqlSourceBuilder<T> sharedBackfillCursorEnabled(boolean sharedBackfillCursorEnabled) {
+        this.configFactory.sharedBackfillCursorEnabled(sharedBackfillCursorEnabled);
+        return this;
+    }
+
+    /**
+     * The number of threads used to compute the chunk boundaries of tables concurrently, each
+     * thread splits different tables, 1 by default.
+     */
+    public MySqlSourceBuilder<T> chunkSplitterParallelism(int chunkSplitterParallelism) {
+        this.configFactory.chunkSplitterParallelism(chunkSplitterParallelism);
+        return this;
+    }
+
+    /**
+     * The strategy to compute the chunk boundaries of a table whose chunk key column is not evenly
+     * distributed, {@link ChunkSplitStrategy#QUERY} by default.
+     */
+    public MySqlSourceBuilder<T> chunkSplitStrategy(ChunkSplitStrategy chunkSplitStrategy) {
+        this.configFactory.chunkSplitStrategy(chunkSplitStrategy);
+        return this;
+    }
+
+    /**
+     * Whether to discover the schemas of the captured tables from information_schema in bulk, false
+     * by default.
+     */
+    public MySqlSourceBuilder<T> bulkSchemaDiscoveryEnabled(boolean bulkSchemaDiscoveryEnabled) {
+        this.configFactory.bulkSchemaDiscoveryEnabled(bulkSchemaDiscoveryEnabled);
+        return this;
+    }
+
+    /** Optional local directory to cache the table schemas discovered in bulk. */
+    public MySqlSourceBuilder<T> schemaCacheDir(String schemaCacheDir) {
+        this.configFactory.schemaCacheDir(schemaCacheDir);
+        return this;
+    }
+
+    /**
+     * The number of threads used to decode the row images of binlog events in parallel, 1 by
+     * default which means the events are decoded by the binlog client thread.
+     */
+    public MySqlSourceBuilder<T> binlogDeserializationParallelism(
+            int binlogDeserializationParallelism) {
+        this.configFactory.binlogDeserializationParallelism(binlogDeserializationParallelism);
+        return this;
+    }
+
+    /**
+     * The number of binlog splits to read the binlog in parallel, every binlog split reads a hash
+     * partition of the captured tables on its own subtask, 1 by default.
+     */
+    public MySqlSourceBuilder<T> binlogSplitNumber(int binlogSplitNumber) {
+        this.configFactory.binlogSplitNumber(binlogSplitNumber);
+        return this;
+    }
+
+    /**
+     * Optional target size in bytes of the chunks of table snapshot, the chunk size of every table
+     * is derived from it and the average row length of the table.
+     */
+    public MySqlSourceBuilder<T> chunkTargetBytes(Long chunkTargetBytes) {
+        this.configFactory.chunkTargetBytes(chunkTargetBytes);
+        return this;
+    }
+
+    /**
+     * Optional target time to read a chunk of table snapshot, the chunk size is derived from it and
+     * the read throughput of the finished chunks.
+     */
+    public MySqlSourceBuilder<T> chunkTargetReadTime(Duration chunkTargetReadTime) {
+        this.configFactory.chunkTargetReadTime(chunkTargetReadTime);
+        return this;
+    }
+
+    /**
+     * Whether to assign the snapshot splits by their estimated cost, i.e. the splits of the table
+     * with the largest estimated remaining cost first.
+     */
+    public MySqlSourceBuilder<T> sizeAwareSchedulingEnabled(boolean sizeAwareSchedulingEnabled) {
+        this.configFactory.sizeAwareSchedulingEnabled(sizeAwareSchedulingEnabled);
+        return this;
+    }
+
+    /**
+     * The number of snapshot splits that every source reader requests ahead from the enumerator, 1
+     * by default.
+     */
+    public MySqlSourceBuilder<T> prefetchSplits(int prefetchSplits) {
+        this.configFactory.prefetchSplits(prefetchSplits);
+        return this;
+    }
+
+    /** The number of snapshot splits that every source reader reads concurrently, 1 by default. */
+    public MySqlSourceBuilder<T> snapshotReaderConcurrency(int snapshotReaderConcurrency) {
+        this.configFactory.snapshotReaderConcurrency(snapshotReaderConcurrency);
+        return this;
+    }
+
     /**
      * Build the {@link MySqlSource}.
      *
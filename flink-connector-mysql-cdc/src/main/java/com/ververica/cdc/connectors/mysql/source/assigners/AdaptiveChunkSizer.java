@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.assigners;
+
+import org.apache.flink.annotation.VisibleForTesting;
+
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
+import io.debezium.relational.TableId;
+
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sizes the chunks of table snapshot by a target size in bytes and/or a target read time instead of
+ * a static number of rows.
+ *
+ * <p>The chunk size by bytes is derived from the average row length of the table. The chunk size by
+ * read time is derived from the read throughput of the finished chunks of the same table, or from
+ * the throughput of all tables in bytes if no chunk of the table has been read yet. The smaller
+ * chunk size is used if both targets are set, and the configured chunk size is used if neither of
+ * them can be applied.
+ *
+ * <p>The sizer is shared by the chunk splitters of the assigner and updated by the enumerator
+ * thread, so all methods are synchronized.
+ *
+ * @see
+ *     com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_BYTES
+ * @see
+ *     com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_READ_TIME
+ */
+public class AdaptiveChunkSizer {
+
+    private final int splitSize;
+    @Nullable private final Long targetBytes;
+    @Nullable private final Long targetReadTimeMillis;
+
+    private final Map<TableId, Long> avgRowLengths = new HashMap<>();
+    /** The read throughput in rows of every table. */
+    private final Map<TableId, ReadThroughput> tableThroughputs = new HashMap<>();
+    /** The read throughput in bytes of all tables whose average row length is known. */
+    private final ReadThroughput totalThroughput = new ReadThroughput();
+
+    public AdaptiveChunkSizer(MySqlSourceConfig sourceConfig) {
+        this(
+                sourceConfig.getSplitSize(),
+                sourceConfig.getChunkTargetBytes(),
+                sourceConfig.getChunkTargetReadTime() == null
+                        ? null
+                        : sourceConfig.getChunkTargetReadTime().toMillis());
+    }
+
+    @VisibleForTesting
+    AdaptiveChunkSizer(
+            int splitSize, @Nullable Long targetBytes, @Nullable Long targetReadTimeMillis) {
+        this.splitSize = splitSize;
+        this.targetBytes = targetBytes;
+        this.targetReadTimeMillis = targetReadTimeMillis;
+    }
+
+    /** Whether the chunks are sized adaptively, i.e. a target bytes or read time is set. */
+    public boolean isEnabled() {
+        return targetBytes != null || targetReadTimeMillis != null;
+    }
+
+    /**
+     * Gets the chunk size (number of rows) of the given table.
+     *
+     * @param avgRowLength the average row length in bytes of the table, 0 if unknown.
+     */
+    public synchronized int getChunkSize(TableId tableId, long avgRowLength) {
+        if (!isEnabled()) {
+            return splitSize;
+        }
+        if (avgRowLength > 0) {
+            avgRowLengths.put(tableId, avgRowLength);
+        }
+        long chunkSize = Long.MAX_VALUE;
+        if (targetBytes != null && avgRowLength > 0) {
+            chunkSize = targetBytes / avgRowLength;
+        }
+        if (targetReadTimeMillis != null) {
+            double rowsPerMilli = getRowsPerMilli(tableId, avgRowLength);
+            if (rowsPerMilli > 0) {
+                chunkSize = Math.min(chunkSize, (long) (targetReadTimeMillis * rowsPerMilli));
+            }
+        }
+        if (chunkSize == Long.MAX_VALUE) {
+            return splitSize;
+        }
+        // the minimum chunk size is at least 1
+        return (int) Math.max(1L, Math.min(chunkSize, Integer.MAX_VALUE));
+    }
+
+    /** Updates the read throughput with the statistics of a finished chunk of the given table. */
+    public synchronized void onSplitRead(
+            TableId tableId, SnapshotSplitReadStatistics readStatistics) {
+        if (!isEnabled() || readStatistics.getRows() <= 0) {
+            return;
+        }
+        tableThroughputs
+                .computeIfAbsent(tableId, t -> new ReadThroughput())
+                .add(readStatistics.getRows(), readStatistics.getReadTimeMillis());
+        Long avgRowLength = avgRowLengths.get(tableId);
+        if (avgRowLength != null) {
+            totalThroughput.add(
+                    readStatistics.getRows() * avgRowLength, readStatistics.getReadTimeMillis());
+        }
+    }
+
+    private double getRowsPerMilli(TableId tableId, long avgRowLength) {
+        ReadThroughput tableThroughput = tableThroughputs.get(tableId);
+        if (tableThroughput != null) {
+            return tableThroughput.perMilli();
+        }
+        if (avgRowLength > 0 && totalThroughput.amount > 0) {
+            return totalThroughput.perMilli() / avgRowLength;
+        }
+        return 0;
+    }
+
+    /** The amount of data (rows or bytes) read in the accumulated read time. */
+    private static class ReadThroughput {
+        private long amount;
+        private long millis;
+
+        private void add(long amount, long millis) {
+            this.amount += amount;
+            this.millis += millis;
+        }
+
+        private double perMilli() {
+            // the chunks may be read in less than 1 millisecond
+            return (double) amount / Math.max(millis, 1L);
+        }
+    }
+}
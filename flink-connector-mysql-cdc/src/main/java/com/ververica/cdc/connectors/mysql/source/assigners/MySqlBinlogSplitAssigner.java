@@ -30,9 +30,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.getBinlogSplitId;
 
 /** A {@link MySqlSplitAssigner} which only read binlog from current binlog position. */
 public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
@@ -41,21 +45,22 @@ public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
 
     private final MySqlSourceConfig sourceConfig;
 
-    private boolean isBinlogSplitAssigned;
+    // the ids of the assigned binlog splits
+    private final Set<String> assignedBinlogSplits;
 
     public MySqlBinlogSplitAssigner(MySqlSourceConfig sourceConfig) {
-        this(sourceConfig, false);
+        this(sourceConfig, new HashSet<>());
     }
 
     public MySqlBinlogSplitAssigner(
             MySqlSourceConfig sourceConfig, BinlogPendingSplitsState checkpoint) {
-        this(sourceConfig, checkpoint.isBinlogSplitAssigned());
+        this(sourceConfig, new HashSet<>(checkpoint.getAssignedBinlogSplits()));
     }
 
     private MySqlBinlogSplitAssigner(
-            MySqlSourceConfig sourceConfig, boolean isBinlogSplitAssigned) {
+            MySqlSourceConfig sourceConfig, Set<String> assignedBinlogSplits) {
         this.sourceConfig = sourceConfig;
-        this.isBinlogSplitAssigned = isBinlogSplitAssigned;
+        this.assignedBinlogSplits = assignedBinlogSplits;
     }
 
     @Override
@@ -63,11 +68,29 @@ public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
 
     @Override
     public Optional<MySqlSplit> getNext() {
-        if (isBinlogSplitAssigned) {
+        for (int i = 0; i < sourceConfig.getBinlogSplitNumber(); i++) {
+            Optional<MySqlSplit> binlogSplit = getNext(i);
+            if (binlogSplit.isPresent()) {
+                return binlogSplit;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the binlog split of the given subtask, the binlog split i is only assigned to subtask i
+     * when there are multiple binlog splits.
+     */
+    @Override
+    public Optional<MySqlSplit> getNext(int subtaskId) {
+        int binlogSplitNumber = sourceConfig.getBinlogSplitNumber();
+        int splitIndex = binlogSplitNumber == 1 ? 0 : subtaskId;
+        String binlogSplitId = getBinlogSplitId(splitIndex, binlogSplitNumber);
+        if (splitIndex >= binlogSplitNumber || assignedBinlogSplits.contains(binlogSplitId)) {
             return Optional.empty();
         } else {
-            isBinlogSplitAssigned = true;
-            return Optional.of(createBinlogSplit());
+            assignedBinlogSplits.add(binlogSplitId);
+            return Optional.of(createBinlogSplit(binlogSplitId));
         }
     }
 
@@ -90,13 +113,15 @@ public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
     public void addSplits(Collection<MySqlSplit> splits) {
         if (!CollectionUtil.isNullOrEmpty(splits)) {
             // we don't store the split, but will re-create binlog split later
-            isBinlogSplitAssigned = false;
+            for (MySqlSplit split : splits) {
+                assignedBinlogSplits.remove(split.splitId());
+            }
         }
     }
 
     @Override
     public PendingSplitsState snapshotState(long checkpointId) {
-        return new BinlogPendingSplitsState(isBinlogSplitAssigned);
+        return new BinlogPendingSplitsState(new HashSet<>(assignedBinlogSplits));
     }
 
     @Override
@@ -120,9 +145,9 @@ public class MySqlBinlogSplitAssigner implements MySqlSplitAssigner {
 
     // ------------------------------------------------------------------------------------------
 
-    private MySqlBinlogSplit createBinlogSplit() {
+    private MySqlBinlogSplit createBinlogSplit(String binlogSplitId) {
         return new MySqlBinlogSplit(
-                BINLOG_SPLIT_ID,
+                binlogSplitId,
                 sourceConfig.getStartupOptions().binlogOffset,
                 BinlogOffset.ofNonStopping(),
                 new ArrayList<>(),
@@ -25,6 +25,7 @@ import org.apache.flink.util.Preconditions;
 import com.ververica.cdc.connectors.mysql.schema.MySqlSchema;
 import com.ververica.cdc.connectors.mysql.schema.MySqlTypeUtils;
 import com.ververica.cdc.connectors.mysql.source.assigners.state.ChunkSplitterState;
+import com.ververica.cdc.connectors.mysql.source.config.ChunkSplitStrategy;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
 import com.ververica.cdc.connectors.mysql.source.utils.ChunkUtils;
@@ -52,19 +53,25 @@ import java.util.Optional;
 import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.openJdbcConnection;
 import static com.ververica.cdc.connectors.mysql.source.utils.ObjectUtils.doubleCompare;
 import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryApproximateRowCnt;
+import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryAvgRowLength;
 import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryMin;
 import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryMinMax;
 import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.queryNextChunkMax;
+import static com.ververica.cdc.connectors.mysql.source.utils.StatementUtils.querySampledValues;
 import static java.math.BigDecimal.ROUND_CEILING;
 
 /** The {@link ChunkSplitter} implementation for MySQL. */
 public class MySqlChunkSplitter implements ChunkSplitter {
 
     private static final Logger LOG = LoggerFactory.getLogger(MySqlChunkSplitter.class);
+    /** The number of sampled chunk keys per chunk when split the table by sampling. */
+    private static final int SAMPLES_PER_CHUNK = 8;
+
     private final Object lock = new Object();
 
     private final MySqlSourceConfig sourceConfig;
     private final MySqlSchema mySqlSchema;
+    @Nullable private final AdaptiveChunkSizer chunkSizer;
 
     @Nullable private TableId currentSplittingTableId;
     @Nullable private ChunkSplitterState.ChunkBound nextChunkStart;
@@ -76,18 +83,28 @@ public class MySqlChunkSplitter implements ChunkSplitter {
     private RowType splitType;
     private Object[] minMaxOfSplitColumn;
     private long approximateRowCnt;
+    private long avgRowLength;
 
     public MySqlChunkSplitter(MySqlSchema mySqlSchema, MySqlSourceConfig sourceConfig) {
-        this(mySqlSchema, sourceConfig, null, null, null);
+        this(mySqlSchema, sourceConfig, (AdaptiveChunkSizer) null);
+    }
+
+    public MySqlChunkSplitter(
+            MySqlSchema mySqlSchema,
+            MySqlSourceConfig sourceConfig,
+            @Nullable AdaptiveChunkSizer chunkSizer) {
+        this(mySqlSchema, sourceConfig, chunkSizer, null, null, null);
     }
 
     public MySqlChunkSplitter(
             MySqlSchema mySqlSchema,
             MySqlSourceConfig sourceConfig,
-            ChunkSplitterState chunkSplitterState) {
+            ChunkSplitterState chunkSplitterState,
+            @Nullable AdaptiveChunkSizer chunkSizer) {
         this(
                 mySqlSchema,
                 sourceConfig,
+                chunkSizer,
                 chunkSplitterState.getCurrentSplittingTableId(),
                 chunkSplitterState.getNextChunkStart(),
                 chunkSplitterState.getNextChunkId());
@@ -96,11 +113,13 @@ public class MySqlChunkSplitter implements ChunkSplitter {
     private MySqlChunkSplitter(
             MySqlSchema mySqlSchema,
             MySqlSourceConfig sourceConfig,
+            @Nullable AdaptiveChunkSizer chunkSizer,
             @Nullable TableId currentSplittingTableId,
             @Nullable ChunkSplitterState.ChunkBound nextChunkStart,
             @Nullable Integer nextChunkId) {
         this.mySqlSchema = mySqlSchema;
         this.sourceConfig = sourceConfig;
+        this.chunkSizer = chunkSizer;
         this.currentSplittingTableId = currentSplittingTableId;
         this.nextChunkStart = nextChunkStart;
         this.nextChunkId = nextChunkId;
@@ -119,6 +138,8 @@ public class MySqlChunkSplitter implements ChunkSplitter {
                     trySplitAllEvenlySizedChunks(tableId);
             if (evenlySplitChunks.isPresent()) {
                 return evenlySplitChunks.get();
+            } else if (sourceConfig.getChunkSplitStrategy() == ChunkSplitStrategy.SAMPLING) {
+                return generateSplits(tableId, splitChunksBySampling(tableId));
             } else {
                 synchronized (lock) {
                     this.currentSplittingTableId = tableId;
@@ -150,14 +171,36 @@ public class MySqlChunkSplitter implements ChunkSplitter {
             splitType = ChunkUtils.getChunkKeyColumnType(splitColumn);
             minMaxOfSplitColumn = queryMinMax(jdbcConnection, tableId, splitColumn.name());
             approximateRowCnt = queryApproximateRowCnt(jdbcConnection, tableId);
+            if ((chunkSizer != null && chunkSizer.isEnabled())
+                    || sourceConfig.isSizeAwareSchedulingEnabled()) {
+                avgRowLength = queryAvgRowLength(jdbcConnection, tableId);
+            }
         } catch (Exception e) {
             throw new RuntimeException("Fail to analyze table in chunk splitter.", e);
         }
     }
 
+    /**
+     * Gets the chunk size of the splitting table, which is the configured chunk size or the
+     * adaptive chunk size of the table if the chunks are sized adaptively.
+     */
+    private int getChunkSize(TableId tableId) {
+        return chunkSizer == null
+                ? sourceConfig.getSplitSize()
+                : chunkSizer.getChunkSize(tableId, avgRowLength);
+    }
+
+    /**
+     * Estimates the cost of a chunk of the splitting table, which is the chunk size multiplied by
+     * the average row length of the table if it's known.
+     */
+    public long estimateChunkCost(TableId tableId) {
+        return (long) getChunkSize(tableId) * Math.max(1L, avgRowLength);
+    }
+
     /** Generates one snapshot split (chunk) for the give table path. */
     private MySqlSnapshotSplit splitOneUnevenlySizedChunk(TableId tableId) throws SQLException {
-        final int chunkSize = sourceConfig.getSplitSize();
+        final int chunkSize = getChunkSize(tableId);
         final Object chunkStartVal = nextChunkStart.getValue();
         LOG.info(
                 "Use unevenly-sized chunks for table {}, the chunk size is {} from {}",
@@ -208,7 +251,7 @@ public class MySqlChunkSplitter implements ChunkSplitter {
                     generateSplits(tableId, Collections.singletonList(ChunkRange.all())));
         }
 
-        final int chunkSize = sourceConfig.getSplitSize();
+        final int chunkSize = getChunkSize(tableId);
         final int dynamicChunkSize =
                 getDynamicChunkSize(tableId, splitColumn, min, max, chunkSize, approximateRowCnt);
         if (dynamicChunkSize != -1) {
@@ -223,6 +266,56 @@ public class MySqlChunkSplitter implements ChunkSplitter {
         }
     }
 
+    /**
+     * Splits all chunks of the table from a random sample of the split column, which only needs one
+     * query instead of one query for each chunk.
+     */
+    private List<ChunkRange> splitChunksBySampling(TableId tableId) throws SQLException {
+        final int chunkSize = getChunkSize(tableId);
+        if (approximateRowCnt <= chunkSize) {
+            // there is no more than one chunk, return full table as a chunk
+            return Collections.singletonList(ChunkRange.all());
+        }
+        final long chunkNum = approximateRowCnt / chunkSize + 1;
+        final double samplingRate =
+                Math.min(1.0d, (double) chunkNum * SAMPLES_PER_CHUNK / approximateRowCnt);
+        final long start = System.currentTimeMillis();
+        final List<Object> samples =
+                querySampledValues(jdbcConnection, tableId, splitColumn.name(), samplingRate);
+        // every sample stands for 1 / samplingRate rows
+        final int samplesPerChunk = Math.max((int) Math.round(chunkSize * samplingRate), 1);
+        LOG.info(
+                "Use sampling chunks for table {}, the approximate row count is {}, the sampling rate is {}, sampled {} chunk keys in {} ms",
+                tableId,
+                approximateRowCnt,
+                samplingRate,
+                samples.size(),
+                System.currentTimeMillis() - start);
+        return splitChunksBySamples(samples, samplesPerChunk);
+    }
+
+    /**
+     * Splits the table into chunks which have the given number of samples, the samples should be
+     * sorted by the split column in ascending order.
+     */
+    @VisibleForTesting
+    public List<ChunkRange> splitChunksBySamples(List<Object> samples, int samplesPerChunk) {
+        final List<ChunkRange> splits = new ArrayList<>();
+        Object chunkStart = null;
+        for (int i = samplesPerChunk; i < samples.size(); i += samplesPerChunk) {
+            Object chunkEnd = samples.get(i);
+            // we don't allow equal chunk start and end, skip the duplicated split keys
+            if (chunkStart != null && Objects.equals(chunkStart, chunkEnd)) {
+                continue;
+            }
+            splits.add(ChunkRange.of(chunkStart, chunkEnd));
+            chunkStart = chunkEnd;
+        }
+        // add the ending split
+        splits.add(ChunkRange.of(chunkStart, null));
+        return splits;
+    }
+
     /** Generates all snapshot splits (chunks) from chunk ranges. */
     private List<MySqlSnapshotSplit> generateSplits(TableId tableId, List<ChunkRange> chunks) {
         // convert chunks into splits
@@ -24,6 +24,7 @@ import com.ververica.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo
 import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSchemalessSnapshotSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
 import io.debezium.relational.TableId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,27 +33,33 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.ververica.cdc.connectors.mysql.source.assigners.AssignerStatus.isInitialAssigningFinished;
 import static com.ververica.cdc.connectors.mysql.source.assigners.AssignerStatus.isNewlyAddedAssigningFinished;
 import static com.ververica.cdc.connectors.mysql.source.assigners.AssignerStatus.isNewlyAddedAssigningSnapshotFinished;
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.getBinlogSplitId;
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.isTableOfBinlogSplit;
 
 /**
  * A {@link MySqlSplitAssigner} that splits tables into small chunk splits based on primary key
- * range and chunk size and also continue with a binlog split.
+ * range and chunk size and also continue with a binlog split, or with multiple binlog splits which
+ * read the changes of disjoint partitions of the captured tables.
  */
 public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
 
     private static final Logger LOG = LoggerFactory.getLogger(MySqlHybridSplitAssigner.class);
-    private static final String BINLOG_SPLIT_ID = "binlog-split";
 
     private final int splitMetaGroupSize;
+    private final int binlogSplitNumber;
 
-    private boolean isBinlogSplitAssigned;
+    // the ids of the assigned binlog splits
+    private final Set<String> assignedBinlogSplits;
 
     private final MySqlSnapshotSplitAssigner snapshotSplitAssigner;
 
@@ -64,8 +71,9 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
         this(
                 new MySqlSnapshotSplitAssigner(
                         sourceConfig, currentParallelism, remainingTables, isTableIdCaseSensitive),
-                false,
-                sourceConfig.getSplitMetaGroupSize());
+                new HashSet<>(),
+                sourceConfig.getSplitMetaGroupSize(),
+                sourceConfig.getBinlogSplitNumber());
     }
 
     public MySqlHybridSplitAssigner(
@@ -75,17 +83,20 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
         this(
                 new MySqlSnapshotSplitAssigner(
                         sourceConfig, currentParallelism, checkpoint.getSnapshotPendingSplits()),
-                checkpoint.isBinlogSplitAssigned(),
-                sourceConfig.getSplitMetaGroupSize());
+                new HashSet<>(checkpoint.getAssignedBinlogSplits()),
+                sourceConfig.getSplitMetaGroupSize(),
+                sourceConfig.getBinlogSplitNumber());
     }
 
     private MySqlHybridSplitAssigner(
             MySqlSnapshotSplitAssigner snapshotSplitAssigner,
-            boolean isBinlogSplitAssigned,
-            int splitMetaGroupSize) {
+            Set<String> assignedBinlogSplits,
+            int splitMetaGroupSize,
+            int binlogSplitNumber) {
         this.snapshotSplitAssigner = snapshotSplitAssigner;
-        this.isBinlogSplitAssigned = isBinlogSplitAssigned;
+        this.assignedBinlogSplits = assignedBinlogSplits;
         this.splitMetaGroupSize = splitMetaGroupSize;
+        this.binlogSplitNumber = binlogSplitNumber;
     }
 
     @Override
@@ -95,24 +106,43 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
 
     @Override
     public Optional<MySqlSplit> getNext() {
+        return getNext(getUnassignedBinlogSplits().stream().findFirst().orElse(0));
+    }
+
+    /**
+     * Gets the next split for the given subtask. The snapshot splits can be assigned to any
+     * subtask, while the binlog split i is only assigned to subtask i when there are multiple
+     * binlog splits, so every subtask reads the binlog with its own server id.
+     */
+    @Override
+    public Optional<MySqlSplit> getNext(int subtaskId) {
         if (isNewlyAddedAssigningSnapshotFinished(getAssignerStatus())) {
             // do not assign split until the adding table process finished
             return Optional.empty();
         }
         if (snapshotSplitAssigner.noMoreSnapshotSplits()) {
             // binlog split assigning
-            if (isBinlogSplitAssigned) {
+            if (getUnassignedBinlogSplits().isEmpty()) {
                 // no more splits for the assigner
                 return Optional.empty();
             } else if (isInitialAssigningFinished(snapshotSplitAssigner.getAssignerStatus())) {
                 // we need to wait snapshot-assigner to be finished before
                 // assigning the binlog split. Otherwise, records emitted from binlog split
                 // might be out-of-order in terms of same primary key with snapshot splits.
-                isBinlogSplitAssigned = true;
-                return Optional.of(createBinlogSplit());
+                int splitIndex = binlogSplitNumber == 1 ? 0 : subtaskId;
+                if (!getUnassignedBinlogSplits().contains(splitIndex)) {
+                    // the binlog split of the subtask has been assigned or the subtask
+                    // doesn't read binlog
+                    return Optional.empty();
+                }
+                MySqlBinlogSplit binlogSplit = createBinlogSplit(splitIndex);
+                assignedBinlogSplits.add(binlogSplit.splitId());
+                return Optional.of(binlogSplit);
             } else if (isNewlyAddedAssigningFinished(snapshotSplitAssigner.getAssignerStatus())) {
                 // do not need to create binlog, but send event to wake up the binlog reader
-                isBinlogSplitAssigned = true;
+                for (int i = 0; i < binlogSplitNumber; i++) {
+                    assignedBinlogSplits.add(getBinlogSplitId(i, binlogSplitNumber));
+                }
                 return Optional.empty();
             } else {
                 // binlog split is not ready by now
@@ -139,6 +169,12 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
         snapshotSplitAssigner.onFinishedSplits(splitFinishedOffsets);
     }
 
+    @Override
+    public void onSnapshotSplitsReadStatistics(
+            Map<String, SnapshotSplitReadStatistics> splitReadStatistics) {
+        snapshotSplitAssigner.onSnapshotSplitsReadStatistics(splitReadStatistics);
+    }
+
     @Override
     public void addSplits(Collection<MySqlSplit> splits) {
         List<MySqlSplit> snapshotSplits = new ArrayList<>();
@@ -147,7 +183,7 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
                 snapshotSplits.add(split);
             } else {
                 // we don't store the split, but will re-create binlog split later
-                isBinlogSplitAssigned = false;
+                assignedBinlogSplits.remove(split.splitId());
             }
         }
         snapshotSplitAssigner.addSplits(snapshotSplits);
@@ -156,7 +192,8 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
     @Override
     public PendingSplitsState snapshotState(long checkpointId) {
         return new HybridPendingSplitsState(
-                snapshotSplitAssigner.snapshotState(checkpointId), isBinlogSplitAssigned);
+                snapshotSplitAssigner.snapshotState(checkpointId),
+                new HashSet<>(assignedBinlogSplits));
     }
 
     @Override
@@ -186,7 +223,19 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
 
     // --------------------------------------------------------------------------------------------
 
-    private MySqlBinlogSplit createBinlogSplit() {
+    /** Returns the indexes of the binlog splits which haven't been assigned yet. */
+    private List<Integer> getUnassignedBinlogSplits() {
+        List<Integer> unassignedBinlogSplits = new ArrayList<>();
+        for (int i = 0; i < binlogSplitNumber; i++) {
+            if (!assignedBinlogSplits.contains(getBinlogSplitId(i, binlogSplitNumber))) {
+                unassignedBinlogSplits.add(i);
+            }
+        }
+        return unassignedBinlogSplits;
+    }
+
+    private MySqlBinlogSplit createBinlogSplit(int splitIndex) {
+        final String binlogSplitId = getBinlogSplitId(splitIndex, binlogSplitNumber);
         final List<MySqlSchemalessSnapshotSplit> assignedSnapshotSplit =
                 snapshotSplitAssigner.getAssignedSplits().values().stream()
                         .sorted(Comparator.comparing(MySqlSplit::splitId))
@@ -197,9 +246,19 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
         final List<FinishedSnapshotSplitInfo> finishedSnapshotSplitInfos = new ArrayList<>();
 
         BinlogOffset minBinlogOffset = null;
+        BinlogOffset minBinlogOffsetOfAllTables = null;
         for (MySqlSchemalessSnapshotSplit split : assignedSnapshotSplit) {
             // find the min binlog offset
             BinlogOffset binlogOffset = splitFinishedOffsets.get(split.splitId());
+            if (minBinlogOffsetOfAllTables == null
+                    || binlogOffset.isBefore(minBinlogOffsetOfAllTables)) {
+                minBinlogOffsetOfAllTables = binlogOffset;
+            }
+            // the binlog split only reads the changes of its own tables, it starts from the min
+            // high watermark of the snapshot splits of these tables
+            if (!isTableOfBinlogSplit(split.getTableId(), binlogSplitId, binlogSplitNumber)) {
+                continue;
+            }
             if (minBinlogOffset == null || binlogOffset.isBefore(minBinlogOffset)) {
                 minBinlogOffset = binlogOffset;
             }
@@ -216,8 +275,13 @@ public class MySqlHybridSplitAssigner implements MySqlSplitAssigner {
         // then transfer them
 
         boolean divideMetaToGroups = finishedSnapshotSplitInfos.size() > splitMetaGroupSize;
+        if (minBinlogOffset == null) {
+            // none of the captured tables belongs to the binlog split, it starts from the same
+            // offset as a single binlog split to capture the tables created later
+            minBinlogOffset = minBinlogOffsetOfAllTables;
+        }
         return new MySqlBinlogSplit(
-                BINLOG_SPLIT_ID,
+                binlogSplitId,
                 minBinlogOffset == null ? BinlogOffset.ofEarliest() : minBinlogOffset,
                 BinlogOffset.ofNonStopping(),
                 divideMetaToGroups ? new ArrayList<>() : finishedSnapshotSplitInfos,
@@ -32,6 +32,7 @@ import com.ververica.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSchemalessSnapshotSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges;
@@ -44,10 +45,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -71,7 +73,7 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
     private static final Logger LOG = LoggerFactory.getLogger(MySqlSnapshotSplitAssigner.class);
 
     private final List<TableId> alreadyProcessedTables;
-    private final List<MySqlSchemalessSnapshotSplit> remainingSplits;
+    private final SnapshotSplitScheduler remainingSplits;
     private final Map<String, MySqlSchemalessSnapshotSplit> assignedSplits;
     private final Map<TableId, TableChanges.TableChange> tableSchemas;
     private final Map<String, BinlogOffset> splitFinishedOffsets;
@@ -80,10 +82,24 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
     private final List<TableId> remainingTables;
     private final boolean isRemainingTablesCheckpointed;
     private final Object lock = new Object();
+    /** The tables which have been taken by a splitting thread, guarded by {@link #lock}. */
+    private final Set<TableId> splittingTables = new HashSet<>();
+    /** The chunk splitters of the additional splitting threads, their state isn't checkpointed. */
+    private final List<MySqlChunkSplitter> parallelChunkSplitters = new CopyOnWriteArrayList<>();
+    /** The schema of the main chunk splitter, also shared with others if discovered in bulk. */
+    private final MySqlSchema mySqlSchema;
+
+    private final AdaptiveChunkSizer chunkSizer;
 
     private volatile Throwable uncaughtSplitterException;
     private AssignerStatus assignerStatus;
     private MySqlChunkSplitter chunkSplitter;
+    /**
+     * The state of the checkpointed chunk splitter after its last published chunks, guarded by
+     * {@link #lock}. The chunk splitter itself runs ahead of the published chunks while splitting.
+     */
+    private ChunkSplitterState publishedChunkSplitterState;
+
     private boolean isTableIdCaseSensitive;
     private ExecutorService executor;
 
@@ -144,7 +160,9 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         this.sourceConfig = sourceConfig;
         this.currentParallelism = currentParallelism;
         this.alreadyProcessedTables = alreadyProcessedTables;
-        this.remainingSplits = new CopyOnWriteArrayList<>(remainingSplits);
+        this.remainingSplits =
+                new SnapshotSplitScheduler(
+                        sourceConfig.isSizeAwareSchedulingEnabled(), remainingSplits);
         this.assignedSplits = assignedSplits;
         this.tableSchemas = tableSchemas;
         this.splitFinishedOffsets = splitFinishedOffsets;
@@ -152,8 +170,11 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         this.remainingTables = new CopyOnWriteArrayList<>(remainingTables);
         this.isRemainingTablesCheckpointed = isRemainingTablesCheckpointed;
         this.isTableIdCaseSensitive = isTableIdCaseSensitive;
+        this.mySqlSchema = new MySqlSchema(sourceConfig, isTableIdCaseSensitive);
+        this.chunkSizer = new AdaptiveChunkSizer(sourceConfig);
         this.chunkSplitter =
-                createChunkSplitter(sourceConfig, isTableIdCaseSensitive, chunkSplitterState);
+                createChunkSplitter(sourceConfig, mySqlSchema, chunkSplitterState, chunkSizer);
+        this.publishedChunkSplitterState = chunkSplitterState;
     }
 
     @Override
@@ -161,6 +182,7 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         chunkSplitter.open();
         discoveryCaptureTables();
         captureNewlyAddedTables();
+        discoverRemainingTableSchemas();
         startAsynchronouslySplit();
     }
 
@@ -221,14 +243,48 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         }
     }
 
+    /**
+     * Discovers the schemas of all remaining tables at once before splitting them if bulk schema
+     * discovery is enabled, otherwise the chunk splitters request the schemas table by table.
+     */
+    private void discoverRemainingTableSchemas() {
+        if (sourceConfig.isBulkSchemaDiscoveryEnabled() && !remainingTables.isEmpty()) {
+            try (JdbcConnection jdbc = openJdbcConnection(sourceConfig)) {
+                mySqlSchema.getTableSchemas(jdbc, new ArrayList<>(remainingTables));
+            } catch (Exception e) {
+                throw new FlinkRuntimeException(
+                        "Failed to discover schemas of tables to capture", e);
+            }
+        }
+    }
+
     private void startAsynchronouslySplit() {
         if (chunkSplitter.hasNextChunk() || !remainingTables.isEmpty()) {
+            int splitterParallelism = sourceConfig.getChunkSplitterParallelism();
             if (executor == null) {
-                ThreadFactory threadFactory =
-                        new ThreadFactoryBuilder().setNameFormat("snapshot-splitting").build();
-                this.executor = Executors.newSingleThreadExecutor(threadFactory);
+                if (splitterParallelism > 1) {
+                    ThreadFactory threadFactory =
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("snapshot-splitting-%d")
+                                    .build();
+                    this.executor =
+                            Executors.newFixedThreadPool(splitterParallelism, threadFactory);
+                } else {
+                    ThreadFactory threadFactory =
+                            new ThreadFactoryBuilder().setNameFormat("snapshot-splitting").build();
+                    this.executor = Executors.newSingleThreadExecutor(threadFactory);
+                }
+            }
+            if (chunkSplitter.hasNextChunk()) {
+                // the table restored from checkpoint must be continued by the checkpointed splitter
+                synchronized (lock) {
+                    splittingTables.add(chunkSplitter.getCurrentSplittingTableId());
+                }
             }
             executor.submit(this::splitChunksForRemainingTables);
+            for (int i = 1; i < splitterParallelism; i++) {
+                executor.submit(this::splitRemainingTablesInParallel);
+            }
         }
     }
 
@@ -239,15 +295,15 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         boolean hasRecordSchema = false;
         // split the given table into chunks (snapshot splits)
         do {
+            // query the chunks without holding the lock, so the other splitting threads and the
+            // assignment aren't blocked by the JDBC queries
+            List<MySqlSnapshotSplit> splits;
+            try {
+                splits = chunkSplitter.splitChunks(nextTable);
+            } catch (Exception e) {
+                throw new IllegalStateException("Error when splitting chunks for " + nextTable, e);
+            }
             synchronized (lock) {
-                List<MySqlSnapshotSplit> splits;
-                try {
-                    splits = chunkSplitter.splitChunks(nextTable);
-                } catch (Exception e) {
-                    throw new IllegalStateException(
-                            "Error when splitting chunks for " + nextTable, e);
-                }
-
                 if (!hasRecordSchema && !splits.isEmpty()) {
                     hasRecordSchema = true;
                     final Map<TableId, TableChanges.TableChange> tableSchema = new HashMap<>();
@@ -259,10 +315,14 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
                                 .map(MySqlSnapshotSplit::toSchemalessSnapshotSplit)
                                 .collect(Collectors.toList());
                 chunkNum += splits.size();
+                remainingSplits.setSplitCost(nextTable, chunkSplitter.estimateChunkCost(nextTable));
                 remainingSplits.addAll(schemaLessSnapshotSplits);
                 if (!chunkSplitter.hasNextChunk()) {
                     remainingTables.remove(nextTable);
                 }
+                // the checkpoint id isn't part of the splitter state, it's taken for the next
+                // checkpoint together with the chunks published above
+                publishedChunkSplitterState = chunkSplitter.snapshotState(-1L);
                 lock.notify();
             }
         } while (chunkSplitter.hasNextChunk());
@@ -274,6 +334,57 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
                 end - start);
     }
 
+    /**
+     * Splits the given table with a splitter whose state isn't checkpointed. The chunks are
+     * published together with the removal of the table from the remaining tables once the whole
+     * table is split, thus a checkpoint either contains all chunks of the table or the table as a
+     * remaining table which will be split again after restoring.
+     */
+    private void splitTableWithoutCheckpoint(MySqlChunkSplitter splitter, TableId nextTable) {
+        LOG.info("Start splitting table {} into chunks...", nextTable);
+        long start = System.currentTimeMillis();
+        List<MySqlSnapshotSplit> splits = new ArrayList<>();
+        do {
+            try {
+                splits.addAll(splitter.splitChunks(nextTable));
+            } catch (Exception e) {
+                throw new IllegalStateException("Error when splitting chunks for " + nextTable, e);
+            }
+        } while (splitter.hasNextChunk());
+
+        synchronized (lock) {
+            if (!splits.isEmpty()) {
+                tableSchemas.putAll(splits.get(0).getTableSchemas());
+            }
+            remainingSplits.setSplitCost(nextTable, splitter.estimateChunkCost(nextTable));
+            remainingSplits.addAll(
+                    splits.stream()
+                            .map(MySqlSnapshotSplit::toSchemalessSnapshotSplit)
+                            .collect(Collectors.toList()));
+            remainingTables.remove(nextTable);
+            lock.notify();
+        }
+        long end = System.currentTimeMillis();
+        LOG.info(
+                "Split table {} into {} chunks, time cost: {}ms.",
+                nextTable,
+                splits.size(),
+                end - start);
+    }
+
+    /** Takes the next remaining table which hasn't been taken by any splitting thread. */
+    @Nullable
+    private TableId takeNextTable() {
+        synchronized (lock) {
+            for (TableId table : remainingTables) {
+                if (splittingTables.add(table)) {
+                    return table;
+                }
+            }
+            return null;
+        }
+    }
+
     @Override
     public Optional<MySqlSplit> getNext() {
         waitTableDiscoveryReady();
@@ -281,9 +392,7 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
             checkSplitterErrors();
             if (!remainingSplits.isEmpty()) {
                 // return remaining splits firstly
-                Iterator<MySqlSchemalessSnapshotSplit> iterator = remainingSplits.iterator();
-                MySqlSchemalessSnapshotSplit split = iterator.next();
-                remainingSplits.remove(split);
+                MySqlSchemalessSnapshotSplit split = remainingSplits.poll();
                 assignedSplits.put(split.splitId(), split);
                 addAlreadyProcessedTablesIfNotExists(split.getTableId());
                 return Optional.of(
@@ -352,6 +461,18 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
         }
     }
 
+    @Override
+    public void onSnapshotSplitsReadStatistics(
+            Map<String, SnapshotSplitReadStatistics> splitReadStatistics) {
+        for (Map.Entry<String, SnapshotSplitReadStatistics> entry :
+                splitReadStatistics.entrySet()) {
+            MySqlSchemalessSnapshotSplit split = assignedSplits.get(entry.getKey());
+            if (split != null) {
+                chunkSizer.onSplitRead(split.getTableId(), entry.getValue());
+            }
+        }
+    }
+
     @Override
     public void addSplits(Collection<MySqlSplit> splits) {
         for (MySqlSplit split : splits) {
@@ -366,18 +487,23 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
 
     @Override
     public SnapshotPendingSplitsState snapshotState(long checkpointId) {
-        SnapshotPendingSplitsState state =
-                new SnapshotPendingSplitsState(
-                        alreadyProcessedTables,
-                        remainingSplits,
-                        assignedSplits,
-                        tableSchemas,
-                        splitFinishedOffsets,
-                        assignerStatus,
-                        remainingTables,
-                        isTableIdCaseSensitive,
-                        true,
-                        chunkSplitter.snapshotState(checkpointId));
+        SnapshotPendingSplitsState state;
+        // the splitting threads publish chunks and finished tables under the lock, take a
+        // consistent view of them
+        synchronized (lock) {
+            state =
+                    new SnapshotPendingSplitsState(
+                            alreadyProcessedTables,
+                            remainingSplits.toList(),
+                            assignedSplits,
+                            tableSchemas,
+                            splitFinishedOffsets,
+                            assignerStatus,
+                            new ArrayList<>(remainingTables),
+                            isTableIdCaseSensitive,
+                            true,
+                            publishedChunkSplitterState);
+        }
         // we need a complete checkpoint before mark this assigner to be finished, to wait for
         // all records of snapshot splits are completely processed
         if (checkpointIdToFinish == null
@@ -435,6 +561,13 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
                 LOG.warn("Fail to close the chunk splitter.");
             }
         }
+        for (MySqlChunkSplitter splitter : parallelChunkSplitters) {
+            try {
+                splitter.close();
+            } catch (Exception e) {
+                LOG.warn("Fail to close the chunk splitter.");
+            }
+        }
     }
 
     private void closeExecutorService() {
@@ -506,19 +639,51 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
             }
 
             // split the remaining tables
-            for (TableId nextTable : remainingTables) {
+            TableId nextTable;
+            while ((nextTable = takeNextTable()) != null) {
                 splitTable(nextTable);
             }
         } catch (Throwable e) {
-            synchronized (lock) {
-                if (uncaughtSplitterException == null) {
-                    uncaughtSplitterException = e;
-                } else {
-                    uncaughtSplitterException.addSuppressed(e);
+            onSplitterError(e);
+        }
+    }
+
+    private void splitRemainingTablesInParallel() {
+        try {
+            MySqlChunkSplitter splitter =
+                    createChunkSplitter(
+                            sourceConfig,
+                            sourceConfig.isBulkSchemaDiscoveryEnabled()
+                                    ? mySqlSchema
+                                    : new MySqlSchema(sourceConfig, isTableIdCaseSensitive),
+                            NO_SPLITTING_TABLE_STATE,
+                            chunkSizer);
+            parallelChunkSplitters.add(splitter);
+            try {
+                splitter.open();
+                TableId nextTable;
+                while ((nextTable = takeNextTable()) != null) {
+                    splitTableWithoutCheckpoint(splitter, nextTable);
                 }
-                // Release the potential waiting getNext() call
-                lock.notify();
+            } finally {
+                // release the JDBC connection as soon as there is no more table to split
+                parallelChunkSplitters.remove(splitter);
+                splitter.close();
             }
+        } catch (Throwable e) {
+            onSplitterError(e);
+        }
+    }
+
+    private void onSplitterError(Throwable e) {
+        synchronized (lock) {
+            if (uncaughtSplitterException == null) {
+                uncaughtSplitterException = e;
+            } else {
+                uncaughtSplitterException.addSuppressed(e);
+            }
+            // Release the potential waiting getNext() call
+            lock.notify();
         }
     }
 
@@ -531,12 +696,13 @@ public class MySqlSnapshotSplitAssigner implements MySqlSplitAssigner {
 
     private static MySqlChunkSplitter createChunkSplitter(
             MySqlSourceConfig sourceConfig,
-            boolean isTableIdCaseSensitive,
-            ChunkSplitterState chunkSplitterState) {
-        MySqlSchema mySqlSchema = new MySqlSchema(sourceConfig, isTableIdCaseSensitive);
+            MySqlSchema mySqlSchema,
+            ChunkSplitterState chunkSplitterState,
+            AdaptiveChunkSizer chunkSizer) {
         if (!NO_SPLITTING_TABLE_STATE.equals(chunkSplitterState)) {
-            return new MySqlChunkSplitter(mySqlSchema, sourceConfig, chunkSplitterState);
+            return new MySqlChunkSplitter(
+                    mySqlSchema, sourceConfig, chunkSplitterState, chunkSizer);
         }
-        return new MySqlChunkSplitter(mySqlSchema, sourceConfig);
+        return new MySqlChunkSplitter(mySqlSchema, sourceConfig, chunkSizer);
     }
 }
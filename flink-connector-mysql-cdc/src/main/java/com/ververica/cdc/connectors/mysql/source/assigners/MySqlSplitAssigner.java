@@ -22,6 +22,7 @@ import com.ververica.cdc.connectors.mysql.source.assigners.state.PendingSplitsSt
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
 
 import java.util.Collection;
 import java.util.List;
@@ -47,6 +48,14 @@ public interface MySqlSplitAssigner {
      */
     Optional<MySqlSplit> getNext();
 
+    /**
+     * Gets the next split for the given subtask. The assigner may bind some splits to a specific
+     * subtask, e.g. the binlog splits when reading binlog with multiple binlog splits.
+     */
+    default Optional<MySqlSplit> getNext(int subtaskId) {
+        return getNext();
+    }
+
     /**
      * Whether the split assigner is still waiting for callback of finished splits, i.e. {@link
      * #onFinishedSplits(Map)}.
@@ -65,6 +74,13 @@ public interface MySqlSplitAssigner {
      */
     void onFinishedSplits(Map<String, BinlogOffset> splitFinishedOffsets);
 
+    /**
+     * Callback to handle the read statistics of the finished snapshot splits. This is useful for
+     * sizing the chunks of the tables which have not been split yet.
+     */
+    default void onSnapshotSplitsReadStatistics(
+            Map<String, SnapshotSplitReadStatistics> splitReadStatistics) {}
+
     /**
      * Adds a set of splits to this assigner. This happens for example when some split processing
      * failed and the splits need to be re-added.
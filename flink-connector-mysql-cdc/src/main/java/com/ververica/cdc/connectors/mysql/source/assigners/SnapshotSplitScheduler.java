@@ -0,0 +1,182 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.assigners;
+
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSchemalessSnapshotSplit;
+import io.debezium.relational.TableId;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The remaining snapshot splits of the {@link MySqlSnapshotSplitAssigner}, which decides the order
+ * the splits are assigned in.
+ *
+ * <p>By default, the splits are assigned in the order they are added. When size-aware scheduling is
+ * enabled, the splits are queued per table and the next split is always taken from the table with
+ * the largest estimated remaining cost, i.e. the number of remaining splits multiplied by the
+ * estimated cost of a split of the table. The splits of the largest table are therefore assigned
+ * first, and its splits are interleaved with the splits of the other tables once its remaining cost
+ * drops to theirs, which avoids a long tail of a large table read by a single reader at the end of
+ * the snapshot phase.
+ *
+ * <p>The scheduler is accessed by the splitting threads and the enumerator thread, so all methods
+ * are synchronized.
+ *
+ * @see
+ *     com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED
+ */
+public class SnapshotSplitScheduler {
+
+    /** The estimated cost of a split whose table cost is unknown, e.g. restored from state. */
+    private static final long DEFAULT_SPLIT_COST = 1L;
+
+    private final boolean sizeAware;
+
+    /** The queue of all splits if not size-aware, or the queues of every table. */
+    private final Map<TableId, TableQueue> tableQueues = new LinkedHashMap<>();
+
+    /** The non-empty table queues, ordered by the estimated remaining cost descending. */
+    private final TreeSet<TableQueue> scheduledQueues =
+            new TreeSet<>(
+                    Comparator.comparingLong(TableQueue::remainingCost)
+                            .reversed()
+                            .thenComparingLong(queue -> queue.sequence));
+
+    private final Map<TableId, Long> splitCosts = new HashMap<>();
+
+    private long nextSequence;
+    private int size;
+
+    public SnapshotSplitScheduler(boolean sizeAware) {
+        this.sizeAware = sizeAware;
+    }
+
+    public SnapshotSplitScheduler(
+            boolean sizeAware, Collection<MySqlSchemalessSnapshotSplit> remainingSplits) {
+        this(sizeAware);
+        addAll(remainingSplits);
+    }
+
+    /**
+     * Sets the estimated cost of a split of the given table, e.g. the chunk size multiplied by the
+     * average row length. This only affects the order of size-aware scheduling.
+     */
+    public synchronized void setSplitCost(TableId tableId, long splitCost) {
+        if (!sizeAware) {
+            return;
+        }
+        long cost = Math.max(DEFAULT_SPLIT_COST, splitCost);
+        splitCosts.put(tableId, cost);
+        TableQueue queue = tableQueues.get(tableId);
+        if (queue != null) {
+            boolean scheduled = scheduledQueues.remove(queue);
+            queue.splitCost = cost;
+            if (scheduled) {
+                scheduledQueues.add(queue);
+            }
+        }
+    }
+
+    public synchronized void add(MySqlSchemalessSnapshotSplit split) {
+        TableQueue queue = getOrCreateQueue(split.getTableId());
+        scheduledQueues.remove(queue);
+        queue.splits.addLast(split);
+        scheduledQueues.add(queue);
+        size++;
+    }
+
+    public synchronized void addAll(Collection<MySqlSchemalessSnapshotSplit> splits) {
+        for (MySqlSchemalessSnapshotSplit split : splits) {
+            add(split);
+        }
+    }
+
+    /** Takes the next split to assign, returns null if there is no remaining split. */
+    @Nullable
+    public synchronized MySqlSchemalessSnapshotSplit poll() {
+        TableQueue queue = scheduledQueues.pollFirst();
+        if (queue == null) {
+            return null;
+        }
+        MySqlSchemalessSnapshotSplit split = queue.splits.pollFirst();
+        if (!queue.splits.isEmpty()) {
+            scheduledQueues.add(queue);
+        }
+        size--;
+        return split;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /** Returns the remaining splits in the order they were added to the scheduler per table. */
+    public synchronized List<MySqlSchemalessSnapshotSplit> toList() {
+        List<MySqlSchemalessSnapshotSplit> splits = new ArrayList<>(size);
+        for (TableQueue queue : tableQueues.values()) {
+            splits.addAll(queue.splits);
+        }
+        return splits;
+    }
+
+    private TableQueue getOrCreateQueue(TableId tableId) {
+        // all splits share a single queue if not size-aware
+        TableId queueKey = sizeAware ? tableId : null;
+        return tableQueues.computeIfAbsent(
+                queueKey,
+                key ->
+                        new TableQueue(
+                                nextSequence++,
+                                key == null
+                                        ? DEFAULT_SPLIT_COST
+                                        : splitCosts.getOrDefault(key, DEFAULT_SPLIT_COST)));
+    }
+
+    /** The remaining splits of a table. */
+    private static class TableQueue {
+        private final long sequence;
+        private final Deque<MySqlSchemalessSnapshotSplit> splits = new ArrayDeque<>();
+        private long splitCost;
+
+        private TableQueue(long sequence, long splitCost) {
+            this.sequence = sequence;
+            this.splitCost = splitCost;
+        }
+
+        private long remainingCost() {
+            long remainingSplits = splits.size();
+            return remainingSplits > Long.MAX_VALUE / splitCost
+                    ? Long.MAX_VALUE
+                    : remainingSplits * splitCost;
+        }
+    }
+}
@@ -16,19 +16,35 @@
 
 package com.ververica.cdc.connectors.mysql.source.assigners.state;
 
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
+
+import static com.ververica.cdc.connectors.mysql.source.assigners.MySqlBinlogSplitAssigner.BINLOG_SPLIT_ID;
 
 /** A {@link PendingSplitsState} for pending binlog splits. */
 public class BinlogPendingSplitsState extends PendingSplitsState {
 
-    private final boolean isBinlogSplitAssigned;
+    private final Set<String> assignedBinlogSplits;
 
     public BinlogPendingSplitsState(boolean isBinlogSplitAssigned) {
-        this.isBinlogSplitAssigned = isBinlogSplitAssigned;
+        this(
+                isBinlogSplitAssigned
+                        ? Collections.singleton(BINLOG_SPLIT_ID)
+                        : Collections.emptySet());
+    }
+
+    public BinlogPendingSplitsState(Set<String> assignedBinlogSplits) {
+        this.assignedBinlogSplits = assignedBinlogSplits;
     }
 
     public boolean isBinlogSplitAssigned() {
-        return isBinlogSplitAssigned;
+        return !assignedBinlogSplits.isEmpty();
+    }
+
+    /** The ids of the binlog splits which have been assigned. */
+    public Set<String> getAssignedBinlogSplits() {
+        return assignedBinlogSplits;
     }
 
     @Override
@@ -40,16 +56,16 @@ public class BinlogPendingSplitsState extends PendingSplitsState {
             return false;
         }
         BinlogPendingSplitsState that = (BinlogPendingSplitsState) o;
-        return isBinlogSplitAssigned == that.isBinlogSplitAssigned;
+        return Objects.equals(assignedBinlogSplits, that.assignedBinlogSplits);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(isBinlogSplitAssigned);
+        return Objects.hash(assignedBinlogSplits);
     }
 
     @Override
     public String toString() {
-        return "BinlogPendingSplitsState{" + "isBinlogSplitAssigned=" + isBinlogSplitAssigned + '}';
+        return "BinlogPendingSplitsState{" + "assignedBinlogSplits=" + assignedBinlogSplits + '}';
     }
 }
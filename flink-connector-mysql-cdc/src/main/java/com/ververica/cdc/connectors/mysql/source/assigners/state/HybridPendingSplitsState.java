@@ -16,17 +16,30 @@
 
 package com.ververica.cdc.connectors.mysql.source.assigners.state;
 
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
+
+import static com.ververica.cdc.connectors.mysql.source.assigners.MySqlBinlogSplitAssigner.BINLOG_SPLIT_ID;
 
 /** A {@link PendingSplitsState} for pending hybrid (snapshot & binlog) splits. */
 public class HybridPendingSplitsState extends PendingSplitsState {
     private final SnapshotPendingSplitsState snapshotPendingSplits;
-    private final boolean isBinlogSplitAssigned;
+    private final Set<String> assignedBinlogSplits;
 
     public HybridPendingSplitsState(
             SnapshotPendingSplitsState snapshotPendingSplits, boolean isBinlogSplitAssigned) {
+        this(
+                snapshotPendingSplits,
+                isBinlogSplitAssigned
+                        ? Collections.singleton(BINLOG_SPLIT_ID)
+                        : Collections.emptySet());
+    }
+
+    public HybridPendingSplitsState(
+            SnapshotPendingSplitsState snapshotPendingSplits, Set<String> assignedBinlogSplits) {
         this.snapshotPendingSplits = snapshotPendingSplits;
-        this.isBinlogSplitAssigned = isBinlogSplitAssigned;
+        this.assignedBinlogSplits = assignedBinlogSplits;
     }
 
     public SnapshotPendingSplitsState getSnapshotPendingSplits() {
@@ -34,7 +47,12 @@ public class HybridPendingSplitsState extends PendingSplitsState {
     }
 
     public boolean isBinlogSplitAssigned() {
-        return isBinlogSplitAssigned;
+        return !assignedBinlogSplits.isEmpty();
+    }
+
+    /** The ids of the binlog splits which have been assigned. */
+    public Set<String> getAssignedBinlogSplits() {
+        return assignedBinlogSplits;
     }
 
     @Override
@@ -46,13 +64,13 @@ public class HybridPendingSplitsState extends PendingSplitsState {
             return false;
         }
         HybridPendingSplitsState that = (HybridPendingSplitsState) o;
-        return isBinlogSplitAssigned == that.isBinlogSplitAssigned
+        return Objects.equals(assignedBinlogSplits, that.assignedBinlogSplits)
                 && Objects.equals(snapshotPendingSplits, that.snapshotPendingSplits);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(snapshotPendingSplits, isBinlogSplitAssigned);
+        return Objects.hash(snapshotPendingSplits, assignedBinlogSplits);
     }
 
     @Override
@@ -60,8 +78,8 @@ public class HybridPendingSplitsState extends PendingSplitsState {
         return "HybridPendingSplitsState{"
                 + "snapshotPendingSplits="
                 + snapshotPendingSplits
-                + ", isBinlogSplitAssigned="
-                + isBinlogSplitAssigned
+                + ", assignedBinlogSplits="
+                + assignedBinlogSplits
                 + '}';
     }
 }
@@ -32,8 +32,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.ververica.cdc.connectors.mysql.source.assigners.state.ChunkSplitterState.NO_SPLITTING_TABLE_STATE;
 import static com.ververica.cdc.connectors.mysql.source.split.MySqlSplitSerializer.readTableSchemas;
@@ -49,7 +51,7 @@ import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.wr
  */
 public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<PendingSplitsState> {
 
-    private static final int VERSION = 5;
+    private static final int VERSION = 6;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -109,6 +111,7 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
             case 3:
             case 4:
             case 5:
+            case 6:
                 return deserializePendingSplitsState(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
@@ -125,7 +128,7 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         } else if (stateFlag == HYBRID_PENDING_SPLITS_STATE_FLAG) {
             return deserializeLegacyHybridPendingSplitsState(splitVersion, in);
         } else if (stateFlag == BINLOG_PENDING_SPLITS_STATE_FLAG) {
-            return deserializeBinlogPendingSplitsState(in);
+            return deserializeLegacyBinlogPendingSplitsState(in);
         } else {
             throw new IOException(
                     "Unsupported to deserialize PendingSplitsState flag: " + stateFlag);
@@ -142,7 +145,7 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         } else if (stateFlag == HYBRID_PENDING_SPLITS_STATE_FLAG) {
             return deserializeHybridPendingSplitsState(version, splitVersion, in);
         } else if (stateFlag == BINLOG_PENDING_SPLITS_STATE_FLAG) {
-            return deserializeBinlogPendingSplitsState(in);
+            return deserializeBinlogPendingSplitsState(version, in);
         } else {
             throw new IOException(
                     "Unsupported to deserialize PendingSplitsState flag: " + stateFlag);
@@ -181,11 +184,13 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
             HybridPendingSplitsState state, DataOutputSerializer out) throws IOException {
         serializeSnapshotPendingSplitsState(state.getSnapshotPendingSplits(), out);
         out.writeBoolean(state.isBinlogSplitAssigned());
+        writeAssignedBinlogSplits(state.getAssignedBinlogSplits(), out);
     }
 
     private void serializeBinlogPendingSplitsState(
             BinlogPendingSplitsState state, DataOutputSerializer out) throws IOException {
         out.writeBoolean(state.isBinlogSplitAssigned());
+        writeAssignedBinlogSplits(state.getAssignedBinlogSplits(), out);
     }
 
     // ------------------------------------------------------------------------------------------
@@ -321,14 +326,27 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         SnapshotPendingSplitsState snapshotPendingSplitsState =
                 deserializeSnapshotPendingSplitsState(version, splitVersion, in);
         boolean isBinlogSplitAssigned = in.readBoolean();
+        if (version >= 6) {
+            return new HybridPendingSplitsState(
+                    snapshotPendingSplitsState, readAssignedBinlogSplits(in));
+        }
         return new HybridPendingSplitsState(snapshotPendingSplitsState, isBinlogSplitAssigned);
     }
 
-    private BinlogPendingSplitsState deserializeBinlogPendingSplitsState(DataInputDeserializer in)
-            throws IOException {
+    private BinlogPendingSplitsState deserializeLegacyBinlogPendingSplitsState(
+            DataInputDeserializer in) throws IOException {
         return new BinlogPendingSplitsState(in.readBoolean());
     }
 
+    private BinlogPendingSplitsState deserializeBinlogPendingSplitsState(
+            int version, DataInputDeserializer in) throws IOException {
+        boolean isBinlogSplitAssigned = in.readBoolean();
+        if (version >= 6) {
+            return new BinlogPendingSplitsState(readAssignedBinlogSplits(in));
+        }
+        return new BinlogPendingSplitsState(isBinlogSplitAssigned);
+    }
+
     // ------------------------------------------------------------------------------------------
     // Utilities
     // ------------------------------------------------------------------------------------------
@@ -419,6 +437,23 @@ public class PendingSplitsStateSerializer implements SimpleVersionedSerializer<P
         }
     }
 
+    private void writeAssignedBinlogSplits(
+            Collection<String> assignedBinlogSplits, DataOutputSerializer out) throws IOException {
+        out.writeInt(assignedBinlogSplits.size());
+        for (String splitId : assignedBinlogSplits) {
+            out.writeUTF(splitId);
+        }
+    }
+
+    private Set<String> readAssignedBinlogSplits(DataInputDeserializer in) throws IOException {
+        Set<String> assignedBinlogSplits = new HashSet<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            assignedBinlogSplits.add(in.readUTF());
+        }
+        return assignedBinlogSplits;
+    }
+
     private List<TableId> readTableIds(DataInputDeserializer in) throws IOException {
         List<TableId> tableIds = new ArrayList<>();
         final int size = in.readInt();
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.config;
+
+/**
+ * The strategy to compute the chunk boundaries of a table whose chunk key column is not evenly
+ * distributed.
+ *
+ * @see MySqlSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_CHUNK_STRATEGY
+ */
+public enum ChunkSplitStrategy {
+
+    /**
+     * Queries the end of every chunk from the chunk key index, which costs one query for each
+     * chunk.
+     */
+    QUERY("query"),
+
+    /**
+     * Computes the ends of all chunks from a random sample of the chunk key column, which costs one
+     * query for the whole table, but the chunk sizes are only approximately the chunk size.
+     */
+    SAMPLING("sampling");
+
+    private final String value;
+
+    ChunkSplitStrategy(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ChunkSplitStrategy fromValue(String value) {
+        for (ChunkSplitStrategy strategy : values()) {
+            if (strategy.value.equalsIgnoreCase(value)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException(
+                String.format(
+                        "Invalid value for option '%s'. Supported values are [%s, %s], but was: %s",
+                        MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_STRATEGY.key(),
+                        QUERY.value,
+                        SAMPLING.value,
+                        value));
+    }
+}
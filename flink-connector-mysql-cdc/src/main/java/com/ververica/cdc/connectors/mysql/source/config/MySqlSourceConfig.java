@@ -56,6 +56,19 @@ public class MySqlSourceConfig implements Serializable {
     private final boolean scanNewlyAddedTableEnabled;
     private final Properties jdbcProperties;
     @Nullable private final String chunkKeyColumn;
+    private final int chunkSpillThreshold;
+    private final boolean sharedBackfillCursorEnabled;
+    private final int chunkSplitterParallelism;
+    private final ChunkSplitStrategy chunkSplitStrategy;
+    private final boolean bulkSchemaDiscoveryEnabled;
+    @Nullable private final String schemaCacheDir;
+    private final int binlogDeserializationParallelism;
+    private final int binlogSplitNumber;
+    @Nullable private final Long chunkTargetBytes;
+    @Nullable private final Duration chunkTargetReadTime;
+    private final boolean sizeAwareSchedulingEnabled;
+    private final int prefetchSplits;
+    private final int snapshotReaderConcurrency;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -86,7 +99,20 @@ public class MySqlSourceConfig implements Serializable {
             boolean scanNewlyAddedTableEnabled,
             Properties dbzProperties,
             Properties jdbcProperties,
-            @Nullable String chunkKeyColumn) {
+            @Nullable String chunkKeyColumn,
+            int chunkSpillThreshold,
+            boolean sharedBackfillCursorEnabled,
+            int chunkSplitterParallelism,
+            ChunkSplitStrategy chunkSplitStrategy,
+            boolean bulkSchemaDiscoveryEnabled,
+            @Nullable String schemaCacheDir,
+            int binlogDeserializationParallelism,
+            int binlogSplitNumber,
+            @Nullable Long chunkTargetBytes,
+            @Nullable Duration chunkTargetReadTime,
+            boolean sizeAwareSchedulingEnabled,
+            int prefetchSplits,
+            int snapshotReaderConcurrency) {
         this.hostname = checkNotNull(hostname);
         this.port = port;
         this.username = checkNotNull(username);
@@ -111,6 +137,19 @@ public class MySqlSourceConfig implements Serializable {
         this.dbzMySqlConfig = new MySqlConnectorConfig(dbzConfiguration);
         this.jdbcProperties = jdbcProperties;
         this.chunkKeyColumn = chunkKeyColumn;
+        this.chunkSpillThreshold = chunkSpillThreshold;
+        this.sharedBackfillCursorEnabled = sharedBackfillCursorEnabled;
+        this.chunkSplitterParallelism = chunkSplitterParallelism;
+        this.chunkSplitStrategy = chunkSplitStrategy;
+        this.bulkSchemaDiscoveryEnabled = bulkSchemaDiscoveryEnabled;
+        this.schemaCacheDir = schemaCacheDir;
+        this.binlogDeserializationParallelism = binlogDeserializationParallelism;
+        this.binlogSplitNumber = binlogSplitNumber;
+        this.chunkTargetBytes = chunkTargetBytes;
+        this.chunkTargetReadTime = chunkTargetReadTime;
+        this.sizeAwareSchedulingEnabled = sizeAwareSchedulingEnabled;
+        this.prefetchSplits = prefetchSplits;
+        this.snapshotReaderConcurrency = snapshotReaderConcurrency;
     }
 
     public String getHostname() {
@@ -214,4 +253,59 @@ public class MySqlSourceConfig implements Serializable {
     public String getChunkKeyColumn() {
         return chunkKeyColumn;
     }
+
+    public int getChunkSpillThreshold() {
+        return chunkSpillThreshold;
+    }
+
+    public boolean isSharedBackfillCursorEnabled() {
+        return sharedBackfillCursorEnabled;
+    }
+
+    public int getChunkSplitterParallelism() {
+        return chunkSplitterParallelism;
+    }
+
+    public ChunkSplitStrategy getChunkSplitStrategy() {
+        return chunkSplitStrategy;
+    }
+
+    public boolean isBulkSchemaDiscoveryEnabled() {
+        return bulkSchemaDiscoveryEnabled;
+    }
+
+    @Nullable
+    public String getSchemaCacheDir() {
+        return schemaCacheDir;
+    }
+
+    public int getBinlogDeserializationParallelism() {
+        return binlogDeserializationParallelism;
+    }
+
+    public int getBinlogSplitNumber() {
+        return binlogSplitNumber;
+    }
+
+    @Nullable
+    public Long getChunkTargetBytes() {
+        return chunkTargetBytes;
+    }
+
+    @Nullable
+    public Duration getChunkTargetReadTime() {
+        return chunkTargetReadTime;
+    }
+
+    public boolean isSizeAwareSchedulingEnabled() {
+        return sizeAwareSchedulingEnabled;
+    }
+
+    public int getPrefetchSplits() {
+        return prefetchSplits;
+    }
+
+    public int getSnapshotReaderConcurrency() {
+        return snapshotReaderConcurrency;
+    }
 }
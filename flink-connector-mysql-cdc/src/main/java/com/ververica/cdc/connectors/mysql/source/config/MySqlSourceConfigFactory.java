@@ -19,6 +19,7 @@ package com.ververica.cdc.connectors.mysql.source.config;
 import org.apache.flink.annotation.Internal;
 
 import com.ververica.cdc.connectors.mysql.debezium.EmbeddedFlinkDatabaseHistory;
+import com.ververica.cdc.connectors.mysql.debezium.binlog.BinlogDeserializationPipeline;
 import com.ververica.cdc.connectors.mysql.source.MySqlSource;
 import com.ververica.cdc.connectors.mysql.table.StartupOptions;
 
@@ -37,7 +38,17 @@ import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOption
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.CONNECT_MAX_RETRIES;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.CONNECT_TIMEOUT;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.HEARTBEAT_INTERVAL;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_DESERIALIZATION_PARALLELISM;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_SPLIT_NUMBER;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BULK_SCHEMA_DISCOVERY_ENABLED;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_STRATEGY;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
@@ -72,6 +83,26 @@ public class MySqlSourceConfigFactory implements Serializable {
     private Duration heartbeatInterval = HEARTBEAT_INTERVAL.defaultValue();
     private Properties dbzProperties;
     private String chunkKeyColumn;
+    private int chunkSpillThreshold =
+            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue();
+    private boolean sharedBackfillCursorEnabled =
+            SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue();
+    private int chunkSplitterParallelism =
+            SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue();
+    private ChunkSplitStrategy chunkSplitStrategy =
+            ChunkSplitStrategy.fromValue(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_STRATEGY.defaultValue());
+    private boolean bulkSchemaDiscoveryEnabled = SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue();
+    private String schemaCacheDir;
+    private int binlogDeserializationParallelism =
+            SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue();
+    private int binlogSplitNumber = SCAN_BINLOG_SPLIT_NUMBER.defaultValue();
+    private Long chunkTargetBytes;
+    private Duration chunkTargetReadTime;
+    private boolean sizeAwareSchedulingEnabled =
+            SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue();
+    private int prefetchSplits = SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue();
+    private int snapshotReaderConcurrency =
+            SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue();
 
     public MySqlSourceConfigFactory hostname(String hostname) {
         this.hostname = hostname;
@@ -248,6 +279,120 @@ public class MySqlSourceConfigFactory implements Serializable {
         return this;
     }
 
+    /**
+     * The max number of records of a snapshot chunk that are buffered in memory, the records beyond
+     * the threshold are spilled to local disk. The threshold counts rows, not bytes. Non-positive
+     * value disables spilling.
+     */
+    public MySqlSourceConfigFactory chunkSpillThreshold(int chunkSpillThreshold) {
+        this.chunkSpillThreshold = chunkSpillThreshold;
+        return this;
+    }
+
+    /**
+     * Whether to read the backfill binlog of consecutive snapshot chunks from one shared binlog
+     * connection, false by default.
+     */
+    public MySqlSourceConfigFactory sharedBackfillCursorEnabled(
+            boolean sharedBackfillCursorEnabled) {
+        this.sharedBackfillCursorEnabled = sharedBackfillCursorEnabled;
+        return this;
+    }
+
+    /**
+     * The number of threads used to compute the chunk boundaries of tables concurrently, each
+     * thread splits different tables, 1 by default.
+     */
+    public MySqlSourceConfigFactory chunkSplitterParallelism(int chunkSplitterParallelism) {
+        this.chunkSplitterParallelism = chunkSplitterParallelism;
+        return this;
+    }
+
+    /**
+     * The strategy to compute the chunk boundaries of a table whose chunk key column is not evenly
+     * distributed, {@link ChunkSplitStrategy#QUERY} by default.
+     */
+    public MySqlSourceConfigFactory chunkSplitStrategy(ChunkSplitStrategy chunkSplitStrategy) {
+        this.chunkSplitStrategy = chunkSplitStrategy;
+        return this;
+    }
+
+    /**
+     * Whether to discover the schemas of the captured tables from information_schema in bulk, false
+     * by default.
+     */
+    public MySqlSourceConfigFactory bulkSchemaDiscoveryEnabled(boolean bulkSchemaDiscoveryEnabled) {
+        this.bulkSchemaDiscoveryEnabled = bulkSchemaDiscoveryEnabled;
+        return this;
+    }
+
+    /** Optional local directory to cache the table schemas discovered in bulk. */
+    public MySqlSourceConfigFactory schemaCacheDir(String schemaCacheDir) {
+        this.schemaCacheDir = schemaCacheDir;
+        return this;
+    }
+
+    /**
+     * The number of threads used to decode the row images of binlog events in parallel, 1 by
+     * default which means the events are decoded by the binlog client thread.
+     */
+    public MySqlSourceConfigFactory binlogDeserializationParallelism(
+            int binlogDeserializationParallelism) {
+        this.binlogDeserializationParallelism = binlogDeserializationParallelism;
+        return this;
+    }
+
+    /**
+     * The number of binlog splits to read the binlog in parallel, every binlog split reads a hash
+     * partition of the captured tables on its own subtask, 1 by default.
+     */
+    public MySqlSourceConfigFactory binlogSplitNumber(int binlogSplitNumber) {
+        this.binlogSplitNumber = binlogSplitNumber;
+        return this;
+    }
+
+    /**
+     * Optional target size in bytes of the chunks of table snapshot, the chunk size of every table
+     * is derived from it and the average row length of the table.
+     */
+    public MySqlSourceConfigFactory chunkTargetBytes(Long chunkTargetBytes) {
+        this.chunkTargetBytes = chunkTargetBytes;
+        return this;
+    }
+
+    /**
+     * Optional target time to read a chunk of table snapshot, the chunk size is derived from it and
+     * the read throughput of the finished chunks.
+     */
+    public MySqlSourceConfigFactory chunkTargetReadTime(Duration chunkTargetReadTime) {
+        this.chunkTargetReadTime = chunkTargetReadTime;
+        return this;
+    }
+
+    /**
+     * Whether to assign the snapshot splits by their estimated cost, i.e. the splits of the table
+     * with the largest estimated remaining cost first.
+     */
+    public MySqlSourceConfigFactory sizeAwareSchedulingEnabled(boolean sizeAwareSchedulingEnabled) {
+        this.sizeAwareSchedulingEnabled = sizeAwareSchedulingEnabled;
+        return this;
+    }
+
+    /**
+     * The number of snapshot splits that every source reader requests ahead from the enumerator, 1
+     * by default.
+     */
+    public MySqlSourceConfigFactory prefetchSplits(int prefetchSplits) {
+        this.prefetchSplits = prefetchSplits;
+        return this;
+    }
+
+    /** The number of snapshot splits that every source reader reads concurrently, 1 by default. */
+    public MySqlSourceConfigFactory snapshotReaderConcurrency(int snapshotReaderConcurrency) {
+        this.snapshotReaderConcurrency = snapshotReaderConcurrency;
+        return this;
+    }
+
     /** Creates a new {@link MySqlSourceConfig} for the given subtask {@code subtaskId}. */
     public MySqlSourceConfig createConfig(int subtaskId) {
         Properties props = new Properties();
@@ -286,6 +431,9 @@ public class MySqlSourceConfigFactory implements Serializable {
         // but it'll cause lose of precise when the value is larger than 2^63,
         // so use "precise" mode to avoid it.
         props.put("bigint.unsigned.handling.mode", "precise");
+        props.setProperty(
+                BinlogDeserializationPipeline.PARALLELISM_KEY,
+                String.valueOf(binlogDeserializationParallelism));
 
         if (serverIdRange != null) {
             int serverId = serverIdRange.getServerId(subtaskId);
@@ -332,6 +480,19 @@ public class MySqlSourceConfigFactory implements Serializable {
                 scanNewlyAddedTableEnabled,
                 props,
                 jdbcProperties,
-                chunkKeyColumn);
+                chunkKeyColumn,
+                chunkSpillThreshold,
+                sharedBackfillCursorEnabled,
+                chunkSplitterParallelism,
+                chunkSplitStrategy,
+                bulkSchemaDiscoveryEnabled,
+                schemaCacheDir,
+                binlogDeserializationParallelism,
+                binlogSplitNumber,
+                chunkTargetBytes,
+                chunkTargetReadTime,
+                sizeAwareSchedulingEnabled,
+                prefetchSplits,
+                snapshotReaderConcurrency);
     }
 }
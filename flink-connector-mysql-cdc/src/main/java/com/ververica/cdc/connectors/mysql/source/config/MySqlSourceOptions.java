@@ -245,4 +245,167 @@ public class MySqlSourceOptions {
                             "The chunk key of table snapshot, captured tables are split into multiple chunks by a chunk key when read the snapshot of table."
                                     + "By default, the chunk key is the first column of the primary key."
                                     + "This column must be a column of the primary key.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.spill-threshold")
+                    .intType()
+                    .defaultValue(-1)
+                    .withDescription(
+                            "The max number of records of a snapshot chunk that are buffered in memory when read the snapshot of table."
+                                    + " The threshold counts rows rather than bytes, so it should be lower for tables with wide rows."
+                                    + " The chunk records beyond the threshold are spilled to the temporary directories of the TaskManager ('io.tmp.dirs')"
+                                    + " and read back when the chunk is emitted,"
+                                    + " which bounds the memory used by chunks with wide rows or a large chunk size."
+                                    + " By default, the value is -1 which means the chunk is always buffered in memory.");
+
+    @Experimental
+    public static final ConfigOption<Boolean>
+            SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED =
+                    ConfigOptions.key("scan.incremental.snapshot.backfill.shared-cursor.enabled")
+                            .booleanType()
+                            .defaultValue(false)
+                            .withDescription(
+                                    "Whether to read the backfill binlog of consecutive snapshot chunks from one shared binlog connection."
+                                            + " When enabled, every source reader keeps a binlog cursor connected during the snapshot phase,"
+                                            + " which serves the backfill binlog of the chunks it reads from one forward-moving binlog stream"
+                                            + " instead of starting a new binlog connection for every chunk.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.splitter-parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads used by the split enumerator to compute the chunk boundaries of tables concurrently,"
+                                    + " each thread uses its own jdbc connection and splits different tables."
+                                    + " Only the table split by the first thread is checkpointed while being split,"
+                                    + " the tables being split by other threads are split again after a failover."
+                                    + " By default, the value is 1 which means tables are split one by one.");
+
+    @Experimental
+    public static final ConfigOption<String> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_STRATEGY =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.strategy")
+                    .stringType()
+                    .defaultValue("query")
+                    .withDescription(
+                            "The strategy to compute the chunk boundaries of a table whose chunk key column is not evenly distributed,"
+                                    + " valid enumerations are \"query\" and \"sampling\"."
+                                    + " The \"query\" strategy queries the end of every chunk from the chunk key index one by one,"
+                                    + " which produces exactly sized chunks but costs one query per chunk."
+                                    + " The \"sampling\" strategy computes the ends of all chunks from a random sample of the chunk key column in one query,"
+                                    + " which is much faster for large tables but only produces approximately sized chunks."
+                                    + " The evenly distributed tables are always split by the min and max value of the chunk key column.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SCAN_OBJECT_REUSE_ENABLED =
+            ConfigOptions.key("scan.object-reuse.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to reuse the row objects produced by the source across change records,"
+                                    + " which lowers the allocation rate of the source."
+                                    + " It should only be enabled when the object reuse of the pipeline ('pipeline.object-reuse') is enabled,"
+                                    + " otherwise the downstream operators may see the rows modified by later records.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> SCAN_BULK_SCHEMA_DISCOVERY_ENABLED =
+            ConfigOptions.key("scan.bulk-schema-discovery.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to discover the schemas of the captured tables in bulk."
+                                    + " When enabled, the column and primary key metadata of all captured tables is read from information_schema in a few paged queries"
+                                    + " instead of running one 'SHOW CREATE TABLE' per table, which speeds up the discovery of thousands of tables."
+                                    + " The tables having columns whose default value is an expression are still discovered by 'SHOW CREATE TABLE'.");
+
+    @Experimental
+    public static final ConfigOption<String> SCAN_BULK_SCHEMA_DISCOVERY_CACHE_DIR =
+            ConfigOptions.key("scan.bulk-schema-discovery.cache-dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Optional local directory to cache the table schemas discovered in bulk."
+                                    + " The cached schemas are keyed by the table and the hash of its definition,"
+                                    + " so a restarted job only parses the definitions of the tables that have been changed.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_BINLOG_DESERIALIZATION_PARALLELISM =
+            ConfigOptions.key("scan.binlog.deserialization.parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads used to decode the row images of binlog events."
+                                    + " When larger than 1, the binlog client thread only frames the events read from the socket,"
+                                    + " the rows events are decoded by a pool of threads in parallel and handled in the original binlog order afterwards."
+                                    + " By default, the value is 1 which means all events are decoded by the binlog client thread.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_BINLOG_SPLIT_NUMBER =
+            ConfigOptions.key("scan.binlog.split.number")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of binlog splits to read the binlog in parallel. When larger than 1, the captured tables are partitioned by the hash of the table identifier,"
+                                    + " every binlog split is read by its own source subtask with a distinct server id and only emits the changes of its partition of tables."
+                                    + " The schema change events are only emitted by the first binlog split."
+                                    + " The number must not be larger than the source parallelism and can't be used together with 'scan.newly-added-table.enabled'."
+                                    + " By default, the value is 1 which means all tables are read by a single binlog split.");
+
+    @Experimental
+    public static final ConfigOption<Long> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_BYTES =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.target-bytes")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Optional target size in bytes of the chunks of table snapshot. When set, the chunk size (number of rows) of every table is derived from"
+                                    + " the target bytes and the average row length of the table in information_schema.TABLES,"
+                                    + " so narrow tables are read in larger chunks and wide tables in smaller chunks."
+                                    + " When 'scan.incremental.snapshot.chunk.target-read-time' is set too, the smaller of the two chunk sizes is used.");
+
+    @Experimental
+    public static final ConfigOption<Duration> SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_READ_TIME =
+            ConfigOptions.key("scan.incremental.snapshot.chunk.target-read-time")
+                    .durationType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Optional target time to read a chunk of table snapshot. When set, the chunk size (number of rows) is derived from the read throughput"
+                                    + " of the finished chunks that the readers report back to the enumerator, the throughput is measured per table and falls back"
+                                    + " to the throughput of all tables for a table without finished chunks yet."
+                                    + " The configured 'scan.incremental.snapshot.chunk.size' is used until the first chunks have been read.");
+
+    @Experimental
+    public static final ConfigOption<Boolean>
+            SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED =
+                    ConfigOptions.key("scan.incremental.snapshot.size-aware-scheduling.enabled")
+                            .booleanType()
+                            .defaultValue(false)
+                            .withDescription(
+                                    "Whether to assign the chunks of table snapshot by their estimated cost instead of the order they are split in."
+                                            + " When enabled, the next chunk is always taken from the table with the largest estimated remaining cost,"
+                                            + " which is derived from the number of remaining chunks, the chunk size and the average row length of the table,"
+                                            + " so the chunks of large tables are started early and interleaved with the chunks of small tables.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS =
+            ConfigOptions.key("scan.incremental.snapshot.prefetch-splits")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of snapshot splits that every source reader requests ahead from the enumerator."
+                                    + " When larger than 1, a reader keeps the next splits queued while reading the current one to hide the round-trip to the enumerator,"
+                                    + " and the enumerator serves the waiting readers with the fewest unfinished splits first to balance the load."
+                                    + " By default, the value is 1 which means a reader requests the next split after the current one is finished.");
+
+    @Experimental
+    public static final ConfigOption<Integer> SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY =
+            ConfigOptions.key("scan.incremental.snapshot.reader.concurrency")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of snapshot splits that every source reader reads concurrently. When larger than 1, a reader reads its splits on a pool of"
+                                    + " snapshot split readers with their own database connections and emits the splits in the order they are finished,"
+                                    + " which keeps several queries in flight on a high-latency connection without raising the source parallelism."
+                                    + " The reader requests at least as many splits ahead as its concurrency, the backfill binlog of the concurrent splits is read one split at a time."
+                                    + " By default, the value is 1 which means a reader reads one split at a time.");
 }
@@ -46,14 +46,19 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeSet;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import static com.ververica.cdc.connectors.mysql.source.assigners.AssignerStatus.isNewlyAddedAssigningSnapshotFinished;
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.getFinishedSplitInfosOfBinlogSplit;
 
 /**
  * A MySQL CDC source enumerator that enumerates receive the split request and assign the split to
@@ -68,9 +73,13 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
     private final MySqlSourceConfig sourceConfig;
     private final MySqlSplitAssigner splitAssigner;
 
-    // using TreeSet to prefer assigning binlog split to task-0 for easier debug
-    private final TreeSet<Integer> readersAwaitingSplit;
-    private List<List<FinishedSnapshotSplitInfo>> binlogSplitMeta;
+    // using TreeMap to prefer assigning binlog split to task-0 for easier debug
+    // subtask id -> the number of split requests of the subtask which haven't been served yet
+    private final TreeMap<Integer, Integer> readersAwaitingSplit;
+    // subtask id -> the snapshot splits assigned to the subtask which haven't been finished yet
+    private final Map<Integer, Set<String>> readersInFlightSplits;
+    // binlog split id -> the grouped finished snapshot split infos of the binlog split
+    private final Map<String, List<List<FinishedSnapshotSplitInfo>>> binlogSplitMeta;
 
     public MySqlSourceEnumerator(
             SplitEnumeratorContext<MySqlSplit> context,
@@ -79,7 +88,9 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
         this.context = context;
         this.sourceConfig = sourceConfig;
         this.splitAssigner = splitAssigner;
-        this.readersAwaitingSplit = new TreeSet<>();
+        this.readersAwaitingSplit = new TreeMap<>();
+        this.readersInFlightSplits = new HashMap<>();
+        this.binlogSplitMeta = new HashMap<>();
     }
 
     @Override
@@ -100,13 +111,15 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
             return;
         }
 
-        readersAwaitingSplit.add(subtaskId);
+        readersAwaitingSplit.merge(subtaskId, 1, Integer::sum);
         assignSplits();
     }
 
     @Override
     public void addSplitsBack(List<MySqlSplit> splits, int subtaskId) {
         LOG.debug("MySQL Source Enumerator adds splits back: {}", splits);
+        removeInFlightSplits(
+                subtaskId, splits.stream().map(MySqlSplit::splitId).collect(Collectors.toList()));
         splitAssigner.addSplits(splits);
     }
 
@@ -130,6 +143,8 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
                     (FinishedSnapshotSplitsReportEvent) sourceEvent;
             Map<String, BinlogOffset> finishedOffsets = reportEvent.getFinishedOffsets();
 
+            removeInFlightSplits(subtaskId, finishedOffsets.keySet());
+            splitAssigner.onSnapshotSplitsReadStatistics(reportEvent.getReadStatistics());
             splitAssigner.onFinishedSplits(finishedOffsets);
             requestBinlogSplitUpdateIfNeed();
 
@@ -176,23 +191,32 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
     // ------------------------------------------------------------------------------------------
 
     private void assignSplits() {
-        final Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
-
-        while (awaitingReader.hasNext()) {
-            int nextAwaiting = awaitingReader.next();
-            // if the reader that requested another split has failed in the meantime, remove
-            // it from the list of waiting readers
-            if (!context.registeredReaders().containsKey(nextAwaiting)) {
-                awaitingReader.remove();
-                continue;
-            }
-
-            Optional<MySqlSplit> split = splitAssigner.getNext();
+        // if the reader that requested another split has failed in the meantime, remove
+        // it from the list of waiting readers
+        readersAwaitingSplit
+                .keySet()
+                .removeIf(subtaskId -> !context.registeredReaders().containsKey(subtaskId));
+
+        // the readers which have no available split by now
+        final Set<Integer> skippedReaders = new HashSet<>();
+        Integer nextAwaiting;
+        while ((nextAwaiting = nextAwaitingReader(skippedReaders)) != null) {
+            Optional<MySqlSplit> split = splitAssigner.getNext(nextAwaiting);
             if (split.isPresent()) {
                 final MySqlSplit mySqlSplit = split.get();
                 context.assignSplit(mySqlSplit, nextAwaiting);
-                awaitingReader.remove();
+                if (mySqlSplit.isSnapshotSplit()) {
+                    readersInFlightSplits
+                            .computeIfAbsent(nextAwaiting, k -> new HashSet<>())
+                            .add(mySqlSplit.splitId());
+                }
+                readersAwaitingSplit.computeIfPresent(
+                        nextAwaiting, (k, requests) -> requests > 1 ? requests - 1 : null);
                 LOG.info("Assign split {} to subtask {}", mySqlSplit, nextAwaiting);
+            } else if (sourceConfig.getBinlogSplitNumber() > 1) {
+                // the binlog splits are bound to subtasks, the next reader may still have its
+                // binlog split to assign
+                skippedReaders.add(nextAwaiting);
             } else {
                 // there is no available splits by now, skip assigning
                 requestBinlogSplitUpdateIfNeed();
@@ -201,6 +225,39 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
         }
     }
 
+    /**
+     * Gets the awaiting reader with the fewest unfinished snapshot splits, so the readers which
+     * request splits ahead don't take all splits while the others are idle. Returns null if there
+     * is no awaiting reader.
+     */
+    @Nullable
+    private Integer nextAwaitingReader(Set<Integer> skippedReaders) {
+        Integer nextAwaiting = null;
+        int minInFlightSplits = Integer.MAX_VALUE;
+        for (int subtaskId : readersAwaitingSplit.keySet()) {
+            if (skippedReaders.contains(subtaskId)) {
+                continue;
+            }
+            int inFlightSplits =
+                    readersInFlightSplits.getOrDefault(subtaskId, Collections.emptySet()).size();
+            if (inFlightSplits < minInFlightSplits) {
+                nextAwaiting = subtaskId;
+                minInFlightSplits = inFlightSplits;
+            }
+        }
+        return nextAwaiting;
+    }
+
+    private void removeInFlightSplits(int subtaskId, Collection<String> splitIds) {
+        Set<String> inFlightSplits = readersInFlightSplits.get(subtaskId);
+        if (inFlightSplits != null) {
+            inFlightSplits.removeAll(splitIds);
+            if (inFlightSplits.isEmpty()) {
+                readersInFlightSplits.remove(subtaskId);
+            }
+        }
+    }
+
     private int[] getRegisteredReader() {
         return this.context.registeredReaders().keySet().stream()
                 .mapToInt(Integer::intValue)
@@ -233,24 +290,13 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
     }
 
     private void sendBinlogMeta(int subTask, BinlogSplitMetaRequestEvent requestEvent) {
-        // initialize once
-        if (binlogSplitMeta == null) {
-            final List<FinishedSnapshotSplitInfo> finishedSnapshotSplitInfos =
-                    splitAssigner.getFinishedSplitInfos();
-            if (finishedSnapshotSplitInfos.isEmpty()) {
-                LOG.error(
-                        "The assigner offer empty finished split information, this should not happen");
-                throw new FlinkRuntimeException(
-                        "The assigner offer empty finished split information, this should not happen");
-            }
-            binlogSplitMeta =
-                    Lists.partition(
-                            finishedSnapshotSplitInfos, sourceConfig.getSplitMetaGroupSize());
-        }
+        // initialize once for every binlog split
+        final List<List<FinishedSnapshotSplitInfo>> splitMeta =
+                binlogSplitMeta.computeIfAbsent(requestEvent.getSplitId(), this::createSplitMeta);
         final int requestMetaGroupId = requestEvent.getRequestMetaGroupId();
 
-        if (binlogSplitMeta.size() > requestMetaGroupId) {
-            List<FinishedSnapshotSplitInfo> metaToSend = binlogSplitMeta.get(requestMetaGroupId);
+        if (splitMeta.size() > requestMetaGroupId) {
+            List<FinishedSnapshotSplitInfo> metaToSend = splitMeta.get(requestMetaGroupId);
             BinlogSplitMetaEvent metadataEvent =
                     new BinlogSplitMetaEvent(
                             requestEvent.getSplitId(),
@@ -263,8 +309,23 @@ public class MySqlSourceEnumerator implements SplitEnumerator<MySqlSplit, Pendin
             LOG.error(
                     "Received invalid request meta group id {}, the valid meta group id range is [0, {}]",
                     requestMetaGroupId,
-                    binlogSplitMeta.size() - 1);
+                    splitMeta.size() - 1);
+        }
+    }
+
+    private List<List<FinishedSnapshotSplitInfo>> createSplitMeta(String binlogSplitId) {
+        final List<FinishedSnapshotSplitInfo> finishedSnapshotSplitInfos =
+                getFinishedSplitInfosOfBinlogSplit(
+                        splitAssigner.getFinishedSplitInfos(),
+                        binlogSplitId,
+                        sourceConfig.getBinlogSplitNumber());
+        if (finishedSnapshotSplitInfos.isEmpty()) {
+            LOG.error(
+                    "The assigner offer empty finished split information, this should not happen");
+            throw new FlinkRuntimeException(
+                    "The assigner offer empty finished split information, this should not happen");
         }
+        return Lists.partition(finishedSnapshotSplitInfos, sourceConfig.getSplitMetaGroupSize());
     }
 
     private void handleLatestFinishedSplitNumberRequest(int subTask) {
@@ -21,29 +21,49 @@ import org.apache.flink.api.connector.source.SourceEvent;
 import com.ververica.cdc.connectors.mysql.source.enumerator.MySqlSourceEnumerator;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.reader.MySqlSourceReader;
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
  * The {@link SourceEvent} that {@link MySqlSourceReader} sends to {@link MySqlSourceEnumerator} to
- * notify the snapshot split has read finished with the consistent binlog position.
+ * notify the snapshot split has read finished with the consistent binlog position, and optionally
+ * the statistics of reading the splits.
  */
 public class FinishedSnapshotSplitsReportEvent implements SourceEvent {
 
     private static final long serialVersionUID = 1L;
 
     private final Map<String, BinlogOffset> finishedOffsets;
+    private final Map<String, SnapshotSplitReadStatistics> readStatistics;
 
     public FinishedSnapshotSplitsReportEvent(Map<String, BinlogOffset> finishedOffsets) {
+        this(finishedOffsets, Collections.emptyMap());
+    }
+
+    public FinishedSnapshotSplitsReportEvent(
+            Map<String, BinlogOffset> finishedOffsets,
+            Map<String, SnapshotSplitReadStatistics> readStatistics) {
         this.finishedOffsets = finishedOffsets;
+        this.readStatistics = readStatistics;
     }
 
     public Map<String, BinlogOffset> getFinishedOffsets() {
         return finishedOffsets;
     }
 
+    public Map<String, SnapshotSplitReadStatistics> getReadStatistics() {
+        return readStatistics;
+    }
+
     @Override
     public String toString() {
-        return "FinishedSnapshotSplitsReportEvent{" + "finishedOffsets=" + finishedOffsets + '}';
+        return "FinishedSnapshotSplitsReportEvent{"
+                + "finishedOffsets="
+                + finishedOffsets
+                + ", readStatistics="
+                + readStatistics
+                + '}';
     }
 }
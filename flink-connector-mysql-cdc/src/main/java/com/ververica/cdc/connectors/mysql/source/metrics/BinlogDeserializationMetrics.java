@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.metrics;
+
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MeterView;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.ThreadSafeSimpleCounter;
+
+import java.util.function.IntSupplier;
+
+/**
+ * A collection class for handling the metrics of the binlog deserialization: the rows events of
+ * uncaptured tables which are skipped without decoding, and the stages of the parallel binlog
+ * deserialization, i.e. framing the events on the binlog client thread, decoding the rows events by
+ * the worker threads and handling the events in binlog order by the sequencer thread.
+ */
+public class BinlogDeserializationMetrics {
+
+    private final Counter framedEvents = new ThreadSafeSimpleCounter();
+    private final Counter framedBytes = new ThreadSafeSimpleCounter();
+    private final Counter decodedEvents = new ThreadSafeSimpleCounter();
+    private final Counter sequencedEvents = new ThreadSafeSimpleCounter();
+    private final Counter skippedEvents = new ThreadSafeSimpleCounter();
+    private final Counter skippedBytes = new ThreadSafeSimpleCounter();
+
+    /** The number of events which have been framed but not handled by the sequencer yet. */
+    private volatile IntSupplier pendingEvents = () -> 0;
+
+    public void registerMetrics(MetricGroup metricGroup) {
+        metricGroup.meter("binlogFramedEventsPerSecond", new MeterView(framedEvents));
+        metricGroup.meter("binlogFramedBytesPerSecond", new MeterView(framedBytes));
+        metricGroup.meter("binlogDecodedEventsPerSecond", new MeterView(decodedEvents));
+        metricGroup.meter("binlogSequencedEventsPerSecond", new MeterView(sequencedEvents));
+        metricGroup.gauge("binlogPendingEvents", (Gauge<Integer>) this::getPendingEvents);
+        metricGroup.counter("binlogSkippedEvents", skippedEvents);
+        metricGroup.counter("binlogSkippedBytes", skippedBytes);
+    }
+
+    public void recordFramedEvent(int bytes) {
+        framedEvents.inc();
+        framedBytes.inc(bytes);
+    }
+
+    public void recordDecodedEvent() {
+        decodedEvents.inc();
+    }
+
+    public void recordSequencedEvent() {
+        sequencedEvents.inc();
+    }
+
+    /** Records a rows event of a table which isn't captured, whose rows are not decoded. */
+    public void recordSkippedEvent(int bytes) {
+        skippedEvents.inc();
+        skippedBytes.inc(bytes);
+    }
+
+    public void setPendingEvents(IntSupplier pendingEvents) {
+        this.pendingEvents = pendingEvents;
+    }
+
+    public long getFramedEvents() {
+        return framedEvents.getCount();
+    }
+
+    public long getFramedBytes() {
+        return framedBytes.getCount();
+    }
+
+    public long getDecodedEvents() {
+        return decodedEvents.getCount();
+    }
+
+    public long getSequencedEvents() {
+        return sequencedEvents.getCount();
+    }
+
+    public long getSkippedEvents() {
+        return skippedEvents.getCount();
+    }
+
+    public long getSkippedBytes() {
+        return skippedBytes.getCount();
+    }
+
+    public int getPendingEvents() {
+        return pendingEvents.getAsInt();
+    }
+}
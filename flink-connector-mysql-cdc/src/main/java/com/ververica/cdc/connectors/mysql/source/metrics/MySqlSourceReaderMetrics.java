@@ -45,14 +45,23 @@ public class MySqlSourceReaderMetrics {
      */
     private volatile long emitDelay = 0L;
 
+    /** The metrics of the parallel binlog deserialization of the split readers. */
+    private final BinlogDeserializationMetrics binlogDeserializationMetrics;
+
     public MySqlSourceReaderMetrics(MetricGroup metricGroup) {
         this.metricGroup = metricGroup;
+        this.binlogDeserializationMetrics = new BinlogDeserializationMetrics();
     }
 
     public void registerMetrics() {
         metricGroup.gauge("currentFetchEventTimeLag", (Gauge<Long>) this::getFetchDelay);
         metricGroup.gauge("currentEmitEventTimeLag", (Gauge<Long>) this::getEmitDelay);
         metricGroup.gauge("sourceIdleTime", (Gauge<Long>) this::getIdleTime);
+        binlogDeserializationMetrics.registerMetrics(metricGroup);
+    }
+
+    public BinlogDeserializationMetrics getBinlogDeserializationMetrics() {
+        return binlogDeserializationMetrics;
     }
 
     public long getFetchDelay() {
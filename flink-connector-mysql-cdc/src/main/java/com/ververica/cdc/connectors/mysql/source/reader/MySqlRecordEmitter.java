@@ -35,6 +35,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
 
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.isSchemaChangeEmittingBinlogSplit;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getBinlogPosition;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getFetchTimestamp;
 import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getHistoryRecord;
@@ -100,7 +101,8 @@ public final class MySqlRecordEmitter<T>
             for (TableChanges.TableChange tableChange : changes) {
                 splitState.asBinlogSplitState().recordSchema(tableChange.getId(), tableChange);
             }
-            if (includeSchemaChanges) {
+            if (includeSchemaChanges
+                    && isSchemaChangeEmittingBinlogSplit(splitState.toMySqlSplit().splitId())) {
                 BinlogOffset position = getBinlogPosition(element);
                 splitState.asBinlogSplitState().setStartingOffset(position);
                 emitElement(element, output);
@@ -65,6 +65,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.ververica.cdc.connectors.mysql.source.assigners.MySqlBinlogSplitAssigner.BINLOG_SPLIT_ID;
+import static com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit.compactFinishedSplitInfos;
 import static com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit.toNormalBinlogSplit;
 import static com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit.toSuspendedBinlogSplit;
 import static com.ververica.cdc.connectors.mysql.source.utils.ChunkUtils.getNextMetaGroupId;
@@ -106,8 +107,18 @@ public class MySqlSourceReader<T>
 
     @Override
     public void start() {
-        if (getNumberOfCurrentlyAssignedSplits() <= 1) {
-            context.sendSplitRequest();
+        int assignedSplits = getNumberOfCurrentlyAssignedSplits();
+        if (assignedSplits <= 1) {
+            // request the prefetched splits and the splits to read concurrently ahead, every
+            // finished snapshot split requests another split afterwards
+            int splitsAhead =
+                    Math.max(
+                            sourceConfig.getPrefetchSplits(),
+                            sourceConfig.getSnapshotReaderConcurrency());
+            int splitRequests = Math.max(1, splitsAhead - assignedSplits);
+            for (int i = 0; i < splitRequests; i++) {
+                context.sendSplitRequest();
+            }
         }
     }
 
@@ -128,6 +139,7 @@ public class MySqlSourceReader<T>
         List<MySqlSplit> unfinishedSplits =
                 stateSplits.stream()
                         .filter(split -> !finishedUnackedSplits.containsKey(split.splitId()))
+                        .map(this::compactBinlogSplitIfNeeded)
                         .collect(Collectors.toList());
 
         // add binlog splits who are uncompleted
@@ -248,6 +260,7 @@ public class MySqlSourceReader<T>
                     ackEvent.getFinishedSplits());
             for (String splitId : ackEvent.getFinishedSplits()) {
                 this.finishedUnackedSplits.remove(splitId);
+                mySqlSourceReaderContext.removeSnapshotSplitReadStatistics(splitId);
             }
         } else if (sourceEvent instanceof FinishedSnapshotSplitsRequestEvent) {
             // report finished snapshot splits
@@ -299,7 +312,10 @@ public class MySqlSourceReader<T>
                 finishedOffsets.put(split.splitId(), split.getHighWatermark());
             }
             FinishedSnapshotSplitsReportEvent reportEvent =
-                    new FinishedSnapshotSplitsReportEvent(finishedOffsets);
+                    new FinishedSnapshotSplitsReportEvent(
+                            finishedOffsets,
+                            mySqlSourceReaderContext.getSnapshotSplitReadStatistics(
+                                    finishedOffsets.keySet()));
             context.sendSourceEventToCoordinator(reportEvent);
             LOG.debug(
                     "The subtask {} reports offsets of finished snapshot splits {}.",
@@ -416,6 +432,19 @@ public class MySqlSourceReader<T>
         return existedSplitsOfLastGroup;
     }
 
+    /**
+     * Compacts the finished snapshot split infos of the binlog split which are before its current
+     * starting offset, so that the state size keeps shrinking as the binlog reading goes on. The
+     * newly added table process may move the starting offset backward and appends split infos, so
+     * the split infos are kept as they are if newly added table scanning is enabled.
+     */
+    private MySqlSplit compactBinlogSplitIfNeeded(MySqlSplit split) {
+        if (split.isBinlogSplit() && !sourceConfig.isScanNewlyAddedTableEnabled()) {
+            return compactFinishedSplitInfos(split.asBinlogSplit());
+        }
+        return split;
+    }
+
     private void logCurrentBinlogOffsets(List<MySqlSplit> splits, long checkpointId) {
         if (!LOG.isInfoEnabled()) {
             return;
@@ -433,4 +462,14 @@ public class MySqlSourceReader<T>
     protected MySqlSplit toSplitType(String splitId, MySqlSplitState splitState) {
         return splitState.toMySqlSplit();
     }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            super.close();
+        } finally {
+            // release the spilled snapshot chunks which have been fetched but not emitted
+            mySqlSourceReaderContext.getSnapshotChunkSpillManager().close();
+        }
+    }
 }
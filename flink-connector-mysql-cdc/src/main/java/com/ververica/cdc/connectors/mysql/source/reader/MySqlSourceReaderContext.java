@@ -18,6 +18,13 @@ package com.ververica.cdc.connectors.mysql.source.reader;
 
 import org.apache.flink.api.connector.source.SourceReaderContext;
 
+import com.ververica.cdc.connectors.mysql.debezium.reader.SnapshotChunkSpillManager;
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A wrapper class that wraps {@link SourceReaderContext} for sharing message between {@link
  * MySqlSourceReader} and {@link MySqlSplitReader}.
@@ -27,17 +34,30 @@ public class MySqlSourceReaderContext {
     private final SourceReaderContext sourceReaderContext;
     private volatile boolean isBinlogSplitReaderSuspended;
     private volatile boolean hasAssignedBinlogSplit;
+    private final Map<String, SnapshotSplitReadStatistics> snapshotSplitReadStatistics;
+    private final SnapshotChunkSpillManager snapshotChunkSpillManager;
 
     public MySqlSourceReaderContext(final SourceReaderContext sourceReaderContext) {
         this.sourceReaderContext = sourceReaderContext;
         this.isBinlogSplitReaderSuspended = false;
         this.hasAssignedBinlogSplit = false;
+        this.snapshotSplitReadStatistics = new ConcurrentHashMap<>();
+        this.snapshotChunkSpillManager =
+                new SnapshotChunkSpillManager(sourceReaderContext.getConfiguration());
     }
 
     public SourceReaderContext getSourceReaderContext() {
         return sourceReaderContext;
     }
 
+    /**
+     * Gets the spill manager of the snapshot chunks, which outlives the split readers as the
+     * spilled chunks are read by the emitter after their split reader has been closed.
+     */
+    public SnapshotChunkSpillManager getSnapshotChunkSpillManager() {
+        return snapshotChunkSpillManager;
+    }
+
     public boolean isBinlogSplitReaderSuspended() {
         return isBinlogSplitReaderSuspended;
     }
@@ -57,4 +77,26 @@ public class MySqlSourceReaderContext {
     public void setHasAssignedBinlogSplit(boolean hasAssignedBinlogSplit) {
         this.hasAssignedBinlogSplit = hasAssignedBinlogSplit;
     }
+
+    public void addSnapshotSplitReadStatistics(
+            String splitId, SnapshotSplitReadStatistics readStatistics) {
+        snapshotSplitReadStatistics.put(splitId, readStatistics);
+    }
+
+    /** Gets the read statistics of the given snapshot splits which have been recorded. */
+    public Map<String, SnapshotSplitReadStatistics> getSnapshotSplitReadStatistics(
+            Iterable<String> splitIds) {
+        Map<String, SnapshotSplitReadStatistics> readStatistics = new HashMap<>();
+        for (String splitId : splitIds) {
+            SnapshotSplitReadStatistics statistics = snapshotSplitReadStatistics.get(splitId);
+            if (statistics != null) {
+                readStatistics.put(splitId, statistics);
+            }
+        }
+        return readStatistics;
+    }
+
+    public void removeSnapshotSplitReadStatistics(String splitId) {
+        snapshotSplitReadStatistics.remove(splitId);
+    }
 }
@@ -16,22 +16,27 @@
 
 package com.ververica.cdc.connectors.mysql.source.reader;
 
+import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
 
 import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.ververica.cdc.connectors.mysql.debezium.reader.BackfillBinlogCursor;
 import com.ververica.cdc.connectors.mysql.debezium.reader.BinlogSplitReader;
 import com.ververica.cdc.connectors.mysql.debezium.reader.DebeziumReader;
 import com.ververica.cdc.connectors.mysql.debezium.reader.SnapshotSplitReader;
 import com.ververica.cdc.connectors.mysql.debezium.task.context.StatefulTaskContext;
 import com.ververica.cdc.connectors.mysql.source.MySqlSource;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import com.ververica.cdc.connectors.mysql.source.metrics.BinlogDeserializationMetrics;
+import com.ververica.cdc.connectors.mysql.source.reader.SnapshotSplitReaderPool.CompletedSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlRecords;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
 import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
 import io.debezium.connector.mysql.MySqlConnection;
 import org.slf4j.Logger;
@@ -44,6 +49,7 @@ import java.util.ArrayDeque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.createBinaryClient;
 import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.createMySqlConnection;
@@ -58,19 +64,50 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
     private final MySqlSourceConfig sourceConfig;
     private final int subtaskId;
     private final MySqlSourceReaderContext context;
+    private final BinlogDeserializationMetrics binlogDeserializationMetrics;
+    private final Supplier<SnapshotSplitReader> snapshotReaderFactory;
 
     @Nullable private String currentSplitId;
     @Nullable private DebeziumReader<SourceRecords, MySqlSplit> currentReader;
     @Nullable private SnapshotSplitReader reusedSnapshotReader;
     @Nullable private BinlogSplitReader reusedBinlogReader;
+    @Nullable private BackfillBinlogCursor backfillCursor;
+    @Nullable private SnapshotSplitReaderPool snapshotReaderPool;
+    // the concurrent snapshot readers read the backfill binlog one at a time
+    private final Object backfillLock = new Object();
 
     public MySqlSplitReader(
             MySqlSourceConfig sourceConfig, int subtaskId, MySqlSourceReaderContext context) {
+        this(sourceConfig, subtaskId, context, new BinlogDeserializationMetrics());
+    }
+
+    public MySqlSplitReader(
+            MySqlSourceConfig sourceConfig,
+            int subtaskId,
+            MySqlSourceReaderContext context,
+            BinlogDeserializationMetrics binlogDeserializationMetrics) {
+        this.sourceConfig = sourceConfig;
+        this.subtaskId = subtaskId;
+        this.snapshotSplits = new ArrayDeque<>();
+        this.binlogSplits = new ArrayDeque<>(1);
+        this.context = context;
+        this.binlogDeserializationMetrics = binlogDeserializationMetrics;
+        this.snapshotReaderFactory = this::createSnapshotSplitReader;
+    }
+
+    @VisibleForTesting
+    MySqlSplitReader(
+            MySqlSourceConfig sourceConfig,
+            int subtaskId,
+            MySqlSourceReaderContext context,
+            Supplier<SnapshotSplitReader> snapshotReaderFactory) {
         this.sourceConfig = sourceConfig;
         this.subtaskId = subtaskId;
         this.snapshotSplits = new ArrayDeque<>();
         this.binlogSplits = new ArrayDeque<>(1);
         this.context = context;
+        this.binlogDeserializationMetrics = new BinlogDeserializationMetrics();
+        this.snapshotReaderFactory = snapshotReaderFactory;
     }
 
     @Override
@@ -96,6 +133,9 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
     }
 
     private MySqlRecords pollSplitRecords() throws InterruptedException {
+        if (shouldReadSnapshotSplitsConcurrently()) {
+            return pollPooledSnapshotSplitRecords();
+        }
         Iterator<SourceRecords> dataIt;
         if (currentReader == null) {
             // (1) Reads binlog split firstly and then read snapshot split
@@ -116,10 +156,12 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
                 LOG.info("No available split to read.");
             }
             dataIt = currentReader.pollSplitRecords();
+            recordSnapshotSplitReadStatistics();
             return dataIt == null ? finishedSplit() : forRecords(dataIt);
         } else if (currentReader instanceof SnapshotSplitReader) {
             // (2) try to switch to binlog split reading util current snapshot split finished
             dataIt = currentReader.pollSplitRecords();
+            recordSnapshotSplitReadStatistics();
             if (dataIt != null) {
                 // first fetch data of snapshot split, return and emit the records of snapshot split
                 MySqlRecords records;
@@ -128,14 +170,9 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
                     closeSnapshotReader();
                     closeBinlogReader();
                 } else {
+                    // the snapshot reader is closed once the split finished, the next split will
+                    // be read by a new snapshot reader
                     records = forRecords(dataIt);
-                    MySqlSplit nextSplit = snapshotSplits.poll();
-                    if (nextSplit != null) {
-                        currentSplitId = nextSplit.splitId();
-                        currentReader.submitSplit(nextSplit);
-                    } else {
-                        closeSnapshotReader();
-                    }
                 }
                 return records;
             } else {
@@ -143,6 +180,7 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
             }
         } else if (currentReader instanceof BinlogSplitReader) {
             // (3) switch to snapshot split reading if there are newly added snapshot splits
+            final String binlogSplitId = currentSplitId;
             dataIt = currentReader.pollSplitRecords();
             if (dataIt != null) {
                 // try to switch to read snapshot split if there are new added snapshot
@@ -154,7 +192,7 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
                     currentReader = getSnapshotSplitReader();
                     currentReader.submitSplit(nextSplit);
                 }
-                return MySqlRecords.forBinlogRecords(BINLOG_SPLIT_ID, dataIt);
+                return MySqlRecords.forBinlogRecords(binlogSplitId, dataIt);
             } else {
                 // null will be returned after receiving suspend binlog event
                 // finish current binlog split reading
@@ -166,6 +204,65 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
         }
     }
 
+    /**
+     * Whether to read the snapshot splits concurrently on the reader pool. The pool only reads the
+     * snapshot splits before the binlog split, the splits of newly added tables are read one at a
+     * time. The splits of the pool are finished before switching to another reader.
+     */
+    private boolean shouldReadSnapshotSplitsConcurrently() {
+        if (snapshotReaderPool != null && !snapshotReaderPool.isEmpty()) {
+            return true;
+        }
+        return sourceConfig.getSnapshotReaderConcurrency() > 1
+                && currentReader == null
+                && binlogSplits.isEmpty()
+                && !snapshotSplits.isEmpty()
+                && !context.isHasAssignedBinlogSplit();
+    }
+
+    /** Keeps the readers of the pool busy and returns the records of the next finished split. */
+    private MySqlRecords pollPooledSnapshotSplitRecords() throws InterruptedException {
+        final SnapshotSplitReaderPool readerPool = getSnapshotReaderPool();
+        while (readerPool.hasIdleReader() && !snapshotSplits.isEmpty()) {
+            readerPool.submitSplit(snapshotSplits.poll());
+        }
+        final CompletedSplit completedSplit = readerPool.take();
+        if (completedSplit.getReadStatistics() != null) {
+            context.addSnapshotSplitReadStatistics(
+                    completedSplit.getSplitId(), completedSplit.getReadStatistics());
+        }
+        return forPooledSnapshotRecords(completedSplit);
+    }
+
+    private MySqlRecords forPooledSnapshotRecords(CompletedSplit completedSplit) {
+        final String splitId = completedSplit.getSplitId();
+        final Iterator<SourceRecords> dataIt = completedSplit.getRecords();
+        // the records own the chunk they're read from, so the reader can be reused by the next
+        // split or closed with the pool before the records are emitted
+        snapshotReaderPool.release(completedSplit);
+        if (snapshotReaderPool.isEmpty() && snapshotSplits.isEmpty()) {
+            // release the connections of the pool, it's created again for the next splits
+            closeSnapshotReaderPool();
+        }
+        return dataIt == null
+                ? MySqlRecords.forFinishedSplit(splitId)
+                : MySqlRecords.forSnapshotRecords(splitId, dataIt);
+    }
+
+    /**
+     * Records the read statistics of the current snapshot split once its rows have been read, they
+     * are reported to the enumerator together with the finished split.
+     */
+    private void recordSnapshotSplitReadStatistics() {
+        if (currentReader instanceof SnapshotSplitReader && currentSplitId != null) {
+            SnapshotSplitReadStatistics readStatistics =
+                    ((SnapshotSplitReader) currentReader).getReadStatistics();
+            if (readStatistics != null) {
+                context.addSnapshotSplitReadStatistics(currentSplitId, readStatistics);
+            }
+        }
+    }
+
     private MySqlRecords finishedSplit() {
         final MySqlRecords finishedRecords = MySqlRecords.forFinishedSplit(currentSplitId);
         currentSplitId = null;
@@ -176,6 +273,7 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
         if (currentReader instanceof SnapshotSplitReader) {
             final MySqlRecords finishedRecords =
                     MySqlRecords.forSnapshotRecords(currentSplitId, dataIt);
+            // the records own the chunk they're read from, which outlives the snapshot reader
             closeSnapshotReader();
             return finishedRecords;
         } else {
@@ -210,39 +308,102 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
             if (mySqlSplit.isSnapshotSplit()) {
                 snapshotSplits.add(mySqlSplit.asSnapshotSplit());
             } else {
+                checkBinlogSplit(mySqlSplit.splitId());
                 binlogSplits.add(mySqlSplit.asBinlogSplit());
             }
         }
     }
 
+    /**
+     * The binlog split never finishes, a reader can only read one binlog split. This fails if the
+     * reader is given a second binlog split, e.g. when restoring multiple binlog splits with a
+     * lower parallelism.
+     */
+    private void checkBinlogSplit(String binlogSplitId) {
+        String readingBinlogSplitId = null;
+        if (currentReader instanceof BinlogSplitReader) {
+            readingBinlogSplitId = currentSplitId;
+        } else if (!binlogSplits.isEmpty()) {
+            readingBinlogSplitId = binlogSplits.peek().splitId();
+        }
+        if (readingBinlogSplitId != null && !readingBinlogSplitId.equals(binlogSplitId)) {
+            throw new IllegalStateException(
+                    String.format(
+                            "The reader of subtask %d can't read binlog split %s while reading binlog split %s,"
+                                    + " please make sure the source parallelism isn't smaller than the number of binlog splits.",
+                            subtaskId, binlogSplitId, readingBinlogSplitId));
+        }
+    }
+
     @Override
     public void wakeUp() {}
 
     @Override
     public void close() throws Exception {
+        closeSnapshotReaderPool();
         closeSnapshotReader();
         closeBinlogReader();
+        closeBackfillCursor();
     }
 
     private SnapshotSplitReader getSnapshotSplitReader() {
         if (reusedSnapshotReader == null) {
-            final MySqlConnection jdbcConnection = createMySqlConnection(sourceConfig);
-            final BinaryLogClient binaryLogClient =
-                    createBinaryClient(sourceConfig.getDbzConfiguration());
-            final StatefulTaskContext statefulTaskContext =
-                    new StatefulTaskContext(sourceConfig, binaryLogClient, jdbcConnection);
-            reusedSnapshotReader = new SnapshotSplitReader(statefulTaskContext, subtaskId);
+            reusedSnapshotReader = snapshotReaderFactory.get();
         }
         return reusedSnapshotReader;
     }
 
+    private SnapshotSplitReader createSnapshotSplitReader() {
+        final MySqlConnection jdbcConnection = createMySqlConnection(sourceConfig);
+        final BinaryLogClient binaryLogClient =
+                createBinaryClient(sourceConfig.getDbzConfiguration());
+        final StatefulTaskContext statefulTaskContext =
+                new StatefulTaskContext(
+                        sourceConfig,
+                        binaryLogClient,
+                        jdbcConnection,
+                        binlogDeserializationMetrics);
+        return new SnapshotSplitReader(
+                statefulTaskContext,
+                subtaskId,
+                getBackfillCursor(),
+                backfillLock,
+                context.getSnapshotChunkSpillManager());
+    }
+
+    private SnapshotSplitReaderPool getSnapshotReaderPool() {
+        if (snapshotReaderPool == null) {
+            snapshotReaderPool =
+                    new SnapshotSplitReaderPool(
+                            sourceConfig.getSnapshotReaderConcurrency(),
+                            subtaskId,
+                            snapshotReaderFactory);
+        }
+        return snapshotReaderPool;
+    }
+
+    @Nullable
+    private BackfillBinlogCursor getBackfillCursor() {
+        if (backfillCursor == null && sourceConfig.isSharedBackfillCursorEnabled()) {
+            backfillCursor =
+                    new BackfillBinlogCursor(sourceConfig, subtaskId, binlogDeserializationMetrics);
+        }
+        return backfillCursor;
+    }
+
     private BinlogSplitReader getBinlogSplitReader() {
+        // the backfill binlog cursor uses the same server id with the binlog reader
+        closeBackfillCursor();
         if (reusedBinlogReader == null) {
             final MySqlConnection jdbcConnection = createMySqlConnection(sourceConfig);
             final BinaryLogClient binaryLogClient =
                     createBinaryClient(sourceConfig.getDbzConfiguration());
             final StatefulTaskContext statefulTaskContext =
-                    new StatefulTaskContext(sourceConfig, binaryLogClient, jdbcConnection);
+                    new StatefulTaskContext(
+                            sourceConfig,
+                            binaryLogClient,
+                            jdbcConnection,
+                            binlogDeserializationMetrics);
             reusedBinlogReader = new BinlogSplitReader(statefulTaskContext, subtaskId);
         }
         return reusedBinlogReader;
@@ -260,6 +421,14 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
         }
     }
 
+    private void closeSnapshotReaderPool() {
+        if (snapshotReaderPool != null) {
+            LOG.debug("Close snapshot reader pool");
+            snapshotReaderPool.close();
+            snapshotReaderPool = null;
+        }
+    }
+
     private void closeBinlogReader() {
         if (reusedBinlogReader != null) {
             LOG.debug("Close binlog reader {}", reusedBinlogReader.getClass().getCanonicalName());
@@ -270,4 +439,12 @@ public class MySqlSplitReader implements SplitReader<SourceRecords, MySqlSplit>
             reusedBinlogReader = null;
         }
     }
+
+    private void closeBackfillCursor() {
+        if (backfillCursor != null) {
+            LOG.debug("Close backfill binlog cursor");
+            backfillCursor.close();
+            backfillCursor = null;
+        }
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.reader;
+
+import org.apache.flink.util.FlinkRuntimeException;
+
+import org.apache.flink.shaded.guava30.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import com.ververica.cdc.connectors.mysql.debezium.reader.SnapshotSplitReader;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
+import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A pool of {@link SnapshotSplitReader}s which reads several snapshot splits of a subtask
+ * concurrently. Every reader of the pool keeps its own database connection and is reused for the
+ * following splits, the splits are returned in the order they are finished.
+ *
+ * <p>The poll of a split, which waits for the snapshot query and the backfill binlog of the split,
+ * runs on a thread of the pool. The reader of the split isn't reused until it's {@link
+ * #release(CompletedSplit) released}. The records of a completed split don't depend on its reader,
+ * a chunk spilled to disk is owned by its records, so the reader may be released, reused or closed
+ * with the pool before the records are emitted.
+ *
+ * @see
+ *     com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions#SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY
+ */
+public class SnapshotSplitReaderPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotSplitReaderPool.class);
+    private static final long POOL_CLOSE_TIMEOUT = 30L;
+
+    private final int concurrency;
+    private final Supplier<SnapshotSplitReader> readerFactory;
+    private final ExecutorService executorService;
+    private final CompletionService<CompletedSplit> completionService;
+    private final List<SnapshotSplitReader> readers;
+    private final ArrayDeque<SnapshotSplitReader> idleReaders;
+
+    private int runningSplits;
+    private int unreleasedSplits;
+
+    public SnapshotSplitReaderPool(
+            int concurrency, int subtaskId, Supplier<SnapshotSplitReader> readerFactory) {
+        this.concurrency = concurrency;
+        this.readerFactory = readerFactory;
+        this.executorService =
+                Executors.newFixedThreadPool(
+                        concurrency,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("snapshot-reader-pool-" + subtaskId + "-%d")
+                                .build());
+        this.completionService = new ExecutorCompletionService<>(executorService);
+        this.readers = new ArrayList<>(concurrency);
+        this.idleReaders = new ArrayDeque<>(concurrency);
+    }
+
+    /** Whether the pool can read another split, i.e. not all readers are reading a split. */
+    public boolean hasIdleReader() {
+        return unreleasedSplits < concurrency;
+    }
+
+    /** Whether there is no split which is read by the pool or hasn't been released yet. */
+    public boolean isEmpty() {
+        return unreleasedSplits == 0;
+    }
+
+    /** Starts reading the split on an idle reader of the pool. */
+    public void submitSplit(MySqlSnapshotSplit split) {
+        if (!hasIdleReader()) {
+            throw new IllegalStateException("There is no idle reader to read split " + split);
+        }
+        SnapshotSplitReader reader = idleReaders.poll();
+        if (reader == null) {
+            reader = readerFactory.get();
+            readers.add(reader);
+        }
+        final SnapshotSplitReader splitReader = reader;
+        splitReader.submitSplit(split);
+        completionService.submit(
+                () -> {
+                    Iterator<SourceRecords> records = splitReader.pollSplitRecords();
+                    return new CompletedSplit(
+                            split.splitId(), splitReader, records, splitReader.getReadStatistics());
+                });
+        runningSplits++;
+        unreleasedSplits++;
+    }
+
+    /** Waits for the next finished split of the pool. */
+    public CompletedSplit take() throws InterruptedException {
+        if (runningSplits == 0) {
+            throw new IllegalStateException("There is no split which is read by the pool.");
+        }
+        try {
+            CompletedSplit completedSplit = completionService.take().get();
+            runningSplits--;
+            return completedSplit;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlinkRuntimeException("Read snapshot split error.", e.getCause());
+        }
+    }
+
+    /** Releases the reader of the completed split, which will be reused by the next split. */
+    public void release(CompletedSplit completedSplit) {
+        idleReaders.add(completedSplit.reader);
+        unreleasedSplits--;
+    }
+
+    public void close() {
+        // interrupt the threads which are still waiting for the records of running splits
+        executorService.shutdownNow();
+        try {
+            if (!executorService.awaitTermination(POOL_CLOSE_TIMEOUT, TimeUnit.SECONDS)) {
+                LOG.warn(
+                        "Failed to close the snapshot split reader pool in {} seconds.",
+                        POOL_CLOSE_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SnapshotSplitReader reader : readers) {
+            reader.close();
+        }
+        readers.clear();
+        idleReaders.clear();
+        runningSplits = 0;
+        unreleasedSplits = 0;
+    }
+
+    /** A split whose rows and backfill binlog have been read by a reader of the pool. */
+    public static class CompletedSplit {
+        private final String splitId;
+        private final SnapshotSplitReader reader;
+        @Nullable private final Iterator<SourceRecords> records;
+        @Nullable private final SnapshotSplitReadStatistics readStatistics;
+
+        private CompletedSplit(
+                String splitId,
+                SnapshotSplitReader reader,
+                @Nullable Iterator<SourceRecords> records,
+                @Nullable SnapshotSplitReadStatistics readStatistics) {
+            this.splitId = splitId;
+            this.reader = reader;
+            this.records = records;
+            this.readStatistics = readStatistics;
+        }
+
+        public String getSplitId() {
+            return splitId;
+        }
+
+        public SnapshotSplitReader getReader() {
+            return reader;
+        }
+
+        @Nullable
+        public Iterator<SourceRecords> getRecords() {
+            return records;
+        }
+
+        @Nullable
+        public SnapshotSplitReadStatistics getReadStatistics() {
+            return readStatistics;
+        }
+    }
+}
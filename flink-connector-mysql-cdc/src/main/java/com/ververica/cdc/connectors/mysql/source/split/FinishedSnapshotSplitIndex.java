@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.split;
+
+import com.ververica.cdc.connectors.mysql.source.utils.RecordUtils;
+import com.ververica.cdc.connectors.mysql.source.utils.SplitKeyRange;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A sorted index of the {@link FinishedSnapshotSplitInfo}s of one table, it's used to find the
+ * split which contains a given split key by binary search instead of scanning all splits.
+ *
+ * <p>The snapshot splits of one table are disjoint key ranges [splitStart, splitEnd), the first
+ * split has null splitStart and the last split has null splitEnd. Thus, the only split that may
+ * contain a key is the split with the greatest splitStart not larger than the key.
+ *
+ * <p>The key ranges of the splits are specialized by the type of their bounds once, see {@link
+ * SplitKeyRange}.
+ */
+public class FinishedSnapshotSplitIndex {
+
+    /** Orders splits by split start, the split with null start (the first split) comes first. */
+    static final Comparator<FinishedSnapshotSplitInfo> SPLIT_START_COMPARATOR =
+            (s1, s2) -> {
+                if (s1.getSplitStart() == null) {
+                    return s2.getSplitStart() == null ? 0 : -1;
+                } else if (s2.getSplitStart() == null) {
+                    return 1;
+                }
+                return RecordUtils.compareSplitKeys(s1.getSplitStart(), s2.getSplitStart());
+            };
+
+    private final FinishedSnapshotSplitInfo[] sortedSplits;
+    private final SplitKeyRange[] sortedRanges;
+
+    public FinishedSnapshotSplitIndex(Collection<FinishedSnapshotSplitInfo> splitInfos) {
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>(splitInfos);
+        splits.sort(SPLIT_START_COMPARATOR);
+        this.sortedSplits = splits.toArray(new FinishedSnapshotSplitInfo[0]);
+        this.sortedRanges = new SplitKeyRange[sortedSplits.length];
+        for (int i = 0; i < sortedSplits.length; i++) {
+            sortedRanges[i] =
+                    SplitKeyRange.of(
+                            sortedSplits[i].getSplitStart(), sortedSplits[i].getSplitEnd());
+        }
+    }
+
+    /** Returns the finished snapshot split whose key range contains the given key, or null. */
+    @Nullable
+    public FinishedSnapshotSplitInfo findSplit(Object[] key) {
+        int low = 0;
+        int high = sortedSplits.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (sortedRanges[mid].compareToStart(key) >= 0) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (candidate < 0) {
+            return null;
+        }
+        return sortedRanges[candidate].contains(key) ? sortedSplits[candidate] : null;
+    }
+
+    /** Returns the finished snapshot split whose key range contains the given key, or null. */
+    @Nullable
+    public FinishedSnapshotSplitInfo findSplit(Object key) {
+        int low = 0;
+        int high = sortedSplits.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (sortedRanges[mid].compareToStart(key) >= 0) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (candidate < 0) {
+            return null;
+        }
+        return sortedRanges[candidate].contains(key) ? sortedSplits[candidate] : null;
+    }
+
+    public int size() {
+        return sortedSplits.length;
+    }
+}
@@ -24,13 +24,17 @@ import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import io.debezium.relational.TableId;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Objects;
 
-import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readBinlogPosition;
-import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
-import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.serializedStringToRow;
-import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readCompactBinlogPosition;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readCompactString;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readSplitBoundary;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeCompactBinlogPosition;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeCompactString;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeSplitBoundary;
 
 /** The information used to describe a finished snapshot split. */
 public class FinishedSnapshotSplitInfo {
@@ -124,11 +128,11 @@ public class FinishedSnapshotSplitInfo {
     public static byte[] serialize(FinishedSnapshotSplitInfo splitInfo) {
         try {
             final DataOutputSerializer out = SERIALIZER_CACHE.get();
-            out.writeUTF(splitInfo.getTableId().toString());
-            out.writeUTF(splitInfo.getSplitId());
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
-            writeBinlogPosition(splitInfo.getHighWatermark(), out);
+            writeCompactString(splitInfo.getTableId().toString(), out);
+            writeCompactString(splitInfo.getSplitId(), out);
+            writeSplitBoundary(splitInfo.getSplitStart(), out);
+            writeSplitBoundary(splitInfo.getSplitEnd(), out);
+            writeCompactBinlogPosition(splitInfo.getHighWatermark(), new HashMap<>(), out);
             final byte[] result = out.getCopyOfBuffer();
             out.clear();
             return result;
@@ -140,11 +144,11 @@ public class FinishedSnapshotSplitInfo {
     public static FinishedSnapshotSplitInfo deserialize(byte[] serialized) {
         try {
             final DataInputDeserializer in = new DataInputDeserializer(serialized);
-            TableId tableId = TableId.parse(in.readUTF());
-            String splitId = in.readUTF();
-            Object[] splitStart = serializedStringToRow(in.readUTF());
-            Object[] splitEnd = serializedStringToRow(in.readUTF());
-            BinlogOffset highWatermark = readBinlogPosition(in);
+            TableId tableId = TableId.parse(readCompactString(in));
+            String splitId = readCompactString(in);
+            Object[] splitStart = readSplitBoundary(in);
+            Object[] splitEnd = readSplitBoundary(in);
+            BinlogOffset highWatermark = readCompactBinlogPosition(new ArrayList<>(), in);
             in.releaseArrays();
             return new FinishedSnapshotSplitInfo(
                     tableId, splitId, splitStart, splitEnd, highWatermark);
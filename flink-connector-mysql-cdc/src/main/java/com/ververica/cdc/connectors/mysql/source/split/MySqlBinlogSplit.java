@@ -17,12 +17,14 @@
 package com.ververica.cdc.connectors.mysql.source.split;
 
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.utils.RecordUtils;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges.TableChange;
 
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -239,4 +241,107 @@ public class MySqlBinlogSplit extends MySqlSplit {
         }
         return updatedSnapshotSplitInfos;
     }
+
+    /**
+     * Compacts the {@link FinishedSnapshotSplitInfo}s of a completed binlog split with respect to
+     * its starting offset. The binlog before the starting offset has been consumed, so the snapshot
+     * splits whose high watermark is at or before the starting offset no longer filter any binlog
+     * event:
+     *
+     * <ul>
+     *   <li>adjacent such splits of a table collapse into one range entry, whose high watermark is
+     *       the starting offset.
+     *   <li>the tables whose splits are all such splits are dropped, the binlog events of these
+     *       tables are emitted like the events of tables in pure binlog phase.
+     * </ul>
+     *
+     * <p>Note: The split id of a range entry is the split id of its first split. The compacted
+     * split is complete again, i.e. its total finished split size is the number of entries.
+     */
+    public static MySqlBinlogSplit compactFinishedSplitInfos(MySqlBinlogSplit binlogSplit) {
+        final BinlogOffset startingOffset = binlogSplit.getStartingOffset();
+        if (!binlogSplit.isCompletedSplit()
+                || binlogSplit.isSuspended()
+                || startingOffset == null
+                || binlogSplit.getFinishedSnapshotSplitInfos().isEmpty()) {
+            return binlogSplit;
+        }
+        List<FinishedSnapshotSplitInfo> compactedSplitInfos =
+                compactFinishedSplitInfos(
+                        binlogSplit.getFinishedSnapshotSplitInfos(), startingOffset);
+        if (compactedSplitInfos.size() == binlogSplit.getFinishedSnapshotSplitInfos().size()) {
+            return binlogSplit;
+        }
+        return new MySqlBinlogSplit(
+                binlogSplit.splitId,
+                startingOffset,
+                binlogSplit.getEndingOffset(),
+                compactedSplitInfos,
+                binlogSplit.getTableSchemas(),
+                compactedSplitInfos.size(),
+                false);
+    }
+
+    /**
+     * Collapses the adjacent splits of a table whose high watermark is at or before the given
+     * offset, and drops the tables whose splits are all at or before the given offset.
+     */
+    public static List<FinishedSnapshotSplitInfo> compactFinishedSplitInfos(
+            List<FinishedSnapshotSplitInfo> splitInfos, BinlogOffset offset) {
+        Map<TableId, List<FinishedSnapshotSplitInfo>> splitInfosByTable = new LinkedHashMap<>();
+        for (FinishedSnapshotSplitInfo splitInfo : splitInfos) {
+            splitInfosByTable
+                    .computeIfAbsent(splitInfo.getTableId(), tableId -> new ArrayList<>())
+                    .add(splitInfo);
+        }
+        List<FinishedSnapshotSplitInfo> compactedSplitInfos = new ArrayList<>();
+        for (List<FinishedSnapshotSplitInfo> tableSplitInfos : splitInfosByTable.values()) {
+            if (tableSplitInfos.stream()
+                    .noneMatch(info -> info.getHighWatermark().isAfter(offset))) {
+                // the table has entered pure binlog phase
+                continue;
+            }
+            tableSplitInfos.sort(FinishedSnapshotSplitIndex.SPLIT_START_COMPARATOR);
+            List<FinishedSnapshotSplitInfo> range = new ArrayList<>();
+            for (FinishedSnapshotSplitInfo splitInfo : tableSplitInfos) {
+                if (splitInfo.getHighWatermark().isAfter(offset)) {
+                    flushRange(range, offset, compactedSplitInfos);
+                    compactedSplitInfos.add(splitInfo);
+                } else {
+                    if (!range.isEmpty() && !isAdjacent(range.get(range.size() - 1), splitInfo)) {
+                        flushRange(range, offset, compactedSplitInfos);
+                    }
+                    range.add(splitInfo);
+                }
+            }
+            flushRange(range, offset, compactedSplitInfos);
+        }
+        return compactedSplitInfos;
+    }
+
+    private static void flushRange(
+            List<FinishedSnapshotSplitInfo> range,
+            BinlogOffset offset,
+            List<FinishedSnapshotSplitInfo> compactedSplitInfos) {
+        if (range.size() == 1) {
+            compactedSplitInfos.add(range.get(0));
+        } else if (range.size() > 1) {
+            FinishedSnapshotSplitInfo first = range.get(0);
+            compactedSplitInfos.add(
+                    new FinishedSnapshotSplitInfo(
+                            first.getTableId(),
+                            first.getSplitId(),
+                            first.getSplitStart(),
+                            range.get(range.size() - 1).getSplitEnd(),
+                            offset));
+        }
+        range.clear();
+    }
+
+    private static boolean isAdjacent(
+            FinishedSnapshotSplitInfo previous, FinishedSnapshotSplitInfo next) {
+        return previous.getSplitEnd() != null
+                && next.getSplitStart() != null
+                && RecordUtils.compareSplitKeys(previous.getSplitEnd(), next.getSplitStart()) == 0;
+    }
 }
@@ -75,6 +75,14 @@ public final class MySqlRecords implements RecordsWithSplitIds<SourceRecords> {
         return finishedSnapshotSplits;
     }
 
+    @Override
+    public void recycle() {
+        if (recordsForSplit != null) {
+            // release the lazily read records which have not been emitted
+            recordsForSplit.forEachRemaining(SourceRecords::close);
+        }
+    }
+
     public static MySqlRecords forBinlogRecords(
             final String splitId, final Iterator<SourceRecords> recordsForSplit) {
         return new MySqlRecords(splitId, recordsForSplit, Collections.emptySet());
@@ -38,16 +38,31 @@ import java.util.List;
 import java.util.Map;
 
 import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readBinlogPosition;
-import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readCompactBinlogPosition;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readCompactString;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readDictionaryString;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readSplitBoundary;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.readVarInt;
 import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.serializedStringToRow;
-import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeCompactBinlogPosition;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeCompactString;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeDictionaryString;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeSplitBoundary;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeVarInt;
 
-/** A serializer for the {@link MySqlSplit}. */
+/**
+ * A serializer for the {@link MySqlSplit}.
+ *
+ * <p>Since version 5 the splits are written in a compact binary format: split boundaries are
+ * written as typed binary values instead of hex encoded Java serialized strings, lengths are
+ * variable-length ints, and the table ids and binlog offset entries of the finished snapshot splits
+ * in a binlog split are written once and referenced afterwards.
+ */
 public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MySqlSplit> {
 
     public static final MySqlSplitSerializer INSTANCE = new MySqlSplitSerializer();
 
-    private static final int VERSION = 4;
+    private static final int VERSION = 5;
     private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
             ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
 
@@ -70,16 +85,13 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
 
             final DataOutputSerializer out = SERIALIZER_CACHE.get();
             out.writeInt(SNAPSHOT_SPLIT_FLAG);
-            out.writeUTF(snapshotSplit.getTableId().toString());
-            out.writeUTF(snapshotSplit.splitId());
-            out.writeUTF(snapshotSplit.getSplitKeyType().asSerializableString());
-
-            final Object[] splitStart = snapshotSplit.getSplitStart();
-            final Object[] splitEnd = snapshotSplit.getSplitEnd();
-            // rowToSerializedString deals null case
-            out.writeUTF(rowToSerializedString(splitStart));
-            out.writeUTF(rowToSerializedString(splitEnd));
-            writeBinlogPosition(snapshotSplit.getHighWatermark(), out);
+            final String tableId = snapshotSplit.getTableId().toString();
+            writeCompactString(tableId, out);
+            writeSplitId(snapshotSplit.splitId(), tableId, out);
+            writeCompactString(snapshotSplit.getSplitKeyType().asSerializableString(), out);
+            writeSplitBoundary(snapshotSplit.getSplitStart(), out);
+            writeSplitBoundary(snapshotSplit.getSplitEnd(), out);
+            writeCompactBinlogPosition(snapshotSplit.getHighWatermark(), new HashMap<>(), out);
             writeTableSchemas(snapshotSplit.getTableSchemas(), out);
             final byte[] result = out.getCopyOfBuffer();
             out.clear();
@@ -95,13 +107,14 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             }
             final DataOutputSerializer out = SERIALIZER_CACHE.get();
             out.writeInt(BINLOG_SPLIT_FLAG);
-            out.writeUTF(binlogSplit.splitId());
-            out.writeUTF("");
-            writeBinlogPosition(binlogSplit.getStartingOffset(), out);
-            writeBinlogPosition(binlogSplit.getEndingOffset(), out);
-            writeFinishedSplitsInfo(binlogSplit.getFinishedSnapshotSplitInfos(), out);
+            writeCompactString(binlogSplit.splitId(), out);
+            // the table ids and the binlog offset entries share one dictionary
+            final Map<String, Integer> dictionary = new HashMap<>();
+            writeCompactBinlogPosition(binlogSplit.getStartingOffset(), dictionary, out);
+            writeCompactBinlogPosition(binlogSplit.getEndingOffset(), dictionary, out);
+            writeFinishedSplitsInfo(binlogSplit.getFinishedSnapshotSplitInfos(), dictionary, out);
             writeTableSchemas(binlogSplit.getTableSchemas(), out);
-            out.writeInt(binlogSplit.getTotalFinishedSplitSize());
+            writeVarInt(binlogSplit.getTotalFinishedSplitSize(), out);
             out.writeBoolean(binlogSplit.isSuspended());
             final byte[] result = out.getCopyOfBuffer();
             out.clear();
@@ -120,6 +133,8 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             case 3:
             case 4:
                 return deserializeSplit(version, serialized);
+            case 5:
+                return deserializeCompactSplit(version, serialized);
             default:
                 throw new IOException("Unknown version: " + version);
         }
@@ -177,19 +192,61 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
         }
     }
 
+    private MySqlSplit deserializeCompactSplit(int version, byte[] serialized) throws IOException {
+        final DataInputDeserializer in = new DataInputDeserializer(serialized);
+
+        int splitKind = in.readInt();
+        if (splitKind == SNAPSHOT_SPLIT_FLAG) {
+            String tableId = readCompactString(in);
+            String splitId = readSplitId(tableId, in);
+            RowType splitKeyType = (RowType) LogicalTypeParser.parse(readCompactString(in));
+            Object[] splitBoundaryStart = readSplitBoundary(in);
+            Object[] splitBoundaryEnd = readSplitBoundary(in);
+            BinlogOffset highWatermark = readCompactBinlogPosition(new ArrayList<>(), in);
+            Map<TableId, TableChange> tableSchemas = readTableSchemas(version, in);
+
+            return new MySqlSnapshotSplit(
+                    TableId.parse(tableId),
+                    splitId,
+                    splitKeyType,
+                    splitBoundaryStart,
+                    splitBoundaryEnd,
+                    highWatermark,
+                    tableSchemas);
+        } else if (splitKind == BINLOG_SPLIT_FLAG) {
+            String splitId = readCompactString(in);
+            List<String> dictionary = new ArrayList<>();
+            BinlogOffset startingOffset = readCompactBinlogPosition(dictionary, in);
+            BinlogOffset endingOffset = readCompactBinlogPosition(dictionary, in);
+            List<FinishedSnapshotSplitInfo> finishedSplitsInfo =
+                    readFinishedSplitsInfo(dictionary, in);
+            Map<TableId, TableChange> tableChangeMap = readTableSchemas(version, in);
+            int totalFinishedSplitSize = readVarInt(in);
+            boolean isSuspended = in.readBoolean();
+            in.releaseArrays();
+            return new MySqlBinlogSplit(
+                    splitId,
+                    startingOffset,
+                    endingOffset,
+                    finishedSplitsInfo,
+                    tableChangeMap,
+                    totalFinishedSplitSize,
+                    isSuspended);
+        } else {
+            throw new IOException("Unknown split kind: " + splitKind);
+        }
+    }
+
     public static void writeTableSchemas(
             Map<TableId, TableChange> tableSchemas, DataOutputSerializer out) throws IOException {
         FlinkJsonTableChangeSerializer jsonSerializer = new FlinkJsonTableChangeSerializer();
         DocumentWriter documentWriter = DocumentWriter.defaultWriter();
-        final int size = tableSchemas.size();
-        out.writeInt(size);
+        writeVarInt(tableSchemas.size(), out);
         for (Map.Entry<TableId, TableChange> entry : tableSchemas.entrySet()) {
-            out.writeUTF(entry.getKey().toString());
+            writeCompactString(entry.getKey().toString(), out);
             final String tableChangeStr =
                     documentWriter.write(jsonSerializer.toDocument(entry.getValue()));
-            final byte[] tableChangeBytes = tableChangeStr.getBytes(StandardCharsets.UTF_8);
-            out.writeInt(tableChangeBytes.length);
-            out.write(tableChangeBytes);
+            writeCompactString(tableChangeStr, out);
         }
     }
 
@@ -197,9 +254,9 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
             throws IOException {
         DocumentReader documentReader = DocumentReader.defaultReader();
         Map<TableId, TableChange> tableSchemas = new HashMap<>();
-        final int size = in.readInt();
+        final int size = version >= 5 ? readVarInt(in) : in.readInt();
         for (int i = 0; i < size; i++) {
-            TableId tableId = TableId.parse(in.readUTF());
+            TableId tableId = TableId.parse(version >= 5 ? readCompactString(in) : in.readUTF());
             final String tableChangeStr;
             switch (version) {
                 case 1:
@@ -213,6 +270,9 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
                     in.read(bytes);
                     tableChangeStr = new String(bytes, StandardCharsets.UTF_8);
                     break;
+                case 5:
+                    tableChangeStr = readCompactString(in);
+                    break;
                 default:
                     throw new IOException("Unknown version: " + version);
             }
@@ -224,16 +284,18 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
     }
 
     private static void writeFinishedSplitsInfo(
-            List<FinishedSnapshotSplitInfo> finishedSplitsInfo, DataOutputSerializer out)
+            List<FinishedSnapshotSplitInfo> finishedSplitsInfo,
+            Map<String, Integer> dictionary,
+            DataOutputSerializer out)
             throws IOException {
-        final int size = finishedSplitsInfo.size();
-        out.writeInt(size);
+        writeVarInt(finishedSplitsInfo.size(), out);
         for (FinishedSnapshotSplitInfo splitInfo : finishedSplitsInfo) {
-            out.writeUTF(splitInfo.getTableId().toString());
-            out.writeUTF(splitInfo.getSplitId());
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
-            out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
-            writeBinlogPosition(splitInfo.getHighWatermark(), out);
+            final String tableId = splitInfo.getTableId().toString();
+            writeDictionaryString(tableId, dictionary, out);
+            writeSplitId(splitInfo.getSplitId(), tableId, out);
+            writeSplitBoundary(splitInfo.getSplitStart(), out);
+            writeSplitBoundary(splitInfo.getSplitEnd(), out);
+            writeCompactBinlogPosition(splitInfo.getHighWatermark(), dictionary, out);
         }
     }
 
@@ -253,4 +315,68 @@ public final class MySqlSplitSerializer implements SimpleVersionedSerializer<MyS
         }
         return finishedSplitsInfo;
     }
+
+    private static List<FinishedSnapshotSplitInfo> readFinishedSplitsInfo(
+            List<String> dictionary, DataInputDeserializer in) throws IOException {
+        final int size = readVarInt(in);
+        List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>(size);
+        // the table ids are shared by the splits of a table, only parse them once
+        Map<String, TableId> tableIds = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String tableIdStr = readDictionaryString(dictionary, in);
+            TableId tableId = tableIds.computeIfAbsent(tableIdStr, TableId::parse);
+            String splitId = readSplitId(tableIdStr, in);
+            Object[] splitStart = readSplitBoundary(in);
+            Object[] splitEnd = readSplitBoundary(in);
+            BinlogOffset highWatermark = readCompactBinlogPosition(dictionary, in);
+            finishedSplitsInfo.add(
+                    new FinishedSnapshotSplitInfo(
+                            tableId, splitId, splitStart, splitEnd, highWatermark));
+        }
+        return finishedSplitsInfo;
+    }
+
+    /**
+     * Writes the split id, the id generated by the split assigner, i.e. {@code tableId:chunkId}, is
+     * written as the chunk id only.
+     */
+    private static void writeSplitId(String splitId, String tableId, DataOutputSerializer out)
+            throws IOException {
+        int chunkId = parseChunkId(splitId, tableId);
+        if (chunkId >= 0) {
+            writeVarInt(chunkId + 1, out);
+        } else {
+            writeVarInt(0, out);
+            writeCompactString(splitId, out);
+        }
+    }
+
+    private static String readSplitId(String tableId, DataInputDeserializer in) throws IOException {
+        int code = readVarInt(in);
+        return code == 0 ? readCompactString(in) : tableId + ":" + (code - 1);
+    }
+
+    /** Returns the chunk id of the split id, or -1 if it doesn't have the default form. */
+    private static int parseChunkId(String splitId, String tableId) {
+        if (splitId.length() <= tableId.length() + 1
+                || splitId.length() > tableId.length() + 10
+                || !splitId.startsWith(tableId)
+                || splitId.charAt(tableId.length()) != ':') {
+            return -1;
+        }
+        final int start = tableId.length() + 1;
+        if (splitId.charAt(start) == '0' && splitId.length() > start + 1) {
+            // leading zeros can't be restored from the number
+            return -1;
+        }
+        long chunkId = 0;
+        for (int i = start; i < splitId.length(); i++) {
+            char c = splitId.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            chunkId = chunkId * 10 + (c - '0');
+        }
+        return chunkId < Integer.MAX_VALUE ? (int) chunkId : -1;
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.split;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The statistics of reading a {@link MySqlSnapshotSplit}, i.e. the number of rows of the chunk and
+ * the time to read them from MySQL. They are reported to the enumerator together with the finished
+ * split to size the following chunks.
+ */
+public class SnapshotSplitReadStatistics implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long rows;
+    private final long readTimeMillis;
+
+    public SnapshotSplitReadStatistics(long rows, long readTimeMillis) {
+        this.rows = rows;
+        this.readTimeMillis = readTimeMillis;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getReadTimeMillis() {
+        return readTimeMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SnapshotSplitReadStatistics that = (SnapshotSplitReadStatistics) o;
+        return rows == that.rows && readTimeMillis == that.readTimeMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rows, readTimeMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotSplitReadStatistics{"
+                + "rows="
+                + rows
+                + ", readTimeMillis="
+                + readTimeMillis
+                + '}';
+    }
+}
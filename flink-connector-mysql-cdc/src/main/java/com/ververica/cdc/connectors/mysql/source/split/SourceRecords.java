@@ -16,8 +16,13 @@
 
 package com.ververica.cdc.connectors.mysql.source.split;
 
+import org.apache.flink.util.CloseableIterator;
+import org.apache.flink.util.FlinkRuntimeException;
+
 import org.apache.kafka.connect.source.SourceRecord;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -25,18 +30,44 @@ import java.util.List;
 /** Data structure to describe a set of {@link SourceRecord}. */
 public final class SourceRecords {
 
-    private final List<SourceRecord> sourceRecords;
+    private List<SourceRecord> sourceRecords;
+    // the records which are read lazily, e.g. from a snapshot chunk spilled to disk
+    @Nullable private CloseableIterator<SourceRecord> lazyRecords;
 
     public SourceRecords(List<SourceRecord> sourceRecords) {
         this.sourceRecords = sourceRecords;
     }
 
+    private SourceRecords(CloseableIterator<SourceRecord> lazyRecords) {
+        this.sourceRecords = new ArrayList<>();
+        this.lazyRecords = lazyRecords;
+    }
+
     public List<SourceRecord> getSourceRecordList() {
+        if (lazyRecords != null) {
+            lazyRecords.forEachRemaining(sourceRecords::add);
+            close();
+        }
         return sourceRecords;
     }
 
     public Iterator<SourceRecord> iterator() {
-        return sourceRecords.iterator();
+        return lazyRecords != null ? lazyRecords : sourceRecords.iterator();
+    }
+
+    /**
+     * Releases the resources of the records which are read lazily, the remaining records are
+     * dropped. This is a no-op for the records held in memory.
+     */
+    public void close() {
+        if (lazyRecords != null) {
+            try {
+                lazyRecords.close();
+            } catch (Exception e) {
+                throw new FlinkRuntimeException("Failed to close the lazily read records.", e);
+            }
+            lazyRecords = null;
+        }
     }
 
     public static SourceRecords fromSingleRecord(SourceRecord record) {
@@ -44,4 +75,13 @@ public final class SourceRecords {
         records.add(record);
         return new SourceRecords(records);
     }
+
+    /**
+     * Creates the records which are read lazily from the given iterator. The records can only be
+     * iterated once, the iterator is expected to release its resources once it's exhausted, it's
+     * closed by {@link #close()} otherwise.
+     */
+    public static SourceRecords fromLazyRecords(CloseableIterator<SourceRecord> records) {
+        return new SourceRecords(records);
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.utils;
+
+import com.ververica.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
+import io.debezium.relational.TableId;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.ververica.cdc.connectors.mysql.source.assigners.MySqlBinlogSplitAssigner.BINLOG_SPLIT_ID;
+
+/**
+ * Utilities to partition the captured tables among multiple binlog splits.
+ *
+ * <p>When the binlog is read by N binlog splits, every table belongs to exactly one binlog split by
+ * the hash of the table identifier, and the binlog split i is always assigned to subtask i. A
+ * single binlog split keeps the id {@code binlog-split}, so the state of a source reading with one
+ * binlog split doesn't change.
+ */
+public class BinlogSplitUtils {
+
+    private BinlogSplitUtils() {}
+
+    /** Returns the id of the binlog split with the given index. */
+    public static String getBinlogSplitId(int splitIndex, int binlogSplitNumber) {
+        return binlogSplitNumber == 1 ? BINLOG_SPLIT_ID : BINLOG_SPLIT_ID + "-" + splitIndex;
+    }
+
+    /** Returns the index of the binlog split with the given id. */
+    public static int getBinlogSplitIndex(String binlogSplitId) {
+        if (BINLOG_SPLIT_ID.equals(binlogSplitId)) {
+            return 0;
+        }
+        if (!binlogSplitId.startsWith(BINLOG_SPLIT_ID + "-")) {
+            throw new IllegalArgumentException("Invalid binlog split id: " + binlogSplitId);
+        }
+        return Integer.parseInt(binlogSplitId.substring(BINLOG_SPLIT_ID.length() + 1));
+    }
+
+    /**
+     * Whether the binlog split with the given id emits the schema change events. Every binlog split
+     * reads all schema change events, only the first binlog split emits them so that each schema
+     * change reaches downstream once.
+     */
+    public static boolean isSchemaChangeEmittingBinlogSplit(String binlogSplitId) {
+        return getBinlogSplitIndex(binlogSplitId) == 0;
+    }
+
+    /** Returns the index of the binlog split which reads the changes of the given table. */
+    public static int getBinlogSplitIndex(TableId tableId, int binlogSplitNumber) {
+        return Math.floorMod(tableId.identifier().hashCode(), binlogSplitNumber);
+    }
+
+    /** Whether the changes of the given table are read by the binlog split with the given id. */
+    public static boolean isTableOfBinlogSplit(
+            TableId tableId, String binlogSplitId, int binlogSplitNumber) {
+        return binlogSplitNumber == 1
+                || getBinlogSplitIndex(tableId, binlogSplitNumber)
+                        == getBinlogSplitIndex(binlogSplitId);
+    }
+
+    /** Filters the finished snapshot splits of the tables read by the given binlog split. */
+    public static List<FinishedSnapshotSplitInfo> getFinishedSplitInfosOfBinlogSplit(
+            List<FinishedSnapshotSplitInfo> finishedSplitInfos,
+            String binlogSplitId,
+            int binlogSplitNumber) {
+        if (binlogSplitNumber == 1) {
+            return finishedSplitInfos;
+        }
+        return finishedSplitInfos.stream()
+                .filter(
+                        splitInfo ->
+                                isTableOfBinlogSplit(
+                                        splitInfo.getTableId(), binlogSplitId, binlogSplitNumber))
+                .collect(Collectors.toList());
+    }
+}
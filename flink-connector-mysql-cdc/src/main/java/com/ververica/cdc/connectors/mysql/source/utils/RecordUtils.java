@@ -35,6 +35,7 @@ import org.apache.kafka.connect.source.SourceRecord;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
@@ -44,6 +45,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static com.ververica.cdc.connectors.mysql.debezium.dispatcher.EventDispatcherImpl.HISTORY_RECORD_FIELD;
@@ -76,6 +79,17 @@ public class RecordUtils {
     /** upsert binlog events to snapshot events collection. */
     public static void upsertBinlog(
             Map<Struct, SourceRecord> snapshotRecords, SourceRecord binlogRecord) {
+        upsertBinlog(binlogRecord, snapshotRecords::put, snapshotRecords::remove);
+    }
+
+    /**
+     * upsert binlog events to snapshot events collection through the given upsert and delete
+     * functions, the upsert function receives the record key and the normalized snapshot record.
+     */
+    public static void upsertBinlog(
+            SourceRecord binlogRecord,
+            BiConsumer<Struct, SourceRecord> upsertFunction,
+            Consumer<Struct> deleteFunction) {
         Struct key = (Struct) binlogRecord.key();
         Struct value = (Struct) binlogRecord.value();
         if (value != null) {
@@ -99,10 +113,10 @@ public class RecordUtils {
                                     binlogRecord.key(),
                                     binlogRecord.valueSchema(),
                                     envelope.read(after, source, fetchTs));
-                    snapshotRecords.put(key, record);
+                    upsertFunction.accept(key, record);
                     break;
                 case DELETE:
-                    snapshotRecords.remove(key);
+                    deleteFunction.accept(key);
                     break;
                 case READ:
                     throw new IllegalStateException(
@@ -119,33 +133,31 @@ public class RecordUtils {
     public static List<SourceRecord> formatMessageTimestamp(
             Collection<SourceRecord> snapshotRecords) {
         return snapshotRecords.stream()
-                .map(
-                        record -> {
-                            Envelope envelope = Envelope.fromSchema(record.valueSchema());
-                            Struct value = (Struct) record.value();
-                            Struct updateAfter = value.getStruct(Envelope.FieldName.AFTER);
-                            // set message timestamp (source.ts_ms) to 0L
-                            Struct source = value.getStruct(Envelope.FieldName.SOURCE);
-                            source.put(Envelope.FieldName.TIMESTAMP, 0L);
-                            // extend the fetch timestamp(ts_ms)
-                            Instant fetchTs =
-                                    Instant.ofEpochMilli(
-                                            value.getInt64(Envelope.FieldName.TIMESTAMP));
-                            SourceRecord sourceRecord =
-                                    new SourceRecord(
-                                            record.sourcePartition(),
-                                            record.sourceOffset(),
-                                            record.topic(),
-                                            record.kafkaPartition(),
-                                            record.keySchema(),
-                                            record.key(),
-                                            record.valueSchema(),
-                                            envelope.read(updateAfter, source, fetchTs));
-                            return sourceRecord;
-                        })
+                .map(RecordUtils::formatMessageTimestamp)
                 .collect(Collectors.toList());
     }
 
+    /** Format message timestamp(source.ts_ms) value to 0L for a record read in snapshot phase. */
+    public static SourceRecord formatMessageTimestamp(SourceRecord record) {
+        Envelope envelope = Envelope.fromSchema(record.valueSchema());
+        Struct value = (Struct) record.value();
+        Struct updateAfter = value.getStruct(Envelope.FieldName.AFTER);
+        // set message timestamp (source.ts_ms) to 0L
+        Struct source = value.getStruct(Envelope.FieldName.SOURCE);
+        source.put(Envelope.FieldName.TIMESTAMP, 0L);
+        // extend the fetch timestamp(ts_ms)
+        Instant fetchTs = Instant.ofEpochMilli(value.getInt64(Envelope.FieldName.TIMESTAMP));
+        return new SourceRecord(
+                record.sourcePartition(),
+                record.sourceOffset(),
+                record.topic(),
+                record.kafkaPartition(),
+                record.keySchema(),
+                record.key(),
+                record.valueSchema(),
+                envelope.read(updateAfter, source, fetchTs));
+    }
+
     public static boolean isWatermarkEvent(SourceRecord record) {
         Optional<WatermarkKind> watermarkKind = getWatermarkKind(record);
         return watermarkKind.isPresent();
@@ -280,9 +292,24 @@ public class RecordUtils {
     public static Object[] getSplitKey(
             RowType splitBoundaryType, SourceRecord dataRecord, SchemaNameAdjuster nameAdjuster) {
         // the split key field contains single field now
-        String splitFieldName = nameAdjuster.adjust(splitBoundaryType.getFieldNames().get(0));
+        return new Object[] {
+            getSplitKeyValue(getSplitKeyFieldName(splitBoundaryType, nameAdjuster), dataRecord)
+        };
+    }
+
+    /** Returns the adjusted field name of the split key in the record key. */
+    public static String getSplitKeyFieldName(
+            RowType splitBoundaryType, SchemaNameAdjuster nameAdjuster) {
+        return nameAdjuster.adjust(splitBoundaryType.getFieldNames().get(0));
+    }
+
+    /**
+     * Returns the value of the single field split key of the record, the field name is adjusted by
+     * {@link #getSplitKeyFieldName}.
+     */
+    public static Object getSplitKeyValue(String splitFieldName, SourceRecord dataRecord) {
         Struct key = (Struct) dataRecord.key();
-        return new Object[] {key.get(splitFieldName)};
+        return key.get(splitFieldName);
     }
 
     public static BinlogOffset getBinlogPosition(SourceRecord dataRecord) {
@@ -336,9 +363,25 @@ public class RecordUtils {
         }
     }
 
+    /**
+     * Compares two split keys column by column, the first non-equal column decides the order. Both
+     * keys must not be null and must have the same length.
+     */
+    public static int compareSplitKeys(Object[] key1, Object[] key2) {
+        for (int i = 0; i < key1.length; i++) {
+            int res = compareObjects(key1[i], key2[i]);
+            if (res != 0) {
+                return res;
+            }
+        }
+        return 0;
+    }
+
     @SuppressWarnings("unchecked")
-    private static int compareObjects(Object o1, Object o2) {
-        if (o1 instanceof Comparable && o1.getClass().equals(o2.getClass())) {
+    static int compareObjects(Object o1, Object o2) {
+        if (isBinaryObject(o1) && isBinaryObject(o2)) {
+            return compareBinary(toByteBuffer(o1), toByteBuffer(o2));
+        } else if (o1 instanceof Comparable && o1.getClass().equals(o2.getClass())) {
             return ((Comparable) o1).compareTo(o2);
         } else if (isNumericObject(o1) && isNumericObject(o2)) {
             return toBigDecimal(o1).compareTo(toBigDecimal(o2));
@@ -362,6 +405,30 @@ public class RecordUtils {
         return new BigDecimal(numericObj.toString());
     }
 
+    private static boolean isBinaryObject(Object obj) {
+        return obj instanceof byte[] || obj instanceof ByteBuffer;
+    }
+
+    private static ByteBuffer toByteBuffer(Object binaryObj) {
+        return binaryObj instanceof byte[]
+                ? ByteBuffer.wrap((byte[]) binaryObj)
+                : (ByteBuffer) binaryObj;
+    }
+
+    /** Compares the remaining bytes of two buffers as unsigned bytes, like MySQL binary strings. */
+    static int compareBinary(ByteBuffer b1, ByteBuffer b2) {
+        int length = Math.min(b1.remaining(), b2.remaining());
+        for (int i = 0; i < length; i++) {
+            int res =
+                    Integer.compare(
+                            b1.get(b1.position() + i) & 0xff, b2.get(b2.position() + i) & 0xff);
+            if (res != 0) {
+                return res;
+            }
+        }
+        return Integer.compare(b1.remaining(), b2.remaining());
+    }
+
     public static HistoryRecord getHistoryRecord(SourceRecord schemaRecord) throws IOException {
         Struct value = (Struct) schemaRecord.value();
         String historyRecordStr = value.getString(HISTORY_RECORD_FIELD);
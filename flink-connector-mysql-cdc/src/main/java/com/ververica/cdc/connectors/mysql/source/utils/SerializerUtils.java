@@ -17,7 +17,9 @@
 package com.ververica.cdc.connectors.mysql.source.utils;
 
 import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputView;
 
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffsetKind;
@@ -25,12 +27,28 @@ import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffsetSerializer;
 import io.debezium.DebeziumException;
 import io.debezium.util.HexConverter;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /** Utils for serialization and deserialization. */
 public class SerializerUtils {
@@ -57,6 +75,7 @@ public class SerializerUtils {
             case 2:
             case 3:
             case 4:
+            case 5:
                 return readBinlogPosition(in);
             default:
                 throw new IOException("Unknown version: " + offsetVersion);
@@ -114,4 +133,515 @@ public class SerializerUtils {
                     e);
         }
     }
+
+    // ------------------------------------------------------------------------------------
+    // Utils to serialize/deserialize split metadata in a compact binary format
+    // ------------------------------------------------------------------------------------
+
+    private static final byte BOUNDARY_VALUE_NULL = 0;
+    private static final byte BOUNDARY_VALUE_INT = 1;
+    private static final byte BOUNDARY_VALUE_LONG = 2;
+    private static final byte BOUNDARY_VALUE_STRING = 3;
+    private static final byte BOUNDARY_VALUE_BIG_INTEGER = 4;
+    private static final byte BOUNDARY_VALUE_BIG_DECIMAL = 5;
+    private static final byte BOUNDARY_VALUE_BYTES = 6;
+    private static final byte BOUNDARY_VALUE_SHORT = 7;
+    private static final byte BOUNDARY_VALUE_BYTE = 8;
+    private static final byte BOUNDARY_VALUE_BOOLEAN = 9;
+    private static final byte BOUNDARY_VALUE_FLOAT = 10;
+    private static final byte BOUNDARY_VALUE_DOUBLE = 11;
+    private static final byte BOUNDARY_VALUE_SERIALIZED = 12;
+
+    /** Writes a non-negative int in 1 to 5 bytes, small values take less bytes. */
+    public static void writeVarInt(int value, DataOutputView out) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readVarInt(DataInputView in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length int.");
+    }
+
+    /** Writes a long in 1 to 10 bytes, values with small magnitude take less bytes. */
+    public static void writeVarLong(long value, DataOutputView out) throws IOException {
+        // zig-zag encoding keeps small negative values short
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.writeByte((int) zigZag);
+    }
+
+    public static long readVarLong(DataInputView in) throws IOException {
+        long zigZag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IOException("Malformed variable-length long.");
+    }
+
+    /** Writes a byte array with a variable-length size prefix. */
+    public static void writeCompactBytes(byte[] bytes, DataOutputView out) throws IOException {
+        writeVarInt(bytes.length, out);
+        out.write(bytes);
+    }
+
+    public static byte[] readCompactBytes(DataInputView in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /** Writes a string with a variable-length size prefix, the string is not limited to 64KB. */
+    public static void writeCompactString(String value, DataOutputView out) throws IOException {
+        writeCompactBytes(value.getBytes(StandardCharsets.UTF_8), out);
+    }
+
+    public static String readCompactString(DataInputView in) throws IOException {
+        return new String(readCompactBytes(in), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a nullable string through a dictionary, a string that was already written through the
+     * same dictionary is written as a reference to its first occurrence. The same sequence of
+     * strings must be read by {@link #readDictionaryString(List, DataInputView)} with an initially
+     * empty dictionary.
+     */
+    public static void writeDictionaryString(
+            String value, Map<String, Integer> dictionary, DataOutputView out) throws IOException {
+        if (value == null) {
+            writeVarInt(0, out);
+            return;
+        }
+        Integer index = dictionary.get(value);
+        if (index != null) {
+            writeVarInt(index + 2, out);
+        } else {
+            dictionary.put(value, dictionary.size());
+            writeVarInt(1, out);
+            writeCompactString(value, out);
+        }
+    }
+
+    public static String readDictionaryString(List<String> dictionary, DataInputView in)
+            throws IOException {
+        int code = readVarInt(in);
+        if (code == 0) {
+            return null;
+        } else if (code == 1) {
+            String value = readCompactString(in);
+            dictionary.add(value);
+            return value;
+        } else {
+            return dictionary.get(code - 2);
+        }
+    }
+
+    /** Writes a nullable binlog offset, the keys and values of the offset use the dictionary. */
+    public static void writeCompactBinlogPosition(
+            BinlogOffset offset, Map<String, Integer> dictionary, DataOutputView out)
+            throws IOException {
+        if (offset == null) {
+            writeVarInt(0, out);
+            return;
+        }
+        Map<String, String> offsetMap = offset.getOffset();
+        writeVarInt(offsetMap.size() + 1, out);
+        for (Map.Entry<String, String> entry : offsetMap.entrySet()) {
+            writeDictionaryString(entry.getKey(), dictionary, out);
+            writeDictionaryString(entry.getValue(), dictionary, out);
+        }
+    }
+
+    public static BinlogOffset readCompactBinlogPosition(List<String> dictionary, DataInputView in)
+            throws IOException {
+        int size = readVarInt(in) - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, String> offsetMap = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            offsetMap.put(
+                    readDictionaryString(dictionary, in), readDictionaryString(dictionary, in));
+        }
+        return new BinlogOffset(offsetMap);
+    }
+
+    /**
+     * Writes a nullable split boundary, the common types of chunk key columns are written in binary
+     * form and other types fall back to Java serialization.
+     */
+    public static void writeSplitBoundary(Object[] boundary, DataOutputView out)
+            throws IOException {
+        if (boundary == null) {
+            writeVarInt(0, out);
+            return;
+        }
+        writeVarInt(boundary.length + 1, out);
+        for (Object value : boundary) {
+            writeBoundaryValue(value, out);
+        }
+    }
+
+    public static Object[] readSplitBoundary(DataInputView in) throws IOException {
+        int length = readVarInt(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        Object[] boundary = new Object[length];
+        for (int i = 0; i < length; i++) {
+            boundary[i] = readBoundaryValue(in);
+        }
+        return boundary;
+    }
+
+    private static void writeBoundaryValue(Object value, DataOutputView out) throws IOException {
+        if (value == null) {
+            out.writeByte(BOUNDARY_VALUE_NULL);
+        } else if (value instanceof Integer) {
+            out.writeByte(BOUNDARY_VALUE_INT);
+            writeVarLong((Integer) value, out);
+        } else if (value instanceof Long) {
+            out.writeByte(BOUNDARY_VALUE_LONG);
+            writeVarLong((Long) value, out);
+        } else if (value instanceof String) {
+            out.writeByte(BOUNDARY_VALUE_STRING);
+            writeCompactString((String) value, out);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BOUNDARY_VALUE_BIG_INTEGER);
+            writeCompactBytes(((BigInteger) value).toByteArray(), out);
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            out.writeByte(BOUNDARY_VALUE_BIG_DECIMAL);
+            writeVarLong(decimal.scale(), out);
+            writeCompactBytes(decimal.unscaledValue().toByteArray(), out);
+        } else if (value instanceof byte[]) {
+            out.writeByte(BOUNDARY_VALUE_BYTES);
+            writeCompactBytes((byte[]) value, out);
+        } else if (value instanceof Short) {
+            out.writeByte(BOUNDARY_VALUE_SHORT);
+            writeVarLong((Short) value, out);
+        } else if (value instanceof Byte) {
+            out.writeByte(BOUNDARY_VALUE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOUNDARY_VALUE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            out.writeByte(BOUNDARY_VALUE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(BOUNDARY_VALUE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else {
+            // e.g. temporal types, keep them exactly as they were
+            out.writeByte(BOUNDARY_VALUE_SERIALIZED);
+            try (final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                    ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(value);
+                oos.flush();
+                writeCompactBytes(bos.toByteArray(), out);
+            }
+        }
+    }
+
+    private static Object readBoundaryValue(DataInputView in) throws IOException {
+        byte valueType = in.readByte();
+        switch (valueType) {
+            case BOUNDARY_VALUE_NULL:
+                return null;
+            case BOUNDARY_VALUE_INT:
+                return (int) readVarLong(in);
+            case BOUNDARY_VALUE_LONG:
+                return readVarLong(in);
+            case BOUNDARY_VALUE_STRING:
+                return readCompactString(in);
+            case BOUNDARY_VALUE_BIG_INTEGER:
+                return new BigInteger(readCompactBytes(in));
+            case BOUNDARY_VALUE_BIG_DECIMAL:
+                int scale = (int) readVarLong(in);
+                return new BigDecimal(new BigInteger(readCompactBytes(in)), scale);
+            case BOUNDARY_VALUE_BYTES:
+                return readCompactBytes(in);
+            case BOUNDARY_VALUE_SHORT:
+                return (short) readVarLong(in);
+            case BOUNDARY_VALUE_BYTE:
+                return in.readByte();
+            case BOUNDARY_VALUE_BOOLEAN:
+                return in.readBoolean();
+            case BOUNDARY_VALUE_FLOAT:
+                return in.readFloat();
+            case BOUNDARY_VALUE_DOUBLE:
+                return in.readDouble();
+            case BOUNDARY_VALUE_SERIALIZED:
+                try (final ByteArrayInputStream bis =
+                                new ByteArrayInputStream(readCompactBytes(in));
+                        ObjectInputStream ois = new ObjectInputStream(bis)) {
+                    return ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Failed to deserialize split boundary value.", e);
+                }
+            default:
+                throw new IOException("Unknown split boundary value type: " + valueType);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------
+    // Utils to serialize/deserialize Kafka Connect data with a known schema
+    // ------------------------------------------------------------------------------------
+
+    private static final byte OFFSET_VALUE_NULL = 0;
+    private static final byte OFFSET_VALUE_STRING = 1;
+    private static final byte OFFSET_VALUE_LONG = 2;
+    private static final byte OFFSET_VALUE_INT = 3;
+    private static final byte OFFSET_VALUE_BOOLEAN = 4;
+
+    /**
+     * Writes the given {@link Struct} without its schema, the same schema must be provided to
+     * {@link #readStruct(Schema, DataInputView)} to read it back.
+     */
+    public static void writeStruct(Struct struct, DataOutputView out) throws IOException {
+        writeConnectValue(struct.schema(), struct, out);
+    }
+
+    public static Struct readStruct(Schema schema, DataInputView in) throws IOException {
+        return (Struct) readConnectValue(schema, in);
+    }
+
+    /** Writes a source partition or source offset map of a {@code SourceRecord}. */
+    public static void writeSourceOffset(Map<String, ?> offset, DataOutputView out)
+            throws IOException {
+        out.writeInt(offset.size());
+        for (Map.Entry<String, ?> entry : offset.entrySet()) {
+            out.writeUTF(entry.getKey());
+            Object value = entry.getValue();
+            if (value == null) {
+                out.writeByte(OFFSET_VALUE_NULL);
+            } else if (value instanceof Long) {
+                out.writeByte(OFFSET_VALUE_LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(OFFSET_VALUE_INT);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(OFFSET_VALUE_BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else {
+                // other offset values are only read through their string representation
+                out.writeByte(OFFSET_VALUE_STRING);
+                writeString(value.toString(), out);
+            }
+        }
+    }
+
+    public static Map<String, ?> readSourceOffset(DataInputView in) throws IOException {
+        int size = in.readInt();
+        Map<String, Object> offset = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            byte valueType = in.readByte();
+            switch (valueType) {
+                case OFFSET_VALUE_NULL:
+                    offset.put(key, null);
+                    break;
+                case OFFSET_VALUE_STRING:
+                    offset.put(key, readString(in));
+                    break;
+                case OFFSET_VALUE_LONG:
+                    offset.put(key, in.readLong());
+                    break;
+                case OFFSET_VALUE_INT:
+                    offset.put(key, in.readInt());
+                    break;
+                case OFFSET_VALUE_BOOLEAN:
+                    offset.put(key, in.readBoolean());
+                    break;
+                default:
+                    throw new IOException("Unknown offset value type: " + valueType);
+            }
+        }
+        return offset;
+    }
+
+    private static void writeConnectValue(Schema schema, Object value, DataOutputView out)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value == null) {
+            return;
+        }
+        String logicalName = schema.name();
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                if (Date.LOGICAL_NAME.equals(logicalName)) {
+                    out.writeInt(Date.fromLogical(schema, (java.util.Date) value));
+                } else if (Time.LOGICAL_NAME.equals(logicalName)) {
+                    out.writeInt(Time.fromLogical(schema, (java.util.Date) value));
+                } else {
+                    out.writeInt((Integer) value);
+                }
+                break;
+            case INT64:
+                if (Timestamp.LOGICAL_NAME.equals(logicalName)) {
+                    out.writeLong(Timestamp.fromLogical(schema, (java.util.Date) value));
+                } else {
+                    out.writeLong((Long) value);
+                }
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeString((String) value, out);
+                break;
+            case BYTES:
+                if (Decimal.LOGICAL_NAME.equals(logicalName)) {
+                    writeBytes(Decimal.fromLogical(schema, (BigDecimal) value), out);
+                } else if (value instanceof ByteBuffer) {
+                    ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    out.writeBoolean(true);
+                    writeBytes(bytes, out);
+                } else {
+                    out.writeBoolean(false);
+                    writeBytes((byte[]) value, out);
+                }
+                break;
+            case ARRAY:
+                List<?> list = (List<?>) value;
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeConnectValue(schema.valueSchema(), element, out);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeConnectValue(schema.keySchema(), entry.getKey(), out);
+                    writeConnectValue(schema.valueSchema(), entry.getValue(), out);
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeConnectValue(field.schema(), struct.get(field), out);
+                }
+                break;
+            default:
+                throw new IOException("Unsupported schema type: " + schema.type());
+        }
+    }
+
+    private static Object readConnectValue(Schema schema, DataInputView in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        String logicalName = schema.name();
+        switch (schema.type()) {
+            case INT8:
+                return in.readByte();
+            case INT16:
+                return in.readShort();
+            case INT32:
+                if (Date.LOGICAL_NAME.equals(logicalName)) {
+                    return Date.toLogical(schema, in.readInt());
+                } else if (Time.LOGICAL_NAME.equals(logicalName)) {
+                    return Time.toLogical(schema, in.readInt());
+                }
+                return in.readInt();
+            case INT64:
+                if (Timestamp.LOGICAL_NAME.equals(logicalName)) {
+                    return Timestamp.toLogical(schema, in.readLong());
+                }
+                return in.readLong();
+            case FLOAT32:
+                return in.readFloat();
+            case FLOAT64:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return readString(in);
+            case BYTES:
+                if (Decimal.LOGICAL_NAME.equals(logicalName)) {
+                    return Decimal.toLogical(schema, readBytes(in));
+                }
+                boolean isByteBuffer = in.readBoolean();
+                byte[] bytes = readBytes(in);
+                return isByteBuffer ? ByteBuffer.wrap(bytes) : bytes;
+            case ARRAY:
+                int listSize = in.readInt();
+                List<Object> list = new ArrayList<>(listSize);
+                for (int i = 0; i < listSize; i++) {
+                    list.add(readConnectValue(schema.valueSchema(), in));
+                }
+                return list;
+            case MAP:
+                int mapSize = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>(mapSize);
+                for (int i = 0; i < mapSize; i++) {
+                    map.put(
+                            readConnectValue(schema.keySchema(), in),
+                            readConnectValue(schema.valueSchema(), in));
+                }
+                return map;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    struct.put(field, readConnectValue(field.schema(), in));
+                }
+                return struct;
+            default:
+                throw new IOException("Unsupported schema type: " + schema.type());
+        }
+    }
+
+    private static void writeString(String value, DataOutputView out) throws IOException {
+        // writeUTF is limited to 64KB, text columns may be larger than that
+        writeBytes(value.getBytes(StandardCharsets.UTF_8), out);
+    }
+
+    private static String readString(DataInputView in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputView out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputView in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.utils;
+
+import javax.annotation.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * The split key range [splitStart, splitEnd) of a snapshot split, whose bounds are specialized by
+ * their type when the range is created.
+ *
+ * <p>{@link RecordUtils#splitKeyRangeContains} compares every column of a split key through the
+ * generic {@code compareObjects}, which checks the classes of both values and converts numbers of
+ * different classes to {@link BigDecimal}. The range is checked for every backfill and binlog
+ * record, so the bounds are converted once instead: integral bounds are compared as primitive
+ * longs, decimal bounds as {@link BigDecimal}, string bounds as {@link String} and binary bounds
+ * byte by byte, without allocating on the per-record path. A key value of an unexpected type falls
+ * back to the generic comparison, so the result is always the same as {@link
+ * RecordUtils#splitKeyRangeContains}.
+ */
+public final class SplitKeyRange {
+
+    private static final SplitKeyRange ALL = new SplitKeyRange(null, null);
+
+    @Nullable private final BoundComparator[] start;
+    @Nullable private final BoundComparator[] end;
+
+    private SplitKeyRange(@Nullable BoundComparator[] start, @Nullable BoundComparator[] end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /** Creates the key range of the given split bounds, a null bound means the range is open. */
+    public static SplitKeyRange of(@Nullable Object[] splitStart, @Nullable Object[] splitEnd) {
+        if (splitStart == null && splitEnd == null) {
+            return ALL;
+        }
+        return new SplitKeyRange(toComparators(splitStart), toComparators(splitEnd));
+    }
+
+    /** Returns whether the key range contains the given split key. */
+    public boolean contains(Object[] key) {
+        if (start == null && end == null) {
+            return true;
+        } else if (start == null) {
+            // first split
+            return isBeforeEnd(key);
+        } else if (end == null) {
+            // last split
+            for (int i = 0; i < key.length; i++) {
+                if (start[i].compareKey(key[i]) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            // other split
+            return isAnyColumnAtOrAfterStart(key) && isBeforeEnd(key);
+        }
+    }
+
+    /** Returns whether the key range contains the given key of a single column split key. */
+    public boolean contains(Object key) {
+        return (start == null || start[0].compareKey(key) >= 0)
+                && (end == null || end[0].compareKey(key) < 0);
+    }
+
+    /**
+     * Compares the given key of a single column split key with the start of the range, the start of
+     * the first split is smaller than any key.
+     */
+    public int compareToStart(Object key) {
+        return start == null ? 1 : start[0].compareKey(key);
+    }
+
+    /**
+     * Compares the given split key with the start of the range column by column, the start of the
+     * first split is smaller than any key.
+     */
+    public int compareToStart(Object[] key) {
+        if (start == null) {
+            return 1;
+        }
+        for (int i = 0; i < key.length; i++) {
+            int res = start[i].compareKey(key[i]);
+            if (res != 0) {
+                return res;
+            }
+        }
+        return 0;
+    }
+
+    private boolean isAnyColumnAtOrAfterStart(Object[] key) {
+        for (int i = 0; i < key.length; i++) {
+            if (start[i].compareKey(key[i]) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** No column is after the end and at least one column is before the end. */
+    private boolean isBeforeEnd(Object[] key) {
+        boolean anyColumnBeforeEnd = false;
+        for (int i = 0; i < key.length; i++) {
+            int res = end[i].compareKey(key[i]);
+            if (res > 0) {
+                return false;
+            } else if (res < 0) {
+                anyColumnBeforeEnd = true;
+            }
+        }
+        return anyColumnBeforeEnd;
+    }
+
+    @Nullable
+    private static BoundComparator[] toComparators(@Nullable Object[] bound) {
+        if (bound == null) {
+            return null;
+        }
+        BoundComparator[] comparators = new BoundComparator[bound.length];
+        for (int i = 0; i < bound.length; i++) {
+            comparators[i] = toComparator(bound[i]);
+        }
+        return comparators;
+    }
+
+    private static BoundComparator toComparator(Object bound) {
+        if (isIntegral(bound)) {
+            return new LongBoundComparator(bound);
+        } else if (bound instanceof BigDecimal || bound instanceof BigInteger) {
+            return new DecimalBoundComparator(bound);
+        } else if (bound instanceof String) {
+            return new StringBoundComparator((String) bound);
+        } else if (bound instanceof byte[]) {
+            return new BinaryBoundComparator((byte[]) bound);
+        } else {
+            return new BoundComparator(bound);
+        }
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte;
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /** Compares key values with a bound of a split key column by the generic comparison. */
+    private static class BoundComparator {
+        final Object bound;
+
+        BoundComparator(Object bound) {
+            this.bound = bound;
+        }
+
+        /** Returns a negative, zero or positive value if the key is less, equal or greater. */
+        int compareKey(Object key) {
+            return RecordUtils.compareObjects(key, bound);
+        }
+    }
+
+    private static final class LongBoundComparator extends BoundComparator {
+        private final long value;
+
+        LongBoundComparator(Object bound) {
+            super(bound);
+            this.value = ((Number) bound).longValue();
+        }
+
+        @Override
+        int compareKey(Object key) {
+            return isIntegral(key)
+                    ? Long.compare(((Number) key).longValue(), value)
+                    : super.compareKey(key);
+        }
+    }
+
+    private static final class DecimalBoundComparator extends BoundComparator {
+        private final BigDecimal value;
+
+        DecimalBoundComparator(Object bound) {
+            super(bound);
+            this.value =
+                    bound instanceof BigDecimal
+                            ? (BigDecimal) bound
+                            : new BigDecimal((BigInteger) bound);
+        }
+
+        @Override
+        int compareKey(Object key) {
+            return key instanceof BigDecimal
+                    ? ((BigDecimal) key).compareTo(value)
+                    : super.compareKey(key);
+        }
+    }
+
+    private static final class StringBoundComparator extends BoundComparator {
+        private final String value;
+
+        StringBoundComparator(String bound) {
+            super(bound);
+            this.value = bound;
+        }
+
+        @Override
+        int compareKey(Object key) {
+            return key instanceof String ? ((String) key).compareTo(value) : super.compareKey(key);
+        }
+    }
+
+    private static final class BinaryBoundComparator extends BoundComparator {
+        private final ByteBuffer value;
+
+        BinaryBoundComparator(byte[] bound) {
+            super(bound);
+            this.value = ByteBuffer.wrap(bound);
+        }
+
+        @Override
+        int compareKey(Object key) {
+            return key instanceof ByteBuffer
+                    ? RecordUtils.compareBinary((ByteBuffer) key, value)
+                    : super.compareKey(key);
+        }
+    }
+}
@@ -24,7 +24,9 @@ import io.debezium.relational.TableId;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -75,6 +77,22 @@ public class StatementUtils {
                 });
     }
 
+    /**
+     * Queries the average row length in bytes of the table from the table statistics, returns 0 if
+     * the statistics are not available, e.g. the table has never been analyzed.
+     */
+    public static long queryAvgRowLength(JdbcConnection jdbc, TableId tableId) throws SQLException {
+        final String avgRowLengthQuery =
+                "SELECT AVG_ROW_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+        return jdbc.prepareQueryAndMap(
+                avgRowLengthQuery,
+                ps -> {
+                    ps.setString(1, tableId.catalog());
+                    ps.setString(2, tableId.table());
+                },
+                rs -> rs.next() ? rs.getLong(1) : 0L);
+    }
+
     public static Object queryMin(
             JdbcConnection jdbc, TableId tableId, String columnName, Object excludedLowerBound)
             throws SQLException {
@@ -129,6 +147,40 @@ public class StatementUtils {
                 });
     }
 
+    /**
+     * Queries a random sample of the values of the given column in ascending order, each row is
+     * sampled with the given sampling rate, and all rows are returned if the rate is not less than
+     * 1.
+     */
+    public static List<Object> querySampledValues(
+            JdbcConnection jdbc, TableId tableId, String columnName, double samplingRate)
+            throws SQLException {
+        final String quotedColumn = quote(columnName);
+        final boolean fullSampling = samplingRate >= 1.0d;
+        final String sampleQuery =
+                fullSampling
+                        ? String.format(
+                                "SELECT %s FROM %s WHERE %s IS NOT NULL ORDER BY %s ASC",
+                                quotedColumn, quote(tableId), quotedColumn, quotedColumn)
+                        : String.format(
+                                "SELECT %s FROM %s WHERE %s IS NOT NULL AND RAND() < ? ORDER BY %s ASC",
+                                quotedColumn, quote(tableId), quotedColumn, quotedColumn);
+        return jdbc.prepareQueryAndMap(
+                sampleQuery,
+                ps -> {
+                    if (!fullSampling) {
+                        ps.setDouble(1, samplingRate);
+                    }
+                },
+                rs -> {
+                    List<Object> values = new ArrayList<>();
+                    while (rs.next()) {
+                        values.add(rs.getObject(1));
+                    }
+                    return values;
+                });
+    }
+
     public static String buildSplitScanQuery(
             TableId tableId, RowType pkRowType, boolean isFirstSplit, boolean isLastSplit) {
         return buildSplitQuery(tableId, pkRowType, isFirstSplit, isLastSplit, -1, true);
@@ -132,11 +132,6 @@ public class TableDiscoveryUtils {
         }
         // fetch table schemas
         MySqlSchema mySqlSchema = new MySqlSchema(sourceConfig, jdbc.isTableIdCaseSensitive());
-        Map<TableId, TableChange> tableSchemas = new HashMap<>();
-        for (TableId tableId : capturedTableIds) {
-            TableChange tableSchema = mySqlSchema.getTableSchema(jdbc, tableId);
-            tableSchemas.put(tableId, tableSchema);
-        }
-        return tableSchemas;
+        return mySqlSchema.getTableSchemas(jdbc, capturedTableIds);
     }
 }
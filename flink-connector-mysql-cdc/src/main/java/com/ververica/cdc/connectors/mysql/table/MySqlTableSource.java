@@ -29,6 +29,7 @@ import org.apache.flink.table.types.DataType;
 import org.apache.flink.table.types.logical.RowType;
 
 import com.ververica.cdc.connectors.mysql.source.MySqlSource;
+import com.ververica.cdc.connectors.mysql.source.config.ChunkSplitStrategy;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 import com.ververica.cdc.debezium.DebeziumSourceFunction;
 import com.ververica.cdc.debezium.table.MetadataConverter;
@@ -79,6 +80,20 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
     private final Properties jdbcProperties;
     private final Duration heartbeatInterval;
     private final String chunkKeyColumn;
+    private final int chunkSpillThreshold;
+    private final boolean sharedBackfillCursorEnabled;
+    private final int chunkSplitterParallelism;
+    private final ChunkSplitStrategy chunkSplitStrategy;
+    private final boolean objectReuseEnabled;
+    private final boolean bulkSchemaDiscoveryEnabled;
+    private final String schemaCacheDir;
+    private final int binlogDeserializationParallelism;
+    private final int binlogSplitNumber;
+    private final Long chunkTargetBytes;
+    private final Duration chunkTargetReadTime;
+    private final boolean sizeAwareSchedulingEnabled;
+    private final int prefetchSplits;
+    private final int snapshotReaderConcurrency;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -114,7 +129,21 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
             boolean scanNewlyAddedTableEnabled,
             Properties jdbcProperties,
             Duration heartbeatInterval,
-            @Nullable String chunkKeyColumn) {
+            @Nullable String chunkKeyColumn,
+            int chunkSpillThreshold,
+            boolean sharedBackfillCursorEnabled,
+            int chunkSplitterParallelism,
+            ChunkSplitStrategy chunkSplitStrategy,
+            boolean objectReuseEnabled,
+            boolean bulkSchemaDiscoveryEnabled,
+            @Nullable String schemaCacheDir,
+            int binlogDeserializationParallelism,
+            int binlogSplitNumber,
+            @Nullable Long chunkTargetBytes,
+            @Nullable Duration chunkTargetReadTime,
+            boolean sizeAwareSchedulingEnabled,
+            int prefetchSplits,
+            int snapshotReaderConcurrency) {
         this.physicalSchema = physicalSchema;
         this.port = port;
         this.hostname = checkNotNull(hostname);
@@ -142,6 +171,20 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
         this.metadataKeys = Collections.emptyList();
         this.heartbeatInterval = heartbeatInterval;
         this.chunkKeyColumn = chunkKeyColumn;
+        this.chunkSpillThreshold = chunkSpillThreshold;
+        this.sharedBackfillCursorEnabled = sharedBackfillCursorEnabled;
+        this.chunkSplitterParallelism = chunkSplitterParallelism;
+        this.chunkSplitStrategy = chunkSplitStrategy;
+        this.objectReuseEnabled = objectReuseEnabled;
+        this.bulkSchemaDiscoveryEnabled = bulkSchemaDiscoveryEnabled;
+        this.schemaCacheDir = schemaCacheDir;
+        this.binlogDeserializationParallelism = binlogDeserializationParallelism;
+        this.binlogSplitNumber = binlogSplitNumber;
+        this.chunkTargetBytes = chunkTargetBytes;
+        this.chunkTargetReadTime = chunkTargetReadTime;
+        this.sizeAwareSchedulingEnabled = sizeAwareSchedulingEnabled;
+        this.prefetchSplits = prefetchSplits;
+        this.snapshotReaderConcurrency = snapshotReaderConcurrency;
     }
 
     @Override
@@ -165,6 +208,7 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                         .setServerTimeZone(serverTimeZone)
                         .setUserDefinedConverterFactory(
                                 MySqlDeserializationConverterFactory.instance())
+                        .setObjectReuse(objectReuseEnabled)
                         .build();
         if (enableParallelRead) {
             MySqlSource<RowData> parallelSource =
@@ -192,6 +236,19 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                             .jdbcProperties(jdbcProperties)
                             .heartbeatInterval(heartbeatInterval)
                             .chunkKeyColumn(chunkKeyColumn)
+                            .chunkSpillThreshold(chunkSpillThreshold)
+                            .sharedBackfillCursorEnabled(sharedBackfillCursorEnabled)
+                            .chunkSplitterParallelism(chunkSplitterParallelism)
+                            .chunkSplitStrategy(chunkSplitStrategy)
+                            .bulkSchemaDiscoveryEnabled(bulkSchemaDiscoveryEnabled)
+                            .schemaCacheDir(schemaCacheDir)
+                            .binlogDeserializationParallelism(binlogDeserializationParallelism)
+                            .binlogSplitNumber(binlogSplitNumber)
+                            .chunkTargetBytes(chunkTargetBytes)
+                            .chunkTargetReadTime(chunkTargetReadTime)
+                            .sizeAwareSchedulingEnabled(sizeAwareSchedulingEnabled)
+                            .prefetchSplits(prefetchSplits)
+                            .snapshotReaderConcurrency(snapshotReaderConcurrency)
                             .build();
             return SourceProvider.of(parallelSource);
         } else {
@@ -271,7 +328,21 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                         scanNewlyAddedTableEnabled,
                         jdbcProperties,
                         heartbeatInterval,
-                        chunkKeyColumn);
+                        chunkKeyColumn,
+                        chunkSpillThreshold,
+                        sharedBackfillCursorEnabled,
+                        chunkSplitterParallelism,
+                        chunkSplitStrategy,
+                        objectReuseEnabled,
+                        bulkSchemaDiscoveryEnabled,
+                        schemaCacheDir,
+                        binlogDeserializationParallelism,
+                        binlogSplitNumber,
+                        chunkTargetBytes,
+                        chunkTargetReadTime,
+                        sizeAwareSchedulingEnabled,
+                        prefetchSplits,
+                        snapshotReaderConcurrency);
         source.metadataKeys = metadataKeys;
         source.producedDataType = producedDataType;
         return source;
@@ -311,7 +382,21 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                 && Objects.equals(metadataKeys, that.metadataKeys)
                 && Objects.equals(jdbcProperties, that.jdbcProperties)
                 && Objects.equals(heartbeatInterval, that.heartbeatInterval)
-                && Objects.equals(chunkKeyColumn, that.chunkKeyColumn);
+                && Objects.equals(chunkKeyColumn, that.chunkKeyColumn)
+                && chunkSpillThreshold == that.chunkSpillThreshold
+                && sharedBackfillCursorEnabled == that.sharedBackfillCursorEnabled
+                && chunkSplitterParallelism == that.chunkSplitterParallelism
+                && Objects.equals(chunkSplitStrategy, that.chunkSplitStrategy)
+                && objectReuseEnabled == that.objectReuseEnabled
+                && bulkSchemaDiscoveryEnabled == that.bulkSchemaDiscoveryEnabled
+                && Objects.equals(schemaCacheDir, that.schemaCacheDir)
+                && binlogDeserializationParallelism == that.binlogDeserializationParallelism
+                && binlogSplitNumber == that.binlogSplitNumber
+                && Objects.equals(chunkTargetBytes, that.chunkTargetBytes)
+                && Objects.equals(chunkTargetReadTime, that.chunkTargetReadTime)
+                && sizeAwareSchedulingEnabled == that.sizeAwareSchedulingEnabled
+                && prefetchSplits == that.prefetchSplits
+                && snapshotReaderConcurrency == that.snapshotReaderConcurrency;
     }
 
     @Override
@@ -342,7 +427,21 @@ public class MySqlTableSource implements ScanTableSource, SupportsReadingMetadat
                 scanNewlyAddedTableEnabled,
                 jdbcProperties,
                 heartbeatInterval,
-                chunkKeyColumn);
+                chunkKeyColumn,
+                chunkSpillThreshold,
+                sharedBackfillCursorEnabled,
+                chunkSplitterParallelism,
+                chunkSplitStrategy,
+                objectReuseEnabled,
+                bulkSchemaDiscoveryEnabled,
+                schemaCacheDir,
+                binlogDeserializationParallelism,
+                binlogSplitNumber,
+                chunkTargetBytes,
+                chunkTargetReadTime,
+                sizeAwareSchedulingEnabled,
+                prefetchSplits,
+                snapshotReaderConcurrency);
     }
 
     @Override
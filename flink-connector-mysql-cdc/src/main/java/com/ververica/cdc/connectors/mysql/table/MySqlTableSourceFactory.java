@@ -24,6 +24,7 @@ import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.factories.DynamicTableSourceFactory;
 import org.apache.flink.table.factories.FactoryUtil;
 
+import com.ververica.cdc.connectors.mysql.source.config.ChunkSplitStrategy;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions;
 import com.ververica.cdc.connectors.mysql.source.config.ServerIdRange;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
@@ -32,6 +33,8 @@ import com.ververica.cdc.debezium.table.DebeziumOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.time.Duration;
 import java.time.ZoneId;
 import java.util.HashSet;
@@ -50,10 +53,24 @@ import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOption
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.HOSTNAME;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.PASSWORD;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.PORT;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_DESERIALIZATION_PARALLELISM;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_SPLIT_NUMBER;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BULK_SCHEMA_DISCOVERY_CACHE_DIR;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BULK_SCHEMA_DISCOVERY_ENABLED;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_STRATEGY;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_BYTES;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_READ_TIME;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_NEWLY_ADDED_TABLE_ENABLED;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_OBJECT_REUSE_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_STARTUP_MODE;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_STARTUP_SPECIFIC_OFFSET_FILE;
@@ -109,6 +126,27 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
         double distributionFactorLower = config.get(CHUNK_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND);
         boolean scanNewlyAddedTableEnabled = config.get(SCAN_NEWLY_ADDED_TABLE_ENABLED);
         Duration heartbeatInterval = config.get(HEARTBEAT_INTERVAL);
+        int chunkSpillThreshold = config.get(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD);
+        boolean sharedBackfillCursorEnabled =
+                config.get(SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED);
+        int chunkSplitterParallelism =
+                config.get(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM);
+        ChunkSplitStrategy chunkSplitStrategy =
+                ChunkSplitStrategy.fromValue(config.get(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_STRATEGY));
+        boolean objectReuseEnabled = config.get(SCAN_OBJECT_REUSE_ENABLED);
+        boolean bulkSchemaDiscoveryEnabled = config.get(SCAN_BULK_SCHEMA_DISCOVERY_ENABLED);
+        String schemaCacheDir =
+                config.getOptional(SCAN_BULK_SCHEMA_DISCOVERY_CACHE_DIR).orElse(null);
+        int binlogDeserializationParallelism = config.get(SCAN_BINLOG_DESERIALIZATION_PARALLELISM);
+        int binlogSplitNumber = config.get(SCAN_BINLOG_SPLIT_NUMBER);
+        Long chunkTargetBytes =
+                config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_BYTES).orElse(null);
+        Duration chunkTargetReadTime =
+                config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_READ_TIME).orElse(null);
+        boolean sizeAwareSchedulingEnabled =
+                config.get(SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED);
+        int prefetchSplits = config.get(SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS);
+        int snapshotReaderConcurrency = config.get(SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY);
 
         boolean enableParallelRead = config.get(SCAN_INCREMENTAL_SNAPSHOT_ENABLED);
         if (enableParallelRead) {
@@ -120,6 +158,20 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
             validateIntegerOption(CONNECT_MAX_RETRIES, connectMaxRetries, 0);
             validateDistributionFactorUpper(distributionFactorUpper);
             validateDistributionFactorLower(distributionFactorLower);
+            validateIntegerOption(
+                    SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY, snapshotReaderConcurrency, 0);
+            validateIntegerOption(SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS, prefetchSplits, 0);
+            validatePositiveOption(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_BYTES, chunkTargetBytes);
+            validatePositiveOption(
+                    SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_READ_TIME,
+                    chunkTargetReadTime == null ? null : chunkTargetReadTime.toMillis());
+            validateIntegerOption(SCAN_BINLOG_SPLIT_NUMBER, binlogSplitNumber, 0);
+            validateIntegerOption(
+                    SCAN_BINLOG_DESERIALIZATION_PARALLELISM, binlogDeserializationParallelism, 0);
+            validateIntegerOption(
+                    SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM,
+                    chunkSplitterParallelism,
+                    0);
         }
 
         return new MySqlTableSource(
@@ -146,7 +198,21 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
                 scanNewlyAddedTableEnabled,
                 JdbcUrlUtils.getJdbcProperties(context.getCatalogTable().getOptions()),
                 heartbeatInterval,
-                config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN).orElse(null));
+                config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN).orElse(null),
+                chunkSpillThreshold,
+                sharedBackfillCursorEnabled,
+                chunkSplitterParallelism,
+                chunkSplitStrategy,
+                objectReuseEnabled,
+                bulkSchemaDiscoveryEnabled,
+                schemaCacheDir,
+                binlogDeserializationParallelism,
+                binlogSplitNumber,
+                chunkTargetBytes,
+                chunkTargetReadTime,
+                sizeAwareSchedulingEnabled,
+                prefetchSplits,
+                snapshotReaderConcurrency);
     }
 
     @Override
@@ -190,6 +256,20 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
         options.add(SCAN_NEWLY_ADDED_TABLE_ENABLED);
         options.add(HEARTBEAT_INTERVAL);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_STRATEGY);
+        options.add(SCAN_OBJECT_REUSE_ENABLED);
+        options.add(SCAN_BULK_SCHEMA_DISCOVERY_ENABLED);
+        options.add(SCAN_BULK_SCHEMA_DISCOVERY_CACHE_DIR);
+        options.add(SCAN_BINLOG_DESERIALIZATION_PARALLELISM);
+        options.add(SCAN_BINLOG_SPLIT_NUMBER);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_BYTES);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_READ_TIME);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY);
         return options;
     }
 
@@ -302,6 +382,15 @@ public class MySqlTableSourceFactory implements DynamicTableSourceFactory {
                         option.key(), exclusiveMin, optionValue));
     }
 
+    /** Checks the value of the given optional option is positive if it's set. */
+    private void validatePositiveOption(ConfigOption<?> option, @Nullable Long optionValue) {
+        checkState(
+                optionValue == null || optionValue > 0,
+                String.format(
+                        "The value of option '%s' must larger than 0, but is %d",
+                        option.key(), optionValue));
+    }
+
     /**
      * Checks the given regular expression's syntax is valid.
      *
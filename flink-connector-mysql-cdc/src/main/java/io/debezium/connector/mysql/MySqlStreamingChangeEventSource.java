@@ -30,6 +30,9 @@ import com.github.shyiko.mysql.binlog.network.DefaultSSLSocketFactory;
 import com.github.shyiko.mysql.binlog.network.SSLMode;
 import com.github.shyiko.mysql.binlog.network.SSLSocketFactory;
 import com.github.shyiko.mysql.binlog.network.ServerException;
+import com.ververica.cdc.connectors.mysql.debezium.binlog.BinlogDeserializationPipeline;
+import com.ververica.cdc.connectors.mysql.debezium.binlog.TableFilteringRowsDeserializer;
+import com.ververica.cdc.connectors.mysql.source.metrics.BinlogDeserializationMetrics;
 import io.debezium.DebeziumException;
 import io.debezium.annotation.SingleThreadAccess;
 import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
@@ -88,6 +91,11 @@ import static io.debezium.util.Strings.isNullOrEmpty;
  * <p>Line 268 ~ 270: Clean cache on rotate event to prevent it from growing indefinitely. We should
  * remove this class after we bumped a higher debezium version where the
  * https://issues.redhat.com/browse/DBZ-5126 has been fixed.
+ *
+ * <p>The row images of the tables which aren't captured are skipped without decoding by a {@link
+ * TableFilteringRowsDeserializer}. The rows events can also be decoded in parallel by a {@link
+ * BinlogDeserializationPipeline} when the {@link BinlogDeserializationPipeline#PARALLELISM_KEY} is
+ * larger than 1.
  */
 public class MySqlStreamingChangeEventSource
         implements StreamingChangeEventSource<MySqlOffsetContext> {
@@ -120,6 +128,8 @@ public class MySqlStreamingChangeEventSource
     private final MySqlConnection connection;
     private final EventDispatcher<TableId> eventDispatcher;
     private final ErrorHandler errorHandler;
+    private final int deserializationParallelism;
+    private final BinlogDeserializationMetrics deserializationMetrics;
 
     @SingleThreadAccess("binlog client thread")
     private Instant eventTimestamp;
@@ -193,6 +203,26 @@ public class MySqlStreamingChangeEventSource
             Clock clock,
             MySqlTaskContext taskContext,
             MySqlStreamingChangeEventSourceMetrics metrics) {
+        this(
+                connectorConfig,
+                connection,
+                dispatcher,
+                errorHandler,
+                clock,
+                taskContext,
+                metrics,
+                new BinlogDeserializationMetrics());
+    }
+
+    public MySqlStreamingChangeEventSource(
+            MySqlConnectorConfig connectorConfig,
+            MySqlConnection connection,
+            EventDispatcher<TableId> dispatcher,
+            ErrorHandler errorHandler,
+            Clock clock,
+            MySqlTaskContext taskContext,
+            MySqlStreamingChangeEventSourceMetrics metrics,
+            BinlogDeserializationMetrics deserializationMetrics) {
 
         this.taskContext = taskContext;
         this.connectorConfig = connectorConfig;
@@ -201,6 +231,7 @@ public class MySqlStreamingChangeEventSource
         this.eventDispatcher = dispatcher;
         this.errorHandler = errorHandler;
         this.metrics = metrics;
+        this.deserializationMetrics = deserializationMetrics;
 
         eventDeserializationFailureHandlingMode =
                 connectorConfig.getEventProcessingFailureHandlingMode();
@@ -247,6 +278,8 @@ public class MySqlStreamingChangeEventSource
         // Set up the event deserializer with additional type(s) ...
         final Map<Long, TableMapEventData> tableMapEventByTableId =
                 new HashMap<Long, TableMapEventData>();
+        final Map<Long, Boolean> capturedByTableId = new HashMap<>();
+        final Predicate<TableId> capturedTableFilter = this::isCapturedTable;
         EventDeserializer eventDeserializer =
                 new EventDeserializer() {
                     @Override
@@ -261,12 +294,20 @@ public class MySqlStreamingChangeEventSource
                                 TableMapEventData tableMapEvent = event.getData();
                                 tableMapEventByTableId.put(
                                         tableMapEvent.getTableId(), tableMapEvent);
+                                capturedByTableId.put(
+                                        tableMapEvent.getTableId(),
+                                        capturedTableFilter.test(
+                                                new TableId(
+                                                        tableMapEvent.getDatabase(),
+                                                        null,
+                                                        tableMapEvent.getTable())));
                             }
 
                             // DBZ-5126 Clean cache on rotate event to prevent it from growing
                             // indefinitely.
                             if (event.getHeader().getEventType() == EventType.ROTATE) {
                                 tableMapEventByTableId.clear();
+                                capturedByTableId.clear();
                             }
                             return event;
                         }
@@ -328,9 +369,28 @@ public class MySqlStreamingChangeEventSource
                 EventType.EXT_DELETE_ROWS,
                 new RowDeserializers.DeleteRowsDeserializer(tableMapEventByTableId)
                         .setMayContainExtraInformation(true));
+        deserializationParallelism =
+                configuration.getInteger(BinlogDeserializationPipeline.PARALLELISM_KEY, 1);
+        if (deserializationParallelism > 1) {
+            // only frame the rows events on the binlog client thread, the row images are decoded
+            // by the deserialization pipeline in parallel
+            BinlogDeserializationPipeline.registerFramingDeserializers(
+                    eventDeserializer, tableMapEventByTableId);
+        }
+        // skip the row images of the tables which aren't captured before decoding them
+        TableFilteringRowsDeserializer.registerTableFiltering(
+                eventDeserializer, capturedByTableId, deserializationMetrics);
         client.setEventDeserializer(eventDeserializer);
     }
 
+    /**
+     * Whether the changes of the given table are captured, the rows events of the tables which
+     * aren't captured are skipped without decoding the rows.
+     */
+    protected boolean isCapturedTable(TableId tableId) {
+        return connectorConfig.getTableFilters().dataCollectionFilter().isIncluded(tableId);
+    }
+
     protected void onEvent(MySqlOffsetContext offsetContext, Event event) {
         long ts = 0;
 
@@ -1023,9 +1083,21 @@ public class MySqlStreamingChangeEventSource
                             context);
             listener = (event) -> buffer.add(effectiveOffsetContext, event);
         }
+        ReaderThreadLifecycleListener lifecycleListener =
+                new ReaderThreadLifecycleListener(effectiveOffsetContext);
+        BinlogDeserializationPipeline deserializationPipeline = null;
+        if (deserializationParallelism > 1) {
+            deserializationPipeline =
+                    new BinlogDeserializationPipeline(
+                            deserializationParallelism,
+                            listener,
+                            e -> lifecycleListener.onEventDeserializationFailure(client, e),
+                            deserializationMetrics);
+            listener = deserializationPipeline;
+        }
         client.registerEventListener(listener);
 
-        client.registerLifecycleListener(new ReaderThreadLifecycleListener(effectiveOffsetContext));
+        client.registerLifecycleListener(lifecycleListener);
         client.registerEventListener((event) -> onEvent(effectiveOffsetContext, event));
         if (LOGGER.isDebugEnabled()) {
             client.registerEventListener((event) -> logEvent(effectiveOffsetContext, event));
@@ -1165,6 +1237,9 @@ public class MySqlStreamingChangeEventSource
                 Thread.sleep(100);
             }
         } finally {
+            if (deserializationPipeline != null) {
+                deserializationPipeline.close();
+            }
             try {
                 client.disconnect();
             } catch (Exception e) {
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.binlog;
+
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventHeaderV4;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.XidEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializationException;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+import com.ververica.cdc.connectors.mysql.source.metrics.BinlogDeserializationMetrics;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link BinlogDeserializationPipeline}. */
+public class BinlogDeserializationPipelineTest {
+
+    static final long TABLE_ID = 42L;
+
+    @Test
+    public void testFrameRowsEvent() throws Exception {
+        TableMapEventData tableMapEvent = createTableMapEvent();
+        byte[] payload = createWriteRowsPayload(TABLE_ID, 1, 2, 3);
+        FramedRowsEventData framedData =
+                new RowsEventFramingDeserializer(
+                                EventType.WRITE_ROWS,
+                                Collections.singletonMap(TABLE_ID, tableMapEvent))
+                        .deserialize(new ByteArrayInputStream(payload));
+
+        assertEquals(EventType.WRITE_ROWS, framedData.getEventType());
+        assertEquals(TABLE_ID, framedData.getTableId());
+        assertSame(tableMapEvent, framedData.getTableMapEvent());
+        assertEquals(payload.length, framedData.getPayload().length);
+
+        WriteRowsEventData rowsData =
+                (WriteRowsEventData) BinlogDeserializationPipeline.decodeRows(framedData);
+        assertEquals(TABLE_ID, rowsData.getTableId());
+        assertEquals(3, rowsData.getRows().size());
+        assertEquals(2, rowsData.getRows().get(1)[0]);
+    }
+
+    @Test
+    public void testEventsAreHandledInBinlogOrder() throws Exception {
+        int eventNum = 10_000;
+        List<Event> handledEvents = new CopyOnWriteArrayList<>();
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        BinlogDeserializationMetrics metrics = new BinlogDeserializationMetrics();
+        TableMapEventData tableMapEvent = createTableMapEvent();
+        try (BinlogDeserializationPipeline pipeline =
+                new BinlogDeserializationPipeline(4, handledEvents::add, failures::add, metrics)) {
+            for (int i = 0; i < eventNum; i++) {
+                if (i % 3 == 0) {
+                    // a non-rows event which isn't decoded by the pipeline
+                    XidEventData xidData = new XidEventData();
+                    xidData.setXid(i);
+                    pipeline.onEvent(new Event(createHeader(EventType.XID, i), xidData));
+                } else {
+                    pipeline.onEvent(
+                            new Event(
+                                    createHeader(EventType.WRITE_ROWS, i),
+                                    new FramedRowsEventData(
+                                            EventType.WRITE_ROWS,
+                                            TABLE_ID,
+                                            createWriteRowsPayload(TABLE_ID, i, i + 1),
+                                            tableMapEvent)));
+                }
+            }
+            waitUntil(() -> handledEvents.size() == eventNum);
+        }
+
+        assertTrue(failures.isEmpty());
+        for (int i = 0; i < eventNum; i++) {
+            Event event = handledEvents.get(i);
+            assertEquals(i, ((EventHeaderV4) event.getHeader()).getPosition());
+            if (i % 3 == 0) {
+                assertEquals(i, ((XidEventData) event.getData()).getXid());
+            } else {
+                List<Serializable[]> rows = ((WriteRowsEventData) event.getData()).getRows();
+                assertEquals(2, rows.size());
+                assertEquals(i, rows.get(0)[0]);
+                assertEquals(i + 1, rows.get(1)[0]);
+            }
+        }
+        assertEquals(eventNum, metrics.getFramedEvents());
+        assertEquals(eventNum - (eventNum + 2) / 3, metrics.getDecodedEvents());
+        assertEquals(eventNum, metrics.getSequencedEvents());
+        assertEquals(0, metrics.getPendingEvents());
+    }
+
+    @Test
+    public void testDeserializationFailure() throws Exception {
+        List<Event> handledEvents = new CopyOnWriteArrayList<>();
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        try (BinlogDeserializationPipeline pipeline =
+                new BinlogDeserializationPipeline(
+                        2, handledEvents::add, failures::add, new BinlogDeserializationMetrics())) {
+            pipeline.onEvent(
+                    new Event(
+                            createHeader(EventType.WRITE_ROWS, 0),
+                            new FramedRowsEventData(
+                                    EventType.WRITE_ROWS,
+                                    TABLE_ID,
+                                    createWriteRowsPayload(TABLE_ID, 1),
+                                    createTableMapEvent())));
+            // there is no table map event of the rows event
+            pipeline.onEvent(
+                    new Event(
+                            createHeader(EventType.WRITE_ROWS, 1),
+                            new FramedRowsEventData(
+                                    EventType.WRITE_ROWS,
+                                    TABLE_ID,
+                                    createWriteRowsPayload(TABLE_ID, 2),
+                                    null)));
+            pipeline.onEvent(new Event(createHeader(EventType.XID, 2), new XidEventData()));
+            waitUntil(() -> handledEvents.size() == 2);
+        }
+
+        // the failed event is reported and skipped
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof EventDataDeserializationException);
+        assertEquals(0, ((EventHeaderV4) handledEvents.get(0).getHeader()).getPosition());
+        assertEquals(2, ((EventHeaderV4) handledEvents.get(1).getHeader()).getPosition());
+    }
+
+    @Test
+    public void testClosedPipelineIgnoresEvents() {
+        List<Event> handledEvents = new ArrayList<>();
+        BinlogDeserializationPipeline pipeline =
+                new BinlogDeserializationPipeline(
+                        2, handledEvents::add, e -> {}, new BinlogDeserializationMetrics());
+        pipeline.close();
+        pipeline.onEvent(new Event(createHeader(EventType.XID, 0), new XidEventData()));
+        assertTrue(handledEvents.isEmpty());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timeout while waiting for the pipeline.");
+            }
+            Thread.sleep(10L);
+        }
+    }
+
+    private static EventHeaderV4 createHeader(EventType eventType, long position) {
+        EventHeaderV4 header = new EventHeaderV4();
+        header.setEventType(eventType);
+        header.setEventLength(100);
+        // the position of an event is derived from its next position and length
+        header.setNextPosition(position + header.getEventLength());
+        return header;
+    }
+
+    /** A table with a single INT column. */
+    static TableMapEventData createTableMapEvent() {
+        TableMapEventData tableMapEvent = new TableMapEventData();
+        tableMapEvent.setTableId(TABLE_ID);
+        tableMapEvent.setDatabase("test_db");
+        tableMapEvent.setTable("test_table");
+        tableMapEvent.setColumnTypes(new byte[] {3});
+        tableMapEvent.setColumnMetadata(new int[] {0});
+        tableMapEvent.setColumnNullability(new BitSet());
+        return tableMapEvent;
+    }
+
+    /** Creates the payload of a WRITE_ROWS event of the table with a single INT column. */
+    static byte[] createWriteRowsPayload(long tableId, int... values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeLittleEndian(out, tableId, 6);
+        // flags
+        writeLittleEndian(out, 0, 2);
+        // column count and the bitmap of included columns
+        out.write(1);
+        out.write(1);
+        for (int value : values) {
+            // the bitmap of null columns and the column value
+            out.write(0);
+            writeLittleEndian(out, value, 4);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeLittleEndian(ByteArrayOutputStream out, long value, int length) {
+        for (int i = 0; i < length; i++) {
+            out.write((int) (value >>> (i << 3)) & 0xFF);
+        }
+    }
+}
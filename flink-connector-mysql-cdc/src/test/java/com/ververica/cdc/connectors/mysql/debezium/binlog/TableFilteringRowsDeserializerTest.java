@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.binlog;
+
+import com.github.shyiko.mysql.binlog.event.EventData;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import com.github.shyiko.mysql.binlog.event.deserialization.EventDataDeserializer;
+import com.github.shyiko.mysql.binlog.io.ByteArrayInputStream;
+import com.ververica.cdc.connectors.mysql.source.metrics.BinlogDeserializationMetrics;
+import io.debezium.connector.mysql.RowDeserializers;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.ververica.cdc.connectors.mysql.debezium.binlog.BinlogDeserializationPipelineTest.TABLE_ID;
+import static com.ververica.cdc.connectors.mysql.debezium.binlog.BinlogDeserializationPipelineTest.createTableMapEvent;
+import static com.ververica.cdc.connectors.mysql.debezium.binlog.BinlogDeserializationPipelineTest.createWriteRowsPayload;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link TableFilteringRowsDeserializer}. */
+public class TableFilteringRowsDeserializerTest {
+
+    /** The byte following the event body in the binlog stream. */
+    private static final int NEXT_BYTE = 0x7F;
+
+    private final Map<Long, TableMapEventData> tableMapEventByTableId =
+            Collections.singletonMap(TABLE_ID, createTableMapEvent());
+
+    @Test
+    public void testDecodeCapturedTable() throws Exception {
+        BinlogDeserializationMetrics metrics = new BinlogDeserializationMetrics();
+        WriteRowsEventData data =
+                (WriteRowsEventData)
+                        deserialize(
+                                createDeserializer(true, metrics),
+                                createWriteRowsPayload(TABLE_ID, 1, 2));
+
+        assertEquals(TABLE_ID, data.getTableId());
+        assertEquals(2, data.getRows().size());
+        assertEquals(1, data.getRows().get(0)[0]);
+        assertEquals(2, data.getRows().get(1)[0]);
+        assertEquals(0, metrics.getSkippedEvents());
+    }
+
+    @Test
+    public void testSkipUncapturedTable() throws Exception {
+        BinlogDeserializationMetrics metrics = new BinlogDeserializationMetrics();
+        byte[] payload = createWriteRowsPayload(TABLE_ID, 1, 2, 3);
+        WriteRowsEventData data =
+                (WriteRowsEventData) deserialize(createDeserializer(false, metrics), payload);
+
+        assertEquals(TABLE_ID, data.getTableId());
+        assertTrue(data.getRows().isEmpty());
+        assertEquals(1, metrics.getSkippedEvents());
+        assertEquals(payload.length, metrics.getSkippedBytes());
+    }
+
+    @Test
+    public void testDecodeUnknownTable() throws Exception {
+        BinlogDeserializationMetrics metrics = new BinlogDeserializationMetrics();
+        // the table map event of another table doesn't affect the table
+        Map<Long, Boolean> capturedByTableId = new HashMap<>();
+        capturedByTableId.put(TABLE_ID + 1, false);
+        WriteRowsEventData data =
+                (WriteRowsEventData)
+                        deserialize(
+                                new TableFilteringRowsDeserializer(
+                                        EventType.WRITE_ROWS,
+                                        new RowDeserializers.WriteRowsDeserializer(
+                                                tableMapEventByTableId),
+                                        capturedByTableId,
+                                        metrics),
+                                createWriteRowsPayload(TABLE_ID, 1));
+
+        assertEquals(1, data.getRows().size());
+        assertEquals(0, metrics.getSkippedEvents());
+    }
+
+    @Test
+    public void testFrameCapturedTable() throws Exception {
+        byte[] payload = createWriteRowsPayload(TABLE_ID, 1, 2, 3);
+        FramedRowsEventData framedData =
+                (FramedRowsEventData)
+                        deserialize(
+                                new TableFilteringRowsDeserializer(
+                                        EventType.WRITE_ROWS,
+                                        new RowsEventFramingDeserializer(
+                                                EventType.WRITE_ROWS, tableMapEventByTableId),
+                                        Collections.singletonMap(TABLE_ID, true),
+                                        new BinlogDeserializationMetrics()),
+                                payload);
+
+        assertEquals(TABLE_ID, framedData.getTableId());
+        assertArrayEquals(payload, framedData.getPayload());
+    }
+
+    private TableFilteringRowsDeserializer createDeserializer(
+            boolean captured, BinlogDeserializationMetrics metrics) {
+        return new TableFilteringRowsDeserializer(
+                EventType.WRITE_ROWS,
+                new RowDeserializers.WriteRowsDeserializer(tableMapEventByTableId),
+                Collections.singletonMap(TABLE_ID, captured),
+                metrics);
+    }
+
+    /**
+     * Deserializes the payload like {@code EventDeserializer}, and checks the deserializer consumes
+     * exactly the event body.
+     */
+    private static EventData deserialize(EventDataDeserializer<?> deserializer, byte[] payload)
+            throws IOException {
+        byte[] stream = Arrays.copyOf(payload, payload.length + 1);
+        stream[payload.length] = NEXT_BYTE;
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(stream);
+        inputStream.enterBlock(payload.length);
+        EventData data = deserializer.deserialize(inputStream);
+        inputStream.skipToTheEndOfTheBlock();
+        assertEquals(NEXT_BYTE, inputStream.read());
+        return data;
+    }
+}
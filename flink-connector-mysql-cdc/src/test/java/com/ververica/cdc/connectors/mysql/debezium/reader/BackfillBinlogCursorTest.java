@@ -0,0 +1,190 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.table.StartupOptions;
+import io.debezium.data.Envelope;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.relational.history.TableChanges.TableChangeType;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.getBinlogPosition;
+import static org.junit.Assert.assertEquals;
+
+/** Tests for {@link BackfillBinlogCursor}. */
+public class BackfillBinlogCursorTest {
+
+    private static final TableId PRODUCTS = TableId.parse("test_db.products");
+    private static final TableId ORDERS = TableId.parse("test_db.orders");
+    private static final TableId CUSTOMERS = TableId.parse("test_db.customers");
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT64_SCHEMA).build();
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct().name("row").optional().field("id", Schema.INT64_SCHEMA).build();
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("source")
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("table", Schema.STRING_SCHEMA)
+                    .build();
+    private static final Envelope ENVELOPE =
+            Envelope.defineSchema()
+                    .withName("envelope")
+                    .withRecord(ROW_SCHEMA)
+                    .withSource(SOURCE_SCHEMA)
+                    .build();
+
+    private final BackfillBinlogCursor cursor =
+            new BackfillBinlogCursor(
+                    new MySqlSourceConfigFactory()
+                            .startupOptions(StartupOptions.initial())
+                            .databaseList("test_db")
+                            .tableList("test_db.products", "test_db.orders", "test_db.customers")
+                            .hostname("localhost")
+                            .port(3306)
+                            .username("fakeUser")
+                            .password("fakePw")
+                            .serverTimeZone("UTC")
+                            .createConfig(0),
+                    0);
+
+    @After
+    public void after() {
+        cursor.close();
+    }
+
+    @Test
+    public void testDiscardRecordsPerTableByPendingLowWatermark() {
+        List<DataChangeEvent> events = new ArrayList<>();
+        for (long pos = 10; pos <= 40; pos += 10) {
+            events.add(new DataChangeEvent(binlogRecord(PRODUCTS, pos)));
+            events.add(new DataChangeEvent(binlogRecord(ORDERS, pos)));
+            events.add(new DataChangeEvent(binlogRecord(CUSTOMERS, pos)));
+        }
+        cursor.bufferRecords(events);
+
+        // another split of the requested table and a split of orders are still pending
+        cursor.addPendingLowWatermark(PRODUCTS, offset(30));
+        cursor.addPendingLowWatermark(PRODUCTS, offset(20));
+        cursor.addPendingLowWatermark(ORDERS, offset(15));
+        cursor.discardBufferedRecords(PRODUCTS, offset(30));
+        assertEquals(positions(20, 30, 40), positions(cursor.getBufferedRecords(PRODUCTS)));
+        assertEquals(positions(20, 30, 40), positions(cursor.getBufferedRecords(ORDERS)));
+        // a table without pending low watermarks is discarded before the requested one
+        assertEquals(positions(30, 40), positions(cursor.getBufferedRecords(CUSTOMERS)));
+
+        // the pending splits have been served
+        cursor.removePendingLowWatermark(PRODUCTS, offset(20));
+        cursor.removePendingLowWatermark(ORDERS, offset(15));
+        cursor.discardBufferedRecords(PRODUCTS, offset(30));
+        assertEquals(positions(30, 40), positions(cursor.getBufferedRecords(PRODUCTS)));
+        assertEquals(positions(30, 40), positions(cursor.getBufferedRecords(ORDERS)));
+
+        // the requested split is pending as well and the oldest one is kept
+        cursor.discardBufferedRecords(PRODUCTS, offset(40));
+        assertEquals(positions(30, 40), positions(cursor.getBufferedRecords(PRODUCTS)));
+        cursor.removePendingLowWatermark(PRODUCTS, offset(30));
+        cursor.discardBufferedRecords(PRODUCTS, offset(40));
+        assertEquals(positions(40), positions(cursor.getBufferedRecords(PRODUCTS)));
+        assertEquals(positions(40), positions(cursor.getBufferedRecords(ORDERS)));
+        assertEquals(positions(40), positions(cursor.getBufferedRecords(CUSTOMERS)));
+    }
+
+    @Test
+    public void testRestartFromOldestPendingLowWatermark() {
+        cursor.addPendingLowWatermark(PRODUCTS, offset(20));
+        cursor.addPendingLowWatermark(ORDERS, offset(15));
+        cursor.addPendingLowWatermark(CUSTOMERS, offset(5));
+
+        // the pending low watermarks of the tables not captured by the cursor are ignored
+        assertEquals(offset(30), cursor.oldestPendingLowWatermark(offset(30)));
+        cursor.captureTables(tableSchemas(PRODUCTS));
+        assertEquals(offset(20), cursor.oldestPendingLowWatermark(offset(30)));
+        cursor.captureTables(tableSchemas(ORDERS));
+        assertEquals(offset(15), cursor.oldestPendingLowWatermark(offset(30)));
+        // the requested low watermark is older than the pending ones
+        assertEquals(offset(10), cursor.oldestPendingLowWatermark(offset(10)));
+
+        cursor.removePendingLowWatermark(ORDERS, offset(15));
+        assertEquals(offset(20), cursor.oldestPendingLowWatermark(offset(30)));
+        cursor.captureTables(tableSchemas(CUSTOMERS));
+        assertEquals(offset(5), cursor.oldestPendingLowWatermark(offset(30)));
+    }
+
+    private static Map<TableId, TableChange> tableSchemas(TableId tableId) {
+        Table table = Table.editor().tableId(tableId).create();
+        return Collections.singletonMap(tableId, new TableChange(TableChangeType.CREATE, table));
+    }
+
+    private static BinlogOffset offset(long pos) {
+        return BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", pos);
+    }
+
+    private static List<Long> positions(long... positions) {
+        List<Long> result = new ArrayList<>();
+        for (long pos : positions) {
+            result.add(pos);
+        }
+        return result;
+    }
+
+    private static List<Long> positions(List<SourceRecord> records) {
+        List<Long> result = new ArrayList<>();
+        for (SourceRecord record : records) {
+            result.add(getBinlogPosition(record).getPosition());
+        }
+        return result;
+    }
+
+    private static SourceRecord binlogRecord(TableId tableId, long pos) {
+        Struct row = new Struct(ROW_SCHEMA).put("id", pos);
+        Struct source =
+                new Struct(SOURCE_SCHEMA)
+                        .put("db", tableId.catalog())
+                        .put("table", tableId.table());
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("file", "mysql-bin.000001");
+        offset.put("pos", pos);
+        return new SourceRecord(
+                Collections.singletonMap("file", "mysql-bin.000001"),
+                offset,
+                "topic",
+                null,
+                KEY_SCHEMA,
+                new Struct(KEY_SCHEMA).put("id", pos),
+                ENVELOPE.schema(),
+                ENVELOPE.create(row, source, Instant.ofEpochMilli(pos)));
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.debezium.reader;
+
+import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
+import io.debezium.data.Envelope;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.upsertBinlog;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/** Tests for {@link SnapshotChunkBuffer}. */
+public class SnapshotChunkBufferTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT64_SCHEMA).build();
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("row")
+                    .optional()
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("price", Decimal.builder(2).optional().build())
+                    .build();
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("source")
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("ts_ms", Schema.OPTIONAL_INT64_SCHEMA)
+                    .build();
+    private static final Envelope ENVELOPE =
+            Envelope.defineSchema()
+                    .withName("envelope")
+                    .withRecord(ROW_SCHEMA)
+                    .withSource(SOURCE_SCHEMA)
+                    .build();
+    private static final SourceRecord LOW_WATERMARK = watermark("low");
+    private static final SourceRecord HIGH_WATERMARK = watermark("high");
+
+    private final SnapshotChunkSpillManager spillManager = new SnapshotChunkSpillManager();
+
+    @Test
+    public void testInMemoryBuffer() {
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(-1, spillManager);
+        for (long id = 0; id < 100; id++) {
+            buffer.put(key(id), snapshotRecord(id, "name-" + id));
+        }
+        assertFalse(buffer.isSpilled());
+
+        List<SourceRecord> records =
+                buffer.normalizedRecords(LOW_WATERMARK, HIGH_WATERMARK).getSourceRecordList();
+        assertEquals(102, records.size());
+        assertEquals(LOW_WATERMARK, records.get(0));
+        assertEquals(HIGH_WATERMARK, records.get(101));
+        assertEquals(
+                0L, (long) ((Struct) records.get(1).value()).getStruct("source").getInt64("ts_ms"));
+    }
+
+    @Test
+    public void testSpilledBufferKeepsUpsertSemantics() {
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(10, spillManager);
+        Map<Struct, SourceRecord> expected = new LinkedHashMap<>();
+        for (long id = 0; id < 95; id++) {
+            SourceRecord record = snapshotRecord(id, "name-" + id);
+            buffer.put(key(id), record);
+            expected.put(key(id), record);
+        }
+        assertTrue(buffer.isSpilled());
+
+        // backfill binlog events: update spilled and in-memory keys, delete, re-insert and insert
+        List<SourceRecord> binlogRecords = new ArrayList<>();
+        binlogRecords.add(binlogRecord(Envelope.Operation.UPDATE, 3L, "updated-3"));
+        binlogRecords.add(binlogRecord(Envelope.Operation.UPDATE, 92L, "updated-92"));
+        binlogRecords.add(binlogRecord(Envelope.Operation.DELETE, 5L, null));
+        binlogRecords.add(binlogRecord(Envelope.Operation.DELETE, 93L, null));
+        binlogRecords.add(binlogRecord(Envelope.Operation.DELETE, 7L, null));
+        binlogRecords.add(binlogRecord(Envelope.Operation.CREATE, 7L, "recreated-7"));
+        binlogRecords.add(binlogRecord(Envelope.Operation.CREATE, 100L, "created-100"));
+        binlogRecords.add(binlogRecord(Envelope.Operation.UPDATE, 3L, "updated-again-3"));
+        for (SourceRecord binlogRecord : binlogRecords) {
+            upsertBinlog(expected, binlogRecord);
+            upsertBinlog(binlogRecord, buffer::put, buffer::remove);
+        }
+        assertEquals(expected.size(), buffer.size());
+
+        File spillFile = buffer.getSpillFile();
+        assertEquals(1, spillManager.getSpilledChunks());
+
+        // the chunk is emitted as one element whose records are read back lazily
+        List<SourceRecord> actual = new ArrayList<>();
+        buffer.normalizedRecords(LOW_WATERMARK, HIGH_WATERMARK)
+                .iterator()
+                .forEachRemaining(actual::add);
+        assertFalse(spillFile.exists());
+        assertEquals(0, spillManager.getSpilledChunks());
+        assertEquals(LOW_WATERMARK, actual.get(0));
+        assertEquals(HIGH_WATERMARK, actual.get(actual.size() - 1));
+        assertEquals(
+                toRows(new ArrayList<>(expected.values())),
+                toRows(actual.subList(1, actual.size() - 1)));
+    }
+
+    @Test
+    public void testSpilledRecordsRestoreValues() {
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(2, spillManager);
+        buffer.put(key(1L), snapshotRecord(1L, null));
+        buffer.put(key(2L), snapshotRecord(2L, "name-2"));
+        assertTrue(buffer.isSpilled());
+
+        List<SourceRecord> records =
+                buffer.normalizedRecords(LOW_WATERMARK, HIGH_WATERMARK).getSourceRecordList();
+        assertEquals(4, records.size());
+
+        SourceRecord record = records.get(2);
+        assertEquals(key(2L), record.key());
+        assertEquals(
+                Collections.singletonMap("file", "mysql-bin.000001"), record.sourcePartition());
+        assertEquals(2L, record.sourceOffset().get("pos"));
+        Struct after = ((Struct) record.value()).getStruct(Envelope.FieldName.AFTER);
+        assertEquals("name-2", after.getString("name"));
+        assertEquals(new BigDecimal("2.50"), after.get("price"));
+        assertEquals(null, ((Struct) records.get(1).value()).getStruct("after").get("name"));
+    }
+
+    @Test
+    public void testCloseReleasesSpillFileWhileReading() {
+        SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(2, spillManager);
+        for (long id = 0; id < 10; id++) {
+            buffer.put(key(id), snapshotRecord(id, "name-" + id));
+        }
+        File spillFile = buffer.getSpillFile();
+        assertNotNull(spillFile);
+
+        SourceRecords sourceRecords = buffer.normalizedRecords(LOW_WATERMARK, HIGH_WATERMARK);
+        Iterator<SourceRecord> iterator = sourceRecords.iterator();
+        iterator.next();
+        iterator.next();
+        assertTrue(spillFile.exists());
+
+        // the owner closes the records before they have been read completely
+        sourceRecords.close();
+        assertFalse(spillFile.exists());
+        assertEquals(0, spillManager.getSpilledChunks());
+        try {
+            iterator.next();
+            fail("The records of a closed buffer should not be read.");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    private static List<String> toRows(List<SourceRecord> records) {
+        List<String> rows = new ArrayList<>();
+        for (SourceRecord record : records) {
+            Struct value = (Struct) record.value();
+            rows.add(record.key() + " -> " + value.getStruct(Envelope.FieldName.AFTER));
+        }
+        return rows;
+    }
+
+    private static Struct key(long id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private static SourceRecord snapshotRecord(long id, String name) {
+        return createRecord(Envelope.Operation.READ, id, name);
+    }
+
+    private static SourceRecord binlogRecord(Envelope.Operation operation, long id, String name) {
+        return createRecord(operation, id, name);
+    }
+
+    private static SourceRecord createRecord(Envelope.Operation operation, long id, String name) {
+        Struct row =
+                new Struct(ROW_SCHEMA)
+                        .put("id", id)
+                        .put("name", name)
+                        .put("price", new BigDecimal(id + ".50"));
+        Struct source = new Struct(SOURCE_SCHEMA).put("db", "test_db").put("ts_ms", id);
+        Instant ts = Instant.ofEpochMilli(id);
+        Struct value;
+        switch (operation) {
+            case CREATE:
+                value = ENVELOPE.create(row, source, ts);
+                break;
+            case UPDATE:
+                value = ENVELOPE.update(row, row, source, ts);
+                break;
+            case DELETE:
+                value = ENVELOPE.delete(row, source, ts);
+                break;
+            default:
+                value = ENVELOPE.read(row, source, ts);
+        }
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("file", "mysql-bin.000001");
+        offset.put("pos", id);
+        offset.put("snapshot", true);
+        return new SourceRecord(
+                Collections.singletonMap("file", "mysql-bin.000001"),
+                offset,
+                "topic",
+                null,
+                KEY_SCHEMA,
+                key(id),
+                ENVELOPE.schema(),
+                value);
+    }
+
+    private static SourceRecord watermark(String kind) {
+        return new SourceRecord(
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                "topic",
+                null,
+                Schema.STRING_SCHEMA,
+                kind,
+                Schema.STRING_SCHEMA,
+                kind);
+    }
+}
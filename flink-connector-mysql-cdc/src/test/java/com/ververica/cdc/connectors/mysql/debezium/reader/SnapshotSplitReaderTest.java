@@ -45,6 +45,8 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import javax.annotation.Nullable;
+
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -276,6 +278,62 @@ public class SnapshotSplitReaderTest extends MySqlSourceTestBase {
         assertEqualsInAnyOrder(Arrays.asList(expected), actual);
     }
 
+    @Test
+    public void testChangingDataInSnapshotScanWithSharedBackfillCursor() throws Exception {
+        String tableName = "customers_even_dist";
+        MySqlSourceConfig sourceConfig = getConfig(new String[] {tableName}, 4, true);
+
+        String tableId = customerDatabase.getDatabaseName() + "." + tableName;
+        String[] changingDataSql =
+                new String[] {
+                    "UPDATE " + tableId + " SET address = 'Hangzhou' where id = 103",
+                    "DELETE FROM " + tableId + " where id = 102",
+                    "INSERT INTO " + tableId + " VALUES(102, 'user_2','Shanghai','123567891234')",
+                    "UPDATE " + tableId + " SET address = 'Shanghai' where id = 103"
+                };
+
+        StatefulTaskContext statefulTaskContext =
+                new MakeBinlogEventTaskContext(
+                        sourceConfig,
+                        binaryLogClient,
+                        mySqlConnection,
+                        () -> executeSql(sourceConfig, changingDataSql));
+
+        final DataType dataType =
+                DataTypes.ROW(
+                        DataTypes.FIELD("id", DataTypes.BIGINT()),
+                        DataTypes.FIELD("name", DataTypes.STRING()),
+                        DataTypes.FIELD("address", DataTypes.STRING()),
+                        DataTypes.FIELD("phone_number", DataTypes.STRING()));
+        List<MySqlSplit> mySqlSplits = getMySqlSplits(sourceConfig);
+
+        String[] expected =
+                new String[] {
+                    "+I[101, user_1, Shanghai, 123567891234]",
+                    "+I[102, user_2, Shanghai, 123567891234]",
+                    "+I[103, user_3, Shanghai, 123567891234]",
+                    "+I[104, user_4, Shanghai, 123567891234]",
+                    "+I[105, user_5, Shanghai, 123567891234]",
+                    "+I[106, user_6, Shanghai, 123567891234]",
+                    "+I[107, user_7, Shanghai, 123567891234]",
+                    "+I[108, user_8, Shanghai, 123567891234]",
+                    "+I[109, user_9, Shanghai, 123567891234]",
+                    "+I[110, user_10, Shanghai, 123567891234]"
+                };
+
+        // all the splits share one backfill binlog cursor
+        BackfillBinlogCursor backfillCursor = new BackfillBinlogCursor(sourceConfig, 0);
+        List<String> actual =
+                readTableSnapshotSplits(
+                        mySqlSplits,
+                        statefulTaskContext,
+                        mySqlSplits.size(),
+                        dataType,
+                        backfillCursor);
+        backfillCursor.close();
+        assertEqualsInAnyOrder(Arrays.asList(expected), actual);
+    }
+
     @Test
     public void testInsertDataInSnapshotScan() throws Exception {
         String tableName = "customers_even_dist";
@@ -390,7 +448,19 @@ public class SnapshotSplitReaderTest extends MySqlSourceTestBase {
             int scanSplitsNum,
             DataType dataType)
             throws Exception {
-        SnapshotSplitReader snapshotSplitReader = new SnapshotSplitReader(statefulTaskContext, 0);
+        return readTableSnapshotSplits(
+                mySqlSplits, statefulTaskContext, scanSplitsNum, dataType, null);
+    }
+
+    private List<String> readTableSnapshotSplits(
+            List<MySqlSplit> mySqlSplits,
+            StatefulTaskContext statefulTaskContext,
+            int scanSplitsNum,
+            DataType dataType,
+            @Nullable BackfillBinlogCursor backfillCursor)
+            throws Exception {
+        SnapshotSplitReader snapshotSplitReader =
+                new SnapshotSplitReader(statefulTaskContext, 0, backfillCursor);
 
         List<SourceRecord> result = new ArrayList<>();
         for (int i = 0; i < scanSplitsNum; i++) {
@@ -449,6 +519,11 @@ public class SnapshotSplitReaderTest extends MySqlSourceTestBase {
     }
 
     public static MySqlSourceConfig getConfig(String[] captureTables, int splitSize) {
+        return getConfig(captureTables, splitSize, false);
+    }
+
+    private static MySqlSourceConfig getConfig(
+            String[] captureTables, int splitSize, boolean sharedBackfillCursorEnabled) {
         String[] captureTableIds =
                 Arrays.stream(captureTables)
                         .map(tableName -> customerDatabase.getDatabaseName() + "." + tableName)
@@ -464,6 +539,7 @@ public class SnapshotSplitReaderTest extends MySqlSourceTestBase {
                 .splitSize(splitSize)
                 .fetchSize(2)
                 .password(customerDatabase.getPassword())
+                .sharedBackfillCursorEnabled(sharedBackfillCursorEnabled)
                 .createConfig(0);
     }
 
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.schema;
+
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
+import com.ververica.cdc.connectors.mysql.table.StartupOptions;
+import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import io.debezium.connector.mysql.MySqlDatabaseSchema;
+import io.debezium.connector.mysql.MySqlOffsetContext;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.TableChanges.TableChange;
+import io.debezium.schema.SchemaChangeEvent;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ververica.cdc.connectors.mysql.debezium.DebeziumUtils.createMySqlDatabaseSchema;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link MySqlSchema}. */
+public class MySqlSchemaTest {
+
+    private static final TableId PRODUCTS = TableId.parse("test_db.products");
+    private static final TableId ORDERS = TableId.parse("test_db.orders");
+
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testParseTableDefinitionsInBulk() {
+        MySqlSourceConfig sourceConfig = createConfig(null);
+        MySqlSchema mySqlSchema = new MySqlSchema(sourceConfig, false);
+        Map<TableId, TableChange> tableSchemas =
+                mySqlSchema.parseTableDefinitions(createTableDefinitions());
+        assertEquals(2, tableSchemas.size());
+
+        // the same tables as returned by SHOW CREATE TABLE
+        Table products =
+                parseShowCreateTable(
+                        sourceConfig,
+                        "CREATE TABLE `products` (\n"
+                                + "  `id` bigint(20) unsigned NOT NULL AUTO_INCREMENT,\n"
+                                + "  `name` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_general_ci NOT NULL DEFAULT 'flink''s',\n"
+                                + "  `price` decimal(10,2) DEFAULT '1.50',\n"
+                                + "  `status` enum('on','off') CHARACTER SET utf8mb4 COLLATE utf8mb4_general_ci DEFAULT 'on',\n"
+                                + "  `flag` bit(1) DEFAULT b'1',\n"
+                                + "  `update_time` timestamp(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),\n"
+                                + "  PRIMARY KEY (`id`)\n"
+                                + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4");
+        Table orders =
+                parseShowCreateTable(
+                        sourceConfig,
+                        "CREATE TABLE `orders` (\n"
+                                + "  `order_id` int(11) NOT NULL,\n"
+                                + "  `product_id` bigint(20) unsigned NOT NULL,\n"
+                                + "  `description` text CHARACTER SET utf8mb4 COLLATE utf8mb4_general_ci,\n"
+                                + "  PRIMARY KEY (`product_id`,`order_id`)\n"
+                                + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4");
+
+        assertSameTable(products, tableSchemas.get(PRODUCTS).getTable());
+        assertSameTable(orders, tableSchemas.get(ORDERS).getTable());
+    }
+
+    @Test
+    public void testParseTableDefinitionsFromCache() throws Exception {
+        String cacheDir = temporaryFolder.newFolder().getAbsolutePath();
+        MySqlSourceConfig sourceConfig = createConfig(cacheDir);
+        Map<TableId, TableChange> tableSchemas =
+                new MySqlSchema(sourceConfig, false)
+                        .parseTableDefinitions(createTableDefinitions());
+
+        MySqlSchemaCache schemaCache = MySqlSchemaCache.load(cacheDir, "localhost:3306");
+        Map<TableId, MySqlTableDefinition> tableDefinitions = createTableDefinitions();
+        for (Map.Entry<TableId, MySqlTableDefinition> entry : tableDefinitions.entrySet()) {
+            schemaCache.put(
+                    entry.getKey(), entry.getValue().toDdl(), tableSchemas.get(entry.getKey()));
+        }
+        schemaCache.flush();
+
+        // a restarted source reads the schemas from the cache, which are stored in the same
+        // format as the schemas in split state
+        Map<TableId, TableChange> expectedSchemas = new HashMap<>();
+        for (Map.Entry<TableId, TableChange> entry : tableSchemas.entrySet()) {
+            expectedSchemas.put(entry.getKey(), serializeAndDeserialize(entry.getValue()));
+        }
+        MySqlSchemaCache restoredCache = MySqlSchemaCache.load(cacheDir, "localhost:3306");
+        assertEquals(2, restoredCache.size());
+        for (Map.Entry<TableId, MySqlTableDefinition> entry : tableDefinitions.entrySet()) {
+            assertEquals(
+                    expectedSchemas.get(entry.getKey()),
+                    restoredCache.get(entry.getKey(), entry.getValue().toDdl()));
+        }
+        Map<TableId, TableChange> restoredSchemas =
+                new MySqlSchema(sourceConfig, false).parseTableDefinitions(tableDefinitions);
+        assertEquals(expectedSchemas, restoredSchemas);
+
+        // a changed table misses the cache
+        MySqlTableDefinition changedProducts = tableDefinitions.get(PRODUCTS);
+        changedProducts.fieldDefinitions.add(field("new_column", "int(11)", true, null, ""));
+        assertNull(restoredCache.get(PRODUCTS, changedProducts.toDdl()));
+        // the cache of another server is empty
+        assertEquals(0, MySqlSchemaCache.load(cacheDir, "localhost:3307").size());
+    }
+
+    @Test
+    public void testToDefaultValueClause() {
+        assertNull(MySqlSchema.toDefaultValueClause("int(11)", null, "", false));
+        assertEquals("'1'", MySqlSchema.toDefaultValueClause("int(11)", "1", "", false));
+        assertEquals(
+                "'it''s a \\\\ test'",
+                MySqlSchema.toDefaultValueClause("varchar(10)", "it's a \\ test", "", false));
+        assertEquals(
+                "CURRENT_TIMESTAMP",
+                MySqlSchema.toDefaultValueClause(
+                        "timestamp", "CURRENT_TIMESTAMP", "DEFAULT_GENERATED", false));
+        assertEquals(
+                "current_timestamp(3)",
+                MySqlSchema.toDefaultValueClause("datetime(3)", "current_timestamp(3)", "", false));
+        assertEquals(
+                "'CURRENT_TIMESTAMP'",
+                MySqlSchema.toDefaultValueClause("varchar(20)", "CURRENT_TIMESTAMP", "", false));
+        assertEquals("b'101'", MySqlSchema.toDefaultValueClause("bit(3)", "b'101'", "", false));
+        // a value looking like a quoted literal is a plain literal in MySQL
+        assertEquals(
+                "'''on'''", MySqlSchema.toDefaultValueClause("varchar(10)", "'on'", "", false));
+        assertFalse(MySqlSchema.isExpressionDefault("varchar(10)", "uuid()", "", false));
+        // expression defaults are left to SHOW CREATE TABLE
+        assertTrue(
+                MySqlSchema.isExpressionDefault(
+                        "varchar(36)", "uuid()", "DEFAULT_GENERATED", false));
+        assertNull(
+                MySqlSchema.toDefaultValueClause(
+                        "varchar(36)", "uuid()", "DEFAULT_GENERATED", false));
+        assertFalse(
+                MySqlSchema.isExpressionDefault(
+                        "timestamp", "CURRENT_TIMESTAMP", "DEFAULT_GENERATED", false));
+    }
+
+    @Test
+    public void testToMariaDbDefaultValueClause() {
+        // MariaDB returns the default values as they are written in the column definition
+        assertEquals("1", MySqlSchema.toDefaultValueClause("int(11)", "1", "", true));
+        assertEquals("-1.5e3", MySqlSchema.toDefaultValueClause("double", "-1.5e3", "", true));
+        assertEquals(
+                "'it''s a \\\\ test'",
+                MySqlSchema.toDefaultValueClause("varchar(10)", "'it''s a \\\\ test'", "", true));
+        assertEquals("NULL", MySqlSchema.toDefaultValueClause("varchar(10)", "NULL", "", true));
+        assertEquals("b'101'", MySqlSchema.toDefaultValueClause("bit(3)", "b'101'", "", true));
+        assertEquals(
+                "current_timestamp()",
+                MySqlSchema.toDefaultValueClause("timestamp", "current_timestamp()", "", true));
+        for (String literal : new String[] {"1", "'on'", "NULL", "b'1'"}) {
+            assertFalse(MySqlSchema.isExpressionDefault("varchar(10)", literal, "", true));
+        }
+        for (String expression : new String[] {"uuid()", "curdate()", "current_timestamp()"}) {
+            assertTrue(MySqlSchema.isExpressionDefault("varchar(36)", expression, "", true));
+            assertNull(MySqlSchema.toDefaultValueClause("varchar(36)", expression, "", true));
+        }
+    }
+
+    private static Map<TableId, MySqlTableDefinition> createTableDefinitions() {
+        Map<TableId, MySqlTableDefinition> tableDefinitions = new LinkedHashMap<>();
+        List<MySqlFieldDefinition> productFields = new ArrayList<>();
+        MySqlFieldDefinition id = field("id", "bigint(20) unsigned", false, null, "auto_increment");
+        id.setKey(true);
+        productFields.add(id);
+        MySqlFieldDefinition name = field("name", "varchar(255)", false, "flink's", "");
+        name.setCharsetName("utf8mb4");
+        name.setCollationName("utf8mb4_general_ci");
+        productFields.add(name);
+        productFields.add(field("price", "decimal(10,2)", true, "1.50", ""));
+        MySqlFieldDefinition status = field("status", "enum('on','off')", true, "on", "");
+        status.setCharsetName("utf8mb4");
+        status.setCollationName("utf8mb4_general_ci");
+        productFields.add(status);
+        productFields.add(field("flag", "bit(1)", true, "b'1'", ""));
+        productFields.add(
+                field(
+                        "update_time",
+                        "timestamp(3)",
+                        false,
+                        "CURRENT_TIMESTAMP(3)",
+                        "DEFAULT_GENERATED"));
+        tableDefinitions.put(
+                PRODUCTS, new MySqlTableDefinition(PRODUCTS, productFields, Arrays.asList("id")));
+
+        List<MySqlFieldDefinition> orderFields = new ArrayList<>();
+        orderFields.add(field("order_id", "int(11)", false, null, ""));
+        orderFields.add(field("product_id", "bigint(20) unsigned", false, null, ""));
+        MySqlFieldDefinition description = field("description", "text", true, null, "");
+        description.setCharsetName("utf8mb4");
+        description.setCollationName("utf8mb4_general_ci");
+        orderFields.add(description);
+        tableDefinitions.put(
+                ORDERS,
+                new MySqlTableDefinition(
+                        ORDERS, orderFields, Arrays.asList("product_id", "order_id")));
+        return tableDefinitions;
+    }
+
+    private static MySqlFieldDefinition field(
+            String name, String type, boolean nullable, String columnDefault, String extra) {
+        MySqlFieldDefinition field = new MySqlFieldDefinition();
+        field.setColumnName(name);
+        field.setColumnType(type);
+        field.setNullable(nullable);
+        field.setDefaultValue(columnDefault);
+        field.setExtra(extra);
+        field.setDefaultValueClause(
+                MySqlSchema.toDefaultValueClause(type, columnDefault, extra, false));
+        field.setAutoIncrement(extra.contains("auto_increment"));
+        return field;
+    }
+
+    private static TableChange serializeAndDeserialize(TableChange tableChange) throws Exception {
+        Document document = new FlinkJsonTableChangeSerializer().toDocument(tableChange);
+        return FlinkJsonTableChangeSerializer.fromDocument(
+                DocumentReader.defaultReader().read(DocumentWriter.defaultWriter().write(document)),
+                true);
+    }
+
+    private static Table parseShowCreateTable(MySqlSourceConfig sourceConfig, String ddl) {
+        MySqlDatabaseSchema databaseSchema =
+                createMySqlDatabaseSchema(sourceConfig.getMySqlConnectorConfig(), false);
+        List<SchemaChangeEvent> events =
+                databaseSchema.parseSnapshotDdl(
+                        ddl,
+                        "test_db",
+                        MySqlOffsetContext.initial(sourceConfig.getMySqlConnectorConfig()),
+                        Instant.now());
+        return events.get(0).getTableChanges().iterator().next().getTable();
+    }
+
+    private static void assertSameTable(Table expected, Table actual) {
+        assertEquals(expected.id(), actual.id());
+        assertEquals(expected.columns(), actual.columns());
+        assertEquals(expected.primaryKeyColumnNames(), actual.primaryKeyColumnNames());
+    }
+
+    private static MySqlSourceConfig createConfig(String schemaCacheDir) {
+        return new MySqlSourceConfigFactory()
+                .startupOptions(StartupOptions.initial())
+                .databaseList("test_db")
+                .tableList("test_db.products", "test_db.orders")
+                .hostname("localhost")
+                .port(3306)
+                .username("fakeUser")
+                .password("fakePw")
+                .serverTimeZone("UTC")
+                .bulkSchemaDiscoveryEnabled(true)
+                .schemaCacheDir(schemaCacheDir)
+                .createConfig(0);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.assigners;
+
+import com.ververica.cdc.connectors.mysql.source.split.SnapshotSplitReadStatistics;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link AdaptiveChunkSizer}. */
+public class AdaptiveChunkSizerTest {
+
+    private static final TableId NARROW_TABLE = TableId.parse("test_db.narrow_table");
+    private static final TableId WIDE_TABLE = TableId.parse("test_db.wide_table");
+
+    @Test
+    public void testStaticChunkSize() {
+        AdaptiveChunkSizer chunkSizer = new AdaptiveChunkSizer(8096, null, null);
+        assertFalse(chunkSizer.isEnabled());
+        chunkSizer.onSplitRead(NARROW_TABLE, new SnapshotSplitReadStatistics(1000, 10));
+        assertEquals(8096, chunkSizer.getChunkSize(NARROW_TABLE, 100));
+    }
+
+    @Test
+    public void testChunkSizeByTargetBytes() {
+        AdaptiveChunkSizer chunkSizer = new AdaptiveChunkSizer(8096, 64L * 1024 * 1024, null);
+        assertTrue(chunkSizer.isEnabled());
+        assertEquals(1048576, chunkSizer.getChunkSize(NARROW_TABLE, 64));
+        assertEquals(64, chunkSizer.getChunkSize(WIDE_TABLE, 1024 * 1024));
+        // a row larger than the target bytes is still read
+        assertEquals(1, chunkSizer.getChunkSize(WIDE_TABLE, 128L * 1024 * 1024));
+        // the average row length is unknown
+        assertEquals(8096, chunkSizer.getChunkSize(WIDE_TABLE, 0));
+    }
+
+    @Test
+    public void testChunkSizeByTargetReadTime() {
+        AdaptiveChunkSizer chunkSizer = new AdaptiveChunkSizer(8096, null, 1000L);
+        // no chunk has been read yet
+        assertEquals(8096, chunkSizer.getChunkSize(NARROW_TABLE, 100));
+        assertEquals(8096, chunkSizer.getChunkSize(WIDE_TABLE, 10000));
+
+        // 100 rows / ms
+        chunkSizer.onSplitRead(NARROW_TABLE, new SnapshotSplitReadStatistics(8000, 50));
+        chunkSizer.onSplitRead(NARROW_TABLE, new SnapshotSplitReadStatistics(2000, 50));
+        assertEquals(100000, chunkSizer.getChunkSize(NARROW_TABLE, 100));
+        // the wide table has no finished chunk, its throughput in rows is derived from the
+        // throughput in bytes of all tables: 10000 bytes / ms
+        assertEquals(1000, chunkSizer.getChunkSize(WIDE_TABLE, 10000));
+
+        // the chunks of the wide table are slower than expected: 2 rows / ms
+        chunkSizer.onSplitRead(WIDE_TABLE, new SnapshotSplitReadStatistics(1000, 500));
+        assertEquals(2000, chunkSizer.getChunkSize(WIDE_TABLE, 10000));
+        // empty chunks are ignored
+        chunkSizer.onSplitRead(WIDE_TABLE, new SnapshotSplitReadStatistics(0, 100));
+        assertEquals(2000, chunkSizer.getChunkSize(WIDE_TABLE, 10000));
+    }
+
+    @Test
+    public void testChunkSizeByBothTargets() {
+        AdaptiveChunkSizer chunkSizer = new AdaptiveChunkSizer(8096, 1024L * 1024, 1000L);
+        assertEquals(10485, chunkSizer.getChunkSize(NARROW_TABLE, 100));
+        // 1 row / ms, the read time limits the chunk size
+        chunkSizer.onSplitRead(NARROW_TABLE, new SnapshotSplitReadStatistics(100, 100));
+        assertEquals(1000, chunkSizer.getChunkSize(NARROW_TABLE, 100));
+        // 1000 rows / ms, the bytes limit the chunk size
+        chunkSizer.onSplitRead(NARROW_TABLE, new SnapshotSplitReadStatistics(199900, 100));
+        assertEquals(10485, chunkSizer.getChunkSize(NARROW_TABLE, 100));
+    }
+}
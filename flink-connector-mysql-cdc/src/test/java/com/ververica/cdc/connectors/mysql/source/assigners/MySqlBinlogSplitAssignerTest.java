@@ -16,6 +16,7 @@
 
 package com.ververica.cdc.connectors.mysql.source.assigners;
 
+import com.ververica.cdc.connectors.mysql.source.assigners.state.BinlogPendingSplitsState;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
 import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
 import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
@@ -25,6 +26,7 @@ import com.ververica.cdc.connectors.mysql.table.StartupOptions;
 import org.junit.Test;
 
 import java.time.ZoneId;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
@@ -63,6 +65,32 @@ public class MySqlBinlogSplitAssignerTest {
                 StartupOptions.specificOffset("foo-gtid"), BinlogOffset.ofGtidSet("foo-gtid"));
     }
 
+    @Test
+    public void testAssignMultipleBinlogSplits() {
+        MySqlBinlogSplitAssigner assigner =
+                new MySqlBinlogSplitAssigner(getConfig(StartupOptions.latest(), 3));
+        // the subtask without binlog split gets nothing
+        assertFalse(assigner.getNext(3).isPresent());
+        // every binlog split is bound to the subtask with the same index
+        MySqlSplit split = assigner.getNext(1).get();
+        assertEquals("binlog-split-1", split.splitId());
+        assertEquals(BinlogOffset.ofLatest(), split.asBinlogSplit().getStartingOffset());
+        assertFalse(assigner.getNext(1).isPresent());
+
+        // the assigned binlog splits are restored from the checkpoint
+        BinlogPendingSplitsState checkpoint = (BinlogPendingSplitsState) assigner.snapshotState(1);
+        assertEquals(Collections.singleton("binlog-split-1"), checkpoint.getAssignedBinlogSplits());
+        assigner = new MySqlBinlogSplitAssigner(getConfig(StartupOptions.latest(), 3), checkpoint);
+        assertFalse(assigner.getNext(1).isPresent());
+        assertEquals("binlog-split-0", assigner.getNext(0).get().splitId());
+
+        // the binlog split added back is assigned again
+        assigner.addSplits(Collections.singletonList(split));
+        assertEquals("binlog-split-1", assigner.getNext(1).get().splitId());
+        assertEquals("binlog-split-2", assigner.getNext().get().splitId());
+        assertFalse(assigner.getNext().isPresent());
+    }
+
     private void checkAssignedBinlogOffset(
             StartupOptions startupOptions, BinlogOffset expectedOffset) {
         // Set starting from the given option
@@ -79,6 +107,10 @@ public class MySqlBinlogSplitAssignerTest {
     }
 
     private MySqlSourceConfig getConfig(StartupOptions startupOptions) {
+        return getConfig(startupOptions, 1);
+    }
+
+    private MySqlSourceConfig getConfig(StartupOptions startupOptions, int binlogSplitNumber) {
         return new MySqlSourceConfigFactory()
                 .startupOptions(startupOptions)
                 .databaseList("foo-db")
@@ -88,6 +120,7 @@ public class MySqlBinlogSplitAssignerTest {
                 .username("jane-doe")
                 .password("password")
                 .serverTimeZone(ZoneId.of("UTC").toString())
+                .binlogSplitNumber(binlogSplitNumber)
                 .createConfig(0);
     }
 }
@@ -19,6 +19,7 @@ package com.ververica.cdc.connectors.mysql.source.assigners;
 import io.debezium.relational.TableId;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -58,4 +59,34 @@ public class MySqlChunkSplitterTest {
         assertEquals(ChunkRange.of(2147483637, 2147483647), res.get(1));
         assertEquals(ChunkRange.of(2147483647, null), res.get(2));
     }
+
+    @Test
+    public void testSplitChunksBySamples() {
+        MySqlChunkSplitter splitter = new MySqlChunkSplitter(null, null);
+        List<Object> samples = Arrays.asList(1L, 3L, 5L, 7L, 9L, 11L, 13L);
+        List<ChunkRange> res = splitter.splitChunksBySamples(samples, 3);
+        assertEquals(3, res.size());
+        assertEquals(ChunkRange.of(null, 7L), res.get(0));
+        assertEquals(ChunkRange.of(7L, 13L), res.get(1));
+        assertEquals(ChunkRange.of(13L, null), res.get(2));
+    }
+
+    @Test
+    public void testSplitChunksBySamplesWithDuplicatedKeys() {
+        MySqlChunkSplitter splitter = new MySqlChunkSplitter(null, null);
+        List<Object> samples = Arrays.asList("a", "b", "b", "b", "b", "b", "c", "d");
+        List<ChunkRange> res = splitter.splitChunksBySamples(samples, 2);
+        assertEquals(3, res.size());
+        assertEquals(ChunkRange.of(null, "b"), res.get(0));
+        assertEquals(ChunkRange.of("b", "c"), res.get(1));
+        assertEquals(ChunkRange.of("c", null), res.get(2));
+    }
+
+    @Test
+    public void testSplitChunksByTooFewSamples() {
+        MySqlChunkSplitter splitter = new MySqlChunkSplitter(null, null);
+        List<ChunkRange> res = splitter.splitChunksBySamples(Arrays.asList(1, 2), 3);
+        assertEquals(1, res.size());
+        assertEquals(ChunkRange.all(), res.get(0));
+    }
 }
@@ -104,6 +104,36 @@ public class MySqlSnapshotSplitAssignerTest extends MySqlSourceTestBase {
         assertEquals(expected, splits);
     }
 
+    @Test
+    public void testAssignMultipleTableSplitsWithParallelSplitters() {
+        List<String> expected =
+                Arrays.asList(
+                        "customers_even_dist [105] [109]",
+                        "customers_even_dist [109] null",
+                        "customers_even_dist null [105]",
+                        "customers_sparse_dist [10] [18]",
+                        "customers_sparse_dist [18] null",
+                        "customers_sparse_dist null [10]");
+        String[] captureTables =
+                new String[] {
+                    customerDatabase.getDatabaseName() + ".customers_even_dist",
+                    customerDatabase.getDatabaseName() + ".customers_sparse_dist"
+                };
+        MySqlSourceConfig configuration =
+                getConfig(
+                        customerDatabase,
+                        4,
+                        CHUNK_KEY_EVEN_DISTRIBUTION_FACTOR_UPPER_BOUND.defaultValue(),
+                        CHUNK_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND.defaultValue(),
+                        captureTables,
+                        null,
+                        2);
+        // the tables are split concurrently, thus the order of tables is not deterministic
+        List<String> splits = getTestAssignSnapshotSplits(configuration, captureTables);
+        Collections.sort(splits);
+        assertEquals(expected, splits);
+    }
+
     @Test
     public void testAssignCompositePkTableSplitsUnevenlyWithChunkKeyColumn() {
         List<String> expected =
@@ -471,6 +501,11 @@ public class MySqlSnapshotSplitAssignerTest extends MySqlSourceTestBase {
                         distributionFactorLower,
                         captureTables,
                         chunkKeyColumn);
+        return getTestAssignSnapshotSplits(configuration, captureTables);
+    }
+
+    private List<String> getTestAssignSnapshotSplits(
+            MySqlSourceConfig configuration, String[] captureTables) {
         List<TableId> remainingTables =
                 Arrays.stream(captureTables).map(TableId::parse).collect(Collectors.toList());
         final MySqlSnapshotSplitAssigner assigner =
@@ -512,6 +547,24 @@ public class MySqlSnapshotSplitAssignerTest extends MySqlSourceTestBase {
             double distributionLower,
             String[] captureTables,
             String chunkKeyColumn) {
+        return getConfig(
+                database,
+                splitSize,
+                distributionFactorUpper,
+                distributionLower,
+                captureTables,
+                chunkKeyColumn,
+                1);
+    }
+
+    private MySqlSourceConfig getConfig(
+            UniqueDatabase database,
+            int splitSize,
+            double distributionFactorUpper,
+            double distributionLower,
+            String[] captureTables,
+            String chunkKeyColumn,
+            int chunkSplitterParallelism) {
         return new MySqlSourceConfigFactory()
                 .startupOptions(StartupOptions.initial())
                 .databaseList(database.getDatabaseName())
@@ -526,6 +579,7 @@ public class MySqlSnapshotSplitAssignerTest extends MySqlSourceTestBase {
                 .password(database.getPassword())
                 .serverTimeZone(ZoneId.of("UTC").toString())
                 .chunkKeyColumn(chunkKeyColumn)
+                .chunkSplitterParallelism(chunkSplitterParallelism)
                 .createConfig(0);
     }
 }
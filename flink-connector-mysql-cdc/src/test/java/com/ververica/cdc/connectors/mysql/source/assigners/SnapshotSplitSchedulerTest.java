@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.assigners;
+
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSchemalessSnapshotSplit;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link SnapshotSplitScheduler}. */
+public class SnapshotSplitSchedulerTest {
+
+    private static final TableId BIG_TABLE = TableId.parse("test_db.big_table");
+    private static final TableId SMALL_TABLE = TableId.parse("test_db.small_table");
+    private static final TableId NARROW_TABLE = TableId.parse("test_db.narrow_table");
+
+    @Test
+    public void testAssignSplitsInOrder() {
+        List<MySqlSchemalessSnapshotSplit> splits =
+                Arrays.asList(
+                        createSplit(SMALL_TABLE, 0),
+                        createSplit(BIG_TABLE, 0),
+                        createSplit(SMALL_TABLE, 1),
+                        createSplit(BIG_TABLE, 1));
+        SnapshotSplitScheduler scheduler = new SnapshotSplitScheduler(false, splits);
+        // the split cost doesn't affect the order if not size-aware
+        scheduler.setSplitCost(BIG_TABLE, 100);
+        assertEquals(splits, scheduler.toList());
+
+        assertEquals(splits, pollAll(scheduler));
+        assertTrue(scheduler.isEmpty());
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    public void testAssignSplitsOfLargestTableFirst() {
+        SnapshotSplitScheduler scheduler = new SnapshotSplitScheduler(true);
+        scheduler.setSplitCost(SMALL_TABLE, 10);
+        scheduler.addAll(createSplits(SMALL_TABLE, 2));
+        scheduler.setSplitCost(BIG_TABLE, 10);
+        scheduler.addAll(createSplits(BIG_TABLE, 4));
+        scheduler.setSplitCost(NARROW_TABLE, 5);
+        scheduler.addAll(createSplits(NARROW_TABLE, 3));
+        assertEquals(9, scheduler.size());
+
+        // the splits of the big table are assigned first until its remaining cost drops to the
+        // others, then the tables are interleaved
+        assertEquals(
+                Arrays.asList(
+                        "big_table:0",
+                        "big_table:1",
+                        "small_table:0",
+                        "big_table:2",
+                        "narrow_table:0",
+                        "small_table:1",
+                        "big_table:3",
+                        "narrow_table:1",
+                        "narrow_table:2"),
+                toSplitIds(pollAll(scheduler)));
+        assertTrue(scheduler.isEmpty());
+    }
+
+    @Test
+    public void testAddSplitsBack() {
+        SnapshotSplitScheduler scheduler = new SnapshotSplitScheduler(true);
+        scheduler.addAll(createSplits(SMALL_TABLE, 1));
+        scheduler.addAll(createSplits(BIG_TABLE, 2));
+        MySqlSchemalessSnapshotSplit split = scheduler.poll();
+        assertEquals(BIG_TABLE + ":0", split.splitId());
+
+        // the table with unknown split cost is scheduled by the number of remaining splits
+        scheduler.add(split);
+        assertEquals(
+                Arrays.asList("small_table:0", "big_table:1", "big_table:0"),
+                toSplitIds(scheduler.toList()));
+        assertEquals(
+                Arrays.asList("big_table:1", "small_table:0", "big_table:0"),
+                toSplitIds(pollAll(scheduler)));
+    }
+
+    private static List<MySqlSchemalessSnapshotSplit> pollAll(SnapshotSplitScheduler scheduler) {
+        List<MySqlSchemalessSnapshotSplit> splits = new ArrayList<>();
+        MySqlSchemalessSnapshotSplit split;
+        while ((split = scheduler.poll()) != null) {
+            splits.add(split);
+        }
+        return splits;
+    }
+
+    private static List<String> toSplitIds(List<MySqlSchemalessSnapshotSplit> splits) {
+        List<String> splitIds = new ArrayList<>();
+        for (MySqlSchemalessSnapshotSplit split : splits) {
+            splitIds.add(split.splitId().substring("test_db.".length()));
+        }
+        return splitIds;
+    }
+
+    private static List<MySqlSchemalessSnapshotSplit> createSplits(TableId tableId, int number) {
+        List<MySqlSchemalessSnapshotSplit> splits = new ArrayList<>();
+        for (int i = 0; i < number; i++) {
+            splits.add(createSplit(tableId, i));
+        }
+        return splits;
+    }
+
+    private static MySqlSchemalessSnapshotSplit createSplit(TableId tableId, int chunkId) {
+        return new MySqlSchemalessSnapshotSplit(
+                tableId,
+                tableId + ":" + chunkId,
+                RowType.of(DataTypes.BIGINT().getLogicalType()),
+                chunkId == 0 ? null : new Object[] {chunkId * 100L},
+                new Object[] {(chunkId + 1) * 100L},
+                null);
+    }
+}
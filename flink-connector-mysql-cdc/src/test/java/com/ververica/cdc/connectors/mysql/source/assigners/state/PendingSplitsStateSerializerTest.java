@@ -37,6 +37,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -60,7 +61,12 @@ public class PendingSplitsStateSerializerTest {
                 getTestSnapshotPendingSplitsState(false),
                 getTestHybridPendingSplitsState(false),
                 getTestHybridPendingSplitsState(true),
-                getTestBinlogPendingSplitsState());
+                getTestBinlogPendingSplitsState(),
+                new HybridPendingSplitsState(
+                        getTestSnapshotPendingSplitsState(false),
+                        new HashSet<>(Arrays.asList("binlog-split-0", "binlog-split-2"))),
+                new BinlogPendingSplitsState(
+                        new HashSet<>(Arrays.asList("binlog-split-1", "binlog-split-3"))));
     }
 
     @Test
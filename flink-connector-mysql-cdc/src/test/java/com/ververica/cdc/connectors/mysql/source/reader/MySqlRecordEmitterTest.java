@@ -27,15 +27,33 @@ import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit;
 import com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplitState;
 import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
+import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentWriter;
 import io.debezium.heartbeat.Heartbeat;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.HistoryRecord;
+import io.debezium.relational.history.TableChanges;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.Test;
 
+import java.sql.Types;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 
+import static com.ververica.cdc.connectors.mysql.debezium.dispatcher.EventDispatcherImpl.HISTORY_RECORD_FIELD;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.SCHEMA_CHANGE_EVENT_KEY_NAME;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /** Unit test for {@link MySqlRecordEmitter}. */
 public class MySqlRecordEmitterTest {
@@ -63,12 +81,79 @@ public class MySqlRecordEmitterTest {
         assertEquals(0, splitState.getStartingOffset().compareTo(fakeOffset));
     }
 
+    @Test
+    public void testSchemaChangeEventEmittedByFirstBinlogSplitOnly() throws Exception {
+        TableId tableId = TableId.parse("test_db.products");
+        SourceRecord schemaChangeRecord = createSchemaChangeRecord(tableId);
+        List<SourceRecord> emittedRecords = new ArrayList<>();
+        MySqlRecordEmitter<Void> recordEmitter = createRecordEmitter(emittedRecords, true);
+
+        for (String binlogSplitId :
+                new String[] {"binlog-split", "binlog-split-0", "binlog-split-1"}) {
+            emittedRecords.clear();
+            MySqlBinlogSplitState splitState = createBinlogSplitState(binlogSplitId);
+            recordEmitter.emitRecord(
+                    SourceRecords.fromSingleRecord(schemaChangeRecord),
+                    new TestingReaderOutput<>(),
+                    splitState);
+            // every binlog split keeps the schema of the table
+            assertTrue(splitState.getTableSchemas().containsKey(tableId));
+            int expectedEmitted = "binlog-split-1".equals(binlogSplitId) ? 0 : 1;
+            assertEquals(expectedEmitted, emittedRecords.size());
+        }
+    }
+
+    private SourceRecord createSchemaChangeRecord(TableId tableId) throws Exception {
+        Table table =
+                Table.editor()
+                        .tableId(tableId)
+                        .addColumn(
+                                Column.editor()
+                                        .name("id")
+                                        .jdbcType(Types.INTEGER)
+                                        .type("INT")
+                                        .optional(false)
+                                        .create())
+                        .setPrimaryKeyNames("id")
+                        .create();
+        TableChanges tableChanges = new TableChanges().create(table);
+        Document historyRecord = Document.create();
+        historyRecord.setArray(
+                HistoryRecord.Fields.TABLE_CHANGES,
+                new FlinkJsonTableChangeSerializer().serialize(tableChanges));
+
+        Schema keySchema = SchemaBuilder.struct().name(SCHEMA_CHANGE_EVENT_KEY_NAME).build();
+        Schema valueSchema =
+                SchemaBuilder.struct()
+                        .field(HISTORY_RECORD_FIELD, Schema.OPTIONAL_STRING_SCHEMA)
+                        .build();
+        Struct value = new Struct(valueSchema);
+        value.put(HISTORY_RECORD_FIELD, DocumentWriter.defaultWriter().write(historyRecord));
+        return new SourceRecord(
+                Collections.emptyMap(),
+                BinlogOffset.ofBinlogFilePosition("fake-file", 15213L).getOffset(),
+                "fake-topic",
+                null,
+                keySchema,
+                new Struct(keySchema),
+                valueSchema,
+                value);
+    }
+
     private MySqlRecordEmitter<Void> createRecordEmitter() {
+        return createRecordEmitter(null, false);
+    }
+
+    private MySqlRecordEmitter<Void> createRecordEmitter(
+            List<SourceRecord> emittedRecords, boolean includeSchemaChanges) {
         return new MySqlRecordEmitter<>(
                 new DebeziumDeserializationSchema<Void>() {
                     @Override
                     public void deserialize(SourceRecord record, Collector<Void> out) {
-                        throw new UnsupportedOperationException();
+                        if (emittedRecords == null) {
+                            throw new UnsupportedOperationException();
+                        }
+                        emittedRecords.add(record);
                     }
 
                     @Override
@@ -78,17 +163,21 @@ public class MySqlRecordEmitterTest {
                 },
                 new MySqlSourceReaderMetrics(
                         UnregisteredMetricGroups.createUnregisteredOperatorMetricGroup()),
-                false);
+                includeSchemaChanges);
     }
 
     private MySqlBinlogSplitState createBinlogSplitState() {
+        return createBinlogSplitState("binlog-split");
+    }
+
+    private MySqlBinlogSplitState createBinlogSplitState(String binlogSplitId) {
         return new MySqlBinlogSplitState(
                 new MySqlBinlogSplit(
-                        "binlog-split",
+                        binlogSplitId,
                         BinlogOffset.ofEarliest(),
                         BinlogOffset.ofNonStopping(),
                         Collections.emptyList(),
-                        Collections.emptyMap(),
+                        new HashMap<>(),
                         0));
     }
 }
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.reader;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.CoreOptions;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.connectors.mysql.debezium.reader.SnapshotChunkBuffer;
+import com.ververica.cdc.connectors.mysql.debezium.reader.SnapshotChunkSpillManager;
+import com.ververica.cdc.connectors.mysql.debezium.reader.SnapshotSplitReader;
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfig;
+import com.ververica.cdc.connectors.mysql.source.config.MySqlSourceConfigFactory;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link MySqlSplitReader}. */
+public class MySqlSplitReaderTest {
+
+    private static final TableId TABLE_ID = TableId.parse("test_db.test_table");
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT64_SCHEMA).build();
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct().name("row").optional().field("id", Schema.INT64_SCHEMA).build();
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("source")
+                    .field("ts_ms", Schema.OPTIONAL_INT64_SCHEMA)
+                    .build();
+    private static final Envelope ENVELOPE =
+            Envelope.defineSchema()
+                    .withName("envelope")
+                    .withRecord(ROW_SCHEMA)
+                    .withSource(SOURCE_SCHEMA)
+                    .build();
+
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testReadSpilledChunkAfterFetch() throws Exception {
+        MySqlSourceReaderContext context = createContext();
+        SnapshotChunkSpillManager spillManager = context.getSnapshotChunkSpillManager();
+        List<SpillingSnapshotSplitReader> readers = new ArrayList<>();
+        MySqlSplitReader splitReader =
+                new MySqlSplitReader(
+                        createSourceConfig(1),
+                        0,
+                        context,
+                        () -> {
+                            SpillingSnapshotSplitReader reader =
+                                    new SpillingSnapshotSplitReader(spillManager);
+                            readers.add(reader);
+                            return reader;
+                        });
+        splitReader.handleSplitsChanges(
+                new SplitsAddition<>(Collections.singletonList(createSplit("split-0"))));
+
+        RecordsWithSplitIds<SourceRecords> records = splitReader.fetch();
+        // the snapshot reader is closed once the split has been fetched
+        assertEquals(1, readers.size());
+        assertTrue(readers.get(0).closed);
+        assertEquals(1, spillManager.getSpilledChunks());
+        // the chunk is spilled to the temporary directory of the TaskManager
+        assertEquals(1, temporaryFolder.getRoot().listFiles().length);
+
+        assertEquals("split-0", records.nextSplit());
+        List<SourceRecord> chunkRecords = new ArrayList<>();
+        records.nextRecordFromSplit().iterator().forEachRemaining(chunkRecords::add);
+        assertNull(records.nextRecordFromSplit());
+        assertEquals(Collections.singleton("split-0"), records.finishedSplits());
+        records.recycle();
+
+        assertEquals(SpillingSnapshotSplitReader.CHUNK_SIZE + 2, chunkRecords.size());
+        assertEquals("low", chunkRecords.get(0).key());
+        for (int i = 1; i <= SpillingSnapshotSplitReader.CHUNK_SIZE; i++) {
+            assertEquals((long) i - 1, ((Struct) chunkRecords.get(i).key()).get("id"));
+        }
+        assertEquals("high", chunkRecords.get(chunkRecords.size() - 1).key());
+        // the spill file is released once the chunk has been read
+        assertEquals(0, spillManager.getSpilledChunks());
+        assertEquals(0, temporaryFolder.getRoot().listFiles().length);
+        splitReader.close();
+    }
+
+    @Test
+    public void testReadPooledSpilledChunksAfterPoolClosed() throws Exception {
+        MySqlSourceReaderContext context = createContext();
+        SnapshotChunkSpillManager spillManager = context.getSnapshotChunkSpillManager();
+        List<SpillingSnapshotSplitReader> readers = new ArrayList<>();
+        MySqlSplitReader splitReader =
+                new MySqlSplitReader(
+                        createSourceConfig(2),
+                        0,
+                        context,
+                        () -> {
+                            SpillingSnapshotSplitReader reader =
+                                    new SpillingSnapshotSplitReader(spillManager);
+                            synchronized (readers) {
+                                readers.add(reader);
+                            }
+                            return reader;
+                        });
+        splitReader.handleSplitsChanges(
+                new SplitsAddition<>(
+                        Arrays.asList(
+                                createSplit("split-0"),
+                                createSplit("split-1"),
+                                createSplit("split-2"))));
+
+        // the first completed splits release their readers, which are reused by the next split,
+        // the pool is closed once the last split has been fetched
+        List<RecordsWithSplitIds<SourceRecords>> fetchedRecords = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            fetchedRecords.add(splitReader.fetch());
+        }
+        assertEquals(2, readers.size());
+        for (SpillingSnapshotSplitReader reader : readers) {
+            assertTrue(reader.closed);
+        }
+        assertEquals(3, spillManager.getSpilledChunks());
+
+        Set<String> finishedSplits = new HashSet<>();
+        for (RecordsWithSplitIds<SourceRecords> records : fetchedRecords) {
+            String splitId = records.nextSplit();
+            List<SourceRecord> chunkRecords = new ArrayList<>();
+            records.nextRecordFromSplit().iterator().forEachRemaining(chunkRecords::add);
+            assertEquals(SpillingSnapshotSplitReader.CHUNK_SIZE + 2, chunkRecords.size());
+            assertEquals(Collections.singleton(splitId), records.finishedSplits());
+            finishedSplits.add(splitId);
+        }
+        assertEquals(new HashSet<>(Arrays.asList("split-0", "split-1", "split-2")), finishedSplits);
+        assertEquals(0, spillManager.getSpilledChunks());
+        assertEquals(0, temporaryFolder.getRoot().listFiles().length);
+        splitReader.close();
+    }
+
+    @Test
+    public void testReleaseUnreadSpilledChunk() throws Exception {
+        MySqlSourceReaderContext context = createContext();
+        SnapshotChunkSpillManager spillManager = context.getSnapshotChunkSpillManager();
+        MySqlSplitReader splitReader =
+                new MySqlSplitReader(
+                        createSourceConfig(1),
+                        0,
+                        context,
+                        () -> new SpillingSnapshotSplitReader(spillManager));
+        splitReader.handleSplitsChanges(
+                new SplitsAddition<>(Collections.singletonList(createSplit("split-0"))));
+
+        // the records which are recycled before being emitted release the spilled chunk
+        splitReader.fetch().recycle();
+        assertEquals(0, spillManager.getSpilledChunks());
+
+        // the records which are never emitted are released with the source reader
+        splitReader.handleSplitsChanges(
+                new SplitsAddition<>(Collections.singletonList(createSplit("split-1"))));
+        splitReader.fetch();
+        splitReader.close();
+        assertEquals(1, spillManager.getSpilledChunks());
+        spillManager.close();
+        assertEquals(0, spillManager.getSpilledChunks());
+        assertEquals(0, temporaryFolder.getRoot().listFiles().length);
+    }
+
+    private MySqlSourceReaderContext createContext() {
+        Configuration configuration = new Configuration();
+        configuration.set(CoreOptions.TMP_DIRS, temporaryFolder.getRoot().getAbsolutePath());
+        return new MySqlSourceReaderContext(
+                new TestingReaderContext(
+                        configuration, UnregisteredMetricsGroup.createSourceReaderMetricGroup()));
+    }
+
+    private static MySqlSourceConfig createSourceConfig(int readerConcurrency) {
+        return new MySqlSourceConfigFactory()
+                .hostname("localhost")
+                .port(3306)
+                .databaseList("test_db")
+                .tableList("test_db.test_table")
+                .username("user")
+                .password("password")
+                .snapshotReaderConcurrency(readerConcurrency)
+                .createConfig(0);
+    }
+
+    private static MySqlSnapshotSplit createSplit(String splitId) {
+        return new MySqlSnapshotSplit(
+                TABLE_ID,
+                splitId,
+                RowType.of(DataTypes.BIGINT().getLogicalType()),
+                null,
+                null,
+                null,
+                new HashMap<>());
+    }
+
+    /** A {@link SnapshotSplitReader} which reads every split as a chunk spilled to disk. */
+    private static class SpillingSnapshotSplitReader extends SnapshotSplitReader {
+
+        private static final int CHUNK_SIZE = 20;
+
+        private final SnapshotChunkSpillManager spillManager;
+        private boolean polled;
+        private volatile boolean closed;
+
+        private SpillingSnapshotSplitReader(SnapshotChunkSpillManager spillManager) {
+            super(null, 0);
+            this.spillManager = spillManager;
+        }
+
+        @Override
+        public void submitSplit(MySqlSplit mySqlSplit) {
+            polled = false;
+        }
+
+        @Override
+        public Iterator<SourceRecords> pollSplitRecords() {
+            if (polled) {
+                return null;
+            }
+            polled = true;
+            SnapshotChunkBuffer buffer = new SnapshotChunkBuffer(CHUNK_SIZE / 4, spillManager);
+            for (long id = 0; id < CHUNK_SIZE; id++) {
+                Struct key = new Struct(KEY_SCHEMA).put("id", id);
+                buffer.put(key, snapshotRecord(key));
+            }
+            return Collections.singletonList(
+                            buffer.normalizedRecords(watermark("low"), watermark("high")))
+                    .iterator();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            getExecutorService().shutdown();
+        }
+
+        private static SourceRecord snapshotRecord(Struct key) {
+            Struct row = new Struct(ROW_SCHEMA).put("id", key.get("id"));
+            Struct source = new Struct(SOURCE_SCHEMA).put("ts_ms", 1L);
+            return new SourceRecord(
+                    Collections.emptyMap(),
+                    Collections.emptyMap(),
+                    "topic",
+                    null,
+                    KEY_SCHEMA,
+                    key,
+                    ENVELOPE.schema(),
+                    ENVELOPE.read(row, source, Instant.ofEpochMilli(1L)));
+        }
+
+        private static SourceRecord watermark(String kind) {
+            return new SourceRecord(
+                    Collections.emptyMap(),
+                    Collections.emptyMap(),
+                    "topic",
+                    null,
+                    Schema.STRING_SCHEMA,
+                    kind,
+                    Schema.STRING_SCHEMA,
+                    kind);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.reader;
+
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.types.logical.RowType;
+
+import com.ververica.cdc.connectors.mysql.debezium.reader.SnapshotSplitReader;
+import com.ververica.cdc.connectors.mysql.source.reader.SnapshotSplitReaderPool.CompletedSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSnapshotSplit;
+import com.ververica.cdc.connectors.mysql.source.split.MySqlSplit;
+import com.ververica.cdc.connectors.mysql.source.split.SourceRecords;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link SnapshotSplitReaderPool}. */
+public class SnapshotSplitReaderPoolTest {
+
+    private static final TableId TABLE_ID = TableId.parse("test_db.test_table");
+
+    @Test
+    public void testReturnSplitsInCompletionOrder() throws Exception {
+        Map<String, CountDownLatch> splitLatches = new HashMap<>();
+        List<TestingSnapshotSplitReader> readers = new ArrayList<>();
+        SnapshotSplitReaderPool readerPool =
+                new SnapshotSplitReaderPool(
+                        2,
+                        0,
+                        () -> {
+                            TestingSnapshotSplitReader reader =
+                                    new TestingSnapshotSplitReader(splitLatches);
+                            readers.add(reader);
+                            return reader;
+                        });
+        try {
+            splitLatches.put("split-0", new CountDownLatch(1));
+            splitLatches.put("split-1", new CountDownLatch(1));
+            splitLatches.put("split-2", new CountDownLatch(1));
+            readerPool.submitSplit(createSplit("split-0"));
+            readerPool.submitSplit(createSplit("split-1"));
+            assertFalse(readerPool.hasIdleReader());
+            assertEquals(2, readers.size());
+
+            // the second split finishes first
+            splitLatches.get("split-1").countDown();
+            CompletedSplit completedSplit = readerPool.take();
+            assertEquals("split-1", completedSplit.getSplitId());
+            assertSame(readers.get(1), completedSplit.getReader());
+            assertNotNull(completedSplit.getRecords());
+            assertFalse(readerPool.hasIdleReader());
+
+            // the released reader is reused for the next split
+            readerPool.release(completedSplit);
+            assertTrue(readerPool.hasIdleReader());
+            readerPool.submitSplit(createSplit("split-2"));
+            assertEquals(2, readers.size());
+            assertEquals("split-2", readers.get(1).currentSplitId);
+
+            splitLatches.get("split-2").countDown();
+            splitLatches.get("split-0").countDown();
+            List<String> completedSplitIds = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                completedSplit = readerPool.take();
+                completedSplitIds.add(completedSplit.getSplitId());
+                readerPool.release(completedSplit);
+            }
+            Collections.sort(completedSplitIds);
+            assertEquals(2, completedSplitIds.size());
+            assertEquals("split-0", completedSplitIds.get(0));
+            assertEquals("split-2", completedSplitIds.get(1));
+            assertTrue(readerPool.isEmpty());
+        } finally {
+            readerPool.close();
+        }
+        for (TestingSnapshotSplitReader reader : readers) {
+            assertTrue(reader.closed);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFailOnReadError() throws Exception {
+        SnapshotSplitReaderPool readerPool =
+                new SnapshotSplitReaderPool(
+                        1,
+                        0,
+                        () ->
+                                new TestingSnapshotSplitReader(new HashMap<>()) {
+                                    @Override
+                                    public Iterator<SourceRecords> pollSplitRecords() {
+                                        throw new IllegalStateException("Read split error");
+                                    }
+                                });
+        try {
+            readerPool.submitSplit(createSplit("split-0"));
+            readerPool.take();
+        } finally {
+            readerPool.close();
+        }
+    }
+
+    private static MySqlSnapshotSplit createSplit(String splitId) {
+        return new MySqlSnapshotSplit(
+                TABLE_ID,
+                splitId,
+                RowType.of(DataTypes.BIGINT().getLogicalType()),
+                null,
+                null,
+                null,
+                new HashMap<>());
+    }
+
+    /** A {@link SnapshotSplitReader} which finishes a split once its latch is counted down. */
+    private static class TestingSnapshotSplitReader extends SnapshotSplitReader {
+
+        private final Map<String, CountDownLatch> splitLatches;
+        private volatile String currentSplitId;
+        private volatile boolean closed;
+
+        private TestingSnapshotSplitReader(Map<String, CountDownLatch> splitLatches) {
+            super(null, 0);
+            this.splitLatches = splitLatches;
+        }
+
+        @Override
+        public void submitSplit(MySqlSplit mySqlSplit) {
+            this.currentSplitId = mySqlSplit.splitId();
+        }
+
+        @Override
+        public Iterator<SourceRecords> pollSplitRecords() throws InterruptedException {
+            splitLatches.get(currentSplitId).await();
+            return Collections.singletonList(new SourceRecords(new ArrayList<>())).iterator();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            getExecutorService().shutdown();
+        }
+    }
+}
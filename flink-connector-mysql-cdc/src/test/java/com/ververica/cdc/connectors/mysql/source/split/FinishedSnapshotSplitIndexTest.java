@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.split;
+
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.splitKeyRangeContains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/** Tests for {@link FinishedSnapshotSplitIndex}. */
+public class FinishedSnapshotSplitIndexTest {
+
+    private static final TableId TABLE_ID = new TableId("test_db", null, "test_table");
+
+    @Test
+    public void testSingleSplit() {
+        FinishedSnapshotSplitInfo split = createSplit(0, null, null);
+        FinishedSnapshotSplitIndex index =
+                new FinishedSnapshotSplitIndex(Collections.singletonList(split));
+        assertEquals(split, index.findSplit(new Object[] {-100L}));
+        assertEquals(split, index.findSplit(new Object[] {100L}));
+    }
+
+    @Test
+    public void testFindSplit() {
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>();
+        splits.add(createSplit(2, new Object[] {200L}, new Object[] {300L}));
+        splits.add(createSplit(0, null, new Object[] {100L}));
+        splits.add(createSplit(3, new Object[] {300L}, null));
+        splits.add(createSplit(1, new Object[] {100L}, new Object[] {200L}));
+        FinishedSnapshotSplitIndex index = new FinishedSnapshotSplitIndex(splits);
+
+        assertEquals(4, index.size());
+        assertEquals("split-0", index.findSplit(new Object[] {-1L}).getSplitId());
+        assertEquals("split-0", index.findSplit(new Object[] {99L}).getSplitId());
+        assertEquals("split-1", index.findSplit(new Object[] {100L}).getSplitId());
+        assertEquals("split-1", index.findSplit(new Object[] {199L}).getSplitId());
+        assertEquals("split-2", index.findSplit(new Object[] {200L}).getSplitId());
+        assertEquals("split-3", index.findSplit(new Object[] {300L}).getSplitId());
+        assertEquals("split-3", index.findSplit(new Object[] {Long.MAX_VALUE}).getSplitId());
+        // split key from binlog may have different type
+        assertEquals(
+                "split-2", index.findSplit(new Object[] {BigInteger.valueOf(250L)}).getSplitId());
+    }
+
+    @Test
+    public void testKeyOutOfSplitsRange() {
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>();
+        splits.add(createSplit(1, new Object[] {100L}, new Object[] {200L}));
+        splits.add(createSplit(3, new Object[] {300L}, new Object[] {400L}));
+        FinishedSnapshotSplitIndex index = new FinishedSnapshotSplitIndex(splits);
+
+        assertNull(index.findSplit(new Object[] {99L}));
+        assertNull(index.findSplit(new Object[] {250L}));
+        assertNull(index.findSplit(new Object[] {400L}));
+        assertEquals("split-3", index.findSplit(new Object[] {399L}).getSplitId());
+    }
+
+    @Test
+    public void testConsistentWithLinearScan() {
+        Random random = new Random(42L);
+        List<FinishedSnapshotSplitInfo> splits = new ArrayList<>();
+        int splitNum = 1000;
+        for (int i = 0; i < splitNum; i++) {
+            Object[] splitStart = i == 0 ? null : new Object[] {i * 1000L};
+            Object[] splitEnd = i == splitNum - 1 ? null : new Object[] {(i + 1) * 1000L};
+            splits.add(createSplit(i, splitStart, splitEnd));
+        }
+        Collections.shuffle(splits, random);
+        FinishedSnapshotSplitIndex index = new FinishedSnapshotSplitIndex(splits);
+
+        for (int i = 0; i < 10000; i++) {
+            Object[] key = new Object[] {random.nextLong() % (splitNum * 1100L)};
+            assertEquals(linearScan(splits, key), index.findSplit(key));
+        }
+    }
+
+    private static FinishedSnapshotSplitInfo linearScan(
+            List<FinishedSnapshotSplitInfo> splits, Object[] key) {
+        for (FinishedSnapshotSplitInfo split : splits) {
+            if (splitKeyRangeContains(key, split.getSplitStart(), split.getSplitEnd())) {
+                return split;
+            }
+        }
+        return null;
+    }
+
+    private static FinishedSnapshotSplitInfo createSplit(
+            int splitNo, Object[] splitStart, Object[] splitEnd) {
+        return new FinishedSnapshotSplitInfo(
+                TABLE_ID,
+                "split-" + splitNo,
+                splitStart,
+                splitEnd,
+                BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", splitNo));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.split;
+
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit.compactFinishedSplitInfos;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/** Tests for {@link MySqlBinlogSplit}. */
+public class MySqlBinlogSplitTest {
+
+    private static final TableId TABLE_1 = TableId.parse("test_db.table_1");
+    private static final TableId TABLE_2 = TableId.parse("test_db.table_2");
+    private static final TableId TABLE_3 = TableId.parse("test_db.table_3");
+
+    @Test
+    public void testCompactFinishedSplitInfos() {
+        List<FinishedSnapshotSplitInfo> splitInfos = new ArrayList<>();
+        // table_1: chunks 0-2 and 4 are before the starting offset 100, chunk 3 is after it
+        long[] table1HighWatermarks = {10, 20, 30, 200, 40};
+        splitInfos.addAll(createSplitInfos(TABLE_1, table1HighWatermarks));
+        // table_2: all chunks are before the starting offset
+        splitInfos.addAll(createSplitInfos(TABLE_2, new long[] {50, 60, 100}));
+        // table_3: all chunks are after the starting offset
+        splitInfos.addAll(createSplitInfos(TABLE_3, new long[] {300, 400}));
+
+        MySqlBinlogSplit binlogSplit = createBinlogSplit(100, splitInfos, splitInfos.size());
+        MySqlBinlogSplit compacted = compactFinishedSplitInfos(binlogSplit);
+
+        List<FinishedSnapshotSplitInfo> compactedInfos = compacted.getFinishedSnapshotSplitInfos();
+        assertEquals(5, compactedInfos.size());
+        assertEquals(compactedInfos.size(), compacted.getTotalFinishedSplitSize());
+        assertEquals(binlogSplit.getStartingOffset(), compacted.getStartingOffset());
+
+        FinishedSnapshotSplitInfo range = compactedInfos.get(0);
+        assertEquals(TABLE_1 + ":0", range.getSplitId());
+        assertNull(range.getSplitStart());
+        assertArrayEquals(new Object[] {3000L}, range.getSplitEnd());
+        assertEquals(offset(100), range.getHighWatermark());
+        assertSame(splitInfos.get(3), compactedInfos.get(1));
+        assertSame(splitInfos.get(4), compactedInfos.get(2));
+        assertSame(splitInfos.get(8), compactedInfos.get(3));
+        assertSame(splitInfos.get(9), compactedInfos.get(4));
+
+        // compacting again doesn't change the split
+        assertSame(compacted, compactFinishedSplitInfos(compacted));
+    }
+
+    @Test
+    public void testUncompletedSplitIsNotCompacted() {
+        List<FinishedSnapshotSplitInfo> splitInfos =
+                createSplitInfos(TABLE_1, new long[] {10, 20, 30});
+        MySqlBinlogSplit binlogSplit = createBinlogSplit(100, splitInfos, 6);
+        assertSame(binlogSplit, compactFinishedSplitInfos(binlogSplit));
+
+        MySqlBinlogSplit suspendedSplit =
+                MySqlBinlogSplit.toSuspendedBinlogSplit(createBinlogSplit(100, splitInfos, 3));
+        assertSame(suspendedSplit, compactFinishedSplitInfos(suspendedSplit));
+    }
+
+    @Test
+    public void testCompactedSplitInfosFilterSameEvents() {
+        Random random = new Random(42L);
+        int splitNum = 200;
+        long[] highWatermarks = new long[splitNum];
+        for (int i = 0; i < splitNum; i++) {
+            highWatermarks[i] = random.nextInt(1000);
+        }
+        List<FinishedSnapshotSplitInfo> splitInfos = new ArrayList<>();
+        splitInfos.addAll(createSplitInfos(TABLE_1, highWatermarks));
+        splitInfos.addAll(createSplitInfos(TABLE_2, new long[] {100, 200}));
+
+        for (long startingOffset : new long[] {0, 150, 500, 999}) {
+            List<FinishedSnapshotSplitInfo> compacted =
+                    compactFinishedSplitInfos(splitInfos, offset(startingOffset));
+            for (int i = 0; i < 10000; i++) {
+                TableId tableId = random.nextBoolean() ? TABLE_1 : TABLE_2;
+                Object[] key = new Object[] {(long) random.nextInt(splitNum * 1000)};
+                // the events after the starting offset are read from binlog
+                BinlogOffset position = offset(startingOffset + 1 + random.nextInt(1000));
+                assertEquals(
+                        shouldEmit(splitInfos, tableId, key, position),
+                        shouldEmit(compacted, tableId, key, position));
+            }
+        }
+    }
+
+    /** The filter logic of the binlog split reader. */
+    private static boolean shouldEmit(
+            List<FinishedSnapshotSplitInfo> splitInfos,
+            TableId tableId,
+            Object[] key,
+            BinlogOffset position) {
+        List<FinishedSnapshotSplitInfo> tableSplitInfos = new ArrayList<>();
+        BinlogOffset maxHighWatermark = null;
+        for (FinishedSnapshotSplitInfo splitInfo : splitInfos) {
+            if (splitInfo.getTableId().equals(tableId)) {
+                tableSplitInfos.add(splitInfo);
+                if (maxHighWatermark == null
+                        || splitInfo.getHighWatermark().isAfter(maxHighWatermark)) {
+                    maxHighWatermark = splitInfo.getHighWatermark();
+                }
+            }
+        }
+        if (maxHighWatermark == null || position.isAtOrAfter(maxHighWatermark)) {
+            // pure binlog phase
+            return true;
+        }
+        FinishedSnapshotSplitInfo splitInfo =
+                new FinishedSnapshotSplitIndex(tableSplitInfos).findSplit(key);
+        return splitInfo != null && position.isAfter(splitInfo.getHighWatermark());
+    }
+
+    private static List<FinishedSnapshotSplitInfo> createSplitInfos(
+            TableId tableId, long[] highWatermarks) {
+        List<FinishedSnapshotSplitInfo> splitInfos = new ArrayList<>();
+        for (int i = 0; i < highWatermarks.length; i++) {
+            splitInfos.add(
+                    new FinishedSnapshotSplitInfo(
+                            tableId,
+                            tableId + ":" + i,
+                            i == 0 ? null : new Object[] {i * 1000L},
+                            i == highWatermarks.length - 1 ? null : new Object[] {(i + 1) * 1000L},
+                            offset(highWatermarks[i])));
+        }
+        return splitInfos;
+    }
+
+    private static MySqlBinlogSplit createBinlogSplit(
+            long startingOffset,
+            List<FinishedSnapshotSplitInfo> splitInfos,
+            int totalFinishedSplitSize) {
+        return new MySqlBinlogSplit(
+                "binlog-split",
+                offset(startingOffset),
+                BinlogOffset.ofNonStopping(),
+                splitInfos,
+                new HashMap<>(),
+                totalFinishedSplitSize);
+    }
+
+    private static BinlogOffset offset(long position) {
+        return BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", position);
+    }
+}
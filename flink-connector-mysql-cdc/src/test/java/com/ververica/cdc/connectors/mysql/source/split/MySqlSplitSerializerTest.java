@@ -16,6 +16,7 @@
 
 package com.ververica.cdc.connectors.mysql.source.split;
 
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.table.types.logical.BigIntType;
 import org.apache.flink.table.types.logical.RowType;
 
@@ -23,10 +24,17 @@ import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
 import com.ververica.cdc.debezium.history.FlinkJsonTableChangeSerializer;
 import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
+import io.debezium.document.DocumentWriter;
 import io.debezium.relational.TableId;
 import io.debezium.relational.history.TableChanges.TableChange;
 import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,12 +42,18 @@ import java.util.List;
 import java.util.Map;
 
 import static com.ververica.cdc.connectors.mysql.source.split.MySqlBinlogSplit.toSuspendedBinlogSplit;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.rowToSerializedString;
+import static com.ververica.cdc.connectors.mysql.source.utils.SerializerUtils.writeBinlogPosition;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /** Tests for {@link MySqlSplitSerializer}. */
 public class MySqlSplitSerializerTest {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MySqlSplitSerializerTest.class);
+
     @Test
     public void testSnapshotSplit() throws Exception {
         final MySqlSplit split =
@@ -134,6 +148,188 @@ public class MySqlSplitSerializerTest {
         assertSame(ser1, ser2);
     }
 
+    @Test
+    public void testSnapshotSplitWithTypedBoundaries() throws Exception {
+        final TableId tableId = TableId.parse("test_db.test_table");
+        final MySqlSplit split =
+                new MySqlSnapshotSplit(
+                        tableId,
+                        tableId + ":12",
+                        new RowType(
+                                Collections.singletonList(
+                                        new RowType.RowField("id", new BigIntType()))),
+                        new Object[] {
+                            -1, Long.MIN_VALUE, "a", BigInteger.TEN.pow(30), new BigDecimal("1.50")
+                        },
+                        new Object[] {
+                            (short) 3,
+                            (byte) 4,
+                            true,
+                            1.5f,
+                            2.5d,
+                            null,
+                            Timestamp.valueOf("2022-01-01 00:00:00.123")
+                        },
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L),
+                        Collections.singletonMap(tableId, getTestTableSchema()));
+        final MySqlSplit deserialized = serializeAndDeserializeSplit(split);
+        assertEquals(split, deserialized);
+        assertEquals(tableId + ":12", deserialized.splitId());
+
+        // byte arrays are only equal by content
+        final MySqlSnapshotSplit bytesSplit =
+                new MySqlSnapshotSplit(
+                        tableId,
+                        "test_db.test_table:01",
+                        new RowType(
+                                Collections.singletonList(
+                                        new RowType.RowField("id", new BigIntType()))),
+                        null,
+                        new Object[] {new byte[] {1, 2, 3}},
+                        null,
+                        new HashMap<>());
+        final MySqlSnapshotSplit deserializedBytesSplit =
+                serializeAndDeserializeSplit(bytesSplit).asSnapshotSplit();
+        assertEquals("test_db.test_table:01", deserializedBytesSplit.splitId());
+        assertArrayEquals(
+                (byte[]) bytesSplit.getSplitEnd()[0],
+                (byte[]) deserializedBytesSplit.getSplitEnd()[0]);
+    }
+
+    @Test
+    public void testDeserializeLegacyVersion() throws Exception {
+        final TableId tableId = TableId.parse("test_db.test_table");
+        final Map<TableId, TableChange> tableSchemas = new HashMap<>();
+        tableSchemas.put(tableId, getTestTableSchema());
+
+        final MySqlSnapshotSplit snapshotSplit =
+                new MySqlSnapshotSplit(
+                        tableId,
+                        tableId + ":0",
+                        new RowType(
+                                Collections.singletonList(
+                                        new RowType.RowField("id", new BigIntType()))),
+                        null,
+                        new Object[] {100L},
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L),
+                        tableSchemas);
+        assertEquals(
+                snapshotSplit,
+                MySqlSplitSerializer.INSTANCE.deserialize(4, serializeLegacy(snapshotSplit)));
+
+        final MySqlBinlogSplit binlogSplit =
+                new MySqlBinlogSplit(
+                        "binlog-split",
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L),
+                        BinlogOffset.ofNonStopping(),
+                        createFinishedSplitsInfo(tableId, 10),
+                        tableSchemas,
+                        10);
+        assertEquals(
+                binlogSplit,
+                MySqlSplitSerializer.INSTANCE.deserialize(4, serializeLegacy(binlogSplit)));
+    }
+
+    /** Compares the state size and serialization time of the compact and the legacy format. */
+    @Test
+    public void testBinlogSplitStateSize() throws Exception {
+        final TableId tableId = TableId.parse("test_db.test_table");
+        final int splitNum = 100_000;
+        final MySqlBinlogSplit split =
+                new MySqlBinlogSplit(
+                        "binlog-split",
+                        BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L),
+                        BinlogOffset.ofNonStopping(),
+                        createFinishedSplitsInfo(tableId, splitNum),
+                        Collections.singletonMap(tableId, getTestTableSchema()),
+                        splitNum);
+
+        long start = System.nanoTime();
+        final byte[] legacy = serializeLegacy(split);
+        final long legacyNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        final byte[] compact = new MySqlSplitSerializer().serialize(split);
+        final long compactNanos = System.nanoTime() - start;
+        LOG.info(
+                "Binlog split with {} finished splits, legacy format: {} bytes in {} ms, "
+                        + "compact format: {} bytes in {} ms.",
+                splitNum,
+                legacy.length,
+                legacyNanos / 1_000_000,
+                compact.length,
+                compactNanos / 1_000_000);
+
+        assertTrue(compact.length * 10 < legacy.length);
+        assertEquals(split, serializeAndDeserializeSplit(split));
+    }
+
+    private static List<FinishedSnapshotSplitInfo> createFinishedSplitsInfo(
+            TableId tableId, int splitNum) {
+        final List<FinishedSnapshotSplitInfo> finishedSplitsInfo = new ArrayList<>(splitNum);
+        for (int i = 0; i < splitNum; i++) {
+            finishedSplitsInfo.add(
+                    new FinishedSnapshotSplitInfo(
+                            tableId,
+                            tableId + ":" + i,
+                            i == 0 ? null : new Object[] {i * 1000L},
+                            i == splitNum - 1 ? null : new Object[] {(i + 1) * 1000L},
+                            BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", 4L + i)));
+        }
+        return finishedSplitsInfo;
+    }
+
+    /** Serializes the split in the layout of version 4. */
+    private static byte[] serializeLegacy(MySqlSplit split) throws Exception {
+        final DataOutputSerializer out = new DataOutputSerializer(64);
+        if (split.isSnapshotSplit()) {
+            final MySqlSnapshotSplit snapshotSplit = split.asSnapshotSplit();
+            out.writeInt(1);
+            out.writeUTF(snapshotSplit.getTableId().toString());
+            out.writeUTF(snapshotSplit.splitId());
+            out.writeUTF(snapshotSplit.getSplitKeyType().asSerializableString());
+            out.writeUTF(rowToSerializedString(snapshotSplit.getSplitStart()));
+            out.writeUTF(rowToSerializedString(snapshotSplit.getSplitEnd()));
+            writeBinlogPosition(snapshotSplit.getHighWatermark(), out);
+            writeLegacyTableSchemas(snapshotSplit.getTableSchemas(), out);
+        } else {
+            final MySqlBinlogSplit binlogSplit = split.asBinlogSplit();
+            out.writeInt(2);
+            out.writeUTF(binlogSplit.splitId());
+            out.writeUTF("");
+            writeBinlogPosition(binlogSplit.getStartingOffset(), out);
+            writeBinlogPosition(binlogSplit.getEndingOffset(), out);
+            out.writeInt(binlogSplit.getFinishedSnapshotSplitInfos().size());
+            for (FinishedSnapshotSplitInfo splitInfo :
+                    binlogSplit.getFinishedSnapshotSplitInfos()) {
+                out.writeUTF(splitInfo.getTableId().toString());
+                out.writeUTF(splitInfo.getSplitId());
+                out.writeUTF(rowToSerializedString(splitInfo.getSplitStart()));
+                out.writeUTF(rowToSerializedString(splitInfo.getSplitEnd()));
+                writeBinlogPosition(splitInfo.getHighWatermark(), out);
+            }
+            writeLegacyTableSchemas(binlogSplit.getTableSchemas(), out);
+            out.writeInt(binlogSplit.getTotalFinishedSplitSize());
+            out.writeBoolean(binlogSplit.isSuspended());
+        }
+        return out.getCopyOfBuffer();
+    }
+
+    private static void writeLegacyTableSchemas(
+            Map<TableId, TableChange> tableSchemas, DataOutputSerializer out) throws Exception {
+        out.writeInt(tableSchemas.size());
+        for (Map.Entry<TableId, TableChange> entry : tableSchemas.entrySet()) {
+            out.writeUTF(entry.getKey().toString());
+            final byte[] tableChangeBytes =
+                    DocumentWriter.defaultWriter()
+                            .write(
+                                    new FlinkJsonTableChangeSerializer()
+                                            .toDocument(entry.getValue()))
+                            .getBytes(StandardCharsets.UTF_8);
+            out.writeInt(tableChangeBytes.length);
+            out.write(tableChangeBytes);
+        }
+    }
+
     private MySqlSplit serializeAndDeserializeSplit(MySqlSplit split) throws Exception {
         final MySqlSplitSerializer sqlSplitSerializer = new MySqlSplitSerializer();
         byte[] serialized = sqlSplitSerializer.serialize(split);
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.utils;
+
+import com.ververica.cdc.connectors.mysql.source.offset.BinlogOffset;
+import com.ververica.cdc.connectors.mysql.source.split.FinishedSnapshotSplitInfo;
+import io.debezium.relational.TableId;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.getBinlogSplitId;
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.getBinlogSplitIndex;
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.getFinishedSplitInfosOfBinlogSplit;
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.isSchemaChangeEmittingBinlogSplit;
+import static com.ververica.cdc.connectors.mysql.source.utils.BinlogSplitUtils.isTableOfBinlogSplit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link BinlogSplitUtils}. */
+public class BinlogSplitUtilsTest {
+
+    @Test
+    public void testBinlogSplitId() {
+        assertEquals("binlog-split", getBinlogSplitId(0, 1));
+        assertEquals(0, getBinlogSplitIndex("binlog-split"));
+        assertTrue(isSchemaChangeEmittingBinlogSplit("binlog-split"));
+        for (int i = 0; i < 4; i++) {
+            assertEquals("binlog-split-" + i, getBinlogSplitId(i, 4));
+            assertEquals(i, getBinlogSplitIndex(getBinlogSplitId(i, 4)));
+            assertEquals(i == 0, isSchemaChangeEmittingBinlogSplit(getBinlogSplitId(i, 4)));
+        }
+    }
+
+    @Test
+    public void testTablesArePartitioned() {
+        int binlogSplitNumber = 4;
+        int[] tableNumbers = new int[binlogSplitNumber];
+        for (int i = 0; i < 1000; i++) {
+            TableId tableId = TableId.parse("test_db.table_" + i);
+            int matched = 0;
+            for (int j = 0; j < binlogSplitNumber; j++) {
+                if (isTableOfBinlogSplit(
+                        tableId, getBinlogSplitId(j, binlogSplitNumber), binlogSplitNumber)) {
+                    matched++;
+                    tableNumbers[j]++;
+                }
+            }
+            // every table is read by exactly one binlog split
+            assertEquals(1, matched);
+            // a single binlog split reads all tables
+            assertTrue(isTableOfBinlogSplit(tableId, getBinlogSplitId(0, 1), 1));
+        }
+        for (int tableNumber : tableNumbers) {
+            assertTrue(tableNumber > 200);
+        }
+    }
+
+    @Test
+    public void testFinishedSplitInfosOfBinlogSplit() {
+        List<FinishedSnapshotSplitInfo> splitInfos = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            TableId tableId = TableId.parse("test_db.table_" + i);
+            for (int j = 0; j < 3; j++) {
+                splitInfos.add(
+                        new FinishedSnapshotSplitInfo(
+                                tableId,
+                                tableId + ":" + j,
+                                j == 0 ? null : new Object[] {j * 100L},
+                                j == 2 ? null : new Object[] {(j + 1) * 100L},
+                                BinlogOffset.ofBinlogFilePosition("mysql-bin.000001", j)));
+            }
+        }
+        assertSame(splitInfos, getFinishedSplitInfosOfBinlogSplit(splitInfos, "binlog-split", 1));
+
+        int total = 0;
+        for (int i = 0; i < 3; i++) {
+            String binlogSplitId = getBinlogSplitId(i, 3);
+            List<FinishedSnapshotSplitInfo> binlogSplitInfos =
+                    getFinishedSplitInfosOfBinlogSplit(splitInfos, binlogSplitId, 3);
+            for (FinishedSnapshotSplitInfo splitInfo : binlogSplitInfos) {
+                assertEquals(i, getBinlogSplitIndex(splitInfo.getTableId(), 3));
+            }
+            // all chunks of a table are kept in the original order
+            assertEquals(0, binlogSplitInfos.size() % 3);
+            total += binlogSplitInfos.size();
+        }
+        assertEquals(splitInfos.size(), total);
+    }
+}
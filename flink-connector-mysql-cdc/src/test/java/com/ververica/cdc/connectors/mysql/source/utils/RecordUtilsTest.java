@@ -101,5 +101,8 @@ public class RecordUtilsTest {
     private void assertKeyRangeContains(
             Object[] key, Object[] splitKeyStart, Object[] splitKeyEnd) {
         assertTrue(splitKeyRangeContains(key, splitKeyStart, splitKeyEnd));
+        SplitKeyRange keyRange = SplitKeyRange.of(splitKeyStart, splitKeyEnd);
+        assertTrue(keyRange.contains(key));
+        assertTrue(keyRange.contains(key[0]));
     }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.mysql.source.utils;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.function.Function;
+
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.compareSplitKeys;
+import static com.ververica.cdc.connectors.mysql.source.utils.RecordUtils.splitKeyRangeContains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link SplitKeyRange}. */
+public class SplitKeyRangeTest {
+
+    private static final int ROUNDS = 2000;
+
+    @Test
+    public void testSameResultAsGenericComparison() {
+        Random random = new Random(42L);
+        // bounds of chunk splitting and keys of binlog records may have different types
+        assertSameResult(random, 1, value -> (long) value, value -> (int) value);
+        assertSameResult(random, 1, value -> (long) value, value -> (long) value);
+        assertSameResult(random, 1, value -> (int) value, value -> BigInteger.valueOf(value));
+        assertSameResult(
+                random, 1, value -> BigInteger.valueOf(value), value -> BigDecimal.valueOf(value));
+        assertSameResult(
+                random,
+                1,
+                value -> BigDecimal.valueOf(value, 2),
+                value -> BigDecimal.valueOf(value));
+        assertSameResult(random, 1, value -> String.format("k%05d", value), value -> "k" + value);
+        assertSameResult(random, 1, SplitKeyRangeTest::toBytes, SplitKeyRangeTest::toByteBuffer);
+        // composite split keys
+        assertSameResult(random, 2, value -> (long) value, value -> (int) value);
+        assertSameResult(random, 3, value -> String.valueOf(value), value -> String.valueOf(value));
+    }
+
+    @Test
+    public void testCompareBinaryAsUnsignedBytes() {
+        byte[] start = new byte[] {0x10};
+        byte[] end = new byte[] {(byte) 0x90, 0x00};
+        SplitKeyRange keyRange = SplitKeyRange.of(new Object[] {start}, new Object[] {end});
+        assertTrue(keyRange.contains(ByteBuffer.wrap(new byte[] {0x10})));
+        assertTrue(keyRange.contains(ByteBuffer.wrap(new byte[] {0x7f, (byte) 0xff})));
+        assertTrue(keyRange.contains(ByteBuffer.wrap(new byte[] {(byte) 0x90})));
+        assertTrue(keyRange.contains(new Object[] {new byte[] {(byte) 0x8f}}));
+        assertFalse(keyRange.contains(ByteBuffer.wrap(new byte[] {0x0f, (byte) 0xff})));
+        assertFalse(keyRange.contains(ByteBuffer.wrap(new byte[] {(byte) 0x90, 0x00})));
+        assertFalse(keyRange.contains(new Object[] {new byte[] {(byte) 0xff}}));
+        assertTrue(keyRange.compareToStart(ByteBuffer.wrap(new byte[] {(byte) 0x80})) > 0);
+    }
+
+    @Test
+    public void testContainsWithoutAllocation() {
+        Assume.assumeTrue(
+                ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        SplitKeyRange longRange = SplitKeyRange.of(new Object[] {100L}, new Object[] {10000L});
+        SplitKeyRange decimalRange =
+                SplitKeyRange.of(
+                        new Object[] {BigDecimal.valueOf(100L)},
+                        new Object[] {BigDecimal.valueOf(10000L)});
+        SplitKeyRange stringRange = SplitKeyRange.of(new Object[] {"k100"}, new Object[] {"k900"});
+        Object[] longKeys = new Object[1024];
+        Object[] decimalKeys = new Object[1024];
+        Object[] stringKeys = new Object[1024];
+        for (int i = 0; i < longKeys.length; i++) {
+            longKeys[i] = (long) i * 16;
+            decimalKeys[i] = BigDecimal.valueOf(i * 16L);
+            stringKeys[i] = "k" + i;
+        }
+
+        int iterations = 1_000_000;
+        // warm up, then measure the allocated bytes of the same loop
+        int matches =
+                countMatches(
+                        longRange,
+                        decimalRange,
+                        stringRange,
+                        longKeys,
+                        decimalKeys,
+                        stringKeys,
+                        iterations);
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        assertEquals(
+                matches,
+                countMatches(
+                        longRange,
+                        decimalRange,
+                        stringRange,
+                        longKeys,
+                        decimalKeys,
+                        stringKeys,
+                        iterations));
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        // the generic comparison allocates at least one array for every call
+        assertTrue(
+                "Allocated " + allocatedBytes + " bytes for " + iterations + " iterations",
+                allocatedBytes < iterations);
+    }
+
+    private static int countMatches(
+            SplitKeyRange longRange,
+            SplitKeyRange decimalRange,
+            SplitKeyRange stringRange,
+            Object[] longKeys,
+            Object[] decimalKeys,
+            Object[] stringKeys,
+            int iterations) {
+        int matches = 0;
+        for (int i = 0; i < iterations; i++) {
+            int index = i & 1023;
+            if (longRange.contains(longKeys[index])) {
+                matches++;
+            }
+            if (decimalRange.contains(decimalKeys[index])) {
+                matches++;
+            }
+            if (stringRange.contains(stringKeys[index])) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Checks that the key range gives the same result as {@link RecordUtils#splitKeyRangeContains}
+     * for random split bounds and keys, including the keys equal to the bounds.
+     */
+    private static void assertSameResult(
+            Random random,
+            int keyLength,
+            Function<Integer, Object> boundFactory,
+            Function<Integer, Object> keyFactory) {
+        for (int round = 0; round < ROUNDS; round++) {
+            int[] start = randomValues(random, keyLength);
+            int[] end = randomValues(random, keyLength);
+            int[] key = random.nextInt(4) == 0 ? start : randomValues(random, keyLength);
+            Object[] splitStart = random.nextInt(5) == 0 ? null : toKey(start, boundFactory);
+            Object[] splitEnd = random.nextInt(5) == 0 ? null : toKey(end, boundFactory);
+            Object[] splitKey = toKey(key, keyFactory);
+
+            SplitKeyRange keyRange = SplitKeyRange.of(splitStart, splitEnd);
+            boolean expected = splitKeyRangeContains(splitKey, splitStart, splitEnd);
+            assertEquals(expected, keyRange.contains(splitKey));
+            if (keyLength == 1) {
+                assertEquals(expected, keyRange.contains(splitKey[0]));
+            }
+            if (splitStart != null) {
+                assertEquals(
+                        Integer.signum(-compareSplitKeys(splitStart, splitKey)),
+                        Integer.signum(keyRange.compareToStart(splitKey)));
+            }
+        }
+    }
+
+    private static int[] randomValues(Random random, int length) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextInt(300);
+        }
+        return values;
+    }
+
+    private static Object[] toKey(int[] values, Function<Integer, Object> factory) {
+        Object[] key = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            key[i] = factory.apply(values[i]);
+        }
+        return key;
+    }
+
+    private static byte[] toBytes(int value) {
+        // a value larger than 127 has a negative signed first byte
+        return value % 3 == 0
+                ? new byte[] {(byte) value}
+                : new byte[] {(byte) value, (byte) (value * 7)};
+    }
+
+    private static ByteBuffer toByteBuffer(int value) {
+        return ByteBuffer.wrap(toBytes(value));
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.flink.table.factories.Factory;
 import org.apache.flink.table.factories.FactoryUtil;
 import org.apache.flink.util.ExceptionUtils;
 
+import com.ververica.cdc.connectors.mysql.source.config.ChunkSplitStrategy;
 import com.ververica.cdc.debezium.utils.ResolvedSchemaUtils;
 import org.junit.Test;
 
@@ -50,8 +51,18 @@ import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOption
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.CONNECT_MAX_RETRIES;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.CONNECT_TIMEOUT;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.HEARTBEAT_INTERVAL;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_DESERIALIZATION_PARALLELISM;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BINLOG_SPLIT_NUMBER;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_BULK_SCHEMA_DISCOVERY_ENABLED;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED;
+import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_OBJECT_REUSE_ENABLED;
 import static com.ververica.cdc.connectors.mysql.source.config.MySqlSourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
 import static org.apache.flink.core.testutils.FlinkMatchers.containsMessage;
 import static org.junit.Assert.assertEquals;
@@ -123,7 +134,21 @@ public class MySqlTableSourceFactoryTest {
                         false,
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
-                        null);
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -167,7 +192,21 @@ public class MySqlTableSourceFactoryTest {
                         false,
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
-                        "testCol");
+                        "testCol",
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -207,7 +246,21 @@ public class MySqlTableSourceFactoryTest {
                         false,
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
-                        null);
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -245,7 +298,21 @@ public class MySqlTableSourceFactoryTest {
                         false,
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
-                        null);
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -291,7 +358,21 @@ public class MySqlTableSourceFactoryTest {
                         true,
                         jdbcProperties,
                         Duration.ofMillis(15213),
-                        "testCol");
+                        "testCol",
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -335,7 +416,21 @@ public class MySqlTableSourceFactoryTest {
                         false,
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
-                        null);
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -371,7 +466,21 @@ public class MySqlTableSourceFactoryTest {
                         false,
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
-                        null);
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -408,7 +517,21 @@ public class MySqlTableSourceFactoryTest {
                         false,
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
-                        null);
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -446,7 +569,21 @@ public class MySqlTableSourceFactoryTest {
                         false,
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
-                        null);
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -482,7 +619,21 @@ public class MySqlTableSourceFactoryTest {
                         false,
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
-                        null);
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         assertEquals(expectedSource, actualSource);
     }
 
@@ -523,7 +674,21 @@ public class MySqlTableSourceFactoryTest {
                         false,
                         new Properties(),
                         HEARTBEAT_INTERVAL.defaultValue(),
-                        null);
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPILL_THRESHOLD.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_BACKFILL_SHARED_CURSOR_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SPLITTER_PARALLELISM.defaultValue(),
+                        ChunkSplitStrategy.QUERY,
+                        SCAN_OBJECT_REUSE_ENABLED.defaultValue(),
+                        SCAN_BULK_SCHEMA_DISCOVERY_ENABLED.defaultValue(),
+                        null,
+                        SCAN_BINLOG_DESERIALIZATION_PARALLELISM.defaultValue(),
+                        SCAN_BINLOG_SPLIT_NUMBER.defaultValue(),
+                        null,
+                        null,
+                        SCAN_INCREMENTAL_SNAPSHOT_SIZE_AWARE_SCHEDULING_ENABLED.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_PREFETCH_SPLITS.defaultValue(),
+                        SCAN_INCREMENTAL_SNAPSHOT_READER_CONCURRENCY.defaultValue());
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys = Arrays.asList("op_ts", "database_name");
 
@@ -29,6 +29,7 @@ import com.ververica.cdc.connectors.base.source.reader.external.FetchTask;
 import com.ververica.cdc.connectors.oracle.source.assigner.splitter.OracleChunkSplitter;
 import com.ververica.cdc.connectors.oracle.source.config.OracleSourceConfig;
 import com.ververica.cdc.connectors.oracle.source.config.OracleSourceConfigFactory;
+import com.ververica.cdc.connectors.oracle.source.metrics.LogMiningMetrics;
 import com.ververica.cdc.connectors.oracle.source.reader.fetch.OracleScanFetchTask;
 import com.ververica.cdc.connectors.oracle.source.reader.fetch.OracleSourceFetchTaskContext;
 import com.ververica.cdc.connectors.oracle.source.reader.fetch.OracleStreamFetchTask;
@@ -55,6 +56,7 @@ public class OracleDialect implements JdbcDataSourceDialect {
     private final OracleSourceConfigFactory configFactory;
     private final OracleSourceConfig sourceConfig;
     private transient OracleSchema oracleSchema;
+    private transient LogMiningMetrics logMiningMetrics;
 
     public OracleDialect(OracleSourceConfigFactory configFactory) {
         this.configFactory = configFactory;
@@ -138,6 +140,14 @@ public class OracleDialect implements JdbcDataSourceDialect {
         return oracleSchema.getTableSchema(jdbc, tableId);
     }
 
+    /** Returns the LogMiner metrics of the source reader, which uses this dialect. */
+    public LogMiningMetrics getLogMiningMetrics() {
+        if (logMiningMetrics == null) {
+            logMiningMetrics = new LogMiningMetrics();
+        }
+        return logMiningMetrics;
+    }
+
     @Override
     public OracleSourceFetchTaskContext createFetchTaskContext(
             SourceSplitBase sourceSplitBase, JdbcSourceConfig taskSourceConfig) {
@@ -17,15 +17,20 @@
 package com.ververica.cdc.connectors.oracle.source;
 
 import org.apache.flink.annotation.Internal;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.metrics.MetricGroup;
 
+import com.ververica.cdc.connectors.base.config.JdbcSourceConfig;
 import com.ververica.cdc.connectors.base.options.StartupOptions;
 import com.ververica.cdc.connectors.base.source.jdbc.JdbcIncrementalSource;
+import com.ververica.cdc.connectors.base.source.reader.IncrementalSourceReader;
 import com.ververica.cdc.connectors.oracle.source.config.OracleSourceConfigFactory;
 import com.ververica.cdc.connectors.oracle.source.meta.offset.RedoLogOffsetFactory;
 import com.ververica.cdc.debezium.DebeziumDeserializationSchema;
 
 import javax.annotation.Nullable;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.Properties;
 
@@ -197,6 +202,15 @@ public class OracleSourceBuilder<T> {
         return this;
     }
 
+    /**
+     * Optional target size in bytes of the chunks of table snapshot, the chunk size of every table
+     * is derived from it and the average row length of the table.
+     */
+    public OracleSourceBuilder<T> chunkTargetBytes(Long chunkTargetBytes) {
+        this.configFactory.chunkTargetBytes(chunkTargetBytes);
+        return this;
+    }
+
     /** The Debezium Oracle connector properties. For example, "snapshot.mode". */
     public OracleSourceBuilder<T> debeziumProperties(Properties properties) {
         this.configFactory.debeziumProperties(properties);
@@ -235,6 +249,18 @@ public class OracleSourceBuilder<T> {
             super(configFactory, deserializationSchema, offsetFactory, dataSourceDialect);
         }
 
+        @Override
+        public IncrementalSourceReader<T, JdbcSourceConfig> createReader(
+                SourceReaderContext readerContext) throws Exception {
+            IncrementalSourceReader<T, JdbcSourceConfig> reader = super.createReader(readerContext);
+            // Forward compatible with flink 1.13
+            final Method metricGroupMethod = readerContext.getClass().getMethod("metricGroup");
+            metricGroupMethod.setAccessible(true);
+            final MetricGroup metricGroup = (MetricGroup) metricGroupMethod.invoke(readerContext);
+            ((OracleDialect) dataSourceDialect).getLogMiningMetrics().registerMetrics(metricGroup);
+            return reader;
+        }
+
         public static <T> OracleSourceBuilder<T> builder() {
             return new OracleSourceBuilder<>();
         }
@@ -141,6 +141,11 @@ public class OracleChunkSplitter implements JdbcSourceChunkSplitter {
         return OracleUtils.queryApproximateRowCnt(jdbc, tableId);
     }
 
+    @Override
+    public long queryAverageRowLength(JdbcConnection jdbc, TableId tableId) throws SQLException {
+        return OracleUtils.queryAverageRowLength(jdbc, tableId);
+    }
+
     @Override
     public String buildSplitScanQuery(
             TableId tableId, RowType splitKeyType, boolean isFirstSplit, boolean isLastSplit) {
@@ -164,6 +169,14 @@ public class OracleChunkSplitter implements JdbcSourceChunkSplitter {
     private List<ChunkRange> splitTableIntoChunks(
             JdbcConnection jdbc, TableId tableId, Column splitColumn) throws SQLException {
         final String splitColumnName = splitColumn.name();
+        // split by the extents of the table for ROWID, which doesn't query the table
+        if (splitColumnName.equals(ROWID.class.getSimpleName())) {
+            final List<ChunkRange> extentChunks = splitRowIdExtents(jdbc, tableId);
+            if (extentChunks != null) {
+                return extentChunks;
+            }
+        }
+
         final Object[] minMax = queryMinMax(jdbc, tableId, splitColumnName);
         final Object min = minMax[0];
         final Object max = minMax[1];
@@ -172,7 +185,7 @@ public class OracleChunkSplitter implements JdbcSourceChunkSplitter {
             return Collections.singletonList(ChunkRange.all());
         }
 
-        final int chunkSize = sourceConfig.getSplitSize();
+        final int chunkSize = getChunkSize(jdbc, tableId, sourceConfig);
         final double distributionFactorUpper = sourceConfig.getDistributionFactorUpper();
         final double distributionFactorLower = sourceConfig.getDistributionFactorLower();
 
@@ -233,6 +246,37 @@ public class OracleChunkSplitter implements JdbcSourceChunkSplitter {
         return splits;
     }
 
+    /**
+     * Split table into ROWID ranges from the extents of the table, returns null if the extents are
+     * not available, e.g. the catalog views can't be read or the table is index organized.
+     */
+    private List<ChunkRange> splitRowIdExtents(JdbcConnection jdbc, TableId tableId) {
+        try {
+            final List<RowIdExtentSplitter.Extent> extents =
+                    RowIdExtentSplitter.queryExtents(jdbc, tableId);
+            if (extents.isEmpty()) {
+                LOG.info("No extents found for table {}, split it by ROWID queries.", tableId);
+                return null;
+            }
+            final int chunkSize = getChunkSize(jdbc, tableId, sourceConfig);
+            final long blocksPerChunk =
+                    RowIdExtentSplitter.getBlocksPerChunk(
+                            extents, queryApproximateRowCnt(jdbc, tableId), chunkSize);
+            LOG.info(
+                    "Use ROWID extent chunks for table {}, {} extents, {} blocks per chunk",
+                    tableId,
+                    extents.size(),
+                    blocksPerChunk);
+            return RowIdExtentSplitter.splitExtents(extents, blocksPerChunk);
+        } catch (SQLException e) {
+            LOG.warn(
+                    "Failed to query the extents of table {}, split it by ROWID queries.",
+                    tableId,
+                    e);
+            return null;
+        }
+    }
+
     /** Split table into unevenly sized chunks by continuously calculating next chunk max value. */
     private List<ChunkRange> splitUnevenlySizedChunks(
             JdbcConnection jdbc,
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.assigner.splitter;
+
+import com.ververica.cdc.connectors.base.source.assigner.splitter.ChunkRange;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.TableId;
+import oracle.sql.ROWID;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits a heap table into ROWID ranges from the extents of its segments, which are read by a
+ * single query of the catalog instead of one query of the table per chunk.
+ *
+ * <p>The extents are ordered like the ROWIDs, by data object, relative file and block, and grouped
+ * into chunks of about the same number of blocks. An extent larger than a chunk is cut at block
+ * boundaries, so every chunk scans a contiguous block range of an extent or consecutive extents.
+ * The boundaries are the ROWIDs of the first row slot of the first block of the chunks, and as the
+ * first and the last chunk are unbounded, rows in extents allocated after splitting are still read.
+ */
+public class RowIdExtentSplitter {
+
+    private static final String EXTENTS_QUERY =
+            "SELECT o.DATA_OBJECT_ID, e.RELATIVE_FNO, e.BLOCK_ID, e.BLOCKS, t.BIGFILE"
+                    + " FROM DBA_EXTENTS e"
+                    + " JOIN DBA_OBJECTS o ON o.OWNER = e.OWNER AND o.OBJECT_NAME = e.SEGMENT_NAME"
+                    + " AND o.OBJECT_TYPE = e.SEGMENT_TYPE"
+                    + " AND NVL(o.SUBOBJECT_NAME, ' ') = NVL(e.PARTITION_NAME, ' ')"
+                    + " JOIN DBA_TABLESPACES t ON t.TABLESPACE_NAME = e.TABLESPACE_NAME"
+                    + " WHERE e.OWNER = ? AND e.SEGMENT_NAME = ?"
+                    + " AND e.SEGMENT_TYPE IN ('TABLE', 'TABLE PARTITION', 'TABLE SUBPARTITION')"
+                    + " AND o.DATA_OBJECT_ID IS NOT NULL"
+                    + " ORDER BY o.DATA_OBJECT_ID, e.RELATIVE_FNO, e.BLOCK_ID";
+
+    private static final char[] BASE64_DIGITS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    private RowIdExtentSplitter() {}
+
+    /** Queries the extents of the table segments ordered by ROWID. */
+    public static List<Extent> queryExtents(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        return jdbc.prepareQueryAndMap(
+                EXTENTS_QUERY,
+                ps -> {
+                    ps.setString(1, tableId.schema());
+                    ps.setString(2, tableId.table());
+                },
+                rs -> {
+                    List<Extent> extents = new ArrayList<>();
+                    while (rs.next()) {
+                        extents.add(
+                                new Extent(
+                                        rs.getLong(1),
+                                        rs.getLong(2),
+                                        rs.getLong(3),
+                                        rs.getLong(4),
+                                        "YES".equals(rs.getString(5))));
+                    }
+                    return extents;
+                });
+    }
+
+    /**
+     * Returns the number of blocks of a chunk of the given size, derived from the approximate row
+     * count of the table. Without statistics, a chunk has one block per row of the chunk size.
+     */
+    public static long getBlocksPerChunk(
+            List<Extent> extents, long approximateRowCnt, int chunkSize) {
+        long totalBlocks = 0;
+        for (Extent extent : extents) {
+            totalBlocks += extent.blocks;
+        }
+        if (approximateRowCnt <= 0 || totalBlocks <= 0) {
+            return Math.max(1, chunkSize);
+        }
+        double rowsPerBlock = (double) approximateRowCnt / totalBlocks;
+        return Math.max(1L, (long) Math.ceil(chunkSize / rowsPerBlock));
+    }
+
+    /** Splits the extents into ROWID ranges of the given number of blocks. */
+    public static List<ChunkRange> splitExtents(List<Extent> extents, long blocksPerChunk)
+            throws SQLException {
+        List<String> boundaries = getChunkBoundaries(extents, blocksPerChunk);
+        if (boundaries.isEmpty()) {
+            return Collections.singletonList(ChunkRange.all());
+        }
+        List<ChunkRange> chunks = new ArrayList<>(boundaries.size() + 1);
+        Object chunkStart = null;
+        for (String boundary : boundaries) {
+            ROWID chunkEnd = new ROWID(boundary);
+            chunks.add(ChunkRange.of(chunkStart, chunkEnd));
+            chunkStart = chunkEnd;
+        }
+        chunks.add(ChunkRange.of(chunkStart, null));
+        return chunks;
+    }
+
+    /** Returns the ROWIDs that start the chunks, except the first chunk. */
+    static List<String> getChunkBoundaries(List<Extent> extents, long blocksPerChunk) {
+        List<String> boundaries = new ArrayList<>();
+        long blocksInChunk = 0;
+        for (Extent extent : extents) {
+            long offset = 0;
+            while (offset < extent.blocks) {
+                if (blocksInChunk >= blocksPerChunk) {
+                    boundaries.add(
+                            encodeRowId(
+                                    extent.dataObjectId,
+                                    extent.relativeFno,
+                                    extent.blockId + offset,
+                                    0,
+                                    extent.bigfile));
+                    blocksInChunk = 0;
+                }
+                long blocks = Math.min(extent.blocks - offset, blocksPerChunk - blocksInChunk);
+                blocksInChunk += blocks;
+                offset += blocks;
+            }
+        }
+        return boundaries;
+    }
+
+    /**
+     * Encodes an extended ROWID, {@code OOOOOOFFFBBBBBBRRR} in base64 of the data object number,
+     * the relative file number, the block number and the row number. The block number of a bigfile
+     * tablespace takes the bits of both the file and the block number.
+     */
+    static String encodeRowId(
+            long dataObjectId, long relativeFno, long blockNumber, int rowNumber, boolean bigfile) {
+        StringBuilder rowId = new StringBuilder(18);
+        appendBase64(rowId, dataObjectId, 6);
+        if (bigfile) {
+            appendBase64(rowId, blockNumber, 9);
+        } else {
+            appendBase64(rowId, relativeFno, 3);
+            appendBase64(rowId, blockNumber, 6);
+        }
+        appendBase64(rowId, rowNumber, 3);
+        return rowId.toString();
+    }
+
+    private static void appendBase64(StringBuilder builder, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            builder.append(BASE64_DIGITS[(int) ((value >>> (6 * i)) & 0x3F)]);
+        }
+    }
+
+    /** An extent of a table segment. */
+    public static class Extent {
+
+        private final long dataObjectId;
+        private final long relativeFno;
+        private final long blockId;
+        private final long blocks;
+        private final boolean bigfile;
+
+        public Extent(
+                long dataObjectId, long relativeFno, long blockId, long blocks, boolean bigfile) {
+            this.dataObjectId = dataObjectId;
+            this.relativeFno = relativeFno;
+            this.blockId = blockId;
+            this.blocks = blocks;
+            this.bigfile = bigfile;
+        }
+    }
+}
@@ -60,7 +60,8 @@ public class OracleSourceConfig extends JdbcSourceConfig {
             Duration connectTimeout,
             int connectMaxRetries,
             int connectionPoolSize,
-            String chunkKeyColumn) {
+            String chunkKeyColumn,
+            @Nullable Long chunkTargetBytes) {
         super(
                 startupOptions,
                 databaseList,
@@ -82,7 +83,8 @@ public class OracleSourceConfig extends JdbcSourceConfig {
                 connectTimeout,
                 connectMaxRetries,
                 connectionPoolSize,
-                chunkKeyColumn);
+                chunkKeyColumn,
+                chunkTargetBytes);
         this.url = url;
     }
 
@@ -127,6 +127,7 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
                 connectTimeout,
                 connectMaxRetries,
                 connectionPoolSize,
-                chunkKeyColumn);
+                chunkKeyColumn,
+                chunkTargetBytes);
     }
 }
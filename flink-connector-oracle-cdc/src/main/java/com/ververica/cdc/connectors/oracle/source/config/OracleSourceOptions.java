@@ -16,12 +16,15 @@
 
 package com.ververica.cdc.connectors.oracle.source.config;
 
+import org.apache.flink.annotation.Experimental;
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ConfigOptions;
 
 import com.ververica.cdc.connectors.base.options.JdbcSourceOptions;
 import com.ververica.cdc.connectors.oracle.OracleSource;
 
+import java.time.Duration;
+
 /** Configurations for {@link OracleSource}. */
 public class OracleSourceOptions extends JdbcSourceOptions {
 
@@ -36,4 +39,52 @@ public class OracleSourceOptions extends JdbcSourceOptions {
                     .intType()
                     .defaultValue(1521)
                     .withDescription("Integer port number of the Oracle database server.");
+
+    @Experimental
+    public static final ConfigOption<Integer> LOG_MINING_TRANSACTION_SPILL_THRESHOLD =
+            ConfigOptions.key("scan.log-mining.transaction.spill-threshold")
+                    .intType()
+                    .defaultValue(-1)
+                    .withDescription(
+                            "The max number of change events of an uncommitted transaction that are buffered in memory when read the redo log by LogMiner."
+                                    + " The events beyond the threshold are spilled to local disk and read back when the transaction is committed,"
+                                    + " which bounds the memory used by large transactions. LOB support doesn't support spilling."
+                                    + " By default, the value is -1 which means the transactions are always buffered in memory.");
+
+    @Experimental
+    public static final ConfigOption<String> LOG_MINING_TRANSACTION_SPILL_DIR =
+            ConfigOptions.key("scan.log-mining.transaction.spill-dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Optional local directory of the spill files of large transactions, the temporary directory of the JVM is used by default.");
+
+    @Experimental
+    public static final ConfigOption<Integer> LOG_MINING_PARALLEL_SESSIONS =
+            ConfigOptions.key("scan.log-mining.parallel-sessions")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of concurrent LogMiner sessions when read the redo log. Every mining window is split into consecutive SCN ranges"
+                                    + " which are mined by separate sessions on separate connections, and the results are merged by SCN."
+                                    + " Only the online_catalog mining strategy supports more than one session.");
+
+    @Experimental
+    public static final ConfigOption<Boolean> LOG_MINING_ADAPTIVE_WINDOW_ENABLED =
+            ConfigOptions.key("scan.log-mining.adaptive-window.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the SCN window and the pause between the LogMiner sessions are adapted from the mined rows,"
+                                    + " the latency of the sessions and the SCN lag. The window is shrunk when a session exceeds the target latency,"
+                                    + " grown when the lag exceeds the window, and the pause grows while the database is idle."
+                                    + " The state of the window is exposed by the logMining* metrics of the source.");
+
+    @Experimental
+    public static final ConfigOption<Duration> LOG_MINING_ADAPTIVE_WINDOW_TARGET_LATENCY =
+            ConfigOptions.key("scan.log-mining.adaptive-window.target-latency")
+                    .durationType()
+                    .defaultValue(Duration.ofSeconds(5))
+                    .withDescription(
+                            "The target latency of a LogMiner session when the adaptive window is enabled.");
 }
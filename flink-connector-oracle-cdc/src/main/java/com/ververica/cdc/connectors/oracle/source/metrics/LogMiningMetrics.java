@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.metrics;
+
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
+
+import io.debezium.connector.oracle.logminer.MiningWindowController;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * The metrics of the LogMiner mining loop of a source reader, which expose the state of the {@link
+ * MiningWindowController} of the redo log split being read.
+ */
+public class LogMiningMetrics {
+
+    public static final String LOG_MINING_WINDOW_SIZE = "logMiningWindowSize";
+    public static final String LOG_MINING_PAUSE_TIME = "logMiningPauseTime";
+    public static final String LOG_MINING_LAST_MINED_ROWS = "logMiningLastMinedRows";
+    public static final String LOG_MINING_LAST_LATENCY = "logMiningLastLatency";
+    public static final String LOG_MINING_SCN_LAG = "logMiningScnLag";
+
+    /** The controller of the redo log split being read, null before the split is read. */
+    private volatile MiningWindowController miningWindowController;
+
+    public void registerMetrics(MetricGroup metricGroup) {
+        metricGroup.gauge(LOG_MINING_WINDOW_SIZE, gauge(MiningWindowController::getWindowSize));
+        metricGroup.gauge(
+                LOG_MINING_PAUSE_TIME, gauge(MiningWindowController::getPauseInMilliseconds));
+        metricGroup.gauge(
+                LOG_MINING_LAST_MINED_ROWS, gauge(MiningWindowController::getLastMinedRows));
+        metricGroup.gauge(
+                LOG_MINING_LAST_LATENCY,
+                gauge(MiningWindowController::getLastMiningLatencyInMilliseconds));
+        metricGroup.gauge(LOG_MINING_SCN_LAG, gauge(MiningWindowController::getScnLag));
+    }
+
+    public void setMiningWindowController(MiningWindowController miningWindowController) {
+        this.miningWindowController = miningWindowController;
+    }
+
+    private Gauge<Long> gauge(ToLongFunction<MiningWindowController> metric) {
+        return () -> {
+            MiningWindowController controller = miningWindowController;
+            return controller == null ? 0L : metric.applyAsLong(controller);
+        };
+    }
+}
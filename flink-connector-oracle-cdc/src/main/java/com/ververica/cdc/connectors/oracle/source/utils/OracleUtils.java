@@ -97,6 +97,23 @@ public class OracleUtils {
                         });
     }
 
+    /**
+     * Queries the average row length in bytes of the table from the table statistics, returns 0 if
+     * the statistics are not available.
+     */
+    public static long queryAverageRowLength(JdbcConnection jdbc, TableId tableId)
+            throws SQLException {
+        final String avgRowLengthQuery =
+                "select AVG_ROW_LEN from all_tables where OWNER = ? and TABLE_NAME = ?";
+        return jdbc.prepareQueryAndMap(
+                avgRowLengthQuery,
+                ps -> {
+                    ps.setString(1, tableId.schema());
+                    ps.setString(2, tableId.table());
+                },
+                rs -> rs.next() ? rs.getLong(1) : 0L);
+    }
+
     public static Object queryMin(
             JdbcConnection jdbc, TableId tableId, String columnName, Object excludedLowerBound)
             throws SQLException {
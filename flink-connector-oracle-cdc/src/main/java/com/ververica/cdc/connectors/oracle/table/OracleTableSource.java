@@ -77,6 +77,7 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
     private final double distributionFactorUpper;
     private final double distributionFactorLower;
     private final String chunkKeyColumn;
+    @Nullable private final Long chunkTargetBytes;
 
     // --------------------------------------------------------------------------------------------
     // Mutable attributes
@@ -109,7 +110,8 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
             int connectionPoolSize,
             double distributionFactorUpper,
             double distributionFactorLower,
-            @Nullable String chunkKeyColumn) {
+            @Nullable String chunkKeyColumn,
+            @Nullable Long chunkTargetBytes) {
         this.physicalSchema = physicalSchema;
         this.url = url;
         this.port = port;
@@ -133,6 +135,7 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
         this.distributionFactorUpper = distributionFactorUpper;
         this.distributionFactorLower = distributionFactorLower;
         this.chunkKeyColumn = chunkKeyColumn;
+        this.chunkTargetBytes = chunkTargetBytes;
     }
 
     @Override
@@ -178,6 +181,7 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                             .connectMaxRetries(connectMaxRetries)
                             .distributionFactorUpper(distributionFactorUpper)
                             .distributionFactorLower(distributionFactorLower)
+                            .chunkTargetBytes(chunkTargetBytes)
                             .build();
 
             return SourceProvider.of(oracleChangeEventSource);
@@ -241,7 +245,8 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                         connectionPoolSize,
                         distributionFactorUpper,
                         distributionFactorLower,
-                        chunkKeyColumn);
+                        chunkKeyColumn,
+                        chunkTargetBytes);
         source.metadataKeys = metadataKeys;
         source.producedDataType = producedDataType;
         return source;
@@ -278,7 +283,8 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                 && Objects.equals(connectionPoolSize, that.connectionPoolSize)
                 && Objects.equals(distributionFactorUpper, that.distributionFactorUpper)
                 && Objects.equals(distributionFactorLower, that.distributionFactorLower)
-                && Objects.equals(chunkKeyColumn, that.chunkKeyColumn);
+                && Objects.equals(chunkKeyColumn, that.chunkKeyColumn)
+                && Objects.equals(chunkTargetBytes, that.chunkTargetBytes);
     }
 
     @Override
@@ -306,7 +312,8 @@ public class OracleTableSource implements ScanTableSource, SupportsReadingMetada
                 connectionPoolSize,
                 distributionFactorUpper,
                 distributionFactorLower,
-                chunkKeyColumn);
+                chunkKeyColumn,
+                chunkTargetBytes);
     }
 
     @Override
@@ -26,9 +26,13 @@ import org.apache.flink.table.factories.FactoryUtil;
 
 import com.ververica.cdc.connectors.base.options.StartupOptions;
 import com.ververica.cdc.debezium.table.DebeziumOptions;
+import io.debezium.connector.oracle.logminer.MiningWindowController;
+import io.debezium.connector.oracle.logminer.ParallelLogMinerSessions;
+import io.debezium.connector.oracle.logminer.TransactionalBuffer;
 
 import java.time.Duration;
 import java.util.HashSet;
+import java.util.Properties;
 import java.util.Set;
 
 import static com.ververica.cdc.connectors.base.options.JdbcSourceOptions.CONNECTION_POOL_SIZE;
@@ -43,12 +47,18 @@ import static com.ververica.cdc.connectors.base.options.JdbcSourceOptions.TABLE_
 import static com.ververica.cdc.connectors.base.options.JdbcSourceOptions.USERNAME;
 import static com.ververica.cdc.connectors.base.options.SourceOptions.CHUNK_META_GROUP_SIZE;
 import static com.ververica.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE;
+import static com.ververica.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_BYTES;
 import static com.ververica.cdc.connectors.base.options.SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED;
 import static com.ververica.cdc.connectors.base.options.SourceOptions.SCAN_SNAPSHOT_FETCH_SIZE;
 import static com.ververica.cdc.connectors.base.options.SourceOptions.SCAN_STARTUP_MODE;
 import static com.ververica.cdc.connectors.base.options.SourceOptions.SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND;
 import static com.ververica.cdc.connectors.base.options.SourceOptions.SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_UPPER_BOUND;
 import static com.ververica.cdc.connectors.base.utils.ObjectUtils.doubleCompare;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.LOG_MINING_ADAPTIVE_WINDOW_ENABLED;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.LOG_MINING_ADAPTIVE_WINDOW_TARGET_LATENCY;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.LOG_MINING_PARALLEL_SESSIONS;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.LOG_MINING_TRANSACTION_SPILL_DIR;
+import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.LOG_MINING_TRANSACTION_SPILL_THRESHOLD;
 import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.PORT;
 import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.SCHEMA_NAME;
 import static com.ververica.cdc.connectors.oracle.source.config.OracleSourceOptions.URL;
@@ -89,7 +99,11 @@ public class OracleTableSourceFactory implements DynamicTableSourceFactory {
         double distributionFactorLower = config.get(SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND);
         String chunkKeyColumn =
                 config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN).orElse(null);
+        Long chunkTargetBytes =
+                config.getOptional(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_BYTES).orElse(null);
         String serverTimezone = config.get(SERVER_TIME_ZONE);
+        Properties dbzProperties = getDebeziumProperties(context.getCatalogTable().getOptions());
+        setLogMiningProperties(config, dbzProperties);
 
         if (enableParallelRead) {
             validateIntegerOption(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE, splitSize, 1);
@@ -111,7 +125,7 @@ public class OracleTableSourceFactory implements DynamicTableSourceFactory {
                 schemaName,
                 username,
                 password,
-                getDebeziumProperties(context.getCatalogTable().getOptions()),
+                dbzProperties,
                 startupOptions,
                 enableParallelRead,
                 splitSize,
@@ -122,7 +136,8 @@ public class OracleTableSourceFactory implements DynamicTableSourceFactory {
                 connectionPoolSize,
                 distributionFactorUpper,
                 distributionFactorLower,
-                chunkKeyColumn);
+                chunkKeyColumn,
+                chunkTargetBytes);
     }
 
     @Override
@@ -158,9 +173,51 @@ public class OracleTableSourceFactory implements DynamicTableSourceFactory {
         options.add(SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_UPPER_BOUND);
         options.add(SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND);
         options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_KEY_COLUMN);
+        options.add(SCAN_INCREMENTAL_SNAPSHOT_CHUNK_TARGET_BYTES);
+        options.add(LOG_MINING_TRANSACTION_SPILL_THRESHOLD);
+        options.add(LOG_MINING_TRANSACTION_SPILL_DIR);
+        options.add(LOG_MINING_PARALLEL_SESSIONS);
+        options.add(LOG_MINING_ADAPTIVE_WINDOW_ENABLED);
+        options.add(LOG_MINING_ADAPTIVE_WINDOW_TARGET_LATENCY);
         return options;
     }
 
+    /**
+     * Sets the LogMiner options which are read by the streaming change event source into the
+     * Debezium properties, the options override the same Debezium properties.
+     */
+    private static void setLogMiningProperties(ReadableConfig config, Properties dbzProperties) {
+        config.getOptional(LOG_MINING_TRANSACTION_SPILL_THRESHOLD)
+                .ifPresent(
+                        threshold ->
+                                dbzProperties.setProperty(
+                                        TransactionalBuffer.SPILL_THRESHOLD.name(),
+                                        String.valueOf(threshold)));
+        config.getOptional(LOG_MINING_TRANSACTION_SPILL_DIR)
+                .ifPresent(
+                        dir ->
+                                dbzProperties.setProperty(
+                                        TransactionalBuffer.SPILL_DIRECTORY.name(), dir));
+        config.getOptional(LOG_MINING_PARALLEL_SESSIONS)
+                .ifPresent(
+                        sessions ->
+                                dbzProperties.setProperty(
+                                        ParallelLogMinerSessions.PARALLEL_SESSIONS.name(),
+                                        String.valueOf(sessions)));
+        config.getOptional(LOG_MINING_ADAPTIVE_WINDOW_ENABLED)
+                .ifPresent(
+                        enabled ->
+                                dbzProperties.setProperty(
+                                        MiningWindowController.ADAPTIVE_WINDOW.name(),
+                                        String.valueOf(enabled)));
+        config.getOptional(LOG_MINING_ADAPTIVE_WINDOW_TARGET_LATENCY)
+                .ifPresent(
+                        latency ->
+                                dbzProperties.setProperty(
+                                        MiningWindowController.TARGET_LATENCY_MS.name(),
+                                        String.valueOf(latency.toMillis())));
+    }
+
     private static final String SCAN_STARTUP_MODE_VALUE_INITIAL = "initial";
     private static final String SCAN_STARTUP_MODE_VALUE_LATEST = "latest-offset";
 
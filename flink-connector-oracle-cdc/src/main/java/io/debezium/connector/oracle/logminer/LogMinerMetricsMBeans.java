@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Registers the additional LogMiner metrics as MBeans next to the Debezium streaming metrics of the
+ * connector, i.e. with the domain {@code debezium.oracle} and the type {@code connector-metrics}.
+ */
+final class LogMinerMetricsMBeans {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogMinerMetricsMBeans.class);
+
+    private LogMinerMetricsMBeans() {}
+
+    /**
+     * Registers the given MBean with the given context.
+     *
+     * @return the name of the registered MBean, or {@code null} if the MBean is not registered
+     */
+    static ObjectName register(Object mBean, String context, String logicalName) {
+        try {
+            ObjectName name =
+                    new ObjectName(
+                            "debezium.oracle:type=connector-metrics,context="
+                                    + context
+                                    + ",server="
+                                    + ObjectName.quote(logicalName));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mBean, name);
+            return name;
+        } catch (InstanceAlreadyExistsException e) {
+            LOG.warn(
+                    "Unable to register the {} metrics as an old set with the same name exists",
+                    context,
+                    e);
+        } catch (JMException e) {
+            LOG.warn("Unable to register the {} metrics", context, e);
+        }
+        return null;
+    }
+
+    /** Unregisters the MBean with the given name, if it's not {@code null}. */
+    static void unregister(ObjectName name) {
+        if (name == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            LOG.warn("Unable to unregister the metrics {}", name, e);
+        }
+    }
+}
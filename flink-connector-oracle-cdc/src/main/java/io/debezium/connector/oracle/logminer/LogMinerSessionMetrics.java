@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.oracle.Scn;
+
+import javax.management.ObjectName;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The metrics of a session of {@link ParallelLogMinerSessions}, which are registered next to the
+ * streaming metrics of the connector with the context {@code log-miner-session-<index>}.
+ */
+@ThreadSafe
+public class LogMinerSessionMetrics implements LogMinerSessionMetricsMXBean {
+
+    private final int sessionIndex;
+    private final AtomicReference<Scn> lastMinedScn = new AtomicReference<>(Scn.NULL);
+    private final AtomicReference<Scn> currentScn = new AtomicReference<>(Scn.NULL);
+    private final AtomicLong lastMiningDuration = new AtomicLong();
+    private final AtomicLong lastQueueWaitTime = new AtomicLong();
+    private final AtomicLong lastFetchedRows = new AtomicLong();
+    private final AtomicLong totalFetchedRows = new AtomicLong();
+    private final AtomicLong miningRounds = new AtomicLong();
+
+    private ObjectName name;
+
+    public LogMinerSessionMetrics(int sessionIndex) {
+        this.sessionIndex = sessionIndex;
+    }
+
+    /** Registers the metrics as MBean of the connector with the given logical name. */
+    public synchronized void register(String logicalName) {
+        name =
+                LogMinerMetricsMBeans.register(
+                        this, "log-miner-session-" + sessionIndex, logicalName);
+    }
+
+    /** Unregisters the metrics MBean if it has been registered. */
+    public synchronized void unregister() {
+        LogMinerMetricsMBeans.unregister(name);
+        name = null;
+    }
+
+    void setCurrentScn(Scn scn) {
+        currentScn.set(scn);
+    }
+
+    void onMiningFinished(Scn minedScn, long fetchedRows, Duration duration, Duration waitTime) {
+        lastMinedScn.set(minedScn);
+        lastFetchedRows.set(fetchedRows);
+        totalFetchedRows.addAndGet(fetchedRows);
+        lastMiningDuration.set(duration.toMillis());
+        lastQueueWaitTime.set(waitTime.toMillis());
+        miningRounds.incrementAndGet();
+    }
+
+    @Override
+    public int getSessionIndex() {
+        return sessionIndex;
+    }
+
+    @Override
+    public String getLastMinedScn() {
+        return lastMinedScn.get().toString();
+    }
+
+    @Override
+    public long getScnLag() {
+        Scn mined = lastMinedScn.get();
+        Scn current = currentScn.get();
+        if (mined.isNull() || current.isNull()) {
+            return 0L;
+        }
+        return Math.max(0L, current.longValue() - mined.longValue());
+    }
+
+    @Override
+    public long getLastMiningDurationInMilliseconds() {
+        return lastMiningDuration.get();
+    }
+
+    @Override
+    public long getLastQueueWaitTimeInMilliseconds() {
+        return lastQueueWaitTime.get();
+    }
+
+    @Override
+    public long getLastFetchedRows() {
+        return lastFetchedRows.get();
+    }
+
+    @Override
+    public long getTotalFetchedRows() {
+        return totalFetchedRows.get();
+    }
+
+    @Override
+    public long getMiningRounds() {
+        return miningRounds.get();
+    }
+
+    @Override
+    public String toString() {
+        return "LogMinerSessionMetrics{"
+                + "sessionIndex="
+                + sessionIndex
+                + ", lastMinedScn="
+                + lastMinedScn
+                + ", scnLag="
+                + getScnLag()
+                + ", lastMiningDuration="
+                + lastMiningDuration
+                + ", lastQueueWaitTime="
+                + lastQueueWaitTime
+                + ", lastFetchedRows="
+                + lastFetchedRows
+                + ", totalFetchedRows="
+                + totalFetchedRows
+                + '}';
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+/** Exposes the metrics of a parallel LogMiner session through JMX. */
+public interface LogMinerSessionMetricsMXBean {
+
+    /** The index of the session, the sessions mine consecutive SCN ranges in index order. */
+    int getSessionIndex();
+
+    /** The last SCN (inclusive) of the SCN range that was last mined by the session. */
+    String getLastMinedScn();
+
+    /** The difference between the current SCN of the database and the last mined SCN. */
+    long getScnLag();
+
+    /** The duration of the last mining of the session, from starting LogMiner to the last row. */
+    long getLastMiningDurationInMilliseconds();
+
+    /** The time the session waited for the merged result to consume its rows in the last mining. */
+    long getLastQueueWaitTimeInMilliseconds();
+
+    /** The number of rows fetched by the session in the last mining. */
+    long getLastFetchedRows();
+
+    /** The total number of rows fetched by the session. */
+    long getTotalFetchedRows();
+
+    /** The total number of mining rounds of the session. */
+    long getMiningRounds();
+}
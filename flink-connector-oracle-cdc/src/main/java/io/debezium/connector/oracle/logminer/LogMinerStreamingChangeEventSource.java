@@ -89,6 +89,7 @@ public class LogMinerStreamingChangeEventSource
     private final Duration archiveLogRetention;
     private final boolean archiveLogOnlyMode;
     private final String archiveDestinationName;
+    private final MiningWindowController miningWindowController;
 
     private Scn startScn;
     private Scn endScn;
@@ -124,6 +125,7 @@ public class LogMinerStreamingChangeEventSource
         this.archiveLogRetention = connectorConfig.getLogMiningArchiveLogRetention();
         this.archiveLogOnlyMode = connectorConfig.isArchiveLogOnlyMode();
         this.archiveDestinationName = connectorConfig.getLogMiningArchiveDestinationName();
+        this.miningWindowController = new MiningWindowController(connectorConfig);
     }
 
     /**
@@ -186,15 +188,18 @@ public class LogMinerStreamingChangeEventSource
                             LogMinerQueryBuilder.build(
                                     connectorConfig, schema, jdbcConnection.username());
                     try (PreparedStatement miningView =
-                            jdbcConnection
-                                    .connection()
-                                    .prepareStatement(
-                                            query,
-                                            ResultSet.TYPE_FORWARD_ONLY,
-                                            ResultSet.CONCUR_READ_ONLY,
-                                            ResultSet.HOLD_CURSORS_OVER_COMMIT)) {
+                                    jdbcConnection
+                                            .connection()
+                                            .prepareStatement(
+                                                    query,
+                                                    ResultSet.TYPE_FORWARD_ONLY,
+                                                    ResultSet.CONCUR_READ_ONLY,
+                                                    ResultSet.HOLD_CURSORS_OVER_COMMIT);
+                            ParallelLogMinerSessions parallelSessions =
+                                    createParallelSessions(query)) {
 
                         currentRedoLogSequences = getCurrentRedoLogSequences();
+                        miningWindowController.register(connectorConfig.getLogicalName());
                         Stopwatch stopwatch = Stopwatch.reusable();
                         while (context.isRunning()) {
                             // Calculate time difference before each mining session to detect time
@@ -217,6 +222,10 @@ public class LogMinerStreamingChangeEventSource
                                             connectorConfig.isLobEnabled(),
                                             connectorConfig.isArchiveLogOnlyMode(),
                                             connectorConfig.getLogMiningArchiveDestinationName());
+                            miningWindowController.apply(streamingMetrics);
+                            if (parallelSessions != null) {
+                                endScn = parallelSessions.getEndScn(startScn, endScn);
+                            }
 
                             // This is a small window where when archive log only mode has
                             // completely caught up to the last
@@ -241,9 +250,13 @@ public class LogMinerStreamingChangeEventSource
                                         offsetContext.getScn(),
                                         strategy,
                                         isContinuousMining);
-                                endMining(jdbcConnection);
+                                if (parallelSessions != null) {
+                                    parallelSessions.onLogSwitch();
+                                } else {
+                                    endMining(jdbcConnection);
 
-                                initializeRedoLogsForMining(jdbcConnection, true, startScn);
+                                    initializeRedoLogsForMining(jdbcConnection, true, startScn);
+                                }
 
                                 abandonOldTransactionsIfExist(
                                         jdbcConnection, offsetContext, transactionalBuffer);
@@ -255,24 +268,26 @@ public class LogMinerStreamingChangeEventSource
                                 currentRedoLogSequences = getCurrentRedoLogSequences();
                             }
 
-                            startLogMining(
-                                    jdbcConnection,
-                                    startScn,
-                                    endScn,
-                                    strategy,
-                                    isContinuousMining,
-                                    streamingMetrics);
+                            if (parallelSessions == null) {
+                                startLogMining(
+                                        jdbcConnection,
+                                        startScn,
+                                        endScn,
+                                        strategy,
+                                        isContinuousMining,
+                                        streamingMetrics);
+                            }
 
                             LOGGER.trace(
                                     "Fetching LogMiner view results SCN {} to {}",
                                     startScn,
                                     endScn);
+                            Instant miningStart = Instant.now();
                             stopwatch.start();
-                            miningView.setFetchSize(connectorConfig.getMaxQueueSize());
-                            miningView.setFetchDirection(ResultSet.FETCH_FORWARD);
-                            miningView.setString(1, startScn.toString());
-                            miningView.setString(2, endScn.toString());
-                            try (ResultSet rs = miningView.executeQuery()) {
+                            try (ResultSet rs =
+                                    parallelSessions != null
+                                            ? parallelSessions.mine(context, startScn, endScn)
+                                            : executeMiningQuery(miningView)) {
                                 Duration lastDurationOfBatchCapturing =
                                         stopwatch.stop().durations().statistics().getTotal();
                                 streamingMetrics.setLastDurationOfBatchCapturing(
@@ -310,6 +325,11 @@ public class LogMinerStreamingChangeEventSource
                                     startScn = endScn;
                                 }
                             }
+                            miningWindowController.onMiningFinished(
+                                    streamingMetrics.getLastCapturedDmlCount(),
+                                    Duration.between(miningStart, Instant.now()),
+                                    MiningWindowController.getScnLag(streamingMetrics, endScn));
+                            miningWindowController.apply(streamingMetrics);
 
                             afterHandleScn(offsetContext);
                             streamingMetrics.setCurrentBatchProcessingTime(
@@ -331,12 +351,37 @@ public class LogMinerStreamingChangeEventSource
                         offsetContext.getScn());
                 LOGGER.info("Transactional buffer dump: {}", transactionalBuffer.toString());
                 LOGGER.info("Streaming metrics dump: {}", streamingMetrics.toString());
+                LOGGER.info("Mining window dump: {}", miningWindowController.toString());
+                miningWindowController.unregister();
             }
         }
     }
 
     protected void afterHandleScn(OracleOffsetContext offsetContext) {}
 
+    /** Returns the controller of the mining window, which exposes the state of the mining loop. */
+    public MiningWindowController getMiningWindowController() {
+        return miningWindowController;
+    }
+
+    private ResultSet executeMiningQuery(PreparedStatement miningView) throws SQLException {
+        miningView.setFetchSize(connectorConfig.getMaxQueueSize());
+        miningView.setFetchDirection(ResultSet.FETCH_FORWARD);
+        miningView.setString(1, startScn.toString());
+        miningView.setString(2, endScn.toString());
+        return miningView.executeQuery();
+    }
+
+    /** Returns the parallel LogMiner sessions, or null if the redo logs are mined sequentially. */
+    private ParallelLogMinerSessions createParallelSessions(String query) {
+        int sessions = ParallelLogMinerSessions.getParallelSessions(connectorConfig);
+        if (sessions <= 1) {
+            return null;
+        }
+        return new ParallelLogMinerSessions(
+                connectorConfig, jdbcConfiguration, streamingMetrics, query, sessions);
+    }
+
     private void abandonOldTransactionsIfExist(
             OracleConnection connection,
             OracleOffsetContext offsetContext,
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.Field;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.Scn;
+import org.apache.kafka.common.config.ConfigDef;
+
+import javax.management.ObjectName;
+
+import java.time.Duration;
+
+/**
+ * Controls the SCN window and the pause of the mining sessions of {@link
+ * LogMinerStreamingChangeEventSource}.
+ *
+ * <p>By default, the window and the pause are stepped by the streaming metrics of Debezium only
+ * from the distance to the current SCN, and the controller just observes them. If the adaptive
+ * window is enabled, the controller adapts them after every mining session from the mined rows, the
+ * latency of the session and the SCN lag:
+ *
+ * <ul>
+ *   <li>a session that exceeds the target latency or the target rows halves the window;
+ *   <li>a lag beyond the window doubles the window, the connector is falling behind;
+ *   <li>otherwise the connector has caught up, the pause grows by the sleep time increment while no
+ *       rows are mined and is halved when rows are mined.
+ * </ul>
+ *
+ * <p>The window is bounded by the min and max batch size and the pause by the min and max sleep
+ * time of the connector. No pause is taken while the window is adapted to the load.
+ */
+@ThreadSafe
+public class MiningWindowController implements MiningWindowControllerMXBean {
+
+    public static final Field ADAPTIVE_WINDOW =
+            Field.create("log.mining.window.adaptive")
+                    .withDisplayName("Adaptive LogMiner mining window")
+                    .withType(ConfigDef.Type.BOOLEAN)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(false)
+                    .withDescription(
+                            "Whether the SCN window and the pause of the mining sessions are adapted from the mined rows,"
+                                    + " the latency of the sessions and the SCN lag.");
+
+    public static final Field TARGET_LATENCY_MS =
+            Field.create("log.mining.window.target.latency.ms")
+                    .withDisplayName("Target latency of a LogMiner mining session")
+                    .withType(ConfigDef.Type.LONG)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(5000L)
+                    .withDescription(
+                            "The adaptive window is shrunk when a mining session takes longer than the target latency.");
+
+    public static final Field TARGET_ROWS =
+            Field.create("log.mining.window.target.rows")
+                    .withDisplayName("Target rows of a LogMiner mining session")
+                    .withType(ConfigDef.Type.INT)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(100000)
+                    .withDescription(
+                            "The adaptive window is shrunk when a mining session mines more DML rows than the target rows.");
+
+    private final boolean adaptive;
+    private final long targetLatencyMs;
+    private final long targetRows;
+    private final int minWindowSize;
+    private final int maxWindowSize;
+    private final long minPauseMs;
+    private final long maxPauseMs;
+    private final long pauseIncrementMs;
+
+    private volatile int windowSize;
+    private volatile long pauseMs;
+    private volatile long lastMinedRows;
+    private volatile long lastMiningLatencyMs;
+    private volatile long scnLag;
+
+    private ObjectName name;
+
+    public MiningWindowController(OracleConnectorConfig connectorConfig) {
+        this.adaptive = connectorConfig.getConfig().getBoolean(ADAPTIVE_WINDOW);
+        this.targetLatencyMs = connectorConfig.getConfig().getLong(TARGET_LATENCY_MS);
+        this.targetRows = connectorConfig.getConfig().getInteger(TARGET_ROWS);
+        this.minWindowSize = connectorConfig.getLogMiningBatchSizeMin();
+        this.maxWindowSize = connectorConfig.getLogMiningBatchSizeMax();
+        this.minPauseMs = connectorConfig.getLogMiningSleepTimeMin().toMillis();
+        this.maxPauseMs = connectorConfig.getLogMiningSleepTimeMax().toMillis();
+        this.pauseIncrementMs = connectorConfig.getLogMiningSleepTimeIncrement().toMillis();
+        this.windowSize = connectorConfig.getLogMiningBatchSizeDefault();
+        this.pauseMs = connectorConfig.getLogMiningSleepTimeDefault().toMillis();
+    }
+
+    /** Registers the controller as MBean of the connector with the given logical name. */
+    public synchronized void register(String logicalName) {
+        name = LogMinerMetricsMBeans.register(this, "log-mining-window", logicalName);
+    }
+
+    /** Unregisters the controller MBean if it has been registered. */
+    public synchronized void unregister() {
+        LogMinerMetricsMBeans.unregister(name);
+        name = null;
+    }
+
+    /**
+     * Applies the window and the pause to the streaming metrics, which hold the batch size and the
+     * sleep time used by the mining loop. If the window is not adaptive, the controller takes them
+     * from the streaming metrics instead.
+     */
+    void apply(OracleStreamingChangeEventSourceMetrics streamingMetrics) {
+        if (adaptive) {
+            streamingMetrics.setBatchSize(windowSize);
+            streamingMetrics.setMillisecondToSleepBetweenMiningQuery(pauseMs);
+        } else {
+            windowSize = streamingMetrics.getBatchSize();
+            pauseMs = streamingMetrics.getMillisecondToSleepBetweenMiningQuery();
+        }
+    }
+
+    /**
+     * Adapts the window and the pause after a mining session.
+     *
+     * @param minedRows the number of DML rows of the session
+     * @param latency the duration of the session, from executing the query to the last row
+     * @param scnLag the difference between the current SCN and the last mined SCN
+     */
+    void onMiningFinished(long minedRows, Duration latency, long scnLag) {
+        this.lastMinedRows = minedRows;
+        this.lastMiningLatencyMs = latency.toMillis();
+        this.scnLag = scnLag;
+        if (!adaptive) {
+            return;
+        }
+        if (lastMiningLatencyMs > targetLatencyMs || minedRows > targetRows) {
+            windowSize = Math.max(minWindowSize, windowSize / 2);
+            pauseMs = minPauseMs;
+        } else if (scnLag > windowSize) {
+            windowSize = (int) Math.min(maxWindowSize, windowSize * 2L);
+            pauseMs = minPauseMs;
+        } else if (minedRows == 0) {
+            pauseMs = Math.min(maxPauseMs, pauseMs + pauseIncrementMs);
+        } else {
+            pauseMs = Math.max(minPauseMs, pauseMs / 2);
+        }
+    }
+
+    /**
+     * Returns the difference between the current SCN of the streaming metrics and the mined SCN.
+     */
+    static long getScnLag(OracleStreamingChangeEventSourceMetrics streamingMetrics, Scn minedScn) {
+        try {
+            Scn currentScn = Scn.valueOf(streamingMetrics.getCurrentScn());
+            return Math.max(0L, currentScn.longValue() - minedScn.longValue());
+        } catch (RuntimeException e) {
+            return 0L;
+        }
+    }
+
+    @Override
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    @Override
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    @Override
+    public long getPauseInMilliseconds() {
+        return pauseMs;
+    }
+
+    @Override
+    public long getLastMinedRows() {
+        return lastMinedRows;
+    }
+
+    @Override
+    public long getLastMiningLatencyInMilliseconds() {
+        return lastMiningLatencyMs;
+    }
+
+    @Override
+    public long getScnLag() {
+        return scnLag;
+    }
+
+    @Override
+    public String toString() {
+        return "MiningWindowController{"
+                + "adaptive="
+                + adaptive
+                + ", windowSize="
+                + windowSize
+                + ", pauseMs="
+                + pauseMs
+                + ", lastMinedRows="
+                + lastMinedRows
+                + ", lastMiningLatencyMs="
+                + lastMiningLatencyMs
+                + ", scnLag="
+                + scnLag
+                + '}';
+    }
+}
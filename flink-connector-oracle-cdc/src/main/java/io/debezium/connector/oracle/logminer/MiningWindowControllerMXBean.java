@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+/** Exposes the state of the {@link MiningWindowController} through JMX. */
+public interface MiningWindowControllerMXBean {
+
+    /** Whether the mining window and the pause are adapted by the controller. */
+    boolean isAdaptive();
+
+    /** The max number of SCNs of the next mining window. */
+    int getWindowSize();
+
+    /** The pause before the next mining session. */
+    long getPauseInMilliseconds();
+
+    /** The number of DML rows of the last mining session. */
+    long getLastMinedRows();
+
+    /** The duration of the last mining session, from executing the query to the last row. */
+    long getLastMiningLatencyInMilliseconds();
+
+    /** The difference between the current SCN of the database and the last mined SCN. */
+    long getScnLag();
+}
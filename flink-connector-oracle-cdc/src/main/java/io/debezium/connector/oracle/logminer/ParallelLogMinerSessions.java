@@ -0,0 +1,605 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+import io.debezium.config.Configuration;
+import io.debezium.config.Field;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import org.apache.kafka.common.config.ConfigDef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.debezium.connector.oracle.logminer.LogMinerHelper.endMining;
+import static io.debezium.connector.oracle.logminer.LogMinerHelper.setLogFilesForMining;
+import static io.debezium.connector.oracle.logminer.LogMinerHelper.setNlsSessionParameters;
+import static io.debezium.connector.oracle.logminer.LogMinerHelper.startLogMining;
+
+/**
+ * Mines the redo logs in several concurrent LogMiner sessions.
+ *
+ * <p>Every mining window is split into consecutive SCN ranges, one per session, and every session
+ * mines its range on its own database connection. The rows of the sessions are merged by SCN into a
+ * single {@link ResultSet}, which is consumed by the {@link LogMinerQueryResultProcessor} and the
+ * {@link TransactionalBuffer} like the result of a single session. As the ranges don't overlap,
+ * merging by SCN emits the rows of the sessions in the order of their ranges, so the consumer only
+ * waits for the session of the lowest range while the other sessions are mining ahead. The rows of
+ * every session are buffered in a bounded queue.
+ *
+ * <p>Only the online catalog mining strategy is supported, the data dictionary in the redo logs
+ * can't be shared by several sessions.
+ */
+public final class ParallelLogMinerSessions implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelLogMinerSessions.class);
+
+    public static final Field PARALLEL_SESSIONS =
+            Field.create("log.mining.parallel.sessions")
+                    .withDisplayName("Parallel LogMiner sessions")
+                    .withType(ConfigDef.Type.INT)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(1)
+                    .withDescription(
+                            "The number of concurrent LogMiner sessions, every mining window is split into consecutive"
+                                    + " SCN ranges which are mined by separate sessions and merged by SCN."
+                                    + " Only the online_catalog mining strategy supports more than one session.");
+
+    public static final Field SESSION_QUEUE_CAPACITY =
+            Field.create("log.mining.parallel.session.queue.capacity")
+                    .withDisplayName("Parallel LogMiner session queue capacity")
+                    .withType(ConfigDef.Type.INT)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(10000)
+                    .withDescription(
+                            "The max number of rows every parallel LogMiner session buffers ahead of the consumer.");
+
+    private static final Object END_OF_RESULT = new Object();
+    private static final long POLL_INTERVAL_MS = 100L;
+
+    /** The column types of the mining query, see {@link RowMapper} and LogMinerQueryBuilder. */
+    private static final ColumnType[] COLUMN_TYPES = {
+        ColumnType.STRING, // SCN
+        ColumnType.STRING, // SQL_REDO
+        ColumnType.INT, // OPERATION_CODE
+        ColumnType.TIMESTAMP, // TIMESTAMP
+        ColumnType.BYTES, // XID
+        ColumnType.INT, // CSF
+        ColumnType.STRING, // TABLE_NAME
+        ColumnType.STRING, // SEG_OWNER
+        ColumnType.STRING, // OPERATION
+        ColumnType.STRING, // USERNAME
+        ColumnType.STRING, // ROW_ID
+        ColumnType.INT, // ROLLBACK
+        ColumnType.OBJECT // RS_ID
+    };
+
+    private final OracleConnectorConfig connectorConfig;
+    private final JdbcConfiguration jdbcConfiguration;
+    private final OracleStreamingChangeEventSourceMetrics streamingMetrics;
+    private final String query;
+    private final int queueCapacity;
+    private final List<Session> sessions;
+    private final ExecutorService executor;
+
+    public ParallelLogMinerSessions(
+            OracleConnectorConfig connectorConfig,
+            JdbcConfiguration jdbcConfiguration,
+            OracleStreamingChangeEventSourceMetrics streamingMetrics,
+            String query,
+            int parallelSessions) {
+        this.connectorConfig = connectorConfig;
+        this.jdbcConfiguration = jdbcConfiguration;
+        this.streamingMetrics = streamingMetrics;
+        this.query = query;
+        this.queueCapacity = connectorConfig.getConfig().getInteger(SESSION_QUEUE_CAPACITY);
+        this.sessions = new ArrayList<>(parallelSessions);
+        for (int i = 0; i < parallelSessions; i++) {
+            Session session = new Session(i);
+            session.metrics.register(connectorConfig.getLogicalName());
+            sessions.add(session);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor =
+                Executors.newFixedThreadPool(
+                        parallelSessions,
+                        r -> {
+                            Thread thread =
+                                    new Thread(
+                                            r, "logminer-session-" + threadCount.getAndIncrement());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        LOG.info("Mining the redo logs with {} parallel LogMiner sessions", parallelSessions);
+    }
+
+    /**
+     * Returns the number of parallel LogMiner sessions of the connector, which is 1 if the redo
+     * logs should be mined by a single session.
+     */
+    public static int getParallelSessions(OracleConnectorConfig connectorConfig) {
+        int parallelSessions = connectorConfig.getConfig().getInteger(PARALLEL_SESSIONS);
+        if (parallelSessions > 1
+                && connectorConfig.getLogMiningStrategy()
+                        != OracleConnectorConfig.LogMiningStrategy.ONLINE_CATALOG) {
+            LOG.warn(
+                    "Parallel LogMiner sessions require the mining strategy '{}', '{}' is ignored.",
+                    OracleConnectorConfig.LogMiningStrategy.ONLINE_CATALOG.getValue(),
+                    PARALLEL_SESSIONS.name());
+            return 1;
+        }
+        return Math.max(1, parallelSessions);
+    }
+
+    /**
+     * Returns the end SCN of the next mining window. The window of a single session is widened to
+     * one window per session, but not beyond the current SCN of the database.
+     */
+    Scn getEndScn(Scn startScn, Scn endScn) {
+        Scn currentScn;
+        try {
+            currentScn = Scn.valueOf(streamingMetrics.getCurrentScn());
+        } catch (RuntimeException e) {
+            return endScn;
+        }
+        for (Session session : sessions) {
+            session.metrics.setCurrentScn(currentScn);
+        }
+        long sessionWindow = endScn.longValue() - startScn.longValue();
+        if (sessionWindow <= 0) {
+            return endScn;
+        }
+        long windowEnd = startScn.longValue() + sessionWindow * sessions.size();
+        return Scn.valueOf(
+                Math.max(endScn.longValue(), Math.min(currentScn.longValue(), windowEnd)));
+    }
+
+    /**
+     * Mines the changes between the start SCN (exclusive) and the end SCN (inclusive) with the
+     * parallel sessions, the returned result must be closed after use.
+     */
+    ResultSet mine(ChangeEventSourceContext context, Scn startScn, Scn endScn) {
+        List<Scn> bounds = splitScnRange(startScn, endScn, sessions.size());
+        List<SessionResult> results = new ArrayList<>(bounds.size() - 1);
+        for (int i = 0; i < bounds.size() - 1; i++) {
+            Session session = sessions.get(i);
+            SessionResult result = new SessionResult(session, queueCapacity);
+            Scn lowerBound = bounds.get(i);
+            Scn upperBound = bounds.get(i + 1);
+            result.future = executor.submit(() -> session.mine(lowerBound, upperBound, result));
+            results.add(result);
+        }
+        return MergedResultSet.create(context, results);
+    }
+
+    /** Notifies that a log switch occurred, the sessions add the log files for mining again. */
+    void onLogSwitch() {
+        for (Session session : sessions) {
+            session.logSwitched = true;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        for (Session session : sessions) {
+            LOG.info("LogMiner session metrics: {}", session.metrics);
+            session.metrics.unregister();
+            session.close();
+        }
+    }
+
+    /** Splits the SCN range into at most the given number of consecutive ranges. */
+    static List<Scn> splitScnRange(Scn startScn, Scn endScn, int parts) {
+        long start = startScn.longValue();
+        long span = Math.max(0L, endScn.longValue() - start);
+        int ranges = (int) Math.max(1L, Math.min(parts, span));
+        long step = span / ranges;
+        long remainder = span % ranges;
+        List<Scn> bounds = new ArrayList<>(ranges + 1);
+        bounds.add(startScn);
+        for (int i = 1; i < ranges; i++) {
+            bounds.add(Scn.valueOf(start + step * i + Math.min(i, remainder)));
+        }
+        bounds.add(span == 0 ? startScn : endScn);
+        return bounds;
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /** A LogMiner session on its own database connection. */
+    private final class Session {
+
+        private final int index;
+        private final LogMinerSessionMetrics metrics;
+        // the driver may modify the calendar, every session has its own
+        private final Calendar utcCalendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+        private OracleConnection connection;
+        private PreparedStatement miningView;
+        private Scn logFilesStartScn;
+        private volatile boolean logSwitched;
+
+        private Session(int index) {
+            this.index = index;
+            this.metrics = new LogMinerSessionMetrics(index);
+        }
+
+        private void mine(Scn lowerBound, Scn upperBound, SessionResult result) {
+            long startNanos = System.nanoTime();
+            long fetchedRows = 0;
+            try {
+                prepareMining(lowerBound);
+                startLogMining(
+                        connection,
+                        lowerBound,
+                        upperBound,
+                        connectorConfig.getLogMiningStrategy(),
+                        connectorConfig.isContinuousMining(),
+                        streamingMetrics);
+                LOG.trace(
+                        "Fetching LogMiner view results SCN {} to {} in session {}",
+                        lowerBound,
+                        upperBound,
+                        index);
+                miningView.setFetchSize(connectorConfig.getMaxQueueSize());
+                miningView.setFetchDirection(ResultSet.FETCH_FORWARD);
+                miningView.setString(1, lowerBound.toString());
+                miningView.setString(2, upperBound.toString());
+                try (ResultSet rs = miningView.executeQuery()) {
+                    while (rs.next()) {
+                        if (!result.put(LogMinerRow.read(rs, utcCalendar))) {
+                            return;
+                        }
+                        fetchedRows++;
+                    }
+                }
+                if (result.finish()) {
+                    metrics.onMiningFinished(
+                            upperBound,
+                            fetchedRows,
+                            Duration.ofNanos(System.nanoTime() - startNanos),
+                            Duration.ofNanos(result.waitNanos));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable t) {
+                result.fail(t);
+            }
+        }
+
+        private void prepareMining(Scn lowerBound) throws SQLException {
+            if (connection == null) {
+                Configuration config = jdbcConfiguration.subset("database.", true);
+                connection =
+                        new OracleConnection(
+                                config.isEmpty() ? jdbcConfiguration : config,
+                                ParallelLogMinerSessions.class::getClassLoader);
+                setNlsSessionParameters(connection);
+                miningView =
+                        connection
+                                .connection()
+                                .prepareStatement(
+                                        query,
+                                        ResultSet.TYPE_FORWARD_ONLY,
+                                        ResultSet.CONCUR_READ_ONLY,
+                                        ResultSet.HOLD_CURSORS_OVER_COMMIT);
+            }
+            if (logFilesStartScn == null
+                    || logSwitched
+                    || lowerBound.compareTo(logFilesStartScn) < 0) {
+                if (logFilesStartScn != null) {
+                    // mitigates PGA leaks like a single session does after a log switch
+                    endMining(connection);
+                }
+                logSwitched = false;
+                if (!connectorConfig.isContinuousMining()) {
+                    setLogFilesForMining(
+                            connection,
+                            lowerBound,
+                            connectorConfig.getLogMiningArchiveLogRetention(),
+                            connectorConfig.isArchiveLogOnlyMode(),
+                            connectorConfig.getLogMiningArchiveDestinationName());
+                }
+                logFilesStartScn = lowerBound;
+            }
+        }
+
+        private void cancel() {
+            PreparedStatement statement = miningView;
+            if (statement != null) {
+                try {
+                    statement.cancel();
+                } catch (SQLException e) {
+                    LOG.debug("Failed to cancel the mining query of session {}", index, e);
+                }
+            }
+        }
+
+        private void close() {
+            if (connection == null) {
+                return;
+            }
+            try {
+                endMining(connection);
+                miningView.close();
+                connection.close();
+            } catch (SQLException e) {
+                LOG.warn("Failed to close LogMiner session {}", index, e);
+            }
+            connection = null;
+        }
+    }
+
+    /** The rows of a session for a single mining window. */
+    static final class SessionResult {
+
+        private final Session session;
+        private final BlockingQueue<Object> queue;
+        private volatile boolean cancelled;
+        private long waitNanos;
+        private Future<?> future;
+
+        SessionResult(Session session, int capacity) {
+            this.session = session;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /** Puts the element into the queue, returns false if the result has been cancelled. */
+        boolean put(Object element) throws InterruptedException {
+            long startNanos = System.nanoTime();
+            try {
+                while (!cancelled) {
+                    if (queue.offer(element, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                waitNanos += System.nanoTime() - startNanos;
+            }
+        }
+
+        /** Marks the end of the rows, returns false if the result has been cancelled. */
+        boolean finish() throws InterruptedException {
+            return put(END_OF_RESULT);
+        }
+
+        void fail(Throwable t) {
+            try {
+                put(t);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /** Takes the next element, returns null if the source has been stopped. */
+        Object take(ChangeEventSourceContext context) throws InterruptedException {
+            while (context.isRunning()) {
+                Object element = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (element != null) {
+                    return element;
+                }
+            }
+            return null;
+        }
+
+        void cancel() {
+            cancelled = true;
+            queue.clear();
+            if (session != null && future != null && !future.isDone()) {
+                session.cancel();
+            }
+        }
+
+        void awaitTermination() throws InterruptedException {
+            if (future == null) {
+                return;
+            }
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                LOG.debug("LogMiner session failed after the result was closed", e);
+            }
+        }
+    }
+
+    /** A row of the mining query. */
+    static final class LogMinerRow {
+
+        private final Object[] values;
+
+        LogMinerRow(Object[] values) {
+            this.values = values;
+        }
+
+        static LogMinerRow read(ResultSet rs, Calendar utcCalendar) throws SQLException {
+            Object[] values = new Object[COLUMN_TYPES.length];
+            for (int i = 0; i < COLUMN_TYPES.length; i++) {
+                int column = i + 1;
+                switch (COLUMN_TYPES[i]) {
+                    case STRING:
+                        values[i] = rs.getString(column);
+                        break;
+                    case INT:
+                        int value = rs.getInt(column);
+                        values[i] = rs.wasNull() ? null : value;
+                        break;
+                    case TIMESTAMP:
+                        values[i] = rs.getTimestamp(column, utcCalendar);
+                        break;
+                    case BYTES:
+                        values[i] = rs.getBytes(column);
+                        break;
+                    default:
+                        values[i] = rs.getObject(column);
+                }
+            }
+            return new LogMinerRow(values);
+        }
+
+        Object get(int column) throws SQLException {
+            if (column < 1 || column > values.length) {
+                throw new SQLException("Invalid column index " + column);
+            }
+            return values[column - 1];
+        }
+    }
+
+    private enum ColumnType {
+        STRING,
+        INT,
+        TIMESTAMP,
+        BYTES,
+        OBJECT
+    }
+
+    /**
+     * The merged {@link ResultSet} of the sessions, which supports the accessors of {@link
+     * RowMapper}. The timestamps are read in UTC like {@link RowMapper} does.
+     */
+    static final class MergedResultSet implements InvocationHandler {
+
+        private final ChangeEventSourceContext context;
+        private final List<SessionResult> results;
+        private int resultIndex;
+        private LogMinerRow currentRow;
+        private boolean lastValueNull;
+        private boolean closed;
+
+        private MergedResultSet(ChangeEventSourceContext context, List<SessionResult> results) {
+            this.context = context;
+            this.results = results;
+        }
+
+        static ResultSet create(ChangeEventSourceContext context, List<SessionResult> results) {
+            return (ResultSet)
+                    Proxy.newProxyInstance(
+                            ParallelLogMinerSessions.class.getClassLoader(),
+                            new Class<?>[] {ResultSet.class},
+                            new MergedResultSet(context, results));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next":
+                    return next();
+                case "close":
+                    close();
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "wasNull":
+                    return lastValueNull;
+                case "getString":
+                    Object value = getValue(args);
+                    return value == null ? null : value.toString();
+                case "getInt":
+                    Object number = getValue(args);
+                    return number == null ? 0 : ((Number) number).intValue();
+                case "getTimestamp":
+                case "getBytes":
+                case "getObject":
+                    return getValue(args);
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "MergedResultSet{sessions=" + results.size() + "}";
+                default:
+                    throw new SQLFeatureNotSupportedException(
+                            method.getName() + " is not supported by the merged LogMiner result");
+            }
+        }
+
+        private boolean next() throws SQLException, InterruptedException {
+            if (closed) {
+                throw new SQLException("The merged LogMiner result is closed");
+            }
+            currentRow = null;
+            while (resultIndex < results.size()) {
+                Object element = results.get(resultIndex).take(context);
+                if (element == null) {
+                    return false;
+                } else if (element == END_OF_RESULT) {
+                    resultIndex++;
+                } else if (element instanceof Throwable) {
+                    throw new SQLException(
+                            "LogMiner session " + resultIndex + " failed", (Throwable) element);
+                } else {
+                    currentRow = (LogMinerRow) element;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Object getValue(Object[] args) throws SQLException {
+            if (currentRow == null) {
+                throw new SQLException("The merged LogMiner result has no current row");
+            }
+            if (args == null || !(args[0] instanceof Integer)) {
+                throw new SQLFeatureNotSupportedException(
+                        "Only column indexes are supported by the merged LogMiner result");
+            }
+            Object value = currentRow.get((Integer) args[0]);
+            lastValueNull = value == null;
+            return value;
+        }
+
+        private void close() throws InterruptedException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (SessionResult result : results) {
+                result.cancel();
+            }
+            for (SessionResult result : results) {
+                result.awaitTermination();
+            }
+        }
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.relational.TableId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * The events of a large transaction in the {@link TransactionalBuffer} which are spilled to a local
+ * file instead of being kept on the heap until the transaction is committed.
+ *
+ * <p>The events are appended to the file in the order they are registered and read back lazily when
+ * the transaction is committed. Only DML events are supported, the LOB events are always buffered
+ * in memory as they need to be reconciled before they're emitted.
+ *
+ * <p>An undo of a row removes the spilled events of the row which are registered before the undo.
+ * The undone events are skipped when the events are read back, but they still count in {@link
+ * #size()}, i.e. in the event index of the transaction.
+ */
+final class SpilledTransactionEvents implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpilledTransactionEvents.class);
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte STRING_VALUE = 1;
+    private static final byte SERIALIZED_VALUE = 2;
+
+    private final String transactionId;
+    private final Path file;
+    private final CountingOutputStream countingOutput;
+    private final DataOutputStream output;
+    /** The undone row ids and the number of spilled events when the row was last undone. */
+    private final Map<String, Integer> undoneRowIds;
+
+    private int size;
+    private boolean closed;
+
+    private SpilledTransactionEvents(String transactionId, Path file) throws IOException {
+        this.transactionId = transactionId;
+        this.file = file;
+        this.countingOutput =
+                new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        this.output = new DataOutputStream(countingOutput);
+        this.undoneRowIds = new HashMap<>();
+        this.size = 0;
+        this.closed = false;
+    }
+
+    /** Creates a new spill file for the given transaction in the given directory. */
+    static SpilledTransactionEvents create(Path directory, String transactionId) {
+        try {
+            Files.createDirectories(directory);
+            Path file =
+                    Files.createTempFile(directory, "transaction-" + transactionId + "-", ".spill");
+            LOG.info("Spilling the events of transaction {} to {}", transactionId, file);
+            return new SpilledTransactionEvents(transactionId, file);
+        } catch (IOException e) {
+            throw new DebeziumException(
+                    "Failed to create the spill file of transaction " + transactionId, e);
+        }
+    }
+
+    /** Appends the given event to the spill file and returns the number of written bytes. */
+    long append(TransactionalBuffer.LogMinerEvent event) {
+        if (!(event instanceof TransactionalBuffer.DmlEvent)) {
+            throw new DebeziumException(
+                    "Only DML events can be spilled, but got "
+                            + event.getClass().getSimpleName()
+                            + " in transaction "
+                            + transactionId);
+        }
+        try {
+            long writtenBytes = countingOutput.count;
+            writeEvent(output, event);
+            size++;
+            return countingOutput.count - writtenBytes;
+        } catch (IOException e) {
+            throw new DebeziumException(
+                    "Failed to spill an event of transaction " + transactionId, e);
+        }
+    }
+
+    /** Undoes the spilled events of the given row which have been appended until now. */
+    void undo(String rowId) {
+        undoneRowIds.put(rowId, size);
+    }
+
+    /** Returns the number of appended events, including the undone events. */
+    int size() {
+        return size;
+    }
+
+    /** Returns the number of bytes written to the spill file. */
+    long getSpilledBytes() {
+        return countingOutput.count;
+    }
+
+    /**
+     * Returns an iterator that reads the spilled events back in their order, skipping the undone
+     * events. The iterator must be closed after use.
+     */
+    EventIterator iterator() {
+        try {
+            output.flush();
+            return new EventIterator(
+                    new DataInputStream(new BufferedInputStream(Files.newInputStream(file))));
+        } catch (IOException e) {
+            throw new DebeziumException(
+                    "Failed to read the spilled events of transaction " + transactionId, e);
+        }
+    }
+
+    /** Closes and deletes the spill file. */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            output.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close the spill file {}", file, e);
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Failed to delete the spill file {}", file, e);
+        }
+    }
+
+    /** An iterator over the spilled events, which reads one event ahead. */
+    final class EventIterator implements Iterator<TransactionalBuffer.LogMinerEvent>, Closeable {
+
+        private final DataInputStream input;
+        private int position;
+        private TransactionalBuffer.LogMinerEvent nextEvent;
+
+        private EventIterator(DataInputStream input) {
+            this.input = input;
+            this.position = 0;
+            this.nextEvent = readNextEvent();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextEvent != null;
+        }
+
+        @Override
+        public TransactionalBuffer.LogMinerEvent next() {
+            if (nextEvent == null) {
+                throw new NoSuchElementException();
+            }
+            TransactionalBuffer.LogMinerEvent event = nextEvent;
+            nextEvent = readNextEvent();
+            return event;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+
+        private TransactionalBuffer.LogMinerEvent readNextEvent() {
+            try {
+                while (position < size) {
+                    int index = position++;
+                    TransactionalBuffer.LogMinerEvent event = readEvent(input);
+                    Integer undoneBefore = undoneRowIds.get(event.getRowId());
+                    if (undoneBefore == null || index >= undoneBefore) {
+                        return event;
+                    }
+                }
+                return null;
+            } catch (IOException e) {
+                throw new DebeziumException(
+                        "Failed to read the spilled events of transaction " + transactionId, e);
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------
+    // Serialization
+    // ------------------------------------------------------------------------------------------
+
+    static void writeEvent(DataOutputStream out, TransactionalBuffer.LogMinerEvent event)
+            throws IOException {
+        out.writeInt(event.getOperation());
+        writeString(out, event.getScn().isNull() ? null : event.getScn().toString());
+        TableId tableId = event.getTableId();
+        writeString(out, tableId.catalog());
+        writeString(out, tableId.schema());
+        writeString(out, tableId.table());
+        writeString(out, event.getRowId());
+        writeValue(out, event.getRsId());
+
+        LogMinerDmlEntry entry = event.getEntry();
+        out.writeInt(entry.getOperation());
+        writeString(out, entry.getObjectOwner());
+        writeString(out, entry.getObjectName());
+        writeValues(out, entry.getOldValues());
+        writeValues(out, entry.getNewValues());
+    }
+
+    static TransactionalBuffer.LogMinerEvent readEvent(DataInputStream in) throws IOException {
+        int operation = in.readInt();
+        String scn = readString(in);
+        TableId tableId = new TableId(readString(in), readString(in), readString(in));
+        String rowId = readString(in);
+        Object rsId = readValue(in);
+
+        SpilledDmlEntry entry = new SpilledDmlEntry(in.readInt());
+        entry.setObjectOwner(readString(in));
+        entry.setObjectName(readString(in));
+        entry.oldValues = readValues(in);
+        entry.newValues = readValues(in);
+        return new TransactionalBuffer.DmlEvent(
+                operation, entry, scn == null ? Scn.NULL : Scn.valueOf(scn), tableId, rowId, rsId);
+    }
+
+    private static void writeValues(DataOutputStream out, Object[] values) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.length);
+        for (Object value : values) {
+            writeValue(out, value);
+        }
+    }
+
+    private static Object[] readValues(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        Object[] values = new Object[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = readValue(in);
+        }
+        return values;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL_VALUE);
+        } else if (value instanceof String) {
+            out.writeByte(STRING_VALUE);
+            writeString(out, (String) value);
+        } else {
+            // the values parsed from the redo SQL are strings, other values are rare
+            out.writeByte(SERIALIZED_VALUE);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+                objectOutput.writeObject(value);
+            }
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL_VALUE:
+                return null;
+            case STRING_VALUE:
+                return readString(in);
+            case SERIALIZED_VALUE:
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try (ObjectInputStream objectInput =
+                        new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return objectInput.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Failed to deserialize a spilled value", e);
+                }
+            default:
+                throw new IOException("Unknown type of spilled value: " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        // the values of LOB or long VARCHAR2 columns may exceed the limit of writeUTF
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        try {
+            in.readFully(bytes);
+        } catch (EOFException e) {
+            throw new IOException("The spill file is truncated", e);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** A {@link LogMinerDmlEntry} which is read back from a spill file. */
+    private static final class SpilledDmlEntry implements LogMinerDmlEntry {
+
+        private final int operation;
+        private Object[] oldValues;
+        private Object[] newValues;
+        private String objectOwner;
+        private String objectName;
+
+        private SpilledDmlEntry(int operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public Object[] getOldValues() {
+            return oldValues;
+        }
+
+        @Override
+        public Object[] getNewValues() {
+            return newValues;
+        }
+
+        @Override
+        public int getOperation() {
+            return operation;
+        }
+
+        @Override
+        public String getObjectOwner() {
+            return objectOwner;
+        }
+
+        @Override
+        public String getObjectName() {
+            return objectName;
+        }
+
+        @Override
+        public void setObjectName(String name) {
+            this.objectName = name;
+        }
+
+        @Override
+        public void setObjectOwner(String name) {
+            this.objectOwner = name;
+        }
+    }
+
+    /** An {@link OutputStream} which counts the written bytes. */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+import io.debezium.annotation.ThreadSafe;
+
+import javax.management.ObjectName;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The spill metrics of the {@link TransactionalBuffer}, which are registered next to the streaming
+ * metrics of the connector with the context {@code transaction-spill}.
+ */
+@ThreadSafe
+public class TransactionSpillMetrics implements TransactionSpillMetricsMXBean {
+
+    private final int spillThreshold;
+    private final AtomicLong spilledTransactions = new AtomicLong();
+    private final AtomicInteger activeSpilledTransactions = new AtomicInteger();
+    private final AtomicLong spilledEvents = new AtomicLong();
+    private final AtomicLong spilledBytes = new AtomicLong();
+    private final AtomicLong activeSpilledBytes = new AtomicLong();
+    private final AtomicLong replayedSpilledEvents = new AtomicLong();
+
+    private ObjectName name;
+
+    public TransactionSpillMetrics(int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    /** Registers the metrics as MBean of the connector with the given logical name. */
+    public synchronized void register(String logicalName) {
+        name = LogMinerMetricsMBeans.register(this, "transaction-spill", logicalName);
+    }
+
+    /** Unregisters the metrics MBean if it has been registered. */
+    public synchronized void unregister() {
+        LogMinerMetricsMBeans.unregister(name);
+        name = null;
+    }
+
+    void onTransactionSpilled() {
+        spilledTransactions.incrementAndGet();
+        activeSpilledTransactions.incrementAndGet();
+    }
+
+    void onEventSpilled(long bytes) {
+        spilledEvents.incrementAndGet();
+        spilledBytes.addAndGet(bytes);
+        activeSpilledBytes.addAndGet(bytes);
+    }
+
+    void onSpilledEventReplayed() {
+        replayedSpilledEvents.incrementAndGet();
+    }
+
+    void onSpilledTransactionRemoved(long bytes) {
+        activeSpilledTransactions.decrementAndGet();
+        activeSpilledBytes.addAndGet(-bytes);
+    }
+
+    @Override
+    public int getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    @Override
+    public long getSpilledTransactions() {
+        return spilledTransactions.get();
+    }
+
+    @Override
+    public int getActiveSpilledTransactions() {
+        return activeSpilledTransactions.get();
+    }
+
+    @Override
+    public long getSpilledEvents() {
+        return spilledEvents.get();
+    }
+
+    @Override
+    public long getSpilledBytes() {
+        return spilledBytes.get();
+    }
+
+    @Override
+    public long getActiveSpilledBytes() {
+        return activeSpilledBytes.get();
+    }
+
+    @Override
+    public long getReplayedSpilledEvents() {
+        return replayedSpilledEvents.get();
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionSpillMetrics{"
+                + "spillThreshold="
+                + spillThreshold
+                + ", spilledTransactions="
+                + spilledTransactions
+                + ", activeSpilledTransactions="
+                + activeSpilledTransactions
+                + ", spilledEvents="
+                + spilledEvents
+                + ", spilledBytes="
+                + spilledBytes
+                + ", activeSpilledBytes="
+                + activeSpilledBytes
+                + ", replayedSpilledEvents="
+                + replayedSpilledEvents
+                + '}';
+    }
+}
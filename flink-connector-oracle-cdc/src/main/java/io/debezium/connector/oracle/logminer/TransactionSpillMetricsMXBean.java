@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+/** Exposes the spill metrics of the {@link TransactionalBuffer} through JMX. */
+public interface TransactionSpillMetricsMXBean {
+
+    /** The max number of events of a transaction that are buffered in memory. */
+    int getSpillThreshold();
+
+    /** The total number of transactions whose events have been spilled to local disk. */
+    long getSpilledTransactions();
+
+    /** The number of buffered transactions whose events are currently spilled. */
+    int getActiveSpilledTransactions();
+
+    /** The total number of events that have been spilled to local disk. */
+    long getSpilledEvents();
+
+    /** The total number of bytes that have been written to the spill files. */
+    long getSpilledBytes();
+
+    /** The number of bytes of the spill files of the currently buffered transactions. */
+    long getActiveSpilledBytes();
+
+    /** The total number of spilled events that have been read back on commit. */
+    long getReplayedSpilledEvents();
+}
@@ -18,6 +18,7 @@ package io.debezium.connector.oracle.logminer;
 
 import io.debezium.DebeziumException;
 import io.debezium.annotation.NotThreadSafe;
+import io.debezium.config.Field;
 import io.debezium.connector.oracle.BlobChunkList;
 import io.debezium.connector.oracle.OracleConnectorConfig;
 import io.debezium.connector.oracle.OracleDatabaseSchema;
@@ -32,10 +33,14 @@ import io.debezium.pipeline.source.spi.ChangeEventSource;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.util.Clock;
+import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.errors.DataException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
@@ -56,12 +61,38 @@ import java.util.function.Supplier;
  * <p>Line 370 : Use `offsetContext.getCommitScn().compareTo(scn) >= 0` instead of
  * `offsetContext.getCommitScn().compareTo(scn) > 0`. We should remove this class since we bumped
  * higher debezium version after 1.9.1.Final where the issue has been fixed.
+ *
+ * <p>The events of a transaction beyond {@link #SPILL_THRESHOLD} are spilled to a local file by
+ * {@link SpilledTransactionEvents} and read back lazily when the transaction is committed, so that
+ * a large transaction doesn't need to be kept on the heap.
  */
 @NotThreadSafe
 public final class TransactionalBuffer implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TransactionalBuffer.class);
 
+    public static final Field SPILL_THRESHOLD =
+            Field.create("log.mining.transaction.spill.threshold")
+                    .withDisplayName("Transaction spill threshold")
+                    .withType(ConfigDef.Type.INT)
+                    .withWidth(ConfigDef.Width.SHORT)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDefault(-1)
+                    .withDescription(
+                            "The max number of events of a transaction that are buffered in memory,"
+                                    + " the events beyond are spilled to local disk until the transaction is committed."
+                                    + " The events are always buffered in memory if the value is not positive or LOB support is enabled.");
+
+    public static final Field SPILL_DIRECTORY =
+            Field.create("log.mining.transaction.spill.dir")
+                    .withDisplayName("Transaction spill directory")
+                    .withType(ConfigDef.Type.STRING)
+                    .withWidth(ConfigDef.Width.LONG)
+                    .withImportance(ConfigDef.Importance.LOW)
+                    .withDescription(
+                            "The local directory of the spill files of large transactions,"
+                                    + " the temporary directory of the JVM is used by default.");
+
     private final OracleConnectorConfig connectorConfig;
     private final Map<String, Transaction> transactions;
     private final OracleDatabaseSchema schema;
@@ -72,6 +103,9 @@ public final class TransactionalBuffer implements AutoCloseable {
     private final Set<RecentlyCommittedTransaction> recentlyCommittedTransactionIds;
     private final Set<Scn> recentlyEmittedDdls;
     private final OracleStreamingChangeEventSourceMetrics streamingMetrics;
+    private final int spillThreshold;
+    private final Path spillDirectory;
+    private final TransactionSpillMetrics spillMetrics;
 
     private Scn lastCommittedScn;
     private Scn maxCommittedScn;
@@ -103,6 +137,32 @@ public final class TransactionalBuffer implements AutoCloseable {
         this.recentlyCommittedTransactionIds = new HashSet<>();
         this.recentlyEmittedDdls = new HashSet<>();
         this.streamingMetrics = streamingMetrics;
+        this.spillThreshold = getSpillThreshold(connectorConfig);
+        this.spillDirectory =
+                Paths.get(
+                        connectorConfig
+                                .getConfig()
+                                .getString(
+                                        SPILL_DIRECTORY,
+                                        () -> System.getProperty("java.io.tmpdir")));
+        if (spillThreshold > 0) {
+            this.spillMetrics = new TransactionSpillMetrics(spillThreshold);
+            spillMetrics.register(connectorConfig.getLogicalName());
+        } else {
+            this.spillMetrics = null;
+        }
+    }
+
+    private static int getSpillThreshold(OracleConnectorConfig connectorConfig) {
+        int spillThreshold = connectorConfig.getConfig().getInteger(SPILL_THRESHOLD);
+        if (spillThreshold > 0 && connectorConfig.isLobEnabled()) {
+            // the LOB events are reconciled on commit, which needs all events in memory
+            LOGGER.warn(
+                    "Spilling large transactions is not supported when LOB support is enabled, '{}' is ignored.",
+                    SPILL_THRESHOLD.name());
+            return -1;
+        }
+        return spillThreshold;
     }
 
     /** @return rolled back transactions */
@@ -298,6 +358,9 @@ public final class TransactionalBuffer implements AutoCloseable {
                     }
                     return false;
                 });
+        if (transaction.spilledEvents != null) {
+            transaction.spilledEvents.undo(undoRowId);
+        }
     }
 
     /**
@@ -357,6 +420,7 @@ public final class TransactionalBuffer implements AutoCloseable {
         abandonedTransactionIds.remove(transactionId);
 
         if (isRecentlyCommitted(transactionId)) {
+            discardSpilledEvents(transaction);
             return false;
         }
 
@@ -373,6 +437,7 @@ public final class TransactionalBuffer implements AutoCloseable {
                     offsetContext.getCommitScn(),
                     scn,
                     lastCommittedScn);
+            discardSpilledEvents(transaction);
             streamingMetrics.setActiveTransactions(transactions.size());
             return false;
         }
@@ -380,9 +445,10 @@ public final class TransactionalBuffer implements AutoCloseable {
         reconcileTransaction(transaction);
 
         LOGGER.trace("COMMIT, {}, smallest SCN: {}", debugMessage, smallestScn);
-        try {
-            int counter = transaction.events.size();
-            for (LogMinerEvent event : transaction.events) {
+        int dispatchedEvents = 0;
+        try (EventIterator events = new EventIterator(transaction)) {
+            while (events.hasNext()) {
+                LogMinerEvent event = events.next();
                 if (!context.isRunning()) {
                     return false;
                 }
@@ -397,7 +463,7 @@ public final class TransactionalBuffer implements AutoCloseable {
                 offsetContext.setTransactionId(transaction.transactionId);
                 offsetContext.setSourceTime(timestamp.toInstant());
                 offsetContext.setTableId(event.getTableId());
-                if (--counter == 0) {
+                if (!events.hasNext()) {
                     offsetContext.setCommitScn(scn);
                 }
 
@@ -411,10 +477,11 @@ public final class TransactionalBuffer implements AutoCloseable {
                                 event.getEntry().getNewValues(),
                                 schema.tableFor(event.getTableId()),
                                 clock));
+                dispatchedEvents++;
             }
 
             lastCommittedScn = Scn.valueOf(scn.longValue());
-            if (!transaction.events.isEmpty()) {
+            if (dispatchedEvents > 0) {
                 dispatcher.dispatchTransactionCommittedEvent(offsetContext);
             } else {
                 dispatcher.dispatchHeartbeatEvent(offsetContext);
@@ -438,9 +505,10 @@ public final class TransactionalBuffer implements AutoCloseable {
         } catch (Exception e) {
             errorHandler.setProducerThrowable(e);
         } finally {
+            discardSpilledEvents(transaction);
             streamingMetrics.incrementCommittedTransactions();
             streamingMetrics.setActiveTransactions(transactions.size());
-            streamingMetrics.incrementCommittedDmlCount(transaction.events.size());
+            streamingMetrics.incrementCommittedDmlCount(dispatchedEvents);
             streamingMetrics.setCommittedScn(scn);
             streamingMetrics.setOffsetScn(offsetContext.getScn());
             streamingMetrics.setLastCommitDuration(Duration.between(start, Instant.now()));
@@ -509,6 +577,7 @@ public final class TransactionalBuffer implements AutoCloseable {
             LOGGER.debug("Transaction rolled back: {}", debugMessage);
 
             transactions.remove(transactionId);
+            discardSpilledEvents(transaction);
             abandonedTransactionIds.remove(transactionId);
             rolledBackTransactionIds.add(transactionId);
 
@@ -560,6 +629,7 @@ public final class TransactionalBuffer implements AutoCloseable {
                         transaction.getValue().toString());
                 abandonedTransactionIds.add(transaction.getKey());
                 iter.remove();
+                discardSpilledEvents(transaction.getValue());
 
                 streamingMetrics.addAbandonedTransactionId(transaction.getKey());
                 streamingMetrics.setActiveTransactions(transactions.size());
@@ -602,7 +672,12 @@ public final class TransactionalBuffer implements AutoCloseable {
 
     @Override
     public void close() {
+        transactions.values().forEach(this::discardSpilledEvents);
         transactions.clear();
+        if (spillMetrics != null) {
+            LOGGER.info("Transaction spill metrics: {}", spillMetrics);
+            spillMetrics.unregister();
+        }
     }
 
     /**
@@ -645,19 +720,54 @@ public final class TransactionalBuffer implements AutoCloseable {
         streamingMetrics.setActiveTransactions(transactions.size());
 
         int eventId = transaction.eventIds++;
-        if (transaction.events.size() > eventId) {
+        if (transaction.getNumberOfEvents() > eventId) {
             // only return true if new event is added, otherwise false
             return false;
         } else {
             // Adding new event at eventId offset
             LOGGER.trace(
                     "Transaction {}, adding event reference at index {}", transactionId, eventId);
-            transaction.events.add(supplier.get());
+            addEvent(transaction, supplier.get());
             streamingMetrics.calculateLagMetrics(changeTime);
             return true;
         }
     }
 
+    /**
+     * Adds the event to the transaction, the event is spilled to local disk if the transaction has
+     * reached the spill threshold.
+     *
+     * @param transaction transaction that contained the given event
+     * @param event the event to add
+     */
+    private void addEvent(Transaction transaction, LogMinerEvent event) {
+        if (transaction.spilledEvents == null
+                && spillThreshold > 0
+                && transaction.events.size() >= spillThreshold) {
+            transaction.spilledEvents =
+                    SpilledTransactionEvents.create(spillDirectory, transaction.transactionId);
+            spillMetrics.onTransactionSpilled();
+        }
+        if (transaction.spilledEvents != null) {
+            spillMetrics.onEventSpilled(transaction.spilledEvents.append(event));
+        } else {
+            transaction.events.add(event);
+        }
+    }
+
+    /**
+     * Deletes the spilled events of a transaction which has been removed from the buffer.
+     *
+     * @param transaction the removed transaction
+     */
+    private void discardSpilledEvents(Transaction transaction) {
+        if (transaction.spilledEvents != null) {
+            spillMetrics.onSpilledTransactionRemoved(transaction.spilledEvents.getSpilledBytes());
+            transaction.spilledEvents.close();
+            transaction.spilledEvents = null;
+        }
+    }
+
     /**
      * Returns whether the specified transaction has recently been committed.
      *
@@ -1160,6 +1270,7 @@ public final class TransactionalBuffer implements AutoCloseable {
         private final Scn firstScn;
         private Scn lastScn;
         private final List<LogMinerEvent> events;
+        private SpilledTransactionEvents spilledEvents;
         private int eventIds;
 
         private Transaction(String transactionId, Scn firstScn) {
@@ -1170,6 +1281,10 @@ public final class TransactionalBuffer implements AutoCloseable {
             this.eventIds = 0;
         }
 
+        private int getNumberOfEvents() {
+            return events.size() + (spilledEvents == null ? 0 : spilledEvents.size());
+        }
+
         @Override
         public String toString() {
             return "Transaction{"
@@ -1181,12 +1296,52 @@ public final class TransactionalBuffer implements AutoCloseable {
                     + lastScn
                     + ", eventIds="
                     + eventIds
+                    + ", spilledEvents="
+                    + (spilledEvents == null ? 0 : spilledEvents.size())
                     + '}';
         }
     }
 
+    /**
+     * Iterates over the events of a transaction on commit, the in-memory events first followed by
+     * the spilled events which are read back lazily.
+     */
+    private final class EventIterator implements Iterator<LogMinerEvent>, AutoCloseable {
+
+        private final Iterator<LogMinerEvent> bufferedEvents;
+        private final SpilledTransactionEvents.EventIterator spilledEvents;
+
+        private EventIterator(Transaction transaction) {
+            this.bufferedEvents = transaction.events.iterator();
+            this.spilledEvents =
+                    transaction.spilledEvents == null ? null : transaction.spilledEvents.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return bufferedEvents.hasNext() || (spilledEvents != null && spilledEvents.hasNext());
+        }
+
+        @Override
+        public LogMinerEvent next() {
+            if (bufferedEvents.hasNext()) {
+                return bufferedEvents.next();
+            }
+            LogMinerEvent event = spilledEvents.next();
+            spillMetrics.onSpilledEventReplayed();
+            return event;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (spilledEvents != null) {
+                spilledEvents.close();
+            }
+        }
+    }
+
     /** Base class for all possible LogMiner events. */
-    private static class LogMinerEvent {
+    static class LogMinerEvent {
         private final int operation;
         private final LogMinerDmlEntry entry;
         private final Scn scn;
@@ -1257,7 +1412,7 @@ public final class TransactionalBuffer implements AutoCloseable {
     }
 
     /** Represents a DML event for a given table row. */
-    private static class DmlEvent extends LogMinerEvent {
+    static class DmlEvent extends LogMinerEvent {
         public DmlEvent(
                 int operation,
                 LogMinerDmlEntry entry,
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.oracle.source.assigner.splitter;
+
+import com.ververica.cdc.connectors.base.source.assigner.splitter.ChunkRange;
+import com.ververica.cdc.connectors.oracle.source.assigner.splitter.RowIdExtentSplitter.Extent;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/** Tests for {@link RowIdExtentSplitter}. */
+public class RowIdExtentSplitterTest {
+
+    @Test
+    public void testEncodeRowId() {
+        // data object 73196, file 4, block 151, row 0
+        assertEquals(
+                "AAAR3sAAEAAAACXAAA", RowIdExtentSplitter.encodeRowId(73196, 4, 151, 0, false));
+        assertEquals(
+                "AAAR3sAAEAAAACXAAB", RowIdExtentSplitter.encodeRowId(73196, 4, 151, 1, false));
+        // the block number of a bigfile tablespace is encoded in the digits of the file number too
+        assertEquals(
+                "AAAR3sAAAAAQAAAAAA",
+                RowIdExtentSplitter.encodeRowId(73196, 1024, 1L << 22, 0, true));
+    }
+
+    @Test
+    public void testSplitExtents() throws Exception {
+        List<Extent> extents =
+                Arrays.asList(
+                        new Extent(73196, 4, 128, 8, false),
+                        new Extent(73196, 4, 256, 8, false),
+                        new Extent(73196, 5, 8, 24, false),
+                        new Extent(73197, 4, 512, 8, false));
+
+        // a chunk spans extents and an extent spans chunks
+        assertEquals(
+                Arrays.asList(
+                        RowIdExtentSplitter.encodeRowId(73196, 5, 8, 0, false),
+                        RowIdExtentSplitter.encodeRowId(73196, 5, 24, 0, false)),
+                RowIdExtentSplitter.getChunkBoundaries(extents, 16));
+
+        List<ChunkRange> chunks = RowIdExtentSplitter.splitExtents(extents, 16);
+        assertEquals(3, chunks.size());
+        assertNull(chunks.get(0).getChunkStart());
+        assertEquals("AAAR3sAAFAAAAAIAAA", chunks.get(0).getChunkEnd().toString());
+        assertEquals(chunks.get(0).getChunkEnd(), chunks.get(1).getChunkStart());
+        assertNull(chunks.get(2).getChunkEnd());
+        assertEquals(
+                RowIdExtentSplitter.getChunkBoundaries(extents, 8).size() + 1,
+                RowIdExtentSplitter.splitExtents(extents, 8).size());
+        assertEquals(5, RowIdExtentSplitter.getChunkBoundaries(extents, 8).size());
+
+        // a table smaller than a chunk is read as a whole
+        assertEquals(
+                Collections.singletonList(ChunkRange.all()),
+                RowIdExtentSplitter.splitExtents(extents, 48));
+    }
+
+    @Test
+    public void testBlocksPerChunk() {
+        List<Extent> extents =
+                Arrays.asList(
+                        new Extent(73196, 4, 128, 64, false), new Extent(73196, 4, 256, 64, false));
+        // 100 rows per block
+        assertEquals(81L, RowIdExtentSplitter.getBlocksPerChunk(extents, 12_800, 8096));
+        assertEquals(1L, RowIdExtentSplitter.getBlocksPerChunk(extents, 12_800, 10));
+        // without statistics
+        assertEquals(8096L, RowIdExtentSplitter.getBlocksPerChunk(extents, 0, 8096));
+    }
+}
@@ -118,6 +118,7 @@ public class OracleTableSourceFactoryTest {
                                 .defaultValue(),
                         JdbcSourceOptions.SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND
                                 .defaultValue(),
+                        null,
                         null);
         assertEquals(expectedSource, actualSource);
     }
@@ -152,6 +153,7 @@ public class OracleTableSourceFactoryTest {
                                 .defaultValue(),
                         JdbcSourceOptions.SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND
                                 .defaultValue(),
+                        null,
                         null);
         assertEquals(expectedSource, actualSource);
     }
@@ -190,6 +192,55 @@ public class OracleTableSourceFactoryTest {
                                 .defaultValue(),
                         JdbcSourceOptions.SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND
                                 .defaultValue(),
+                        null,
+                        null);
+        assertEquals(expectedSource, actualSource);
+    }
+
+    @Test
+    public void testLogMiningProperties() {
+        Map<String, String> options = getAllRequiredOptions();
+        options.put("debezium.snapshot.mode", "initial");
+        options.put("debezium.log.mining.transaction.spill.threshold", "100");
+        options.put("scan.log-mining.transaction.spill-threshold", "10000");
+        options.put("scan.log-mining.transaction.spill-dir", "/tmp/oracle-spill");
+        options.put("scan.log-mining.parallel-sessions", "4");
+        options.put("scan.log-mining.adaptive-window.enabled", "true");
+        options.put("scan.log-mining.adaptive-window.target-latency", "3s");
+
+        DynamicTableSource actualSource = createTableSource(options);
+        Properties dbzProperties = new Properties();
+        dbzProperties.put("snapshot.mode", "initial");
+        dbzProperties.put("log.mining.transaction.spill.threshold", "10000");
+        dbzProperties.put("log.mining.transaction.spill.dir", "/tmp/oracle-spill");
+        dbzProperties.put("log.mining.parallel.sessions", "4");
+        dbzProperties.put("log.mining.window.adaptive", "true");
+        dbzProperties.put("log.mining.window.target.latency.ms", "3000");
+        OracleTableSource expectedSource =
+                new OracleTableSource(
+                        SCHEMA,
+                        null,
+                        MY_PORT,
+                        MY_LOCALHOST,
+                        MY_DATABASE,
+                        MY_TABLE,
+                        MY_SCHEMA,
+                        MY_USERNAME,
+                        MY_PASSWORD,
+                        dbzProperties,
+                        StartupOptions.initial(),
+                        SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_ENABLED.defaultValue(),
+                        SourceOptions.SCAN_INCREMENTAL_SNAPSHOT_CHUNK_SIZE.defaultValue(),
+                        SourceOptions.CHUNK_META_GROUP_SIZE.defaultValue(),
+                        SourceOptions.SCAN_SNAPSHOT_FETCH_SIZE.defaultValue(),
+                        JdbcSourceOptions.CONNECT_TIMEOUT.defaultValue(),
+                        JdbcSourceOptions.CONNECT_MAX_RETRIES.defaultValue(),
+                        JdbcSourceOptions.CONNECTION_POOL_SIZE.defaultValue(),
+                        JdbcSourceOptions.SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_UPPER_BOUND
+                                .defaultValue(),
+                        JdbcSourceOptions.SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND
+                                .defaultValue(),
+                        null,
                         null);
         assertEquals(expectedSource, actualSource);
     }
@@ -251,6 +302,7 @@ public class OracleTableSourceFactoryTest {
                         connectPoolSize,
                         distributionFactorUpper,
                         distributionFactorLower,
+                        null,
                         null);
         assertEquals(expectedSource, actualSource);
     }
@@ -286,6 +338,7 @@ public class OracleTableSourceFactoryTest {
                                 .defaultValue(),
                         JdbcSourceOptions.SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND
                                 .defaultValue(),
+                        null,
                         null);
         assertEquals(expectedSource, actualSource);
     }
@@ -321,6 +374,7 @@ public class OracleTableSourceFactoryTest {
                                 .defaultValue(),
                         JdbcSourceOptions.SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND
                                 .defaultValue(),
+                        null,
                         null);
         assertEquals(expectedSource, actualSource);
     }
@@ -360,6 +414,7 @@ public class OracleTableSourceFactoryTest {
                                 .defaultValue(),
                         JdbcSourceOptions.SPLIT_KEY_EVEN_DISTRIBUTION_FACTOR_LOWER_BOUND
                                 .defaultValue(),
+                        null,
                         null);
         expectedSource.producedDataType = SCHEMA_WITH_METADATA.toSourceRowDataType();
         expectedSource.metadataKeys =
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link MiningWindowController}. */
+public class MiningWindowControllerTest {
+
+    @Test
+    public void testAdaptWindowAndPause() {
+        MiningWindowController controller = createController(true);
+        assertTrue(controller.isAdaptive());
+        assertEquals(20_000, controller.getWindowSize());
+        assertEquals(1_000L, controller.getPauseInMilliseconds());
+
+        // falling behind, the window grows up to the max batch size without pausing
+        controller.onMiningFinished(100, Duration.ofMillis(500), 1_000_000);
+        assertEquals(40_000, controller.getWindowSize());
+        assertEquals(0L, controller.getPauseInMilliseconds());
+        controller.onMiningFinished(100, Duration.ofMillis(500), 1_000_000);
+        controller.onMiningFinished(100, Duration.ofMillis(500), 1_000_000);
+        assertEquals(100_000, controller.getWindowSize());
+
+        // a slow session shrinks the window
+        controller.onMiningFinished(100, Duration.ofSeconds(6), 1_000_000);
+        assertEquals(50_000, controller.getWindowSize());
+        // so does a session with too many rows
+        controller.onMiningFinished(200_000, Duration.ofMillis(500), 1_000_000);
+        assertEquals(25_000, controller.getWindowSize());
+
+        // caught up with an idle database, the pause grows up to the max sleep time
+        for (int i = 0; i < 20; i++) {
+            controller.onMiningFinished(0, Duration.ofMillis(10), 10);
+        }
+        assertEquals(25_000, controller.getWindowSize());
+        assertEquals(3_000L, controller.getPauseInMilliseconds());
+
+        // caught up with changes, the pause shrinks
+        controller.onMiningFinished(10, Duration.ofMillis(10), 10);
+        assertEquals(1_500L, controller.getPauseInMilliseconds());
+        assertEquals(10L, controller.getLastMinedRows());
+        assertEquals(10L, controller.getLastMiningLatencyInMilliseconds());
+        assertEquals(10L, controller.getScnLag());
+    }
+
+    @Test
+    public void testObserveOnly() {
+        MiningWindowController controller = createController(false);
+        assertFalse(controller.isAdaptive());
+        controller.onMiningFinished(100, Duration.ofSeconds(6), 1_000_000);
+        assertEquals(20_000, controller.getWindowSize());
+        assertEquals(1_000L, controller.getPauseInMilliseconds());
+        assertEquals(100L, controller.getLastMinedRows());
+        assertEquals(6_000L, controller.getLastMiningLatencyInMilliseconds());
+        assertEquals(1_000_000L, controller.getScnLag());
+    }
+
+    private static MiningWindowController createController(boolean adaptive) {
+        Configuration config =
+                Configuration.create()
+                        .with(OracleConnectorConfig.SERVER_NAME, "oracle_logminer")
+                        .with(MiningWindowController.ADAPTIVE_WINDOW, adaptive)
+                        .with(OracleConnectorConfig.LOG_MINING_BATCH_SIZE_MIN, 1_000)
+                        .with(OracleConnectorConfig.LOG_MINING_BATCH_SIZE_DEFAULT, 20_000)
+                        .with(OracleConnectorConfig.LOG_MINING_BATCH_SIZE_MAX, 100_000)
+                        .with(OracleConnectorConfig.LOG_MINING_SLEEP_TIME_MIN_MS, 0)
+                        .with(OracleConnectorConfig.LOG_MINING_SLEEP_TIME_DEFAULT_MS, 1_000)
+                        .with(OracleConnectorConfig.LOG_MINING_SLEEP_TIME_MAX_MS, 3_000)
+                        .with(OracleConnectorConfig.LOG_MINING_SLEEP_TIME_INCREMENT_MS, 200)
+                        .build();
+        return new MiningWindowController(new OracleConnectorConfig(config));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.ParallelLogMinerSessions.LogMinerRow;
+import io.debezium.connector.oracle.logminer.ParallelLogMinerSessions.MergedResultSet;
+import io.debezium.connector.oracle.logminer.ParallelLogMinerSessions.SessionResult;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/** Tests for {@link ParallelLogMinerSessions}. */
+public class ParallelLogMinerSessionsTest {
+
+    @Test
+    public void testSplitScnRange() {
+        assertEquals(
+                scns(100, 103, 106, 108, 110),
+                ParallelLogMinerSessions.splitScnRange(Scn.valueOf(100), Scn.valueOf(110), 4));
+        // no more ranges than SCNs
+        assertEquals(
+                scns(100, 101, 102),
+                ParallelLogMinerSessions.splitScnRange(Scn.valueOf(100), Scn.valueOf(102), 4));
+        assertEquals(
+                scns(100, 100),
+                ParallelLogMinerSessions.splitScnRange(Scn.valueOf(100), Scn.valueOf(100), 4));
+    }
+
+    @Test
+    public void testMergeSessionResultsByScn() throws Exception {
+        List<SessionResult> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(new SessionResult(null, 16));
+        }
+        // the sessions finish in any order, the rows are merged in the order of the SCN ranges
+        results.get(2).put(row("301", 1));
+        results.get(2).finish();
+        results.get(0).put(row("101", 1));
+        results.get(0).put(row("102", null));
+        results.get(0).finish();
+        results.get(1).finish();
+
+        List<String> scns = new ArrayList<>();
+        try (ResultSet rs = MergedResultSet.create(() -> true, results)) {
+            while (rs.next()) {
+                scns.add(rs.getString(1));
+                rs.getInt(3);
+                if (rs.wasNull()) {
+                    scns.add("null");
+                }
+            }
+        }
+        assertEquals(Arrays.asList("101", "102", "null", "301"), scns);
+    }
+
+    @Test
+    public void testSessionFailure() throws Exception {
+        SessionResult first = new SessionResult(null, 16);
+        SessionResult second = new SessionResult(null, 16);
+        first.put(row("101", 1));
+        first.finish();
+        second.fail(new SQLException("ORA-01291: missing logfile"));
+
+        ResultSet rs = MergedResultSet.create(() -> true, Arrays.asList(first, second));
+        assertTrue(rs.next());
+        assertEquals("101", rs.getString(1));
+        try {
+            rs.next();
+            fail("The failure of the session should be thrown.");
+        } catch (SQLException e) {
+            assertEquals("ORA-01291: missing logfile", e.getCause().getMessage());
+        }
+        rs.close();
+        assertTrue(rs.isClosed());
+        // the sessions stop producing after the result is closed
+        assertFalse(second.put(row("201", 1)));
+    }
+
+    @Test
+    public void testStoppedSource() throws Exception {
+        SessionResult result = new SessionResult(null, 16);
+        try (ResultSet rs = MergedResultSet.create(() -> false, Arrays.asList(result))) {
+            assertFalse(rs.next());
+        }
+    }
+
+    private static LogMinerRow row(String scn, Integer operationCode) {
+        Object[] values = new Object[13];
+        values[0] = scn;
+        values[2] = operationCode;
+        return new LogMinerRow(values);
+    }
+
+    private static List<Scn> scns(long... values) {
+        List<Scn> scns = new ArrayList<>();
+        for (long value : values) {
+            scns.add(Scn.valueOf(value));
+        }
+        return scns;
+    }
+}
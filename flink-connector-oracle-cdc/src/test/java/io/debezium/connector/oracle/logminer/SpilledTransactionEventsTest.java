@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.debezium.connector.oracle.logminer;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntryImpl;
+import io.debezium.relational.TableId;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Tests for {@link SpilledTransactionEvents}. */
+public class SpilledTransactionEventsTest {
+
+    private static final TableId PRODUCTS = new TableId("ORCLCDB", "DEBEZIUM", "PRODUCTS");
+
+    @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testReadSpilledEvents() throws Exception {
+        Path directory = temporaryFolder.newFolder().toPath();
+        List<TransactionalBuffer.LogMinerEvent> events = new ArrayList<>();
+        events.add(insert(1, "AAA1", "101", "scooter"));
+        events.add(update(2, "AAA1", new Object[] {"101", null}, new Object[] {"101", "car"}));
+        // values larger than the limit of DataOutput#writeUTF and non-string values
+        char[] longValue = new char[70000];
+        Arrays.fill(longValue, 'x');
+        events.add(insert(3, "AAA2", "102", new String(longValue)));
+        events.add(insert(4, "AAA3", "103", new BigDecimal("3.14")));
+        events.add(delete(5, "AAA2", "102", "ü中"));
+
+        try (SpilledTransactionEvents spilledEvents =
+                SpilledTransactionEvents.create(directory, "0a001b00c3000000")) {
+            long spilledBytes = 0;
+            for (TransactionalBuffer.LogMinerEvent event : events) {
+                spilledBytes += spilledEvents.append(event);
+            }
+            assertEquals(events.size(), spilledEvents.size());
+            assertEquals(spilledBytes, spilledEvents.getSpilledBytes());
+            assertTrue(spilledBytes > longValue.length);
+
+            assertSameEvents(events, readAll(spilledEvents));
+            // the events can be read again
+            assertSameEvents(events, readAll(spilledEvents));
+        }
+        File[] spillFiles = directory.toFile().listFiles();
+        assertEquals(0, spillFiles == null ? 0 : spillFiles.length);
+    }
+
+    @Test
+    public void testUndoSpilledEvents() throws Exception {
+        Path directory = temporaryFolder.newFolder().toPath();
+        TransactionalBuffer.LogMinerEvent first = insert(1, "AAA1", "101", "scooter");
+        TransactionalBuffer.LogMinerEvent second = insert(2, "AAA2", "102", "car");
+        TransactionalBuffer.LogMinerEvent third = insert(3, "AAA1", "101", "bike");
+        try (SpilledTransactionEvents spilledEvents =
+                SpilledTransactionEvents.create(directory, "0a001b00c3000001")) {
+            spilledEvents.append(first);
+            spilledEvents.append(second);
+            spilledEvents.undo("AAA1");
+            // events registered after the undo are kept
+            spilledEvents.append(third);
+
+            assertEquals(3, spilledEvents.size());
+            assertSameEvents(Arrays.asList(second, third), readAll(spilledEvents));
+
+            spilledEvents.undo("AAA1");
+            spilledEvents.undo("AAA2");
+            assertSameEvents(Collections.emptyList(), readAll(spilledEvents));
+        }
+    }
+
+    private static List<TransactionalBuffer.LogMinerEvent> readAll(
+            SpilledTransactionEvents spilledEvents) throws Exception {
+        List<TransactionalBuffer.LogMinerEvent> events = new ArrayList<>();
+        try (SpilledTransactionEvents.EventIterator iterator = spilledEvents.iterator()) {
+            while (iterator.hasNext()) {
+                events.add(iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+        }
+        return events;
+    }
+
+    private static void assertSameEvents(
+            List<TransactionalBuffer.LogMinerEvent> expected,
+            List<TransactionalBuffer.LogMinerEvent> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            TransactionalBuffer.LogMinerEvent expectedEvent = expected.get(i);
+            TransactionalBuffer.LogMinerEvent actualEvent = actual.get(i);
+            assertTrue(actualEvent instanceof TransactionalBuffer.DmlEvent);
+            assertEquals(expectedEvent.getOperation(), actualEvent.getOperation());
+            assertEquals(expectedEvent.getScn(), actualEvent.getScn());
+            assertEquals(expectedEvent.getTableId(), actualEvent.getTableId());
+            assertEquals(expectedEvent.getRowId(), actualEvent.getRowId());
+            assertEquals(expectedEvent.getRsId(), actualEvent.getRsId());
+
+            LogMinerDmlEntry expectedEntry = expectedEvent.getEntry();
+            LogMinerDmlEntry actualEntry = actualEvent.getEntry();
+            assertEquals(expectedEntry.getOperation(), actualEntry.getOperation());
+            assertEquals(expectedEntry.getObjectOwner(), actualEntry.getObjectOwner());
+            assertEquals(expectedEntry.getObjectName(), actualEntry.getObjectName());
+            assertArrayEquals(expectedEntry.getOldValues(), actualEntry.getOldValues());
+            assertArrayEquals(expectedEntry.getNewValues(), actualEntry.getNewValues());
+        }
+    }
+
+    private static TransactionalBuffer.LogMinerEvent insert(
+            long scn, String rowId, Object... newValues) {
+        return event(RowMapper.INSERT, LogMinerDmlEntryImpl.forInsert(newValues), scn, rowId);
+    }
+
+    private static TransactionalBuffer.LogMinerEvent update(
+            long scn, String rowId, Object[] oldValues, Object[] newValues) {
+        return event(
+                RowMapper.UPDATE, LogMinerDmlEntryImpl.forUpdate(newValues, oldValues), scn, rowId);
+    }
+
+    private static TransactionalBuffer.LogMinerEvent delete(
+            long scn, String rowId, Object... oldValues) {
+        return event(RowMapper.DELETE, LogMinerDmlEntryImpl.forDelete(oldValues), scn, rowId);
+    }
+
+    private static TransactionalBuffer.LogMinerEvent event(
+            int operation, LogMinerDmlEntry entry, long scn, String rowId) {
+        entry.setObjectOwner(PRODUCTS.schema());
+        entry.setObjectName(PRODUCTS.table());
+        return new TransactionalBuffer.DmlEvent(
+                operation, entry, Scn.valueOf(scn), PRODUCTS, rowId, " 0x000123.00000456.0010 ");
+    }
+}
@@ -50,6 +50,16 @@ public class TDBSourceOptions {
                             "Optional startup mode for TiDB CDC consumer, valid enumerations are "
                                     + "\"initial\", \"latest-offset\"");
 
+    public static final ConfigOption<Boolean> SCAN_INCREMENTAL_SNAPSHOT_ENABLED =
+            ConfigOptions.key("scan.incremental.snapshot.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Incremental snapshot is a new mechanism to read snapshot of a table. "
+                                    + "The key range of the table is split by the TiKV regions "
+                                    + "and the splits are read in parallel at the same snapshot ts, "
+                                    + "the reading progress of the splits is stored in the checkpoints.");
+
     public static final ConfigOption<String> PD_ADDRESSES =
             ConfigOptions.key("pd-addresses")
                     .stringType()
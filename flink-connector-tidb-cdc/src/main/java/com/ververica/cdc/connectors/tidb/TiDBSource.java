@@ -18,6 +18,7 @@ package com.ververica.cdc.connectors.tidb;
 
 import org.apache.flink.streaming.api.functions.source.RichParallelSourceFunction;
 
+import com.ververica.cdc.connectors.tidb.source.TiDBIncrementalSource;
 import com.ververica.cdc.connectors.tidb.table.StartupOptions;
 import org.tikv.common.TiConfiguration;
 
@@ -86,5 +87,19 @@ public class TiDBSource {
                     database,
                     tableName);
         }
+
+        /**
+         * Builds a {@link TiDBIncrementalSource} which reads the snapshot splits of the TiKV
+         * regions in parallel and checkpoints the reading progress of the splits.
+         */
+        public TiDBIncrementalSource<T> buildIncrementalSource() {
+            return new TiDBIncrementalSource<>(
+                    snapshotEventDeserializationSchema,
+                    changeEventDeserializationSchema,
+                    tiConf,
+                    startupOptions.startupMode,
+                    database,
+                    tableName);
+        }
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb;
+
+import com.ververica.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.common.key.RowKey;
+import org.tikv.kvproto.Cdcpb;
+
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Buffers the rows pulled from TiKV CDC and matches the commit rows with their prewrite rows, so
+ * that the committed rows can be emitted in the order of their commit ts once the resolved ts has
+ * passed them.
+ */
+public class TiKVChangeEventBuffer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiKVChangeEventBuffer.class);
+
+    private final TreeMap<RowKeyWithTs, Cdcpb.Event.Row> prewrites = new TreeMap<>();
+    private final TreeMap<RowKeyWithTs, Cdcpb.Event.Row> commits = new TreeMap<>();
+
+    public void handleRow(final Cdcpb.Event.Row row) {
+        if (!TableKeyRangeUtils.isRecordKey(row.getKey().toByteArray())) {
+            // Don't handle index key for now
+            return;
+        }
+        LOG.debug("binlog record, type: {}, data: {}", row.getType(), row);
+        switch (row.getType()) {
+            case COMMITTED:
+                prewrites.put(RowKeyWithTs.ofStart(row), row);
+                commits.put(RowKeyWithTs.ofCommit(row), row);
+                break;
+            case COMMIT:
+                commits.put(RowKeyWithTs.ofCommit(row), row);
+                break;
+            case PREWRITE:
+                prewrites.put(RowKeyWithTs.ofStart(row), row);
+                break;
+            case ROLLBACK:
+                prewrites.remove(RowKeyWithTs.ofStart(row));
+                break;
+            default:
+                LOG.warn("Unsupported row type:" + row.getType());
+        }
+    }
+
+    public boolean hasCommits() {
+        return !commits.isEmpty();
+    }
+
+    /**
+     * Hands the prewrite rows of the commits whose commit ts is not larger than the given timestamp
+     * to the consumer in the order of their commit ts. The prewrite row is null if it has not been
+     * received.
+     */
+    public void flushRows(final long timestamp, final Consumer<Cdcpb.Event.Row> consumer) {
+        while (!commits.isEmpty() && commits.firstKey().timestamp <= timestamp) {
+            final Cdcpb.Event.Row commitRow = commits.pollFirstEntry().getValue();
+            final Cdcpb.Event.Row prewriteRow = prewrites.remove(RowKeyWithTs.ofStart(commitRow));
+            consumer.accept(prewriteRow);
+        }
+    }
+
+    // ---------------------------------------
+    // static Utils classes
+    // ---------------------------------------
+    private static class RowKeyWithTs implements Comparable<RowKeyWithTs> {
+        private final long timestamp;
+        private final RowKey rowKey;
+
+        private RowKeyWithTs(final long timestamp, final RowKey rowKey) {
+            this.timestamp = timestamp;
+            this.rowKey = rowKey;
+        }
+
+        private RowKeyWithTs(final long timestamp, final byte[] key) {
+            this(timestamp, RowKey.decode(key));
+        }
+
+        @Override
+        public int compareTo(final RowKeyWithTs that) {
+            int res = Long.compare(this.timestamp, that.timestamp);
+            if (res == 0) {
+                res = Long.compare(this.rowKey.getTableId(), that.rowKey.getTableId());
+            }
+            if (res == 0) {
+                res = Long.compare(this.rowKey.getHandle(), that.rowKey.getHandle());
+            }
+            return res;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.timestamp, this.rowKey.getTableId(), this.rowKey.getHandle());
+        }
+
+        @Override
+        public boolean equals(final Object thatObj) {
+            if (thatObj instanceof RowKeyWithTs) {
+                final RowKeyWithTs that = (RowKeyWithTs) thatObj;
+                return this.timestamp == that.timestamp && this.rowKey.equals(that.rowKey);
+            }
+            return false;
+        }
+
+        static RowKeyWithTs ofStart(final Cdcpb.Event.Row row) {
+            return new RowKeyWithTs(row.getStartTs(), row.getKey().toByteArray());
+        }
+
+        static RowKeyWithTs ofCommit(final Cdcpb.Event.Row row) {
+            return new RowKeyWithTs(row.getCommitTs(), row.getKey().toByteArray());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.connector.source.Boundedness;
+import org.apache.flink.api.connector.source.Source;
+import org.apache.flink.api.connector.source.SourceReader;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.tidb.TiKVChangeEventDeserializationSchema;
+import com.ververica.cdc.connectors.tidb.TiKVSnapshotEventDeserializationSchema;
+import com.ververica.cdc.connectors.tidb.source.enumerator.SnapshotSafePointKeeper;
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumState;
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumStateSerializer;
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumerator;
+import com.ververica.cdc.connectors.tidb.source.reader.TiDBRecordEmitter;
+import com.ververica.cdc.connectors.tidb.source.reader.TiDBSourceReader;
+import com.ververica.cdc.connectors.tidb.source.reader.TiDBSourceRecord;
+import com.ververica.cdc.connectors.tidb.source.reader.TiDBSplitReader;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplit;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplitSerializer;
+import com.ververica.cdc.connectors.tidb.table.StartupMode;
+import com.ververica.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.common.TiConfiguration;
+import org.tikv.common.TiSession;
+import org.tikv.common.meta.TiTableInfo;
+import org.tikv.kvproto.Coprocessor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * The TiDB CDC Source based on FLIP-27 which reads the snapshot of the table in parallel and then
+ * continues to read the change events.
+ *
+ * <pre>
+ *     1. The key range of the table is split by the TiKV regions, every region is a snapshot split
+ *        and all snapshot splits are read at the same snapshot ts by the parallel readers.
+ *     2. The source supports checkpoint in the middle of a snapshot split, the key to continue the
+ *        split from is stored in the split state.
+ *     3. The stream splits start from the snapshot ts after all snapshot splits have been read.
+ *     4. A PD service GC safe point is held at the snapshot ts until all snapshot splits have
+ *        been read, so the snapshot is not garbage collected while it is read or restored.
+ * </pre>
+ *
+ * <p>See {@link com.ververica.cdc.connectors.tidb.TiDBSource.Builder#buildIncrementalSource()}.
+ *
+ * @param <T> the output type of the source.
+ */
+public class TiDBIncrementalSource<T>
+        implements Source<T, TiDBSourceSplit, TiDBSourceEnumState>, ResultTypeQueryable<T> {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOG = LoggerFactory.getLogger(TiDBIncrementalSource.class);
+
+    private static final String SNAPSHOT_SPLIT_ID_PREFIX = "snapshot-split-";
+    private static final String STREAM_SPLIT_ID_PREFIX = "stream-split-";
+
+    private final TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema;
+    private final TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema;
+    private final TiConfiguration tiConf;
+    private final StartupMode startupMode;
+    private final String database;
+    private final String tableName;
+
+    public TiDBIncrementalSource(
+            TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema,
+            TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema,
+            TiConfiguration tiConf,
+            StartupMode startupMode,
+            String database,
+            String tableName) {
+        this.snapshotEventDeserializationSchema = snapshotEventDeserializationSchema;
+        this.changeEventDeserializationSchema = changeEventDeserializationSchema;
+        this.tiConf = tiConf;
+        this.startupMode = startupMode;
+        this.database = database;
+        this.tableName = tableName;
+    }
+
+    @Override
+    public Boundedness getBoundedness() {
+        return Boundedness.CONTINUOUS_UNBOUNDED;
+    }
+
+    @Override
+    public SourceReader<T, TiDBSourceSplit> createReader(SourceReaderContext readerContext) {
+        FutureCompletingBlockingQueue<RecordsWithSplitIds<TiDBSourceRecord>> elementsQueue =
+                new FutureCompletingBlockingQueue<>();
+        return new TiDBSourceReader<>(
+                elementsQueue,
+                () -> new TiDBSplitReader(tiConf),
+                new TiDBRecordEmitter<>(
+                        snapshotEventDeserializationSchema, changeEventDeserializationSchema),
+                readerContext.getConfiguration(),
+                readerContext);
+    }
+
+    @Override
+    public SplitEnumerator<TiDBSourceSplit, TiDBSourceEnumState> createEnumerator(
+            SplitEnumeratorContext<TiDBSourceSplit> enumContext) {
+        try (TiSession session = TiSession.create(tiConf)) {
+            return new TiDBSourceEnumerator(
+                    enumContext,
+                    createInitialState(session, enumContext.currentParallelism()),
+                    new SnapshotSafePointKeeper(tiConf, database, tableName));
+        } catch (FlinkRuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FlinkRuntimeException("Failed to split table into TiKV regions", e);
+        }
+    }
+
+    private TiDBSourceEnumState createInitialState(TiSession session, int parallelism) {
+        TiTableInfo tableInfo = session.getCatalog().getTable(database, tableName);
+        if (tableInfo == null) {
+            throw new FlinkRuntimeException(
+                    String.format("Table %s.%s does not exist.", database, tableName));
+        }
+        long tableId = tableInfo.getId();
+        // the snapshot splits are read at the same ts which the stream splits start from
+        long startTs = session.getTimestamp().getVersion();
+
+        List<TiDBSourceSplit> snapshotSplits = new ArrayList<>();
+        if (startupMode == StartupMode.INITIAL) {
+            List<Coprocessor.KeyRange> regionRanges =
+                    TableKeyRangeUtils.getTableKeyRangesByRegions(
+                            session.getRegionManager(), tableId);
+            for (int i = 0; i < regionRanges.size(); i++) {
+                snapshotSplits.add(
+                        TiDBSourceSplit.snapshotSplit(
+                                SNAPSHOT_SPLIT_ID_PREFIX + i, regionRanges.get(i), startTs));
+            }
+            LOG.info(
+                    "Split table {}.{} into {} snapshot splits at ts {}",
+                    database,
+                    tableName,
+                    snapshotSplits.size(),
+                    startTs);
+        }
+
+        List<TiDBSourceSplit> streamSplits = new ArrayList<>();
+        List<Coprocessor.KeyRange> streamRanges =
+                TableKeyRangeUtils.getTableKeyRanges(tableId, parallelism);
+        for (int i = 0; i < streamRanges.size(); i++) {
+            streamSplits.add(
+                    TiDBSourceSplit.streamSplit(
+                            STREAM_SPLIT_ID_PREFIX + i, streamRanges.get(i), startTs));
+        }
+        return new TiDBSourceEnumState(startTs, snapshotSplits, new HashSet<>(), streamSplits);
+    }
+
+    @Override
+    public SplitEnumerator<TiDBSourceSplit, TiDBSourceEnumState> restoreEnumerator(
+            SplitEnumeratorContext<TiDBSourceSplit> enumContext, TiDBSourceEnumState checkpoint) {
+        return new TiDBSourceEnumerator(
+                enumContext, checkpoint, new SnapshotSafePointKeeper(tiConf, database, tableName));
+    }
+
+    @Override
+    public SimpleVersionedSerializer<TiDBSourceSplit> getSplitSerializer() {
+        return TiDBSourceSplitSerializer.INSTANCE;
+    }
+
+    @Override
+    public SimpleVersionedSerializer<TiDBSourceEnumState> getEnumeratorCheckpointSerializer() {
+        return TiDBSourceEnumStateSerializer.INSTANCE;
+    }
+
+    @Override
+    public TypeInformation<T> getProducedType() {
+        return snapshotEventDeserializationSchema.getProducedType();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.enumerator;
+
+import org.tikv.common.ServiceSafePointUtils;
+import org.tikv.common.TiConfiguration;
+import org.tikv.common.TiSession;
+
+/**
+ * Holds a PD service GC safe point at the snapshot ts, so that TiKV keeps the MVCC versions which
+ * the snapshot splits read. The safe point is held for {@link #SAFE_POINT_TTL_SECONDS} after the
+ * last call of {@link #keep(long)}.
+ */
+public class SnapshotSafePointKeeper implements AutoCloseable {
+
+    /** The TTL of the service safe point, it gives the stream splits time to start after it. */
+    public static final long SAFE_POINT_TTL_SECONDS = 300L;
+
+    /** The interval to renew the service safe point. */
+    public static final long SAFE_POINT_RENEW_INTERVAL_MS = 60_000L;
+
+    private static final String SERVICE_ID_PREFIX = "flink-cdc-tidb-";
+
+    private final TiConfiguration tiConf;
+    private final String serviceName;
+
+    private TiSession session;
+
+    public SnapshotSafePointKeeper(TiConfiguration tiConf, String database, String tableName) {
+        this.tiConf = tiConf;
+        this.serviceName = SERVICE_ID_PREFIX + database + "." + tableName;
+    }
+
+    /**
+     * Holds or renews the service safe point at the snapshot ts, and returns the minimal service
+     * safe point of PD, which is larger than the snapshot ts if the snapshot has been garbage
+     * collected.
+     */
+    public long keep(long snapshotTs) {
+        if (session == null) {
+            session = TiSession.create(tiConf);
+        }
+        return ServiceSafePointUtils.updateServiceSafePoint(
+                session, serviceName + "-" + snapshotTs, SAFE_POINT_TTL_SECONDS, snapshotTs);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (session != null) {
+            session.close();
+            session = null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.enumerator;
+
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplit;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/** The state of the {@link TiDBSourceEnumerator}. */
+public class TiDBSourceEnumState {
+
+    /** The ts which the snapshot splits are read at and the stream splits start from. */
+    private final long snapshotTs;
+
+    /** The snapshot splits which have not been assigned to any reader yet. */
+    private final List<TiDBSourceSplit> remainingSnapshotSplits;
+
+    /** The ids of the snapshot splits which have been assigned but not been reported finished. */
+    private final Set<String> assignedSnapshotSplitIds;
+
+    /**
+     * The stream splits which have not been assigned to any reader yet, they are assigned after all
+     * snapshot splits have been finished.
+     */
+    private final List<TiDBSourceSplit> remainingStreamSplits;
+
+    public TiDBSourceEnumState(
+            long snapshotTs,
+            List<TiDBSourceSplit> remainingSnapshotSplits,
+            Set<String> assignedSnapshotSplitIds,
+            List<TiDBSourceSplit> remainingStreamSplits) {
+        this.snapshotTs = snapshotTs;
+        this.remainingSnapshotSplits = remainingSnapshotSplits;
+        this.assignedSnapshotSplitIds = assignedSnapshotSplitIds;
+        this.remainingStreamSplits = remainingStreamSplits;
+    }
+
+    public long getSnapshotTs() {
+        return snapshotTs;
+    }
+
+    public List<TiDBSourceSplit> getRemainingSnapshotSplits() {
+        return remainingSnapshotSplits;
+    }
+
+    public Set<String> getAssignedSnapshotSplitIds() {
+        return assignedSnapshotSplitIds;
+    }
+
+    public List<TiDBSourceSplit> getRemainingStreamSplits() {
+        return remainingStreamSplits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TiDBSourceEnumState that = (TiDBSourceEnumState) o;
+        return snapshotTs == that.snapshotTs
+                && Objects.equals(remainingSnapshotSplits, that.remainingSnapshotSplits)
+                && Objects.equals(assignedSnapshotSplitIds, that.assignedSnapshotSplitIds)
+                && Objects.equals(remainingStreamSplits, that.remainingStreamSplits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                snapshotTs,
+                remainingSnapshotSplits,
+                assignedSnapshotSplitIds,
+                remainingStreamSplits);
+    }
+
+    @Override
+    public String toString() {
+        return "TiDBSourceEnumState{"
+                + "snapshotTs="
+                + snapshotTs
+                + ", remainingSnapshotSplits="
+                + remainingSnapshotSplits
+                + ", assignedSnapshotSplitIds="
+                + assignedSnapshotSplitIds
+                + ", remainingStreamSplits="
+                + remainingStreamSplits
+                + '}';
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.enumerator;
+
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputView;
+
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplitSerializer.readSplit;
+import static com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplitSerializer.writeSplit;
+
+/** A serializer for the {@link TiDBSourceEnumState}. */
+public final class TiDBSourceEnumStateSerializer
+        implements SimpleVersionedSerializer<TiDBSourceEnumState> {
+
+    public static final TiDBSourceEnumStateSerializer INSTANCE =
+            new TiDBSourceEnumStateSerializer();
+
+    private static final int VERSION = 1;
+    private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
+            ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] serialize(TiDBSourceEnumState state) throws IOException {
+        final DataOutputSerializer out = SERIALIZER_CACHE.get();
+        out.writeLong(state.getSnapshotTs());
+        writeSplits(state.getRemainingSnapshotSplits(), out);
+        out.writeInt(state.getAssignedSnapshotSplitIds().size());
+        for (String splitId : state.getAssignedSnapshotSplitIds()) {
+            out.writeUTF(splitId);
+        }
+        writeSplits(state.getRemainingStreamSplits(), out);
+        final byte[] result = out.getCopyOfBuffer();
+        out.clear();
+        return result;
+    }
+
+    @Override
+    public TiDBSourceEnumState deserialize(int version, byte[] serialized) throws IOException {
+        if (version != VERSION) {
+            throw new IOException("Unknown version: " + version);
+        }
+        final DataInputDeserializer in = new DataInputDeserializer(serialized);
+        long snapshotTs = in.readLong();
+        List<TiDBSourceSplit> remainingSnapshotSplits = readSplits(in);
+        int assignedSize = in.readInt();
+        Set<String> assignedSnapshotSplitIds = new HashSet<>(assignedSize);
+        for (int i = 0; i < assignedSize; i++) {
+            assignedSnapshotSplitIds.add(in.readUTF());
+        }
+        List<TiDBSourceSplit> remainingStreamSplits = readSplits(in);
+        return new TiDBSourceEnumState(
+                snapshotTs,
+                remainingSnapshotSplits,
+                assignedSnapshotSplitIds,
+                remainingStreamSplits);
+    }
+
+    private static void writeSplits(List<TiDBSourceSplit> splits, DataOutputView out)
+            throws IOException {
+        out.writeInt(splits.size());
+        for (TiDBSourceSplit split : splits) {
+            writeSplit(split, out);
+        }
+    }
+
+    private static List<TiDBSourceSplit> readSplits(DataInputView in) throws IOException {
+        int size = in.readInt();
+        List<TiDBSourceSplit> splits = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            splits.add(readSplit(in));
+        }
+        return splits;
+    }
+}
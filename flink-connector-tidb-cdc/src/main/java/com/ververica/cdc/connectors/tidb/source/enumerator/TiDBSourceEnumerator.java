@@ -0,0 +1,228 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.enumerator;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.api.connector.source.SourceEvent;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.tidb.source.events.FinishedSnapshotSplitsAckEvent;
+import com.ververica.cdc.connectors.tidb.source.events.FinishedSnapshotSplitsReportEvent;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A TiDB source enumerator that assigns the snapshot splits to the readers which request splits,
+ * and assigns the stream splits to the registered readers once all snapshot splits have been read.
+ *
+ * <p>All snapshot splits are read at the same snapshot ts and the stream splits start from it, so
+ * the change events of a row are emitted after the snapshot of the row.
+ */
+public class TiDBSourceEnumerator implements SplitEnumerator<TiDBSourceSplit, TiDBSourceEnumState> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiDBSourceEnumerator.class);
+
+    private final SplitEnumeratorContext<TiDBSourceSplit> context;
+    private final SnapshotSafePointKeeper safePointKeeper;
+    private final long snapshotTs;
+    private final LinkedList<TiDBSourceSplit> remainingSnapshotSplits;
+    private final Set<String> assignedSnapshotSplitIds;
+    private final LinkedList<TiDBSourceSplit> remainingStreamSplits;
+
+    private final TreeSet<Integer> readersAwaitingSplit;
+
+    /** Whether all snapshot splits have been read, the snapshot safe point isn't renewed then. */
+    private volatile boolean snapshotFinished;
+
+    public TiDBSourceEnumerator(
+            SplitEnumeratorContext<TiDBSourceSplit> context,
+            TiDBSourceEnumState state,
+            SnapshotSafePointKeeper safePointKeeper) {
+        this.context = context;
+        this.safePointKeeper = safePointKeeper;
+        this.snapshotTs = state.getSnapshotTs();
+        this.remainingSnapshotSplits = new LinkedList<>(state.getRemainingSnapshotSplits());
+        this.assignedSnapshotSplitIds = new HashSet<>(state.getAssignedSnapshotSplitIds());
+        this.remainingStreamSplits = new LinkedList<>(state.getRemainingStreamSplits());
+        this.readersAwaitingSplit = new TreeSet<>();
+        this.snapshotFinished =
+                remainingSnapshotSplits.isEmpty() && assignedSnapshotSplitIds.isEmpty();
+    }
+
+    @Override
+    public void start() {
+        LOG.info(
+                "Starting TiDB source enumerator with {} remaining snapshot splits, {} unfinished snapshot splits and {} remaining stream splits.",
+                remainingSnapshotSplits.size(),
+                assignedSnapshotSplitIds.size(),
+                remainingStreamSplits.size());
+        if (!snapshotFinished) {
+            context.callAsync(
+                    this::keepSnapshotSafePoint,
+                    this::checkSnapshotSafePoint,
+                    0L,
+                    SnapshotSafePointKeeper.SAFE_POINT_RENEW_INTERVAL_MS);
+        }
+    }
+
+    private Long keepSnapshotSafePoint() {
+        if (snapshotFinished) {
+            return null;
+        }
+        return safePointKeeper.keep(snapshotTs);
+    }
+
+    @VisibleForTesting
+    void checkSnapshotSafePoint(Long minSafePoint, Throwable t) {
+        if (t != null) {
+            // the safe point is held until its TTL expires, retry in the next interval
+            LOG.warn("Failed to hold the GC safe point at snapshot ts {}.", snapshotTs, t);
+        } else if (minSafePoint != null && minSafePoint > snapshotTs && !snapshotFinished) {
+            throw new FlinkRuntimeException(
+                    String.format(
+                            "The snapshot at ts %d can't be read because TiKV has garbage collected "
+                                    + "the versions before GC safe point %d. Please increase "
+                                    + "'tikv_gc_life_time' of TiDB and restart the job without "
+                                    + "the checkpoint.",
+                            snapshotTs, minSafePoint));
+        } else if (minSafePoint != null) {
+            LOG.debug("Hold the GC safe point at snapshot ts {}.", snapshotTs);
+        }
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId, @Nullable String requesterHostname) {
+        if (!context.registeredReaders().containsKey(subtaskId)) {
+            // reader failed between sending the request and now. skip this request.
+            return;
+        }
+        readersAwaitingSplit.add(subtaskId);
+        assignSplits();
+    }
+
+    @Override
+    public void addSplitsBack(List<TiDBSourceSplit> splits, int subtaskId) {
+        LOG.debug("TiDB source enumerator adds splits back: {}", splits);
+        for (TiDBSourceSplit split : splits) {
+            if (split.isSnapshotSplit()) {
+                assignedSnapshotSplitIds.remove(split.splitId());
+                remainingSnapshotSplits.addFirst(split);
+            } else {
+                remainingStreamSplits.add(split);
+            }
+        }
+        assignSplits();
+    }
+
+    @Override
+    public void addReader(int subtaskId) {
+        // the stream splits may wait for a registered reader
+        assignSplits();
+    }
+
+    @Override
+    public void handleSourceEvent(int subtaskId, SourceEvent sourceEvent) {
+        if (sourceEvent instanceof FinishedSnapshotSplitsReportEvent) {
+            List<String> finishedSplitIds =
+                    ((FinishedSnapshotSplitsReportEvent) sourceEvent).getFinishedSplitIds();
+            LOG.info(
+                    "The enumerator receives finished split ids {} from subtask {}.",
+                    finishedSplitIds,
+                    subtaskId);
+            finishedSplitIds.forEach(assignedSnapshotSplitIds::remove);
+            // the reader keeps the finished splits in its state until they are acknowledged
+            context.sendEventToSourceReader(
+                    subtaskId, new FinishedSnapshotSplitsAckEvent(finishedSplitIds));
+            assignSplits();
+        }
+    }
+
+    @Override
+    public TiDBSourceEnumState snapshotState(long checkpointId) {
+        return new TiDBSourceEnumState(
+                snapshotTs,
+                new ArrayList<>(remainingSnapshotSplits),
+                new HashSet<>(assignedSnapshotSplitIds),
+                new ArrayList<>(remainingStreamSplits));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            safePointKeeper.close();
+        } catch (Exception e) {
+            throw new IOException("Failed to close the snapshot safe point keeper.", e);
+        }
+    }
+
+    private void assignSplits() {
+        final Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
+        while (awaitingReader.hasNext() && !remainingSnapshotSplits.isEmpty()) {
+            int nextAwaiting = awaitingReader.next();
+            // if the reader that requested another split has failed in the meantime, remove
+            // it from the list of waiting readers
+            if (!context.registeredReaders().containsKey(nextAwaiting)) {
+                awaitingReader.remove();
+                continue;
+            }
+            TiDBSourceSplit split = remainingSnapshotSplits.poll();
+            assignedSnapshotSplitIds.add(split.splitId());
+            context.assignSplit(split, nextAwaiting);
+            awaitingReader.remove();
+            LOG.info("Assign split {} to subtask {}", split, nextAwaiting);
+        }
+
+        if (remainingSnapshotSplits.isEmpty() && assignedSnapshotSplitIds.isEmpty()) {
+            snapshotFinished = true;
+            assignStreamSplits();
+        }
+    }
+
+    /**
+     * Assigns the stream splits round-robin to the registered readers, they never finish and the
+     * readers holding one don't request further splits.
+     */
+    private void assignStreamSplits() {
+        final List<Integer> readers = new ArrayList<>(context.registeredReaders().keySet());
+        if (readers.isEmpty()) {
+            return;
+        }
+        readers.sort(Integer::compare);
+        int index = 0;
+        while (!remainingStreamSplits.isEmpty()) {
+            TiDBSourceSplit split = remainingStreamSplits.poll();
+            int subtaskId = readers.get(index++ % readers.size());
+            context.assignSplit(split, subtaskId);
+            readersAwaitingSplit.remove(subtaskId);
+            LOG.info("Assign split {} to subtask {}", split, subtaskId);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.events;
+
+import org.apache.flink.api.connector.source.SourceEvent;
+
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumerator;
+import com.ververica.cdc.connectors.tidb.source.reader.TiDBSourceReader;
+
+import java.util.List;
+
+/**
+ * The {@link SourceEvent} that {@link TiDBSourceEnumerator} sends to {@link TiDBSourceReader} to
+ * notify the finished snapshot splits has been received, i.e. acknowledge for {@link
+ * FinishedSnapshotSplitsReportEvent}.
+ */
+public class FinishedSnapshotSplitsAckEvent implements SourceEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> finishedSplitIds;
+
+    public FinishedSnapshotSplitsAckEvent(List<String> finishedSplitIds) {
+        this.finishedSplitIds = finishedSplitIds;
+    }
+
+    public List<String> getFinishedSplitIds() {
+        return finishedSplitIds;
+    }
+
+    @Override
+    public String toString() {
+        return "FinishedSnapshotSplitsAckEvent{" + "finishedSplitIds=" + finishedSplitIds + '}';
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.reader;
+
+import org.apache.flink.api.connector.source.SourceOutput;
+import org.apache.flink.connector.base.source.reader.RecordEmitter;
+import org.apache.flink.util.Collector;
+
+import com.ververica.cdc.connectors.tidb.TiKVChangeEventDeserializationSchema;
+import com.ververica.cdc.connectors.tidb.TiKVSnapshotEventDeserializationSchema;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplitState;
+import com.ververica.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+import org.tikv.common.key.RowKey;
+import org.tikv.kvproto.Kvrpcpb;
+
+/**
+ * The {@link RecordEmitter} implementation for {@link TiDBSourceReader}.
+ *
+ * <p>The emitter deserializes the rows and advances the split state, i.e. the key to continue a
+ * snapshot split from and the resolved ts to continue a stream split from.
+ */
+public final class TiDBRecordEmitter<T>
+        implements RecordEmitter<TiDBSourceRecord, T, TiDBSourceSplitState> {
+
+    private final TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema;
+    private final TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema;
+    private final OutputCollector<T> outputCollector;
+
+    public TiDBRecordEmitter(
+            TiKVSnapshotEventDeserializationSchema<T> snapshotEventDeserializationSchema,
+            TiKVChangeEventDeserializationSchema<T> changeEventDeserializationSchema) {
+        this.snapshotEventDeserializationSchema = snapshotEventDeserializationSchema;
+        this.changeEventDeserializationSchema = changeEventDeserializationSchema;
+        this.outputCollector = new OutputCollector<>();
+    }
+
+    @Override
+    public void emitRecord(
+            TiDBSourceRecord record, SourceOutput<T> output, TiDBSourceSplitState splitState)
+            throws Exception {
+        outputCollector.output = output;
+        if (record.isSnapshotRecord()) {
+            final Kvrpcpb.KvPair pair = record.getSnapshotRecord();
+            if (TableKeyRangeUtils.isRecordKey(pair.getKey().toByteArray())) {
+                snapshotEventDeserializationSchema.deserialize(pair, outputCollector);
+            }
+            splitState.setStartKey(RowKey.toRawKey(pair.getKey()).next().toByteString());
+        } else if (record.isChangeRecord()) {
+            changeEventDeserializationSchema.deserialize(record.getChangeRecord(), outputCollector);
+        } else {
+            splitState.setStartTs(record.getResolvedTs());
+        }
+    }
+
+    private static class OutputCollector<T> implements Collector<T> {
+        private SourceOutput<T> output;
+
+        @Override
+        public void collect(T record) {
+            output.collect(record);
+        }
+
+        @Override
+        public void close() {
+            // do nothing
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.reader;
+
+import org.apache.flink.api.connector.source.SourceEvent;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.source.reader.RecordEmitter;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.SingleThreadMultiplexSourceReaderBase;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+
+import com.ververica.cdc.connectors.tidb.source.events.FinishedSnapshotSplitsAckEvent;
+import com.ververica.cdc.connectors.tidb.source.events.FinishedSnapshotSplitsReportEvent;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplit;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplitState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The source reader for TiDB which reads the snapshot splits one after another and then the stream
+ * splits assigned to it.
+ *
+ * <p>The finished snapshot splits are kept in the reader state until the enumerator acknowledges
+ * them, and are reported again after restore, so the enumerator never waits for a snapshot split
+ * which no reader holds.
+ */
+public class TiDBSourceReader<T>
+        extends SingleThreadMultiplexSourceReaderBase<
+                TiDBSourceRecord, T, TiDBSourceSplit, TiDBSourceSplitState> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiDBSourceReader.class);
+
+    private final Map<String, TiDBSourceSplit> finishedUnackedSplits;
+
+    public TiDBSourceReader(
+            FutureCompletingBlockingQueue<RecordsWithSplitIds<TiDBSourceRecord>> elementQueue,
+            Supplier<SplitReader<TiDBSourceRecord, TiDBSourceSplit>> splitReaderSupplier,
+            RecordEmitter<TiDBSourceRecord, T, TiDBSourceSplitState> recordEmitter,
+            Configuration config,
+            SourceReaderContext context) {
+        super(elementQueue, splitReaderSupplier, recordEmitter, config, context);
+        this.finishedUnackedSplits = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void start() {
+        if (getNumberOfCurrentlyAssignedSplits() == 0) {
+            context.sendSplitRequest();
+        }
+    }
+
+    @Override
+    protected TiDBSourceSplitState initializedState(TiDBSourceSplit split) {
+        return new TiDBSourceSplitState(split);
+    }
+
+    @Override
+    protected TiDBSourceSplit toSplitType(String splitId, TiDBSourceSplitState splitState) {
+        return splitState.toSourceSplit();
+    }
+
+    @Override
+    public List<TiDBSourceSplit> snapshotState(long checkpointId) {
+        List<TiDBSourceSplit> stateSplits = super.snapshotState(checkpointId);
+        stateSplits.addAll(finishedUnackedSplits.values());
+        return stateSplits;
+    }
+
+    @Override
+    protected void onSplitFinished(Map<String, TiDBSourceSplitState> finishedSplitIds) {
+        // only the snapshot splits finish, the stream splits are read endlessly
+        for (TiDBSourceSplitState splitState : finishedSplitIds.values()) {
+            TiDBSourceSplit finishedSplit = splitState.toSourceSplit().toFinishedSnapshotSplit();
+            finishedUnackedSplits.put(finishedSplit.splitId(), finishedSplit);
+        }
+        LOG.info("Snapshot splits {} have been read.", finishedSplitIds.keySet());
+        reportFinishedSnapshotSplitsIfNeed();
+        context.sendSplitRequest();
+    }
+
+    @Override
+    public void addSplits(List<TiDBSourceSplit> splits) {
+        // restore for finishedUnackedSplits
+        List<TiDBSourceSplit> unfinishedSplits = new ArrayList<>();
+        for (TiDBSourceSplit split : splits) {
+            LOG.info("Add Split: " + split);
+            if (split.isSnapshotReadFinished()) {
+                finishedUnackedSplits.put(split.splitId(), split);
+            } else {
+                unfinishedSplits.add(split);
+            }
+        }
+        // notify split enumerator again about the finished unacked snapshot splits
+        reportFinishedSnapshotSplitsIfNeed();
+        if (!unfinishedSplits.isEmpty()) {
+            super.addSplits(unfinishedSplits);
+        }
+    }
+
+    @Override
+    public void handleSourceEvents(SourceEvent sourceEvent) {
+        if (sourceEvent instanceof FinishedSnapshotSplitsAckEvent) {
+            List<String> ackedSplitIds =
+                    ((FinishedSnapshotSplitsAckEvent) sourceEvent).getFinishedSplitIds();
+            LOG.debug("The reader receives ack event for {} from enumerator.", ackedSplitIds);
+            ackedSplitIds.forEach(finishedUnackedSplits::remove);
+        } else {
+            super.handleSourceEvents(sourceEvent);
+        }
+    }
+
+    private void reportFinishedSnapshotSplitsIfNeed() {
+        if (!finishedUnackedSplits.isEmpty()) {
+            context.sendSourceEventToCoordinator(
+                    new FinishedSnapshotSplitsReportEvent(
+                            new ArrayList<>(finishedUnackedSplits.keySet())));
+        }
+    }
+}
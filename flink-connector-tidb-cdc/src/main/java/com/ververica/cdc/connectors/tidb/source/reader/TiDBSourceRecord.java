@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.reader;
+
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.kvproto.Kvrpcpb;
+
+/**
+ * A record fetched by the {@link TiDBSplitReader}: a row of a snapshot split, a committed row of a
+ * stream split, or the resolved ts that a stream split has been read up to.
+ */
+public final class TiDBSourceRecord {
+
+    private final Kvrpcpb.KvPair snapshotRecord;
+    private final Cdcpb.Event.Row changeRecord;
+    private final long resolvedTs;
+
+    private TiDBSourceRecord(
+            Kvrpcpb.KvPair snapshotRecord, Cdcpb.Event.Row changeRecord, long resolvedTs) {
+        this.snapshotRecord = snapshotRecord;
+        this.changeRecord = changeRecord;
+        this.resolvedTs = resolvedTs;
+    }
+
+    public static TiDBSourceRecord ofSnapshotRecord(Kvrpcpb.KvPair snapshotRecord) {
+        return new TiDBSourceRecord(snapshotRecord, null, -1L);
+    }
+
+    public static TiDBSourceRecord ofChangeRecord(Cdcpb.Event.Row changeRecord) {
+        return new TiDBSourceRecord(null, changeRecord, -1L);
+    }
+
+    public static TiDBSourceRecord ofResolvedTs(long resolvedTs) {
+        return new TiDBSourceRecord(null, null, resolvedTs);
+    }
+
+    public boolean isSnapshotRecord() {
+        return snapshotRecord != null;
+    }
+
+    public boolean isChangeRecord() {
+        return changeRecord != null;
+    }
+
+    public Kvrpcpb.KvPair getSnapshotRecord() {
+        return snapshotRecord;
+    }
+
+    public Cdcpb.Event.Row getChangeRecord() {
+        return changeRecord;
+    }
+
+    public long getResolvedTs() {
+        return resolvedTs;
+    }
+}
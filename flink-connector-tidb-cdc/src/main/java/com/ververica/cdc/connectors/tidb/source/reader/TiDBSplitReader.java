@@ -0,0 +1,246 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.reader;
+
+import org.apache.flink.connector.base.source.reader.RecordsBySplits;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
+
+import com.ververica.cdc.connectors.tidb.TiKVChangeEventBuffer;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tikv.cdc.CDCClient;
+import org.tikv.common.TiConfiguration;
+import org.tikv.common.TiSession;
+import org.tikv.common.key.Key;
+import org.tikv.common.key.RowKey;
+import org.tikv.kvproto.Cdcpb;
+import org.tikv.kvproto.Kvrpcpb;
+import org.tikv.shade.com.google.protobuf.ByteString;
+import org.tikv.txn.KVClient;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link SplitReader} implementation for the TiDB source.
+ *
+ * <p>A snapshot split is scanned in batches of the TiKV scan batch size at the snapshot ts of the
+ * split, so that the progress of the split can be checkpointed between the batches. The stream
+ * splits are read by a {@link CDCClient} each, the committed rows are fetched once the resolved ts
+ * has passed them and are followed by the resolved ts.
+ */
+public class TiDBSplitReader implements SplitReader<TiDBSourceRecord, TiDBSourceSplit> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TiDBSplitReader.class);
+
+    private static final int CHANGE_EVENT_BATCH_SIZE = 1000;
+    private static final long IDLE_WAIT_TIME_MS = 100L;
+
+    private final TiConfiguration tiConf;
+    private final Deque<TiDBSourceSplit> snapshotSplits;
+    private final Map<String, StreamSplitReader> streamSplitReaders;
+    private final Object wakeUpLock;
+
+    private TiSession session;
+    private KVClient kvClient;
+    private TiDBSourceSplit currentSnapshotSplit;
+    private ByteString currentStartKey;
+    private boolean wakeUp;
+
+    public TiDBSplitReader(TiConfiguration tiConf) {
+        this.tiConf = tiConf;
+        this.snapshotSplits = new ArrayDeque<>();
+        this.streamSplitReaders = new LinkedHashMap<>();
+        this.wakeUpLock = new Object();
+    }
+
+    @Override
+    public RecordsWithSplitIds<TiDBSourceRecord> fetch() throws IOException {
+        if (currentSnapshotSplit == null && !snapshotSplits.isEmpty()) {
+            currentSnapshotSplit = snapshotSplits.poll();
+            currentStartKey = currentSnapshotSplit.getStartKey();
+            LOG.info("Start to read snapshot split {}", currentSnapshotSplit);
+        }
+        try {
+            if (currentSnapshotSplit != null) {
+                return fetchSnapshotRecords();
+            }
+            return fetchChangeRecords();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading TiKV change events.", e);
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    private RecordsWithSplitIds<TiDBSourceRecord> fetchSnapshotRecords() {
+        final String splitId = currentSnapshotSplit.splitId();
+        final Key endKey = Key.toRawKey(currentSnapshotSplit.getEndKey());
+        final int limit = tiConf.getScanBatchSize();
+        final List<Kvrpcpb.KvPair> segment =
+                getKVClient().scan(currentStartKey, currentSnapshotSplit.getStartTs(), limit);
+
+        final RecordsBySplits.Builder<TiDBSourceRecord> builder = new RecordsBySplits.Builder<>();
+        boolean finished = segment.size() < limit;
+        for (final Kvrpcpb.KvPair pair : segment) {
+            if (Key.toRawKey(pair.getKey()).compareTo(endKey) >= 0) {
+                finished = true;
+                break;
+            }
+            builder.add(splitId, TiDBSourceRecord.ofSnapshotRecord(pair));
+        }
+        if (finished) {
+            builder.addFinishedSplit(splitId);
+            currentSnapshotSplit = null;
+            currentStartKey = null;
+        } else {
+            currentStartKey =
+                    RowKey.toRawKey(segment.get(segment.size() - 1).getKey()).next().toByteString();
+        }
+        return builder.build();
+    }
+
+    private RecordsWithSplitIds<TiDBSourceRecord> fetchChangeRecords() throws InterruptedException {
+        final RecordsBySplits.Builder<TiDBSourceRecord> builder = new RecordsBySplits.Builder<>();
+        boolean idle = true;
+        for (StreamSplitReader reader : streamSplitReaders.values()) {
+            idle &= !reader.fetch(builder);
+        }
+        if (idle) {
+            synchronized (wakeUpLock) {
+                if (!wakeUp) {
+                    wakeUpLock.wait(IDLE_WAIT_TIME_MS);
+                }
+                wakeUp = false;
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void handleSplitsChanges(SplitsChange<TiDBSourceSplit> splitsChanges) {
+        if (!(splitsChanges instanceof SplitsAddition)) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "The SplitChange type of %s is not supported.",
+                            splitsChanges.getClass()));
+        }
+        for (TiDBSourceSplit split : splitsChanges.splits()) {
+            if (split.isSnapshotSplit()) {
+                snapshotSplits.add(split);
+            } else {
+                LOG.info("Start to read change events of stream split {}", split);
+                streamSplitReaders.put(split.splitId(), new StreamSplitReader(split));
+            }
+        }
+    }
+
+    @Override
+    public void wakeUp() {
+        synchronized (wakeUpLock) {
+            wakeUp = true;
+            wakeUpLock.notifyAll();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (StreamSplitReader reader : streamSplitReaders.values()) {
+            reader.cdcClient.close();
+        }
+        streamSplitReaders.clear();
+        if (kvClient != null) {
+            kvClient.close();
+            kvClient = null;
+        }
+        if (session != null) {
+            session.close();
+            session = null;
+        }
+    }
+
+    private TiSession getSession() {
+        if (session == null) {
+            session = TiSession.create(tiConf);
+        }
+        return session;
+    }
+
+    private KVClient getKVClient() {
+        if (kvClient == null) {
+            kvClient = getSession().createKVClient();
+        }
+        return kvClient;
+    }
+
+    /** Reads the change events of a stream split. */
+    private class StreamSplitReader {
+        private final String splitId;
+        private final CDCClient cdcClient;
+        private final TiKVChangeEventBuffer changeEventBuffer;
+        private long resolvedTs;
+
+        private StreamSplitReader(TiDBSourceSplit split) {
+            this.splitId = split.splitId();
+            this.cdcClient = new CDCClient(getSession(), split.getKeyRange());
+            this.changeEventBuffer = new TiKVChangeEventBuffer();
+            this.resolvedTs = split.getStartTs();
+            cdcClient.start(resolvedTs);
+        }
+
+        /** Returns whether any change event has been fetched or the resolved ts has advanced. */
+        private boolean fetch(RecordsBySplits.Builder<TiDBSourceRecord> builder)
+                throws InterruptedException {
+            boolean fetched = false;
+            for (int i = 0; i < CHANGE_EVENT_BATCH_SIZE; i++) {
+                final Cdcpb.Event.Row row = cdcClient.get();
+                if (row == null) {
+                    break;
+                }
+                changeEventBuffer.handleRow(row);
+                fetched = true;
+            }
+            final long maxResolvedTs = cdcClient.getMaxResolvedTs();
+            if (changeEventBuffer.hasCommits()) {
+                changeEventBuffer.flushRows(
+                        maxResolvedTs,
+                        prewriteRow -> {
+                            if (prewriteRow == null) {
+                                LOG.warn("Skip the commit without prewrite in split {}", splitId);
+                            } else {
+                                builder.add(splitId, TiDBSourceRecord.ofChangeRecord(prewriteRow));
+                            }
+                        });
+            }
+            if (maxResolvedTs > resolvedTs) {
+                resolvedTs = maxResolvedTs;
+                builder.add(splitId, TiDBSourceRecord.ofResolvedTs(resolvedTs));
+                fetched = true;
+            }
+            return fetched;
+        }
+    }
+}
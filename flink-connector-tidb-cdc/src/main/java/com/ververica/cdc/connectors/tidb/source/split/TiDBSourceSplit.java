@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.split;
+
+import org.apache.flink.api.connector.source.SourceSplit;
+import org.apache.flink.util.StringUtils;
+
+import org.tikv.common.util.KeyRangeUtils;
+import org.tikv.kvproto.Coprocessor;
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+import java.util.Objects;
+
+/**
+ * The split of the TiDB source. A snapshot split scans a key range of the table at the snapshot ts,
+ * a stream split reads the change events of a key range of the table after the start ts.
+ *
+ * <p>The split is immutable, the reading progress is tracked by the {@link TiDBSourceSplitState}:
+ * the start key of a snapshot split is the key after the last emitted row, and the start ts of a
+ * stream split is the last emitted resolved ts.
+ */
+public class TiDBSourceSplit implements SourceSplit {
+
+    private final String splitId;
+    private final boolean snapshotSplit;
+    private final ByteString startKey;
+    private final ByteString endKey;
+    private final long startTs;
+
+    public TiDBSourceSplit(
+            String splitId,
+            boolean snapshotSplit,
+            ByteString startKey,
+            ByteString endKey,
+            long startTs) {
+        this.splitId = splitId;
+        this.snapshotSplit = snapshotSplit;
+        this.startKey = startKey;
+        this.endKey = endKey;
+        this.startTs = startTs;
+    }
+
+    public static TiDBSourceSplit snapshotSplit(
+            String splitId, Coprocessor.KeyRange keyRange, long snapshotTs) {
+        return new TiDBSourceSplit(
+                splitId, true, keyRange.getStart(), keyRange.getEnd(), snapshotTs);
+    }
+
+    public static TiDBSourceSplit streamSplit(
+            String splitId, Coprocessor.KeyRange keyRange, long startTs) {
+        return new TiDBSourceSplit(splitId, false, keyRange.getStart(), keyRange.getEnd(), startTs);
+    }
+
+    @Override
+    public String splitId() {
+        return splitId;
+    }
+
+    public boolean isSnapshotSplit() {
+        return snapshotSplit;
+    }
+
+    public ByteString getStartKey() {
+        return startKey;
+    }
+
+    public ByteString getEndKey() {
+        return endKey;
+    }
+
+    /** The snapshot ts of a snapshot split, or the resolved ts to start a stream split from. */
+    public long getStartTs() {
+        return startTs;
+    }
+
+    /** Whether the snapshot split has been read, i.e. there is no key left to read. */
+    public boolean isSnapshotReadFinished() {
+        return snapshotSplit && startKey.equals(endKey);
+    }
+
+    /** Returns the snapshot split with nothing left to read. */
+    public TiDBSourceSplit toFinishedSnapshotSplit() {
+        return new TiDBSourceSplit(splitId, true, endKey, endKey, startTs);
+    }
+
+    public Coprocessor.KeyRange getKeyRange() {
+        return KeyRangeUtils.makeCoprocRange(startKey, endKey);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TiDBSourceSplit that = (TiDBSourceSplit) o;
+        return snapshotSplit == that.snapshotSplit
+                && startTs == that.startTs
+                && Objects.equals(splitId, that.splitId)
+                && Objects.equals(startKey, that.startKey)
+                && Objects.equals(endKey, that.endKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(splitId, snapshotSplit, startKey, endKey, startTs);
+    }
+
+    @Override
+    public String toString() {
+        return "TiDBSourceSplit{"
+                + "splitId='"
+                + splitId
+                + '\''
+                + ", snapshotSplit="
+                + snapshotSplit
+                + ", startKey="
+                + StringUtils.byteToHexString(startKey.toByteArray())
+                + ", endKey="
+                + StringUtils.byteToHexString(endKey.toByteArray())
+                + ", startTs="
+                + startTs
+                + '}';
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.split;
+
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputView;
+
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+import java.io.IOException;
+
+/** A serializer for the {@link TiDBSourceSplit}. */
+public final class TiDBSourceSplitSerializer implements SimpleVersionedSerializer<TiDBSourceSplit> {
+
+    public static final TiDBSourceSplitSerializer INSTANCE = new TiDBSourceSplitSerializer();
+
+    private static final int VERSION = 1;
+    private static final ThreadLocal<DataOutputSerializer> SERIALIZER_CACHE =
+            ThreadLocal.withInitial(() -> new DataOutputSerializer(64));
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] serialize(TiDBSourceSplit split) throws IOException {
+        final DataOutputSerializer out = SERIALIZER_CACHE.get();
+        writeSplit(split, out);
+        final byte[] result = out.getCopyOfBuffer();
+        out.clear();
+        return result;
+    }
+
+    @Override
+    public TiDBSourceSplit deserialize(int version, byte[] serialized) throws IOException {
+        if (version != VERSION) {
+            throw new IOException("Unknown version: " + version);
+        }
+        return readSplit(new DataInputDeserializer(serialized));
+    }
+
+    public static void writeSplit(TiDBSourceSplit split, DataOutputView out) throws IOException {
+        out.writeUTF(split.splitId());
+        out.writeBoolean(split.isSnapshotSplit());
+        writeKey(split.getStartKey(), out);
+        writeKey(split.getEndKey(), out);
+        out.writeLong(split.getStartTs());
+    }
+
+    public static TiDBSourceSplit readSplit(DataInputView in) throws IOException {
+        String splitId = in.readUTF();
+        boolean snapshotSplit = in.readBoolean();
+        ByteString startKey = readKey(in);
+        ByteString endKey = readKey(in);
+        long startTs = in.readLong();
+        return new TiDBSourceSplit(splitId, snapshotSplit, startKey, endKey, startTs);
+    }
+
+    private static void writeKey(ByteString key, DataOutputView out) throws IOException {
+        out.writeInt(key.size());
+        out.write(key.toByteArray());
+    }
+
+    private static ByteString readKey(DataInputView in) throws IOException {
+        byte[] key = new byte[in.readInt()];
+        in.readFully(key);
+        return ByteString.copyFrom(key);
+    }
+}
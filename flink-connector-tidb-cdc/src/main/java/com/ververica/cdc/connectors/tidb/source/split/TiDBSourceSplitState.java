@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.split;
+
+import org.apache.flink.util.StringUtils;
+
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+/** The mutable state of a {@link TiDBSourceSplit} which tracks the reading progress. */
+public class TiDBSourceSplitState {
+
+    private final TiDBSourceSplit split;
+    private ByteString startKey;
+    private long startTs;
+
+    public TiDBSourceSplitState(TiDBSourceSplit split) {
+        this.split = split;
+        this.startKey = split.getStartKey();
+        this.startTs = split.getStartTs();
+    }
+
+    public boolean isSnapshotSplit() {
+        return split.isSnapshotSplit();
+    }
+
+    /** Sets the key to continue a snapshot split from. */
+    public void setStartKey(ByteString startKey) {
+        this.startKey = startKey;
+    }
+
+    /** Sets the resolved ts to continue a stream split from. */
+    public void setStartTs(long startTs) {
+        this.startTs = startTs;
+    }
+
+    public TiDBSourceSplit toSourceSplit() {
+        return new TiDBSourceSplit(
+                split.splitId(), split.isSnapshotSplit(), startKey, split.getEndKey(), startTs);
+    }
+
+    @Override
+    public String toString() {
+        return "TiDBSourceSplitState{"
+                + "split="
+                + split
+                + ", startKey="
+                + StringUtils.byteToHexString(startKey.toByteArray())
+                + ", startTs="
+                + startTs
+                + '}';
+    }
+}
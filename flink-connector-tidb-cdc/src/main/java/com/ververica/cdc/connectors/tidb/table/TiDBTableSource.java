@@ -22,6 +22,7 @@ import org.apache.flink.table.connector.ChangelogMode;
 import org.apache.flink.table.connector.source.DynamicTableSource;
 import org.apache.flink.table.connector.source.ScanTableSource;
 import org.apache.flink.table.connector.source.SourceFunctionProvider;
+import org.apache.flink.table.connector.source.SourceProvider;
 import org.apache.flink.table.connector.source.abilities.SupportsReadingMetadata;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.DataType;
@@ -52,6 +53,7 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
     private final String tableName;
     private final String pdAddresses;
     private final StartupOptions startupOptions;
+    private final boolean enableParallelRead;
     private final Map<String, String> options;
 
     // --------------------------------------------------------------------------------------------
@@ -70,12 +72,14 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
             String tableName,
             String pdAddresses,
             StartupOptions startupOptions,
+            boolean enableParallelRead,
             Map<String, String> options) {
         this.physicalSchema = physicalSchema;
         this.database = checkNotNull(database);
         this.tableName = checkNotNull(tableName);
         this.pdAddresses = checkNotNull(pdAddresses);
         this.startupOptions = startupOptions;
+        this.enableParallelRead = enableParallelRead;
         this.producedDataType = physicalSchema.toPhysicalRowDataType();
         this.options = options;
         this.metadataKeys = Collections.emptyList();
@@ -124,14 +128,24 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
                         .tiConf(tiConf)
                         .snapshotEventDeserializer(snapshotEventDeserializationSchema)
                         .changeEventDeserializer(changeEventDeserializationSchema);
-        return SourceFunctionProvider.of(builder.build(), false);
+        if (enableParallelRead) {
+            return SourceProvider.of(builder.buildIncrementalSource());
+        } else {
+            return SourceFunctionProvider.of(builder.build(), false);
+        }
     }
 
     @Override
     public DynamicTableSource copy() {
         TiDBTableSource source =
                 new TiDBTableSource(
-                        physicalSchema, database, tableName, pdAddresses, startupOptions, options);
+                        physicalSchema,
+                        database,
+                        tableName,
+                        pdAddresses,
+                        startupOptions,
+                        enableParallelRead,
+                        options);
         source.producedDataType = producedDataType;
         source.metadataKeys = metadataKeys;
         return source;
@@ -169,6 +183,7 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
                 && Objects.equals(tableName, that.tableName)
                 && Objects.equals(pdAddresses, that.pdAddresses)
                 && Objects.equals(startupOptions, that.startupOptions)
+                && enableParallelRead == that.enableParallelRead
                 && Objects.equals(options, that.options)
                 && Objects.equals(producedDataType, that.producedDataType)
                 && Objects.equals(metadataKeys, that.metadataKeys);
@@ -182,6 +197,7 @@ public class TiDBTableSource implements ScanTableSource, SupportsReadingMetadata
                 tableName,
                 pdAddresses,
                 startupOptions,
+                enableParallelRead,
                 options,
                 producedDataType,
                 metadataKeys);
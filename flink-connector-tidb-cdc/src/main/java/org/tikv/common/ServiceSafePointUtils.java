@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.tikv.common;
+
+import org.tikv.common.exception.TiClientInternalException;
+import org.tikv.kvproto.Pdpb;
+import org.tikv.shade.com.google.protobuf.ByteString;
+
+/**
+ * Utils to hold a service GC safe point in PD, which keeps TiKV from garbage collecting the MVCC
+ * versions after the safe point until the TTL of the service safe point expires.
+ */
+public class ServiceSafePointUtils {
+
+    private ServiceSafePointUtils() {}
+
+    /**
+     * Updates the service GC safe point of the service and returns the minimal service safe point
+     * of PD. The safe point is not updated if it is smaller than the current GC safe point, in
+     * which case the returned safe point is larger than the requested one.
+     */
+    public static long updateServiceSafePoint(
+            final TiSession session,
+            final String serviceId,
+            final long ttlSeconds,
+            final long safePoint) {
+        final PDClient pdClient = session.getPDClient();
+        final Pdpb.UpdateServiceGCSafePointRequest request =
+                Pdpb.UpdateServiceGCSafePointRequest.newBuilder()
+                        .setHeader(pdClient.getHeader())
+                        .setServiceId(ByteString.copyFromUtf8(serviceId))
+                        .setTTL(ttlSeconds)
+                        .setSafePoint(safePoint)
+                        .build();
+        final Pdpb.UpdateServiceGCSafePointResponse response =
+                pdClient.getBlockingStub().updateServiceGCSafePoint(request);
+        if (response.getHeader().hasError()) {
+            throw new TiClientInternalException(
+                    "Failed to update service GC safe point: "
+                            + response.getHeader().getError().getMessage());
+        }
+        return response.getMinSafePoint();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.enumerator;
+
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplit;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplitSerializer;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplitState;
+import com.ververica.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+import org.junit.Test;
+import org.tikv.common.key.RowKey;
+import org.tikv.kvproto.Coprocessor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/** Tests for {@link TiDBSourceEnumStateSerializer}. */
+public class TiDBSourceEnumStateSerializerTest {
+
+    private static final long TABLE_ID = 100L;
+
+    @Test
+    public void testSerializeSplit() throws Exception {
+        Coprocessor.KeyRange keyRange = TableKeyRangeUtils.getTableKeyRange(TABLE_ID);
+        TiDBSourceSplit split = TiDBSourceSplit.snapshotSplit("split-0", keyRange, 1024L);
+
+        // the snapshot split continues from the key after the last emitted row
+        TiDBSourceSplitState splitState = new TiDBSourceSplitState(split);
+        splitState.setStartKey(RowKey.toRowKey(TABLE_ID, 42L).next().toByteString());
+        TiDBSourceSplit checkpointedSplit = splitState.toSourceSplit();
+
+        TiDBSourceSplit restoredSplit = serializeAndDeserializeSplit(checkpointedSplit);
+        assertEquals(checkpointedSplit, restoredSplit);
+        assertEquals(keyRange.getEnd(), restoredSplit.getEndKey());
+        assertEquals(
+                RowKey.toRowKey(TABLE_ID, 42L).next().toByteString(), restoredSplit.getStartKey());
+
+        TiDBSourceSplit streamSplit = TiDBSourceSplit.streamSplit("stream-0", keyRange, 2048L);
+        assertEquals(streamSplit, serializeAndDeserializeSplit(streamSplit));
+    }
+
+    @Test
+    public void testSerializeEnumState() throws Exception {
+        List<Coprocessor.KeyRange> keyRanges = TableKeyRangeUtils.getTableKeyRanges(TABLE_ID, 3);
+        TiDBSourceEnumState state =
+                new TiDBSourceEnumState(
+                        1024L,
+                        Arrays.asList(
+                                TiDBSourceSplit.snapshotSplit("split-1", keyRanges.get(1), 1024L),
+                                TiDBSourceSplit.snapshotSplit("split-2", keyRanges.get(2), 1024L)),
+                        new HashSet<>(Collections.singletonList("split-0")),
+                        Collections.singletonList(
+                                TiDBSourceSplit.streamSplit(
+                                        "stream-0",
+                                        TableKeyRangeUtils.getTableKeyRange(TABLE_ID),
+                                        1024L)));
+
+        TiDBSourceEnumStateSerializer serializer = TiDBSourceEnumStateSerializer.INSTANCE;
+        byte[] serialized = serializer.serialize(state);
+        assertEquals(state, serializer.deserialize(serializer.getVersion(), serialized));
+    }
+
+    private static TiDBSourceSplit serializeAndDeserializeSplit(TiDBSourceSplit split)
+            throws Exception {
+        TiDBSourceSplitSerializer serializer = TiDBSourceSplitSerializer.INSTANCE;
+        byte[] serialized = serializer.serialize(split);
+        return serializer.deserialize(serializer.getVersion(), serialized);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.enumerator;
+
+import org.apache.flink.connector.testutils.source.reader.TestingSplitEnumeratorContext;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import com.ververica.cdc.connectors.tidb.source.events.FinishedSnapshotSplitsReportEvent;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplit;
+import com.ververica.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+import org.junit.Test;
+import org.tikv.kvproto.Coprocessor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/** Tests for {@link TiDBSourceEnumerator}. */
+public class TiDBSourceEnumeratorTest {
+
+    private static final long TABLE_ID = 100L;
+    private static final long SNAPSHOT_TS = 435000000000000000L;
+
+    @Test
+    public void testAssignStreamSplitsAfterSnapshotSplitsFinished() {
+        TestingSplitEnumeratorContext<TiDBSourceSplit> context =
+                new TestingSplitEnumeratorContext<>(2);
+        context.registerReader(0, "localhost");
+        context.registerReader(1, "localhost");
+        List<TiDBSourceSplit> snapshotSplits = createSnapshotSplits(3);
+        List<TiDBSourceSplit> streamSplits = createStreamSplits(2);
+        TiDBSourceEnumerator enumerator =
+                new TiDBSourceEnumerator(
+                        context,
+                        new TiDBSourceEnumState(
+                                SNAPSHOT_TS, snapshotSplits, new HashSet<>(), streamSplits),
+                        new TestingSafePointKeeper());
+        enumerator.start();
+
+        enumerator.handleSplitRequest(0, "localhost");
+        enumerator.handleSplitRequest(1, "localhost");
+        assertAssignedSplits(context, 0, snapshotSplits.get(0));
+        assertAssignedSplits(context, 1, snapshotSplits.get(1));
+
+        enumerator.handleSourceEvent(
+                0, new FinishedSnapshotSplitsReportEvent(Collections.singletonList("split-0")));
+        enumerator.handleSplitRequest(0, "localhost");
+        assertAssignedSplits(context, 0, snapshotSplits.get(0), snapshotSplits.get(2));
+
+        // the stream splits wait for the unfinished snapshot splits
+        enumerator.handleSourceEvent(
+                0, new FinishedSnapshotSplitsReportEvent(Collections.singletonList("split-2")));
+        enumerator.handleSplitRequest(0, "localhost");
+        assertAssignedSplits(context, 0, snapshotSplits.get(0), snapshotSplits.get(2));
+        assertEquals(
+                new TiDBSourceEnumState(
+                        SNAPSHOT_TS,
+                        Collections.emptyList(),
+                        Collections.singleton("split-1"),
+                        streamSplits),
+                enumerator.snapshotState(1L));
+
+        enumerator.handleSourceEvent(
+                1, new FinishedSnapshotSplitsReportEvent(Collections.singletonList("split-1")));
+        assertAssignedSplits(
+                context, 0, snapshotSplits.get(0), snapshotSplits.get(2), streamSplits.get(0));
+        assertAssignedSplits(context, 1, snapshotSplits.get(1), streamSplits.get(1));
+        assertEquals(
+                new TiDBSourceEnumState(
+                        SNAPSHOT_TS,
+                        Collections.emptyList(),
+                        Collections.emptySet(),
+                        Collections.emptyList()),
+                enumerator.snapshotState(2L));
+    }
+
+    @Test
+    public void testAddSplitsBack() {
+        TestingSplitEnumeratorContext<TiDBSourceSplit> context =
+                new TestingSplitEnumeratorContext<>(2);
+        context.registerReader(0, "localhost");
+        List<TiDBSourceSplit> snapshotSplits = createSnapshotSplits(2);
+        List<TiDBSourceSplit> streamSplits = createStreamSplits(1);
+        TiDBSourceEnumerator enumerator =
+                new TiDBSourceEnumerator(
+                        context,
+                        new TiDBSourceEnumState(
+                                SNAPSHOT_TS, snapshotSplits, new HashSet<>(), streamSplits),
+                        new TestingSafePointKeeper());
+        enumerator.start();
+
+        enumerator.handleSplitRequest(0, "localhost");
+        assertAssignedSplits(context, 0, snapshotSplits.get(0));
+
+        // the failed reader hands back its snapshot split which is read by another reader
+        enumerator.addSplitsBack(Collections.singletonList(snapshotSplits.get(0)), 0);
+        context.registerReader(1, "localhost");
+        enumerator.handleSplitRequest(1, "localhost");
+        assertAssignedSplits(context, 1, snapshotSplits.get(0));
+        assertEquals(
+                new TiDBSourceEnumState(
+                        SNAPSHOT_TS,
+                        Collections.singletonList(snapshotSplits.get(1)),
+                        Collections.singleton("split-0"),
+                        streamSplits),
+                enumerator.snapshotState(1L));
+    }
+
+    @Test
+    public void testHoldSnapshotSafePointUntilSnapshotFinished() {
+        TestingSplitEnumeratorContext<TiDBSourceSplit> context =
+                new TestingSplitEnumeratorContext<>(1);
+        context.registerReader(0, "localhost");
+        List<TiDBSourceSplit> snapshotSplits = createSnapshotSplits(1);
+        TestingSafePointKeeper safePointKeeper = new TestingSafePointKeeper();
+        TiDBSourceEnumerator enumerator =
+                new TiDBSourceEnumerator(
+                        context,
+                        new TiDBSourceEnumState(
+                                SNAPSHOT_TS,
+                                snapshotSplits,
+                                new HashSet<>(),
+                                createStreamSplits(1)),
+                        safePointKeeper);
+        enumerator.start();
+
+        context.triggerAllActions();
+        context.triggerAllActions();
+        assertEquals(Arrays.asList(SNAPSHOT_TS, SNAPSHOT_TS), safePointKeeper.keptSafePoints);
+
+        enumerator.handleSplitRequest(0, "localhost");
+        enumerator.handleSourceEvent(
+                0, new FinishedSnapshotSplitsReportEvent(Collections.singletonList("split-0")));
+        // the safe point isn't renewed after the snapshot splits have been read
+        context.triggerAllActions();
+        assertEquals(Arrays.asList(SNAPSHOT_TS, SNAPSHOT_TS), safePointKeeper.keptSafePoints);
+    }
+
+    @Test
+    public void testFailIfSnapshotGarbageCollected() {
+        TestingSplitEnumeratorContext<TiDBSourceSplit> context =
+                new TestingSplitEnumeratorContext<>(1);
+        TiDBSourceEnumerator enumerator =
+                new TiDBSourceEnumerator(
+                        context,
+                        new TiDBSourceEnumState(
+                                SNAPSHOT_TS,
+                                createSnapshotSplits(1),
+                                new HashSet<>(),
+                                createStreamSplits(1)),
+                        new TestingSafePointKeeper());
+
+        // transient failures are retried
+        enumerator.checkSnapshotSafePoint(null, new RuntimeException("PD is unavailable"));
+        enumerator.checkSnapshotSafePoint(SNAPSHOT_TS, null);
+        try {
+            enumerator.checkSnapshotSafePoint(SNAPSHOT_TS + 1, null);
+            fail("The garbage collected snapshot should fail the enumerator.");
+        } catch (FlinkRuntimeException e) {
+            assertTrue(e.getMessage().contains("tikv_gc_life_time"));
+        }
+    }
+
+    private static List<TiDBSourceSplit> createSnapshotSplits(int num) {
+        List<TiDBSourceSplit> splits = new ArrayList<>();
+        List<Coprocessor.KeyRange> keyRanges = TableKeyRangeUtils.getTableKeyRanges(TABLE_ID, num);
+        for (int i = 0; i < num; i++) {
+            splits.add(TiDBSourceSplit.snapshotSplit("split-" + i, keyRanges.get(i), SNAPSHOT_TS));
+        }
+        return splits;
+    }
+
+    private static List<TiDBSourceSplit> createStreamSplits(int num) {
+        List<TiDBSourceSplit> splits = new ArrayList<>();
+        List<Coprocessor.KeyRange> keyRanges = TableKeyRangeUtils.getTableKeyRanges(TABLE_ID, num);
+        for (int i = 0; i < num; i++) {
+            splits.add(TiDBSourceSplit.streamSplit("stream-" + i, keyRanges.get(i), SNAPSHOT_TS));
+        }
+        return splits;
+    }
+
+    private static void assertAssignedSplits(
+            TestingSplitEnumeratorContext<TiDBSourceSplit> context,
+            int subtaskId,
+            TiDBSourceSplit... expectedSplits) {
+        assertTrue(context.getSplitAssignments().containsKey(subtaskId));
+        assertEquals(
+                Arrays.asList(expectedSplits),
+                context.getSplitAssignments().get(subtaskId).getAssignedSplits());
+    }
+
+    /** A {@link SnapshotSafePointKeeper} which records the safe points instead of holding them. */
+    static class TestingSafePointKeeper extends SnapshotSafePointKeeper {
+
+        final List<Long> keptSafePoints = new ArrayList<>();
+
+        TestingSafePointKeeper() {
+            super(null, "test_db", "test_table");
+        }
+
+        @Override
+        public long keep(long snapshotTs) {
+            keptSafePoints.add(snapshotTs);
+            return snapshotTs;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2022 Ververica Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ververica.cdc.connectors.tidb.source.reader;
+
+import org.apache.flink.api.connector.source.SourceEvent;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.source.reader.RecordsBySplits;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
+import org.apache.flink.connector.base.source.reader.synchronization.FutureCompletingBlockingQueue;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderOutput;
+import org.apache.flink.connector.testutils.source.reader.TestingSplitEnumeratorContext;
+
+import com.ververica.cdc.connectors.tidb.source.enumerator.SnapshotSafePointKeeper;
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumState;
+import com.ververica.cdc.connectors.tidb.source.enumerator.TiDBSourceEnumerator;
+import com.ververica.cdc.connectors.tidb.source.events.FinishedSnapshotSplitsReportEvent;
+import com.ververica.cdc.connectors.tidb.source.split.TiDBSourceSplit;
+import com.ververica.cdc.connectors.tidb.table.utils.TableKeyRangeUtils;
+import org.junit.Test;
+import org.tikv.kvproto.Coprocessor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/** Tests for {@link TiDBSourceReader}. */
+public class TiDBSourceReaderTest {
+
+    private static final long TABLE_ID = 100L;
+    private static final long SNAPSHOT_TS = 435000000000000000L;
+    private static final long TIMEOUT_MS = 60_000L;
+
+    @Test
+    public void testReadSnapshotSplitsFromStart() throws Exception {
+        List<TiDBSourceSplit> snapshotSplits = createSplits(true, 3);
+        List<TiDBSourceSplit> streamSplits = createSplits(false, 1);
+        TestingSplitEnumeratorContext<TiDBSourceSplit> enumContext =
+                new TestingSplitEnumeratorContext<>(1);
+        enumContext.registerReader(0, "localhost");
+        TiDBSourceEnumerator enumerator =
+                new TiDBSourceEnumerator(
+                        enumContext,
+                        new TiDBSourceEnumState(
+                                SNAPSHOT_TS, snapshotSplits, new HashSet<>(), streamSplits),
+                        new SnapshotSafePointKeeper(null, "test_db", "test_table") {
+                            @Override
+                            public long keep(long snapshotTs) {
+                                return snapshotTs;
+                            }
+                        });
+        enumerator.start();
+
+        TestingReaderContext readerContext = new TestingReaderContext();
+        try (TiDBSourceReader<String> reader = createReader(readerContext)) {
+            // the reader without splits requests the first split
+            reader.start();
+            assertEquals(1, readerContext.getNumSplitRequests());
+
+            runUntilStreamSplitAssigned(reader, readerContext, enumerator, enumContext);
+
+            List<TiDBSourceSplit> expectedAssignments = new ArrayList<>(snapshotSplits);
+            expectedAssignments.addAll(streamSplits);
+            assertEquals(
+                    expectedAssignments,
+                    enumContext.getSplitAssignments().get(0).getAssignedSplits());
+            // all finished snapshot splits have been acknowledged
+            assertEquals(streamSplits, reader.snapshotState(1L));
+        }
+    }
+
+    @Test
+    public void testReportFinishedSplitsAfterRestore() throws Exception {
+        List<TiDBSourceSplit> snapshotSplits = createSplits(true, 2);
+        List<TiDBSourceSplit> streamSplits = createSplits(false, 1);
+        // the enumerator checkpoint was taken before the report of the finished split arrived
+        TestingSplitEnumeratorContext<TiDBSourceSplit> enumContext =
+                new TestingSplitEnumeratorContext<>(1);
+        enumContext.registerReader(0, "localhost");
+        TiDBSourceEnumerator enumerator =
+                new TiDBSourceEnumerator(
+                        enumContext,
+                        new TiDBSourceEnumState(
+                                SNAPSHOT_TS,
+                                Collections.singletonList(snapshotSplits.get(1)),
+                                Collections.singleton(snapshotSplits.get(0).splitId()),
+                                streamSplits),
+                        new SnapshotSafePointKeeper(null, "test_db", "test_table") {
+                            @Override
+                            public long keep(long snapshotTs) {
+                                return snapshotTs;
+                            }
+                        });
+        enumerator.start();
+
+        // while the reader checkpoint was taken after the split finished
+        TiDBSourceSplit finishedSplit = snapshotSplits.get(0).toFinishedSnapshotSplit();
+        TestingReaderContext readerContext = new TestingReaderContext();
+        try (TiDBSourceReader<String> reader = createReader(readerContext)) {
+            reader.addSplits(Collections.singletonList(finishedSplit));
+            reader.start();
+            assertEquals(
+                    Collections.singletonList(finishedSplit.splitId()),
+                    ((FinishedSnapshotSplitsReportEvent) readerContext.getSentEvents().get(0))
+                            .getFinishedSplitIds());
+            assertEquals(Collections.singletonList(finishedSplit), reader.snapshotState(1L));
+
+            runUntilStreamSplitAssigned(reader, readerContext, enumerator, enumContext);
+
+            assertEquals(
+                    Arrays.asList(snapshotSplits.get(1), streamSplits.get(0)),
+                    enumContext.getSplitAssignments().get(0).getAssignedSplits());
+            assertEquals(streamSplits, reader.snapshotState(2L));
+        }
+    }
+
+    /** Forwards the requests and events between the reader and the enumerator. */
+    private static void runUntilStreamSplitAssigned(
+            TiDBSourceReader<String> reader,
+            TestingReaderContext readerContext,
+            TiDBSourceEnumerator enumerator,
+            TestingSplitEnumeratorContext<TiDBSourceSplit> enumContext)
+            throws Exception {
+        TestingReaderOutput<String> output = new TestingReaderOutput<>();
+        int handledRequests = 0;
+        int deliveredSplits = 0;
+        int deliveredEvents = 0;
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            for (; handledRequests < readerContext.getNumSplitRequests(); handledRequests++) {
+                enumerator.handleSplitRequest(0, "localhost");
+            }
+            for (SourceEvent event : readerContext.getSentEvents()) {
+                enumerator.handleSourceEvent(0, event);
+            }
+            readerContext.clearSentEvents();
+
+            List<TiDBSourceSplit> assignedSplits =
+                    enumContext.getSplitAssignments().containsKey(0)
+                            ? enumContext.getSplitAssignments().get(0).getAssignedSplits()
+                            : Collections.emptyList();
+            List<SourceEvent> sentEvents =
+                    enumContext.getSentEvents().getOrDefault(0, Collections.emptyList());
+            for (; deliveredEvents < sentEvents.size(); deliveredEvents++) {
+                reader.handleSourceEvents(sentEvents.get(deliveredEvents));
+            }
+            if (deliveredSplits < assignedSplits.size()) {
+                List<TiDBSourceSplit> newSplits =
+                        new ArrayList<>(
+                                assignedSplits.subList(deliveredSplits, assignedSplits.size()));
+                deliveredSplits = assignedSplits.size();
+                reader.addSplits(newSplits);
+                if (!newSplits.get(newSplits.size() - 1).isSnapshotSplit()) {
+                    return;
+                }
+            }
+
+            reader.pollNext(output);
+            try {
+                reader.isAvailable().get(10L, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // continue to forward the requests and events
+            }
+        }
+        fail("The stream split has not been assigned in time.");
+    }
+
+    private static TiDBSourceReader<String> createReader(TestingReaderContext readerContext) {
+        return new TiDBSourceReader<>(
+                new FutureCompletingBlockingQueue<>(),
+                FinishingSplitReader::new,
+                (record, output, splitState) -> {},
+                new Configuration(),
+                readerContext);
+    }
+
+    private static List<TiDBSourceSplit> createSplits(boolean snapshotSplit, int num) {
+        List<TiDBSourceSplit> splits = new ArrayList<>();
+        List<Coprocessor.KeyRange> keyRanges = TableKeyRangeUtils.getTableKeyRanges(TABLE_ID, num);
+        for (int i = 0; i < num; i++) {
+            splits.add(
+                    snapshotSplit
+                            ? TiDBSourceSplit.snapshotSplit(
+                                    "split-" + i, keyRanges.get(i), SNAPSHOT_TS)
+                            : TiDBSourceSplit.streamSplit(
+                                    "stream-" + i, keyRanges.get(i), SNAPSHOT_TS));
+        }
+        assertTrue(splits.stream().noneMatch(TiDBSourceSplit::isSnapshotReadFinished));
+        return splits;
+    }
+
+    /** A {@link SplitReader} which finishes the snapshot splits without reading any row. */
+    private static class FinishingSplitReader
+            implements SplitReader<TiDBSourceRecord, TiDBSourceSplit> {
+
+        private final Queue<TiDBSourceSplit> snapshotSplits = new ArrayDeque<>();
+
+        @Override
+        public RecordsWithSplitIds<TiDBSourceRecord> fetch() {
+            RecordsBySplits.Builder<TiDBSourceRecord> builder = new RecordsBySplits.Builder<>();
+            TiDBSourceSplit split = snapshotSplits.poll();
+            if (split != null) {
+                builder.addFinishedSplit(split.splitId());
+            }
+            return builder.build();
+        }
+
+        @Override
+        public void handleSplitsChanges(SplitsChange<TiDBSourceSplit> splitsChanges) {
+            for (TiDBSourceSplit split : splitsChanges.splits()) {
+                if (split.isSnapshotSplit()) {
+                    snapshotSplits.add(split);
+                }
+            }
+        }
+
+        @Override
+        public void wakeUp() {}
+
+        @Override
+        public void close() {}
+    }
+}
@@ -85,6 +85,7 @@ public class TiDBTableSourceFactoryTest {
                         MY_TABLE,
                         PD_ADDRESS,
                         StartupOptions.latest(),
+                        false,
                         OPTIONS);
         assertEquals(expectedSource, actualSource);
     }
@@ -115,10 +116,30 @@ public class TiDBTableSourceFactoryTest {
                         MY_TABLE,
                         PD_ADDRESS,
                         StartupOptions.latest(),
+                        false,
                         options);
         assertEquals(expectedSource, actualSource);
     }
 
+    @Test
+    public void testEnableParallelReadSource() {
+        Map<String, String> properties = getAllOptions();
+        properties.put("scan.incremental.snapshot.enabled", "true");
+
+        // validation for source
+        DynamicTableSource actualSource = createTableSource(properties);
+        TiDBTableSource expectedSource =
+                new TiDBTableSource(
+                        SCHEMA,
+                        MY_DATABASE,
+                        MY_TABLE,
+                        PD_ADDRESS,
+                        StartupOptions.latest(),
+                        true,
+                        OPTIONS);
+        assertEquals(expectedSource, actualSource);
+    }
+
     private Map<String, String> getAllOptions() {
         Map<String, String> options = new HashMap<>();
         options.put("connector", "tidb-cdc");